@@ -0,0 +1,40 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+
+/**
+ * Exception thrown when a request is rejected client-side because the concurrency limit is exhausted and no further
+ * requests can be queued. The request was not sent to Cassandra.
+ *
+ * @author agent
+ * @since 3.1
+ * @see org.springframework.data.cassandra.core.cql.support.ConcurrencyLimiter
+ */
+public class CassandraConcurrencyLimitExceededException extends TransientDataAccessResourceException {
+
+	private static final long serialVersionUID = 4302658412836717548L;
+
+	/**
+	 * Constructor for {@link CassandraConcurrencyLimitExceededException}.
+	 *
+	 * @param msg the detail message.
+	 */
+	public CassandraConcurrencyLimitExceededException(String msg) {
+		super(msg);
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra;
+
+import org.springframework.dao.DataRetrievalFailureException;
+
+/**
+ * Exception thrown when a query result exceeds the number of rows or the estimated number of bytes that may be
+ * materialized client-side. Extraction stops as soon as a limit is exceeded.
+ *
+ * @author agent
+ * @since 3.1
+ * @see org.springframework.data.cassandra.core.cql.support.ResultSizeGuard
+ */
+public class CassandraResultSizeExceededException extends DataRetrievalFailureException {
+
+	private static final long serialVersionUID = -3184129467612039855L;
+
+	private final long rows;
+
+	private final long bytes;
+
+	/**
+	 * Constructor for {@link CassandraResultSizeExceededException}.
+	 *
+	 * @param msg the detail message.
+	 * @param rows the number of rows extracted when exceeding the limit.
+	 * @param bytes the estimated number of bytes fetched when exceeding the limit.
+	 */
+	public CassandraResultSizeExceededException(String msg, long rows, long bytes) {
+
+		super(msg);
+
+		this.rows = rows;
+		this.bytes = bytes;
+	}
+
+	/**
+	 * @return the number of rows extracted when exceeding the limit.
+	 */
+	public long getRows() {
+		return this.rows;
+	}
+
+	/**
+	 * @return the estimated number of bytes fetched when exceeding the limit.
+	 */
+	public long getBytes() {
+		return this.bytes;
+	}
+}
@@ -68,6 +68,17 @@ public interface ReactiveResultSet {
 	 */
 	Flux<Row> availableRows();
 
+	/**
+	 * Returns the number of rows that can be retrieved from {@link #availableRows()} without fetching the next result
+	 * chunk. Implementations that cannot determine the number of available rows return {@literal -1}.
+	 *
+	 * @return the number of rows available in the current result chunk or {@literal -1} if unknown.
+	 * @since 3.1
+	 */
+	default int getAvailableWithoutFetching() {
+		return -1;
+	}
+
 	/**
 	 * Returns the columns returned in this {@link ReactiveResultSet}.
 	 *
@@ -19,12 +19,15 @@ import reactor.core.publisher.Mono;
 
 import java.io.Closeable;
 import java.util.Map;
+import java.util.Optional;
 
+import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.context.DriverContext;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
 
 /**
  * A session holds connections to a Cassandra cluster, allowing it to be queried. {@link ReactiveSession} executes
@@ -68,6 +71,30 @@ public interface ReactiveSession extends Closeable {
 	 */
 	DriverContext getContext();
 
+	/**
+	 * Returns the keyspace that this session is currently connected to, or {@link Optional#empty()} if this session is
+	 * not connected to any keyspace.
+	 *
+	 * @return the keyspace that this session is currently connected to.
+	 * @since 3.1
+	 */
+	default Optional<CqlIdentifier> getKeyspace() {
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns a snapshot of the Cassandra cluster's topology and schema metadata. Implementations that are not backed by
+	 * a driver session may not provide metadata.
+	 *
+	 * @return a snapshot of the cluster metadata.
+	 * @throws UnsupportedOperationException if this session does not provide metadata.
+	 * @since 3.1
+	 */
+	default Metadata getMetadata() {
+		throw new UnsupportedOperationException(
+				String.format("%s does not provide cluster metadata", getClass().getName()));
+	}
+
 	/**
 	 * Executes the provided query.
 	 * <p/>
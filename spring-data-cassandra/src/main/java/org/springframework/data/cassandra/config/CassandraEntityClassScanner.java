@@ -24,11 +24,16 @@ import java.util.Set;
 
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.index.CandidateComponentsIndex;
+import org.springframework.context.index.CandidateComponentsIndexLoader;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.data.annotation.Persistent;
 import org.springframework.data.cassandra.core.mapping.PrimaryKeyClass;
 import org.springframework.data.cassandra.core.mapping.Table;
 import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Indexed;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.StringUtils;
 
@@ -36,6 +41,13 @@ import org.springframework.util.StringUtils;
  * Scans packages for Cassandra entities. The entity scanner scans for entity classes annotated with
  * {@link #getEntityAnnotations() entity annotations} on the class path using either base package names, base package
  * classes or both.
+ * <p>
+ * The scanner uses the candidate components index ({@code META-INF/spring.components}) generated by
+ * {@code spring-context-indexer} at compile time if the index lists entities within the base package, avoiding class
+ * path scanning at startup. {@link Table}, {@link PrimaryKeyClass} and {@link Persistent} are
+ * {@link Indexed indexed} stereotypes. Class path scanning is used if no index is present, if the index does not list
+ * any entity within the base package (for example, because the index stems from an unrelated library), if an entity
+ * annotation is not indexed or if the index is ignored through the {@code spring.index.ignore} property.
  *
  * @author Matthew T. Adams
  * @author Mark Paluch
@@ -212,21 +224,61 @@ public class CassandraEntityClassScanner {
 			return classes;
 		}
 
+		for (String candidate : findCandidateClassNames(basePackage)) {
+			classes.add(ClassUtils.forName(candidate, beanClassLoader));
+		}
+
+		return classes;
+	}
+
+	private Set<String> findCandidateClassNames(String basePackage) {
+
+		Set<String> indexed = findIndexedCandidateClassNames(basePackage);
+
+		if (!indexed.isEmpty()) {
+			return indexed;
+		}
+
+		Set<String> candidates = new HashSet<>();
+
 		ClassPathScanningCandidateComponentProvider componentProvider = new ClassPathScanningCandidateComponentProvider(
 				false);
+		componentProvider.setResourceLoader(new DefaultResourceLoader(beanClassLoader));
 
 		for (Class<? extends Annotation> annotation : getEntityAnnotations()) {
 			componentProvider.addIncludeFilter(new AnnotationTypeFilter(annotation));
 		}
 
+		// custom filters are not index-eligible which makes the provider scan the class path even if an index is present
+		componentProvider.addIncludeFilter((metadataReader, metadataReaderFactory) -> false);
+
 		for (BeanDefinition candidate : componentProvider.findCandidateComponents(basePackage)) {
 
 			if (candidate.getBeanClassName() != null) {
-				classes.add(ClassUtils.forName(candidate.getBeanClassName(), beanClassLoader));
+				candidates.add(candidate.getBeanClassName());
 			}
 		}
 
-		return classes;
+		return candidates;
+	}
+
+	private Set<String> findIndexedCandidateClassNames(String basePackage) {
+
+		Class<? extends Annotation>[] annotations = getEntityAnnotations();
+		CandidateComponentsIndex index = CandidateComponentsIndexLoader.loadIndex(beanClassLoader);
+
+		if (index == null
+				|| !Arrays.stream(annotations).allMatch(it -> AnnotatedElementUtils.hasAnnotation(it, Indexed.class))) {
+			return Collections.emptySet();
+		}
+
+		Set<String> candidates = new HashSet<>();
+
+		for (Class<? extends Annotation> annotation : annotations) {
+			candidates.addAll(index.getCandidateTypes(basePackage, annotation.getName()));
+		}
+
+		return candidates;
 	}
 
 	/**
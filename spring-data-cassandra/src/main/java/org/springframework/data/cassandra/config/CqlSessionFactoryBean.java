@@ -540,6 +540,9 @@ public class CqlSessionFactoryBean
 		boolean ifNotExists = DEFAULT_CREATE_IF_NOT_EXISTS;
 
 		switch (this.schemaAction) {
+			case CREATE_MISSING:
+				createMissingSchema();
+				return;
 			case RECREATE_DROP_UNUSED:
 				dropUnused = true;
 			case RECREATE:
@@ -574,6 +577,19 @@ public class CqlSessionFactoryBean
 		performSchemaActions(drop, dropUnused, ifNotExists, adminTemplate);
 	}
 
+	/**
+	 * Create user types, tables and indexes that are missing in the keyspace.
+	 *
+	 * @since 3.1
+	 * @see CassandraPersistentEntitySchemaCreator#createMissingSchema()
+	 */
+	protected void createMissingSchema() {
+
+		CassandraAdminTemplate adminTemplate = new CassandraAdminTemplate(this.session, this.converter);
+
+		new CassandraPersistentEntitySchemaCreator(getMappingContext(), adminTemplate).createMissingSchema();
+	}
+
 	private void performSchemaActions(boolean drop, boolean dropUnused, boolean ifNotExists,
 			CassandraAdminOperations adminOperations) {
 
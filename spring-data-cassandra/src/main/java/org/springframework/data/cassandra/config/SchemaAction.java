@@ -47,5 +47,14 @@ public enum SchemaAction {
 	/**
 	 * Drop <em>all</em> tables in the keyspace, then create each table as necessary.
 	 */
-	RECREATE_DROP_UNUSED
+	RECREATE_DROP_UNUSED,
+
+	/**
+	 * Create user types, tables and indexes that are missing in the keyspace. Compares the mapping metadata with the
+	 * keyspace metadata and creates only missing schema elements. Schema elements that do not depend on each other are
+	 * created concurrently.
+	 *
+	 * @since 3.1
+	 */
+	CREATE_MISSING
 }
@@ -15,6 +15,14 @@
  */
 package org.springframework.data.cassandra.config;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
 import org.springframework.beans.factory.config.AbstractFactoryBean;
 import org.springframework.data.cassandra.SessionFactory;
 import org.springframework.data.cassandra.core.CassandraAdminOperations;
@@ -55,6 +63,8 @@ public class SessionFactoryFactoryBean extends AbstractFactoryBean<SessionFactor
 
 	private SchemaAction schemaAction = SchemaAction.NONE;
 
+	private List<String> warmUpStatements = new ArrayList<>();
+
 	/**
 	 * Set the {@link CassandraConverter} to use. Schema actions will derive table and user type information from the
 	 * {@link CassandraMappingContext} inside {@code converter}.
@@ -103,6 +113,22 @@ public class SessionFactoryFactoryBean extends AbstractFactoryBean<SessionFactor
 		this.schemaAction = schemaAction;
 	}
 
+	/**
+	 * Set CQL statements to prepare during the bean initialization phase. Statements are prepared concurrently after
+	 * applying the {@link #setSchemaAction(SchemaAction) schema action} so that the first execution of each statement
+	 * does not pay for statement preparation. Statements that cannot be prepared are logged and do not fail the bean
+	 * initialization.
+	 *
+	 * @param warmUpStatements must not be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setWarmUpStatements(Collection<String> warmUpStatements) {
+
+		Assert.notNull(warmUpStatements, "Warm-up statements must not be null");
+
+		this.warmUpStatements = new ArrayList<>(warmUpStatements);
+	}
+
 	/**
 	 * Set the {@link CqlSession} to use.
 	 *
@@ -135,6 +161,8 @@ public class SessionFactoryFactoryBean extends AbstractFactoryBean<SessionFactor
 		performSchemaAction();
 
 		this.session.refreshSchema();
+
+		warmUp();
 	}
 
 	@Override
@@ -157,6 +185,53 @@ public class SessionFactoryFactoryBean extends AbstractFactoryBean<SessionFactor
 		return SessionFactory.class;
 	}
 
+	/**
+	 * Prepare the configured {@link #setWarmUpStatements(Collection) warm-up statements} concurrently and await their
+	 * completion. Statements that cannot be prepared are logged and skipped.
+	 *
+	 * @since 3.1
+	 */
+	protected void warmUp() {
+
+		if (this.warmUpStatements.isEmpty()) {
+			return;
+		}
+
+		long startNanos = System.nanoTime();
+
+		List<CompletableFuture<Boolean>> futures = this.warmUpStatements.stream().map(this::warmUp)
+				.collect(Collectors.toList());
+
+		long prepared = futures.stream().map(CompletableFuture::join).filter(Boolean::booleanValue).count();
+
+		if (logger.isInfoEnabled()) {
+			logger.info(String.format("Prepared %d of %d warm-up statements in %d ms", prepared, futures.size(),
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+		}
+	}
+
+	private CompletableFuture<Boolean> warmUp(String cql) {
+
+		CompletableFuture<Boolean> future;
+
+		try {
+			future = this.session.prepareAsync(cql).toCompletableFuture().thenApply(it -> true);
+		} catch (RuntimeException e) {
+			future = new CompletableFuture<>();
+			future.completeExceptionally(e);
+		}
+
+		return future.exceptionally(e -> {
+
+			if (logger.isWarnEnabled()) {
+				logger.warn(String.format("Cannot prepare warm-up statement [%s]", cql),
+						e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+			}
+
+			return false;
+		});
+	}
+
 	/**
 	 * Perform the configure {@link SchemaAction} using {@link CassandraMappingContext} metadata.
 	 */
@@ -168,6 +243,9 @@ public class SessionFactoryFactoryBean extends AbstractFactoryBean<SessionFactor
 		boolean ifNotExists = DEFAULT_CREATE_IF_NOT_EXISTS;
 
 		switch (this.schemaAction) {
+			case CREATE_MISSING:
+				createMissingSchema();
+				return;
 			case RECREATE_DROP_UNUSED:
 				dropUnused = true;
 			case RECREATE:
@@ -199,6 +277,20 @@ public class SessionFactoryFactoryBean extends AbstractFactoryBean<SessionFactor
 		performSchemaActions(drop, dropUnused, ifNotExists);
 	}
 
+	/**
+	 * Create user types, tables and indexes that are missing in the keyspace.
+	 *
+	 * @since 3.1
+	 * @see CassandraPersistentEntitySchemaCreator#createMissingSchema()
+	 */
+	protected void createMissingSchema() throws Exception {
+
+		CassandraAdminOperations adminOperations = new CassandraAdminTemplate(getObject(), this.converter);
+
+		new CassandraPersistentEntitySchemaCreator(this.converter.getMappingContext(), adminOperations)
+				.createMissingSchema();
+	}
+
 	@SuppressWarnings("all")
 	private void performSchemaActions(boolean drop, boolean dropUnused, boolean ifNotExists) throws Exception {
 
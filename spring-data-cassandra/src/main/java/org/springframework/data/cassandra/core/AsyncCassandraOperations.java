@@ -215,6 +215,21 @@ public interface AsyncCassandraOperations {
 	 */
 	ListenableFuture<Boolean> delete(Query query, Class<?> entityClass) throws DataAccessException;
 
+	/**
+	 * Compile a {@code SELECT} {@link Query} into a reusable {@link AsyncCompiledQuery}. Criteria values can be declared
+	 * as {@link org.springframework.data.cassandra.core.query.Placeholder placeholders} that are bound on each
+	 * execution. Query mapping and CQL rendering are performed only once. The returned future completes once the query
+	 * is prepared.
+	 *
+	 * @param <T> entity type.
+	 * @param query the query to compile. Must not be {@literal null}.
+	 * @param entityClass the entity type. Must not be {@literal null}.
+	 * @return the compiled query.
+	 * @throws DataAccessException if there is any problem preparing the query.
+	 * @since 3.1
+	 */
+	<T> ListenableFuture<AsyncCompiledQuery<T>> compile(Query query, Class<T> entityClass) throws DataAccessException;
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with entities
 	// -------------------------------------------------------------------------
@@ -296,6 +311,25 @@ public interface AsyncCassandraOperations {
 	 */
 	<T> ListenableFuture<EntityWriteResult<T>> insert(T entity, InsertOptions options) throws DataAccessException;
 
+	/**
+	 * Insert the given entities applying {@link InsertOptions}. Routing tokens are computed on the client from the
+	 * mapped partition key columns so that writes can be grouped by their owning replicas: writes to the same partition
+	 * are sent as small unlogged batches, all other writes are sent as individual statements. Statements are routed
+	 * directly to a replica through token-aware load balancing and executed pipelined through
+	 * {@link #getAsyncCqlOperations()}. Writes are sent as individual statements without grouping if token metadata is
+	 * not available. Conditional inserts using {@link InsertOptions#isIfNotExists()} are always sent as individual
+	 * statements.
+	 * <p>
+	 * Entities are not inserted atomically. Versioned entities are not supported.
+	 *
+	 * @param entities the entities to insert, must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the {@link WriteResult} aggregating the results of all executed statements.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 */
+	ListenableFuture<WriteResult> insertAll(Iterable<?> entities, InsertOptions options) throws DataAccessException;
+
 	/**
 	 * Update the given entity and return the entity if the update was applied.
 	 *
@@ -15,8 +15,12 @@
  */
 package org.springframework.data.cassandra.core;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -31,6 +35,7 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.cassandra.SessionFactory;
 import org.springframework.data.cassandra.core.EntityOperations.AdaptibleEntity;
+import org.springframework.data.cassandra.core.WriteCoalescer.PendingWrite;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
 import org.springframework.data.cassandra.core.cql.AsyncCqlOperations;
@@ -42,6 +47,8 @@ import org.springframework.data.cassandra.core.cql.CqlProvider;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
 import org.springframework.data.cassandra.core.cql.WriteOptions;
 import org.springframework.data.cassandra.core.cql.session.DefaultSessionFactory;
+import org.springframework.data.cassandra.core.cql.support.HotPartitionTracker;
+import org.springframework.data.cassandra.core.cql.support.HotPartitionTracker.Operation;
 import org.springframework.data.cassandra.core.cql.util.CassandraFutureAdapter;
 import org.springframework.data.cassandra.core.cql.util.StatementBuilder;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
@@ -69,6 +76,8 @@ import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DriverException;
 import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
@@ -116,6 +125,8 @@ public class AsyncCassandraTemplate
 
 	private @Nullable EntityCallbacks entityCallbacks;
 
+	private HotPartitionRecorder hotPartitionRecorder = HotPartitionRecorder.NONE;
+
 	/**
 	 * Creates an instance of {@link AsyncCassandraTemplate} initialized with the given {@link CqlSession} and a default
 	 * {@link MappingCassandraConverter}.
@@ -210,6 +221,29 @@ public class AsyncCassandraTemplate
 		this.entityCallbacks = entityCallbacks;
 	}
 
+	/**
+	 * Set the {@link HotPartitionTracker} to record accessed partitions with. Entity operations, operations by id and
+	 * queries restricting all partition key columns using equality record their partition key as read or write. Default
+	 * is {@literal null}, not tracking partition access.
+	 *
+	 * @param hotPartitionTracker the {@link HotPartitionTracker} to record partition access with, may be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setHotPartitionTracker(@Nullable HotPartitionTracker hotPartitionTracker) {
+		this.hotPartitionRecorder = hotPartitionTracker != null
+				? new HotPartitionRecorder(hotPartitionTracker, getConverter(), getStatementFactory())
+				: HotPartitionRecorder.NONE;
+	}
+
+	/**
+	 * @return the {@link HotPartitionTracker} specified for this template.
+	 * @since 3.1
+	 */
+	@Nullable
+	public HotPartitionTracker getHotPartitionTracker() {
+		return this.hotPartitionRecorder.getTracker();
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#getAsyncCqlOperations()
 	 */
@@ -385,6 +419,8 @@ public class AsyncCassandraTemplate
 		Assert.notNull(query, "Query must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
+		this.hotPartitionRecorder.recordQuery(query, entityClass, getTableName(entityClass), Operation.READ);
+
 		return select(getStatementFactory().select(query, getRequiredPersistentEntity(entityClass)).build(), entityClass);
 	}
 
@@ -399,6 +435,8 @@ public class AsyncCassandraTemplate
 		Assert.notNull(entityConsumer, "Entity Consumer must not be empty");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
+		this.hotPartitionRecorder.recordQuery(query, entityClass, getTableName(entityClass), Operation.READ);
+
 		return select(getStatementFactory().select(query, getRequiredPersistentEntity(entityClass)).build(), entityConsumer,
 				entityClass);
 	}
@@ -412,6 +450,8 @@ public class AsyncCassandraTemplate
 		Assert.notNull(query, "Query must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
+		this.hotPartitionRecorder.recordQuery(query, entityClass, getTableName(entityClass), Operation.READ);
+
 		return selectOne(getStatementFactory().select(query, getRequiredPersistentEntity(entityClass)).build(),
 				entityClass);
 	}
@@ -425,7 +465,13 @@ public class AsyncCassandraTemplate
 		Assert.notNull(query, "Query must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
-		return slice(getStatementFactory().select(query, getRequiredPersistentEntity(entityClass)).build(), entityClass);
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		ListenableFuture<Slice<T>> slice = slice(getStatementFactory().select(query, entity).build(), entityClass);
+
+		return query.getKeysetPageRequest()
+				.<ListenableFuture<Slice<T>>> map(it -> new MappingListenableFutureAdapter<>(slice,
+						result -> getStatementFactory().getQueryMapper().withKeyset(result, it, entity)))
+				.orElse(slice);
 	}
 
 	/* (non-Javadoc)
@@ -439,6 +485,8 @@ public class AsyncCassandraTemplate
 		Assert.notNull(update, "Update must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
+		this.hotPartitionRecorder.recordQuery(query, entityClass, getTableName(entityClass), Operation.WRITE);
+
 		return getAsyncCqlOperations()
 				.execute(getStatementFactory().update(query, update, getRequiredPersistentEntity(entityClass)).build());
 	}
@@ -461,6 +509,8 @@ public class AsyncCassandraTemplate
 				tableName);
 		SimpleStatement delete = builder.build();
 
+		this.hotPartitionRecorder.recordQuery(query, entityClass, tableName, Operation.WRITE);
+
 		maybeEmitEvent(new BeforeDeleteEvent<>(delete, entityClass, tableName));
 
 		ListenableFuture<Boolean> future = getAsyncCqlOperations().execute(delete);
@@ -470,6 +520,34 @@ public class AsyncCassandraTemplate
 		return future;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#compile(org.springframework.data.cassandra.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public <T> ListenableFuture<AsyncCompiledQuery<T>> compile(Query query, Class<T> entityClass)
+			throws DataAccessException {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entityClass, "Entity type must not be null");
+
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		CqlIdentifier tableName = entity.getTableName();
+
+		CompiledStatement compiledStatement = CompiledStatement.select(getStatementFactory(), query, entity, tableName);
+		SimpleStatement statement = compiledStatement.getStatement();
+
+		ListenableFuture<PreparedStatement> preparedStatement = getAsyncCqlOperations()
+				.execute((AsyncSessionCallback<PreparedStatement>) session -> new CassandraFutureAdapter<>(
+						session.prepareAsync(statement),
+						e -> e instanceof DriverException ? exceptionTranslator.translate("Prepare", statement.getQuery(), e)
+								: exceptionTranslator.translateExceptionIfPossible(e)));
+
+		Function<Row, T> mapper = getMapper(entityClass, entityClass, tableName);
+
+		return new MappingListenableFutureAdapter<>(preparedStatement,
+				prepared -> new DefaultAsyncCompiledQuery<>(compiledStatement, prepared, mapper));
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with entities
 	// -------------------------------------------------------------------------
@@ -523,6 +601,8 @@ public class AsyncCassandraTemplate
 		StatementBuilder<com.datastax.oss.driver.api.querybuilder.select.Select> select = getStatementFactory()
 				.selectOneById(id, entity, entity.getTableName());
 
+		this.hotPartitionRecorder.recordId(id, entityClass, entity.getTableName(), Operation.READ);
+
 		return new MappingListenableFutureAdapter<>(getAsyncCqlOperations().queryForResultSet(select.build()),
 				resultSet -> resultSet.one() != null);
 	}
@@ -539,6 +619,8 @@ public class AsyncCassandraTemplate
 		StatementBuilder<com.datastax.oss.driver.api.querybuilder.select.Select> select = getStatementFactory()
 				.select(query.limit(1), getRequiredPersistentEntity(entityClass), getTableName(entityClass));
 
+		this.hotPartitionRecorder.recordQuery(query, entityClass, getTableName(entityClass), Operation.READ);
+
 		return new MappingListenableFutureAdapter<>(getAsyncCqlOperations().queryForResultSet(select.build()),
 				resultSet -> resultSet.one() != null);
 	}
@@ -557,6 +639,8 @@ public class AsyncCassandraTemplate
 		StatementBuilder<Select> select = getStatementFactory().selectOneById(id, entity, tableName);
 		Function<Row, T> mapper = getMapper(entityClass, entityClass, tableName);
 
+		this.hotPartitionRecorder.recordId(id, entityClass, tableName, Operation.READ);
+
 		return new MappingListenableFutureAdapter<>(
 				getAsyncCqlOperations().query(select.build(), (row, rowNum) -> mapper.apply(row)),
 				it -> it.isEmpty() ? null : it.get(0));
@@ -590,8 +674,12 @@ public class AsyncCassandraTemplate
 
 		T entityToUse = source.isVersionedEntity() ? source.initializeVersionProperty() : entity;
 
-		StatementBuilder<RegularInsert> builder = getStatementFactory().insert(entityToUse, options, persistentEntity,
-				tableName);
+		Map<CqlIdentifier, Object> values = new LinkedHashMap<>();
+		getConverter().write(entityToUse, values, persistentEntity);
+
+		StatementBuilder<RegularInsert> builder = getStatementFactory().insert(values, options, tableName);
+
+		this.hotPartitionRecorder.recordValues(values, entityToUse.getClass(), tableName, Operation.WRITE);
 
 		if (source.isVersionedEntity()) {
 
@@ -623,6 +711,62 @@ public class AsyncCassandraTemplate
 		return executeSave(entity, tableName, insert);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#insertAll(java.lang.Iterable, org.springframework.data.cassandra.core.InsertOptions)
+	 */
+	@Override
+	public ListenableFuture<WriteResult> insertAll(Iterable<?> entities, InsertOptions options) {
+
+		Assert.notNull(entities, "Entities must not be null");
+		Assert.notNull(options, "InsertOptions must not be null");
+
+		List<PendingWrite> writes = new ArrayList<>();
+
+		for (Object entity : entities) {
+
+			Assert.notNull(entity, "Entity must not be null");
+
+			CqlIdentifier tableName = getTableName(entity.getClass());
+			Object entityToUse = maybeCallBeforeConvert(entity, tableName);
+			AdaptibleEntity<Object> source = getEntityOperations().forEntity(entityToUse,
+					getConverter().getConversionService());
+
+			Assert.isTrue(!source.isVersionedEntity(),
+					() -> String.format("Cannot insert versioned entity %s through insertAll", entityToUse));
+
+			Map<CqlIdentifier, Object> values = new LinkedHashMap<>();
+			getConverter().write(entityToUse, values, source.getPersistentEntity());
+
+			SimpleStatement statement = getStatementFactory().insert(values, options, tableName).build();
+
+			this.hotPartitionRecorder.recordValues(values, entityToUse.getClass(), tableName, Operation.WRITE);
+
+			maybeEmitEvent(new BeforeSaveEvent<>(entityToUse, tableName, statement));
+
+			writes.add(new PendingWrite(maybeCallBeforeSave(entityToUse, tableName, statement), statement, tableName,
+					values));
+		}
+
+		CompletableFuture<WriteResult> future = getAsyncCqlOperations()
+				.execute((AsyncSessionCallback<List<Statement<?>>>) session -> AsyncResult
+						.forValue(WriteCoalescer.coalesce(writes, options, session)))
+				.completable() //
+				.thenCompose(statements -> WriteCoalescer.execute(statements, WriteCoalescer.CONCURRENCY,
+						statement -> getAsyncCqlOperations().queryForResultSet(statement).completable()))
+				.thenApply(WriteCoalescer::toWriteResult);
+
+		ListenableFuture<WriteResult> result = new CassandraFutureAdapter<>(future,
+				e -> e instanceof DataAccessException ? (DataAccessException) e
+						: exceptionTranslator.translateExceptionIfPossible(e));
+
+		return new MappingListenableFutureAdapter<>(result, writeResult -> {
+
+			writes.forEach(it -> maybeEmitEvent(new AfterSaveEvent<>(it.getEntity(), it.getTableName())));
+
+			return writeResult;
+		});
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.AsyncCassandraOperations#update(java.lang.Object)
 	 */
@@ -660,6 +804,8 @@ public class AsyncCassandraTemplate
 		StatementBuilder<Update> update = getStatementFactory().update(toSave, options, persistentEntity, tableName);
 		source.appendVersionCondition(update, previousVersion);
 
+		this.hotPartitionRecorder.recordEntity(toSave, tableName, Operation.WRITE);
+
 		return executeSave(toSave, tableName, update.build(), result -> {
 
 			if (!result.wasApplied()) {
@@ -675,6 +821,8 @@ public class AsyncCassandraTemplate
 
 		StatementBuilder<Update> update = getStatementFactory().update(entity, options, persistentEntity, tableName);
 
+		this.hotPartitionRecorder.recordEntity(entity, tableName, Operation.WRITE);
+
 		return executeSave(entity, tableName, update.build());
 	}
 
@@ -741,6 +889,8 @@ public class AsyncCassandraTemplate
 		StatementBuilder<Delete> builder = getStatementFactory().deleteById(id, entity, tableName);
 		SimpleStatement delete = builder.build();
 
+		this.hotPartitionRecorder.recordId(id, entityClass, tableName, Operation.WRITE);
+
 		maybeEmitEvent(new BeforeDeleteEvent<>(delete, entityClass, tableName));
 
 		ListenableFuture<Boolean> future = getAsyncCqlOperations().execute(delete);
@@ -806,6 +956,8 @@ public class AsyncCassandraTemplate
 
 		maybeEmitEvent(new BeforeDeleteEvent<>(statement, entity.getClass(), tableName));
 
+		this.hotPartitionRecorder.recordEntity(entity, tableName, Operation.WRITE);
+
 		ListenableFuture<AsyncResultSet> result = getAsyncCqlOperations().execute(new AsyncStatementCallback(statement));
 
 		return new MappingListenableFutureAdapter<>(result, resultSet -> {
@@ -927,6 +1079,58 @@ public class AsyncCassandraTemplate
 		}
 	}
 
+	/**
+	 * Default {@link AsyncCompiledQuery} implementation binding values to a {@link PreparedStatement}.
+	 *
+	 * @param <T> the entity type.
+	 */
+	class DefaultAsyncCompiledQuery<T> implements AsyncCompiledQuery<T> {
+
+		private final CompiledStatement compiledStatement;
+
+		private final PreparedStatement preparedStatement;
+
+		private final Function<Row, T> mapper;
+
+		DefaultAsyncCompiledQuery(CompiledStatement compiledStatement, PreparedStatement preparedStatement,
+				Function<Row, T> mapper) {
+
+			this.compiledStatement = compiledStatement;
+			this.preparedStatement = preparedStatement;
+			this.mapper = mapper;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.AsyncCompiledQuery#select(java.util.Map)
+		 */
+		@Override
+		public ListenableFuture<List<T>> select(Map<String, ?> values) throws DataAccessException {
+
+			BoundStatement statement = this.compiledStatement.bind(this.preparedStatement, values);
+
+			return getAsyncCqlOperations().query(statement, (row, rowNum) -> this.mapper.apply(row));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.AsyncCompiledQuery#selectOne(java.util.Map)
+		 */
+		@Override
+		public ListenableFuture<T> selectOne(Map<String, ?> values) throws DataAccessException {
+			return new MappingListenableFutureAdapter<>(select(values), list -> list.isEmpty() ? null : list.get(0));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.AsyncCompiledQuery#getCql()
+		 */
+		@Override
+		public String getCql() {
+			return this.preparedStatement.getQuery();
+		}
+	}
+
 	class AsyncStatementCallback implements AsyncSessionCallback<AsyncResultSet>, CqlProvider {
 
 		SimpleStatement statement;
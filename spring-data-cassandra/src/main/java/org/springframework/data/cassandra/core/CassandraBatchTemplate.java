@@ -54,6 +54,8 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 
 	private final StatementFactory statementFactory;
 
+	private boolean idempotent = true;
+
 	/**
 	 * Create a new {@link CassandraBatchTemplate} given {@link CassandraOperations}.
 	 *
@@ -109,7 +111,8 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 	public WriteResult execute() {
 
 		if (this.executed.compareAndSet(false, true)) {
-			return WriteResult.of(this.operations.getCqlOperations().queryForResultSet(batch.build()));
+			return WriteResult
+					.of(this.operations.getCqlOperations().queryForResultSet(batch.setIdempotence(this.idempotent).build()));
 		}
 
 		throw new IllegalStateException("This Cassandra Batch was already executed");
@@ -170,7 +173,7 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 			SimpleStatement insertQuery = getStatementFactory()
 					.insert(entity, options, persistentEntity, persistentEntity.getTableName()).build();
 
-			this.batch.addStatement(insertQuery);
+			addStatement(insertQuery);
 		}
 
 		return this;
@@ -215,7 +218,7 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 			SimpleStatement update = getStatementFactory()
 					.update(entity, options, persistentEntity, persistentEntity.getTableName()).build();
 
-			this.batch.addStatement(update);
+			addStatement(update);
 		}
 
 		return this;
@@ -260,12 +263,20 @@ class CassandraBatchTemplate implements CassandraBatchOperations {
 			SimpleStatement delete = getStatementFactory()
 					.delete(entity, options, this.getConverter(), persistentEntity.getTableName()).build();
 
-			this.batch.addStatement(delete);
+			addStatement(delete);
 		}
 
 		return this;
 	}
 
+	private void addStatement(SimpleStatement statement) {
+
+		this.batch.addStatement(statement);
+
+		// a batch can be retried safely only if all of its statements are idempotent
+		this.idempotent &= Boolean.TRUE.equals(statement.isIdempotent());
+	}
+
 	private void assertNotExecuted() {
 		Assert.state(!this.executed.get(), "This Cassandra Batch was already executed");
 	}
@@ -211,6 +211,45 @@ public interface CassandraOperations extends FluentCassandraOperations {
 	 */
 	<T> Stream<T> stream(Query query, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Execute a {@code SELECT} query and group the resulting entities by partition. Rows of a partition are returned
+	 * contiguously; partition boundaries are detected from the values of the partition key columns of the entity while
+	 * the result is read. Only the entities of the current partition are held in memory.
+	 * <p>
+	 * Each {@link PartitionGroup} materializes all entities of its partition as {@link List}. Use
+	 * {@link #streamPartitions(Query, Class, int)} to bound the number of entities per group when reading wide
+	 * partitions.
+	 * <p>
+	 * The query must select the partition key columns of the entity.
+	 *
+	 * @param <T> element return type.
+	 * @param query query to execute. Must not be empty or {@literal null}.
+	 * @param entityClass the entity type, must not be {@literal null}.
+	 * @return a {@link Stream} of {@link PartitionGroup}s in the order of the result.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 */
+	<T> Stream<PartitionGroup<T>> streamPartitions(Query query, Class<T> entityClass) throws DataAccessException;
+
+	/**
+	 * Execute a {@code SELECT} query and group the resulting entities by partition holding at most
+	 * {@code maxGroupSize} entities per {@link PartitionGroup}. Partitions with more entities are returned as multiple
+	 * consecutive groups with the same partition key.
+	 * <p>
+	 * The query must select the partition key columns of the entity.
+	 *
+	 * @param <T> element return type.
+	 * @param query query to execute. Must not be empty or {@literal null}.
+	 * @param entityClass the entity type, must not be {@literal null}.
+	 * @param maxGroupSize maximum number of entities per group, must be greater than zero.
+	 * @return a {@link Stream} of {@link PartitionGroup}s in the order of the result.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 * @see #streamPartitions(Query, Class)
+	 */
+	<T> Stream<PartitionGroup<T>> streamPartitions(Query query, Class<T> entityClass, int maxGroupSize)
+			throws DataAccessException;
+
 	/**
 	 * Execute a {@code SELECT} query and convert the resulting item to an entity.
 	 *
@@ -242,6 +281,20 @@ public interface CassandraOperations extends FluentCassandraOperations {
 	 */
 	boolean delete(Query query, Class<?> entityClass) throws DataAccessException;
 
+	/**
+	 * Compile a {@code SELECT} {@link Query} into a reusable {@link CompiledQuery}. Criteria values can be declared as
+	 * {@link org.springframework.data.cassandra.core.query.Placeholder placeholders} that are bound on each execution.
+	 * Query mapping and CQL rendering are performed only once. The query is prepared immediately.
+	 *
+	 * @param <T> entity type.
+	 * @param query the query to compile. Must not be {@literal null}.
+	 * @param entityClass the entity type. Must not be {@literal null}.
+	 * @return the compiled query.
+	 * @throws DataAccessException if there is any problem preparing the query.
+	 * @since 3.1
+	 */
+	<T> CompiledQuery<T> compile(Query query, Class<T> entityClass) throws DataAccessException;
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with entities
 	// -------------------------------------------------------------------------
@@ -324,6 +377,26 @@ public interface CassandraOperations extends FluentCassandraOperations {
 	 */
 	<T> EntityWriteResult<T> insert(T entity, InsertOptions options) throws DataAccessException;
 
+	/**
+	 * Insert the given entities applying {@link InsertOptions}. Routing tokens are computed on the client from the
+	 * mapped partition key columns so that writes can be grouped by their owning replicas: writes to the same partition
+	 * are sent as small unlogged batches, all other writes are sent as individual statements. Statements are routed
+	 * directly to a replica through token-aware load balancing. Writes are sent as individual statements without grouping
+	 * if token metadata is not available. Conditional inserts using {@link InsertOptions#isIfNotExists()} are always sent
+	 * as individual statements.
+	 * <p>
+	 * Statements are executed sequentially on the calling thread through {@link #getCqlOperations()}, each statement
+	 * awaiting the completion of its predecessor. Use {@link AsyncCassandraOperations#insertAll(Iterable, InsertOptions)}
+	 * to execute statements pipelined. Entities are not inserted atomically. Versioned entities are not supported.
+	 *
+	 * @param entities the entities to insert, must not be {@literal null}.
+	 * @param options must not be {@literal null}.
+	 * @return the {@link WriteResult} aggregating the results of all executed statements.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 */
+	WriteResult insertAll(Iterable<?> entities, InsertOptions options) throws DataAccessException;
+
 	/**
 	 * Update the given entity and return the entity if the update was applied.
 	 *
@@ -16,29 +16,44 @@
 package org.springframework.data.cassandra.core;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import org.springframework.data.cassandra.core.cql.SessionCallback;
 import org.springframework.data.cassandra.core.cql.generator.CreateIndexCqlGenerator;
 import org.springframework.data.cassandra.core.cql.generator.CreateTableCqlGenerator;
 import org.springframework.data.cassandra.core.cql.generator.CreateUserTypeCqlGenerator;
 import org.springframework.data.cassandra.core.cql.keyspace.CreateIndexSpecification;
+import org.springframework.data.cassandra.core.cql.keyspace.CreateIndexSpecification.ColumnFunction;
 import org.springframework.data.cassandra.core.cql.keyspace.CreateTableSpecification;
 import org.springframework.data.cassandra.core.cql.keyspace.CreateUserTypeSpecification;
 import org.springframework.data.cassandra.core.mapping.BasicCassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.data.util.Streamable;
 import org.springframework.util.Assert;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.metadata.schema.IndexMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
 
 /**
  * Schema creation support for Cassandra based on {@link CassandraMappingContext} and {@link CassandraPersistentEntity}.
@@ -53,6 +68,8 @@ import com.datastax.oss.driver.api.core.CqlIdentifier;
  */
 public class CassandraPersistentEntitySchemaCreator {
 
+	private static final Logger LOG = LoggerFactory.getLogger(CassandraPersistentEntitySchemaCreator.class);
+
 	private final CassandraAdminOperations cassandraAdminOperations;
 
 	private final CassandraMappingContext mappingContext;
@@ -164,26 +181,158 @@ public class CassandraPersistentEntitySchemaCreator {
 	 */
 	protected List<CreateUserTypeSpecification> createUserTypeSpecifications(boolean ifNotExists) {
 
-		List<? extends CassandraPersistentEntity<?>> entities = new ArrayList<>(
-				this.mappingContext.getUserDefinedTypeEntities());
+		Map<CqlIdentifier, CassandraPersistentEntity<?>> byTableName = getUserTypeEntities();
+		UserDefinedTypeSet udts = getUserDefinedTypeSet(byTableName);
+
+		return udts.stream()
+				.map(identifier -> cassandraAdminOperations.getSchemaFactory()
+						.getCreateUserTypeSpecificationFor(byTableName.get(identifier)).ifNotExists(ifNotExists))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Create user types, tables and indexes known to {@link CassandraMappingContext} that do not exist in the session
+	 * keyspace. Specifications are compared against the driver's keyspace metadata so that existing schema elements do
+	 * not cause any DDL. Missing schema elements are created with {@code IF NOT EXISTS} in dependency levels: user types
+	 * by their nesting level, then tables, then indexes. Statements of a level are executed concurrently and each level
+	 * awaits schema agreement once before proceeding with the next level.
+	 *
+	 * @since 3.1
+	 */
+	public void createMissingSchema() {
+
+		// noinspection ConstantConditions
+		this.cassandraAdminOperations.getCqlOperations().execute((SessionCallback<Object>) session -> {
+
+			KeyspaceMetadata keyspace = session.getKeyspace()
+					.flatMap(it -> session.refreshSchema().getKeyspace(it))
+					.orElseThrow(() -> new IllegalStateException("Metadata for keyspace not available"));
+
+			createMissingSchema(session, getMissingSchemaLevels(keyspace));
+
+			return null;
+		});
+	}
+
+	/**
+	 * Compute the CQL statements to create user types, tables and indexes that do not exist in {@code keyspace}. CQL
+	 * statements within a level do not depend on each other.
+	 *
+	 * @param keyspace the keyspace metadata to compare with.
+	 * @return {@link List} of CQL statement levels. Empty levels are omitted.
+	 * @since 3.1
+	 */
+	protected List<List<String>> getMissingSchemaLevels(KeyspaceMetadata keyspace) {
+
+		List<List<String>> levels = new ArrayList<>();
+
+		Map<CqlIdentifier, CassandraPersistentEntity<?>> byTableName = getUserTypeEntities();
+
+		for (List<CqlIdentifier> level : getUserDefinedTypeSet(byTableName).getLevels()) {
+
+			addLevel(levels, level.stream() //
+					.filter(it -> !keyspace.getUserDefinedType(it).isPresent()) //
+					.map(it -> cassandraAdminOperations.getSchemaFactory()
+							.getCreateUserTypeSpecificationFor(byTableName.get(it)).ifNotExists()) //
+					.map(CreateUserTypeCqlGenerator::toCql) //
+					.collect(Collectors.toList()));
+		}
+
+		addLevel(levels, createTableSpecifications(true).stream() //
+				.filter(it -> !keyspace.getTable(it.getName()).isPresent()) //
+				.map(CreateTableCqlGenerator::toCql) //
+				.collect(Collectors.toList()));
+
+		addLevel(levels, createIndexSpecifications(true).stream() //
+				.filter(it -> !indexExists(keyspace, it)) //
+				.map(CreateIndexCqlGenerator::toCql) //
+				.collect(Collectors.toList()));
+
+		return levels;
+	}
+
+	private static void createMissingSchema(CqlSession session, List<List<String>> levels) {
+
+		long startNanos = System.nanoTime();
+		int statements = 0;
+
+		for (List<String> level : levels) {
+
+			CompletableFuture<?>[] futures = level.stream() //
+					.map(cql -> session.executeAsync(cql).toCompletableFuture()) //
+					.toArray(CompletableFuture[]::new);
+
+			try {
+				CompletableFuture.allOf(futures).thenCompose(it -> session.checkSchemaAgreementAsync()).join();
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+			}
+
+			statements += futures.length;
+		}
+
+		if (LOG.isDebugEnabled()) {
+			LOG.debug(String.format("Created %d missing schema elements in %d levels in %d ms", statements, levels.size(),
+					TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+		}
+	}
+
+	private static void addLevel(List<List<String>> levels, List<String> level) {
+
+		if (!level.isEmpty()) {
+			levels.add(level);
+		}
+	}
+
+	private static boolean indexExists(KeyspaceMetadata keyspace, CreateIndexSpecification specification) {
 
-		Map<CqlIdentifier, CassandraPersistentEntity<?>> byTableName = entities.stream()
-				.collect(Collectors.toMap(CassandraPersistentEntity::getTableName, entity -> entity));
+		Optional<TableMetadata> table = keyspace.getTable(specification.getTableName());
+
+		if (!table.isPresent()) {
+			return false;
+		}
+
+		Map<CqlIdentifier, IndexMetadata> indexes = table.get().getIndexes();
+
+		if (specification.getName() != null) {
+			return indexes.containsKey(specification.getName());
+		}
+
+		String column = specification.getColumnName().asCql(true);
+		ColumnFunction columnFunction = specification.getColumnFunction();
+		String target = columnFunction == null || columnFunction == ColumnFunction.NONE ? column
+				: String.format("%s(%s)", columnFunction.name().toLowerCase(), column);
+
+		return indexes.values().stream().anyMatch(it -> it.getTarget().equals(target));
+	}
+
+	private Map<CqlIdentifier, CassandraPersistentEntity<?>> getUserTypeEntities() {
+
+		Map<CqlIdentifier, CassandraPersistentEntity<?>> entities = new LinkedHashMap<>();
+
+		for (CassandraPersistentEntity<?> entity : this.mappingContext.getUserDefinedTypeEntities()) {
+
+			CassandraPersistentEntity<?> existing = entities.putIfAbsent(entity.getTableName(), entity);
+
+			if (existing != null && !existing.getType().equals(entity.getType())) {
+				throw new MappingException(String.format("User-defined type [%s] is mapped by both [%s] and [%s]",
+						entity.getTableName(), existing.getType().getName(), entity.getType().getName()));
+			}
+		}
+
+		return entities;
+	}
+
+	private UserDefinedTypeSet getUserDefinedTypeSet(Map<CqlIdentifier, CassandraPersistentEntity<?>> entities) {
 
-		List<CreateUserTypeSpecification> specifications = new ArrayList<>();
 		UserDefinedTypeSet udts = new UserDefinedTypeSet();
 
-		entities.forEach(entity -> {
+		entities.values().forEach(entity -> {
 			udts.add(entity.getTableName());
 			visitUserTypes(entity, udts);
 		});
 
-		specifications.addAll(udts.stream()
-				.map(identifier -> cassandraAdminOperations.getSchemaFactory()
-						.getCreateUserTypeSpecificationFor(byTableName.get(identifier)).ifNotExists(ifNotExists))
-				.collect(Collectors.toList()));
-
-		return specifications;
+		return udts;
 	}
 
 	private void visitUserTypes(CassandraPersistentEntity<?> entity, UserDefinedTypeSet udts) {
@@ -245,6 +394,54 @@ public class CassandraPersistentEntitySchemaCreator {
 					.iterator();
 		}
 
+		/**
+		 * Group the types by their dependency level. Types of a level only depend on types of previous levels.
+		 *
+		 * @return {@link List} of type levels.
+		 */
+		List<List<CqlIdentifier>> getLevels() {
+
+			Map<CqlIdentifier, Integer> levels = new HashMap<>();
+			List<List<CqlIdentifier>> result = new ArrayList<>();
+
+			for (DependencyNode node : creationOrder) {
+
+				int level = getLevel(node, levels, new HashSet<>());
+
+				while (result.size() <= level) {
+					result.add(new ArrayList<>());
+				}
+
+				result.get(level).add(node.getIdentifier());
+			}
+
+			return result;
+		}
+
+		private int getLevel(DependencyNode node, Map<CqlIdentifier, Integer> levels, Set<CqlIdentifier> visiting) {
+
+			Integer level = levels.get(node.getIdentifier());
+
+			if (level != null) {
+				return level;
+			}
+
+			int result = 0;
+
+			if (visiting.add(node.getIdentifier())) {
+
+				for (DependencyNode dependency : creationOrder) {
+					if (node.dependsOn(dependency.getIdentifier())) {
+						result = Math.max(result, getLevel(dependency, levels, visiting) + 1);
+					}
+				}
+			}
+
+			levels.put(node.getIdentifier(), result);
+
+			return result;
+		}
+
 		/**
 		 * Updates the dependency order.
 		 *
@@ -15,7 +15,14 @@
  */
 package org.springframework.data.cassandra.core;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -30,6 +37,7 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.cassandra.SessionFactory;
 import org.springframework.data.cassandra.core.EntityOperations.AdaptibleEntity;
+import org.springframework.data.cassandra.core.WriteCoalescer.PendingWrite;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
 import org.springframework.data.cassandra.core.convert.QueryMapper;
@@ -42,6 +50,8 @@ import org.springframework.data.cassandra.core.cql.QueryOptions;
 import org.springframework.data.cassandra.core.cql.SessionCallback;
 import org.springframework.data.cassandra.core.cql.WriteOptions;
 import org.springframework.data.cassandra.core.cql.session.DefaultSessionFactory;
+import org.springframework.data.cassandra.core.cql.support.HotPartitionTracker;
+import org.springframework.data.cassandra.core.cql.support.HotPartitionTracker.Operation;
 import org.springframework.data.cassandra.core.cql.util.StatementBuilder;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
@@ -68,6 +78,8 @@ import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DriverException;
 import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
@@ -116,6 +128,14 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 	private final StatementFactory statementFactory;
 
+	private @Nullable Executor streamMappingExecutor;
+
+	private int streamMappingParallelism = Runtime.getRuntime().availableProcessors();
+
+	private boolean streamMappingOrdered = true;
+
+	private HotPartitionRecorder hotPartitionRecorder = HotPartitionRecorder.NONE;
+
 	/**
 	 * Creates an instance of {@link CassandraTemplate} initialized with the given {@link CqlSession} and a default
 	 * {@link MappingCassandraConverter}.
@@ -218,6 +238,96 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		this.entityCallbacks = entityCallbacks;
 	}
 
+	/**
+	 * Set the {@link Executor} to map rows of {@link Stream}-returning queries with. Rows are read and pages are fetched
+	 * sequentially by the consuming thread while chunks of rows are converted to entities on the given {@link Executor}.
+	 * Mapping events are published on the mapping threads. Default is {@literal null}, mapping rows on the consuming
+	 * thread.
+	 *
+	 * @param streamMappingExecutor the {@link Executor} to map rows with, may be {@literal null}.
+	 * @since 3.1
+	 * @see #setStreamMappingParallelism(int)
+	 * @see #setStreamMappingOrdered(boolean)
+	 */
+	public void setStreamMappingExecutor(@Nullable Executor streamMappingExecutor) {
+		this.streamMappingExecutor = streamMappingExecutor;
+	}
+
+	/**
+	 * @return the stream mapping {@link Executor} specified for this template.
+	 * @since 3.1
+	 */
+	@Nullable
+	public Executor getStreamMappingExecutor() {
+		return this.streamMappingExecutor;
+	}
+
+	/**
+	 * Set the maximum number of chunks of rows that are mapped concurrently when using a
+	 * {@link #setStreamMappingExecutor(Executor) stream mapping Executor}. The consumer reads ahead up to twice as many
+	 * chunks to keep mapping threads busy. Defaults to the number of available processors.
+	 *
+	 * @param streamMappingParallelism the mapping parallelism, must be greater than zero.
+	 * @since 3.1
+	 */
+	public void setStreamMappingParallelism(int streamMappingParallelism) {
+
+		Assert.isTrue(streamMappingParallelism > 0, "Stream mapping parallelism must be greater than zero");
+
+		this.streamMappingParallelism = streamMappingParallelism;
+	}
+
+	/**
+	 * @return the stream mapping parallelism specified for this template.
+	 * @since 3.1
+	 */
+	public int getStreamMappingParallelism() {
+		return this.streamMappingParallelism;
+	}
+
+	/**
+	 * Configure whether {@link Stream}-returning queries emit entities in the order of the result when using a
+	 * {@link #setStreamMappingExecutor(Executor) stream mapping Executor}. Unordered streams emit chunks as soon as they
+	 * are mapped. Default is {@literal true}.
+	 *
+	 * @param streamMappingOrdered {@literal true} to retain the result order.
+	 * @since 3.1
+	 */
+	public void setStreamMappingOrdered(boolean streamMappingOrdered) {
+		this.streamMappingOrdered = streamMappingOrdered;
+	}
+
+	/**
+	 * @return {@literal true} if {@link Stream}-returning queries retain the result order.
+	 * @since 3.1
+	 */
+	public boolean isStreamMappingOrdered() {
+		return this.streamMappingOrdered;
+	}
+
+	/**
+	 * Set the {@link HotPartitionTracker} to record accessed partitions with. Entity operations, operations by id and
+	 * queries restricting all partition key columns using equality record their partition key as read or write. Default
+	 * is {@literal null}, not tracking partition access.
+	 *
+	 * @param hotPartitionTracker the {@link HotPartitionTracker} to record partition access with, may be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setHotPartitionTracker(@Nullable HotPartitionTracker hotPartitionTracker) {
+		this.hotPartitionRecorder = hotPartitionTracker != null
+				? new HotPartitionRecorder(hotPartitionTracker, getConverter(), getStatementFactory())
+				: HotPartitionRecorder.NONE;
+	}
+
+	/**
+	 * @return the {@link HotPartitionTracker} specified for this template.
+	 * @since 3.1
+	 */
+	@Nullable
+	public HotPartitionTracker getHotPartitionTracker() {
+		return this.hotPartitionRecorder.getTracker();
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.CassandraOperations#getConverter()
 	 */
@@ -376,8 +486,7 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 		ResultSet resultSet = getCqlOperations().queryForResultSet(statement);
 
-		return StreamSupport.stream(resultSet.spliterator(), false)
-				.map(getMapper(entityClass, entityClass, EntityQueryUtils.getTableName(statement)));
+		return doStream(resultSet, getMapper(entityClass, entityClass, EntityQueryUtils.getTableName(statement)));
 	}
 
 	// -------------------------------------------------------------------------
@@ -408,6 +517,8 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 		Function<Row, T> mapper = getMapper(entityClass, returnType, tableName);
 
+		this.hotPartitionRecorder.recordQuery(query, entityClass, tableName, Operation.READ);
+
 		return getCqlOperations().query(select.build(), (row, rowNum) -> mapper.apply(row));
 	}
 
@@ -431,9 +542,14 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		Assert.notNull(query, "Query must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
-		StatementBuilder<Select> select = getStatementFactory().select(query, getRequiredPersistentEntity(entityClass));
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		StatementBuilder<Select> select = getStatementFactory().select(query, entity);
+
+		Slice<T> slice = slice(select.build(), entityClass);
 
-		return slice(select.build(), entityClass);
+		return query.getKeysetPageRequest()
+				.map(it -> getStatementFactory().getQueryMapper().withKeyset(slice, it, entity))
+				.orElse(slice);
 	}
 
 	/* (non-Javadoc)
@@ -448,15 +564,63 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		return doStream(query, entityClass, getTableName(entityClass), entityClass);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#streamPartitions(org.springframework.data.cassandra.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public <T> Stream<PartitionGroup<T>> streamPartitions(Query query, Class<T> entityClass) throws DataAccessException {
+		return streamPartitions(query, entityClass, Integer.MAX_VALUE);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#streamPartitions(org.springframework.data.cassandra.core.query.Query, java.lang.Class, int)
+	 */
+	@Override
+	public <T> Stream<PartitionGroup<T>> streamPartitions(Query query, Class<T> entityClass, int maxGroupSize)
+			throws DataAccessException {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.isTrue(maxGroupSize > 0, "Maximum group size must be greater than zero");
+
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		CqlIdentifier tableName = getTableName(entityClass);
+		List<CqlIdentifier> partitionKeyColumns = EntityQueryUtils.getPartitionKeyColumns(entity, this.mappingContext);
+
+		StatementBuilder<Select> select = getStatementFactory().select(query, entity, tableName);
+
+		ResultSet resultSet = getCqlOperations().queryForResultSet(select.build());
+
+		Iterator<PartitionGroup<T>> groups = EntityQueryUtils.groupByPartition(resultSet.iterator(), partitionKeyColumns,
+				getMapper(entityClass, entityClass, tableName), maxGroupSize);
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(groups, Spliterator.ORDERED | Spliterator.NONNULL),
+				false);
+	}
+
 	<T> Stream<T> doStream(Query query, Class<?> entityClass, CqlIdentifier tableName, Class<T> returnType) {
 
 		StatementBuilder<Select> select = getStatementFactory().select(query, getRequiredPersistentEntity(entityClass),
 				tableName);
 
+		this.hotPartitionRecorder.recordQuery(query, entityClass, tableName, Operation.READ);
+
 		ResultSet resultSet = getCqlOperations().queryForResultSet(select.build());
 
 		Function<Row, T> mapper = getMapper(entityClass, returnType, tableName);
-		return StreamSupport.stream(resultSet.map(mapper).spliterator(), false);
+		return doStream(resultSet, mapper);
+	}
+
+	private <T> Stream<T> doStream(ResultSet resultSet, Function<Row, T> mapper) {
+
+		Executor executor = getStreamMappingExecutor();
+
+		if (executor == null) {
+			return StreamSupport.stream(resultSet.map(mapper).spliterator(), false);
+		}
+
+		return ParallelMappingIterator.stream(resultSet, mapper, executor, getStreamMappingParallelism(),
+				isStreamMappingOrdered());
 	}
 
 	/* (non-Javadoc)
@@ -483,6 +647,8 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		StatementBuilder<Update> updateStatement = getStatementFactory().update(query, update,
 				getRequiredPersistentEntity(entityClass), tableName);
 
+		this.hotPartitionRecorder.recordQuery(query, entityClass, tableName, Operation.WRITE);
+
 		return getCqlOperations().execute(new StatementCallback(updateStatement.build()));
 	}
 
@@ -507,6 +673,8 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 				tableName);
 		SimpleStatement statement = delete.build();
 
+		this.hotPartitionRecorder.recordQuery(query, entityClass, tableName, Operation.WRITE);
+
 		maybeEmitEvent(new BeforeDeleteEvent<>(statement, entityClass, tableName));
 
 		WriteResult writeResult = getCqlOperations().execute(new StatementCallback(statement));
@@ -516,6 +684,27 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		return writeResult;
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#compile(org.springframework.data.cassandra.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public <T> CompiledQuery<T> compile(Query query, Class<T> entityClass) throws DataAccessException {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entityClass, "Entity type must not be null");
+
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		CqlIdentifier tableName = entity.getTableName();
+
+		CompiledStatement compiledStatement = CompiledStatement.select(getStatementFactory(), query, entity, tableName);
+
+		PreparedStatement preparedStatement = getCqlOperations()
+				.execute((SessionCallback<PreparedStatement>) session -> session.prepare(compiledStatement.getStatement()));
+
+		return new DefaultCompiledQuery<>(compiledStatement, preparedStatement,
+				getMapper(entityClass, entityClass, tableName));
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with entities
 	// -------------------------------------------------------------------------
@@ -566,6 +755,8 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
 		StatementBuilder<Select> select = getStatementFactory().selectOneById(id, entity, entity.getTableName());
 
+		this.hotPartitionRecorder.recordId(id, entityClass, entity.getTableName(), Operation.READ);
+
 		return getCqlOperations().queryForResultSet(select.build()).one() != null;
 	}
 
@@ -586,6 +777,8 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		StatementBuilder<Select> select = getStatementFactory().select(query.limit(1),
 				getRequiredPersistentEntity(entityClass), tableName);
 
+		this.hotPartitionRecorder.recordQuery(query, entityClass, tableName, Operation.READ);
+
 		return getCqlOperations().queryForResultSet(select.build()).one() != null;
 	}
 
@@ -602,6 +795,9 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		CqlIdentifier tableName = entity.getTableName();
 		StatementBuilder<Select> select = getStatementFactory().selectOneById(id, entity, tableName);
 		Function<Row, T> mapper = getMapper(entityClass, entityClass, tableName);
+
+		this.hotPartitionRecorder.recordId(id, entityClass, tableName, Operation.READ);
+
 		List<T> result = getCqlOperations().query(select.build(), (row, rowNum) -> mapper.apply(row));
 
 		return result.isEmpty() ? null : result.get(0);
@@ -634,8 +830,12 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 		T entityToUse = source.isVersionedEntity() ? source.initializeVersionProperty() : entity;
 
-		StatementBuilder<RegularInsert> builder = getStatementFactory().insert(entityToUse, options,
-				source.getPersistentEntity(), tableName);
+		Map<CqlIdentifier, Object> values = new LinkedHashMap<>();
+		getConverter().write(entityToUse, values, source.getPersistentEntity());
+
+		StatementBuilder<RegularInsert> builder = getStatementFactory().insert(values, options, tableName);
+
+		this.hotPartitionRecorder.recordValues(values, entityToUse.getClass(), tableName, Operation.WRITE);
 
 		if (source.isVersionedEntity()) {
 
@@ -663,6 +863,58 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		return executeSave(entity, tableName, insert);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.CassandraOperations#insertAll(java.lang.Iterable, org.springframework.data.cassandra.core.InsertOptions)
+	 */
+	@Override
+	public WriteResult insertAll(Iterable<?> entities, InsertOptions options) {
+
+		Assert.notNull(entities, "Entities must not be null");
+		Assert.notNull(options, "InsertOptions must not be null");
+
+		List<PendingWrite> writes = new ArrayList<>();
+
+		for (Object entity : entities) {
+
+			Assert.notNull(entity, "Entity must not be null");
+
+			CqlIdentifier tableName = getTableName(entity.getClass());
+			Object entityToUse = maybeCallBeforeConvert(entity, tableName);
+			AdaptibleEntity<Object> source = getEntityOperations().forEntity(entityToUse,
+					getConverter().getConversionService());
+
+			Assert.isTrue(!source.isVersionedEntity(),
+					() -> String.format("Cannot insert versioned entity %s through insertAll", entityToUse));
+
+			Map<CqlIdentifier, Object> values = new LinkedHashMap<>();
+			getConverter().write(entityToUse, values, source.getPersistentEntity());
+
+			SimpleStatement statement = getStatementFactory().insert(values, options, tableName).build();
+
+			this.hotPartitionRecorder.recordValues(values, entityToUse.getClass(), tableName, Operation.WRITE);
+
+			maybeEmitEvent(new BeforeSaveEvent<>(entityToUse, tableName, statement));
+
+			writes.add(new PendingWrite(maybeCallBeforeSave(entityToUse, tableName, statement), statement, tableName,
+					values));
+		}
+
+		List<Statement<?>> statements = getCqlOperations()
+				.execute((SessionCallback<List<Statement<?>>>) session -> WriteCoalescer.coalesce(writes, options, session));
+
+		List<WriteResult> results = new ArrayList<>(statements.size());
+
+		for (Statement<?> statement : statements) {
+			results.add(WriteResult.of(getCqlOperations().queryForResultSet(statement)));
+		}
+
+		WriteResult result = WriteCoalescer.merge(results);
+
+		writes.forEach(it -> maybeEmitEvent(new AfterSaveEvent<>(it.getEntity(), it.getTableName())));
+
+		return result;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.CassandraOperations#update(java.lang.Object)
 	 */
@@ -701,6 +953,8 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		StatementBuilder<Update> builder = getStatementFactory().update(toSave, options, persistentEntity, tableName);
 		SimpleStatement update = source.appendVersionCondition(builder, previousVersion).build();
 
+		this.hotPartitionRecorder.recordEntity(toSave, tableName, Operation.WRITE);
+
 		return executeSave(toSave, tableName, update, result -> {
 
 			if (!result.wasApplied()) {
@@ -716,6 +970,8 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 		StatementBuilder<Update> builder = getStatementFactory().update(entity, options, persistentEntity, tableName);
 
+		this.hotPartitionRecorder.recordEntity(entity, tableName, Operation.WRITE);
+
 		return executeSave(entity, tableName, builder.build());
 	}
 
@@ -780,6 +1036,8 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		StatementBuilder<Delete> delete = getStatementFactory().deleteById(id, entity, tableName);
 		SimpleStatement statement = delete.build();
 
+		this.hotPartitionRecorder.recordId(id, entityClass, tableName, Operation.WRITE);
+
 		maybeEmitEvent(new BeforeDeleteEvent<>(statement, entityClass, tableName));
 
 		boolean result = getCqlOperations().execute(statement);
@@ -871,6 +1129,8 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 
 		maybeEmitEvent(new BeforeDeleteEvent<>(statement, entity.getClass(), tableName));
 
+		this.hotPartitionRecorder.recordEntity(entity, tableName, Operation.WRITE);
+
 		WriteResult result = getCqlOperations().execute(new StatementCallback(statement));
 
 		resultConsumer.accept(result);
@@ -962,6 +1222,75 @@ public class CassandraTemplate implements CassandraOperations, ApplicationEventP
 		return object;
 	}
 
+	/**
+	 * Default {@link CompiledQuery} implementation binding values to a {@link PreparedStatement}.
+	 *
+	 * @param <T> the entity type.
+	 */
+	class DefaultCompiledQuery<T> implements CompiledQuery<T> {
+
+		private final CompiledStatement compiledStatement;
+
+		private final PreparedStatement preparedStatement;
+
+		private final Function<Row, T> mapper;
+
+		DefaultCompiledQuery(CompiledStatement compiledStatement, PreparedStatement preparedStatement,
+				Function<Row, T> mapper) {
+
+			this.compiledStatement = compiledStatement;
+			this.preparedStatement = preparedStatement;
+			this.mapper = mapper;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.CompiledQuery#select(java.util.Map)
+		 */
+		@Override
+		public List<T> select(Map<String, ?> values) throws DataAccessException {
+			return getCqlOperations().query(bind(values), (row, rowNum) -> this.mapper.apply(row));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.CompiledQuery#selectOne(java.util.Map)
+		 */
+		@Nullable
+		@Override
+		public T selectOne(Map<String, ?> values) throws DataAccessException {
+
+			List<T> result = select(values);
+
+			return result.isEmpty() ? null : result.get(0);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.CompiledQuery#stream(java.util.Map)
+		 */
+		@Override
+		public Stream<T> stream(Map<String, ?> values) throws DataAccessException {
+
+			ResultSet resultSet = getCqlOperations().queryForResultSet(bind(values));
+
+			return doStream(resultSet, this.mapper);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.CompiledQuery#getCql()
+		 */
+		@Override
+		public String getCql() {
+			return this.preparedStatement.getQuery();
+		}
+
+		private BoundStatement bind(Map<String, ?> values) {
+			return this.compiledStatement.bind(this.preparedStatement, values);
+		}
+	}
+
 	static class StatementCallback implements SessionCallback<WriteResult>, CqlProvider {
 
 		private final SimpleStatement statement;
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.cassandra.core.query.Placeholder;
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link org.springframework.data.cassandra.core.query.Query} compiled and prepared against an entity type. Compiled
+ * queries can be executed repeatedly, each time binding new values to the {@link Placeholder placeholders} of the
+ * query. Query mapping, CQL rendering and statement preparation happen only once when compiling the query.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @author agent
+ * @since 3.1
+ * @param <T> the entity type.
+ * @see CassandraOperations#compile(org.springframework.data.cassandra.core.query.Query, Class)
+ * @see Placeholder
+ */
+public interface CompiledQuery<T> {
+
+	/**
+	 * Execute the compiled {@code SELECT} query and convert the resulting items to a {@link List} of entities.
+	 *
+	 * @param values values to bind, keyed by {@link Placeholder#getName() placeholder name}. Must not be
+	 *          {@literal null}.
+	 * @return the converted results.
+	 * @throws IllegalArgumentException if a placeholder value is missing.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 */
+	List<T> select(Map<String, ?> values) throws DataAccessException;
+
+	/**
+	 * Execute the compiled {@code SELECT} query and convert the resulting item to an entity.
+	 *
+	 * @param values values to bind, keyed by {@link Placeholder#getName() placeholder name}. Must not be
+	 *          {@literal null}.
+	 * @return the converted object or {@literal null}.
+	 * @throws IllegalArgumentException if a placeholder value is missing.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 */
+	@Nullable
+	T selectOne(Map<String, ?> values) throws DataAccessException;
+
+	/**
+	 * Execute the compiled {@code SELECT} query and convert the resulting items to a {@link Stream} of entities.
+	 *
+	 * @param values values to bind, keyed by {@link Placeholder#getName() placeholder name}. Must not be
+	 *          {@literal null}.
+	 * @return the result {@link Stream}, containing mapped objects.
+	 * @throws IllegalArgumentException if a placeholder value is missing.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 */
+	Stream<T> stream(Map<String, ?> values) throws DataAccessException;
+
+	/**
+	 * @return the prepared CQL.
+	 */
+	String getCql();
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.data.cassandra.core.convert.QueryMapper;
+import org.springframework.data.cassandra.core.cql.util.StatementBuilder;
+import org.springframework.data.cassandra.core.cql.util.StatementBuilder.ParameterHandling;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.query.CriteriaDefinition;
+import org.springframework.data.cassandra.core.query.Placeholder;
+import org.springframework.data.cassandra.core.query.Query;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * A statement compiled from a {@link Query} containing {@link Placeholder placeholders}. Query mapping and CQL
+ * rendering happen once when compiling the statement. Binding values to the {@link PreparedStatement} only converts
+ * the values bound to placeholders.
+ *
+ * @author agent
+ * @since 3.1
+ */
+public class CompiledStatement {
+
+	private final SimpleStatement statement;
+
+	private final Object[] values;
+
+	private final Map<String, Function<Object, Object>> valueConverters;
+
+	private CompiledStatement(SimpleStatement statement, Object[] values,
+			Map<String, Function<Object, Object>> valueConverters) {
+
+		this.statement = statement;
+		this.values = values;
+		this.valueConverters = valueConverters;
+	}
+
+	/**
+	 * Compile a {@literal SELECT} statement for the given {@link Query}.
+	 *
+	 * @param statementFactory must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param tableName must not be {@literal null}.
+	 * @return the {@link CompiledStatement}.
+	 */
+	public static CompiledStatement select(StatementFactory statementFactory, Query query,
+			CassandraPersistentEntity<?> entity, CqlIdentifier tableName) {
+
+		Assert.notNull(statementFactory, "StatementFactory must not be null");
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+		Assert.notNull(tableName, "Table name must not be null");
+
+		return compile(statementFactory, query, entity, statementFactory.select(query, entity, tableName));
+	}
+
+	/**
+	 * Compile a {@literal SELECT COUNT} statement for the given {@link Query}.
+	 *
+	 * @param statementFactory must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param tableName must not be {@literal null}.
+	 * @return the {@link CompiledStatement}.
+	 */
+	public static CompiledStatement count(StatementFactory statementFactory, Query query,
+			CassandraPersistentEntity<?> entity, CqlIdentifier tableName) {
+
+		Assert.notNull(statementFactory, "StatementFactory must not be null");
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+		Assert.notNull(tableName, "Table name must not be null");
+
+		return compile(statementFactory, query, entity, statementFactory.count(query, entity, tableName));
+	}
+
+	/**
+	 * Compile a {@literal DELETE} statement for the given {@link Query}.
+	 *
+	 * @param statementFactory must not be {@literal null}.
+	 * @param query must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @param tableName must not be {@literal null}.
+	 * @return the {@link CompiledStatement}.
+	 */
+	public static CompiledStatement delete(StatementFactory statementFactory, Query query,
+			CassandraPersistentEntity<?> entity, CqlIdentifier tableName) {
+
+		Assert.notNull(statementFactory, "StatementFactory must not be null");
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+		Assert.notNull(tableName, "Table name must not be null");
+
+		return compile(statementFactory, query, entity, statementFactory.delete(query, entity, tableName));
+	}
+
+	private static CompiledStatement compile(StatementFactory statementFactory, Query query,
+			CassandraPersistentEntity<?> entity, StatementBuilder<?> statementBuilder) {
+
+		QueryMapper queryMapper = statementFactory.getQueryMapper();
+		Map<String, Function<Object, Object>> valueConverters = new HashMap<>();
+
+		for (CriteriaDefinition criteriaDefinition : query.getCriteriaDefinitions()) {
+
+			Object value = criteriaDefinition.getPredicate().getValue();
+
+			if (value instanceof Placeholder) {
+				valueConverters.put(((Placeholder) value).getName(),
+						queryMapper.getValueConverter(criteriaDefinition, entity));
+			}
+		}
+
+		SimpleStatement statement = statementBuilder.build(ParameterHandling.BY_INDEX);
+		List<Object> values = statement.getPositionalValues();
+
+		return new CompiledStatement(statement.setPositionalValues(Collections.emptyList()), values.toArray(),
+				valueConverters);
+	}
+
+	/**
+	 * @return the {@link SimpleStatement} to prepare. The statement does not contain any values.
+	 */
+	public SimpleStatement getStatement() {
+		return this.statement;
+	}
+
+	/**
+	 * Bind {@code values} to the given {@link PreparedStatement}.
+	 *
+	 * @param preparedStatement the {@link PreparedStatement} prepared from {@link #getStatement()}.
+	 * @param values values to bind, keyed by {@link Placeholder#getName() placeholder name}.
+	 * @return the {@link BoundStatement}.
+	 * @throws IllegalArgumentException if a placeholder value is missing.
+	 */
+	public BoundStatement bind(PreparedStatement preparedStatement, Map<String, ?> values) {
+
+		Assert.notNull(values, "Values must not be null");
+
+		if (this.valueConverters.isEmpty()) {
+			return preparedStatement.bind(this.values);
+		}
+
+		Object[] valuesToBind = new Object[this.values.length];
+
+		for (int i = 0; i < this.values.length; i++) {
+
+			Object value = this.values[i];
+
+			if (value instanceof Placeholder) {
+
+				String name = ((Placeholder) value).getName();
+
+				Assert.isTrue(values.containsKey(name), () -> String.format("No value bound for placeholder [%s]", name));
+
+				valuesToBind[i] = this.valueConverters.get(name).apply(values.get(name));
+			} else {
+				valuesToBind[i] = value;
+			}
+		}
+
+		return preparedStatement.bind(valuesToBind);
+	}
+}
@@ -45,10 +45,11 @@ public class DeleteOptions extends WriteOptions {
 
 	private DeleteOptions(@Nullable ConsistencyLevel consistencyLevel, ExecutionProfileResolver executionProfileResolver,
 			@Nullable Integer pageSize, @Nullable ConsistencyLevel serialConsistencyLevel, Duration timeout, Duration ttl,
-			@Nullable Long timestamp, @Nullable Boolean tracing, boolean ifExists, @Nullable Filter ifCondition) {
+			@Nullable Long timestamp, @Nullable Boolean tracing, @Nullable Boolean idempotent, boolean ifExists,
+			@Nullable Filter ifCondition) {
 
 		super(consistencyLevel, executionProfileResolver, pageSize, serialConsistencyLevel, timeout, ttl, timestamp,
-				tracing);
+				tracing, idempotent);
 
 		this.ifExists = ifExists;
 		this.ifCondition = ifCondition;
@@ -276,6 +277,16 @@ public class DeleteOptions extends WriteOptions {
 			return this;
 		}
 
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#idempotent(boolean)
+		 */
+		@Override
+		public DeleteOptionsBuilder idempotent(boolean idempotent) {
+
+			super.idempotent(idempotent);
+			return this;
+		}
+
 		/* (non-Javadoc)
 		 * @see org.springframework.data.cassandra.core.cql.WriteOptions.WriteOptionsBuilder#ttl(int)
 		 */
@@ -367,8 +378,8 @@ public class DeleteOptions extends WriteOptions {
 		public DeleteOptions build() {
 
 			return new DeleteOptions(this.consistencyLevel, this.executionProfileResolver, this.pageSize,
-					this.serialConsistencyLevel, this.timeout, this.ttl, this.timestamp, this.tracing, this.ifExists,
-					this.ifCondition);
+					this.serialConsistencyLevel, this.timeout, this.ttl, this.timestamp, this.tracing, this.idempotent,
+					this.ifExists, this.ifCondition);
 		}
 	}
 }
@@ -18,17 +18,24 @@ package org.springframework.data.cassandra.core;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.function.Function;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import org.springframework.data.cassandra.core.cql.RowMapper;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.query.CassandraPageRequest;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.lang.Nullable;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
@@ -145,6 +152,118 @@ class EntityQueryUtils {
 		return CqlIdentifier.fromCql("unknown");
 	}
 
+	/**
+	 * Resolve the partition key columns of {@link CassandraPersistentEntity} in property order.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 * @return the partition key column names.
+	 * @throws MappingException if the entity does not declare partition key columns.
+	 * @since 3.1
+	 */
+	static List<CqlIdentifier> getPartitionKeyColumns(CassandraPersistentEntity<?> entity,
+			MappingContext<? extends CassandraPersistentEntity<?>, CassandraPersistentProperty> mappingContext) {
+
+		List<CassandraPersistentProperty> partitionKey = new ArrayList<>();
+
+		for (CassandraPersistentProperty property : entity) {
+
+			if (property.isCompositePrimaryKey()) {
+
+				for (CassandraPersistentProperty primaryKeyProperty : mappingContext
+						.getRequiredPersistentEntity(property.getRawType())) {
+
+					if (primaryKeyProperty.isPartitionKeyColumn()) {
+						partitionKey.add(primaryKeyProperty);
+					}
+				}
+			} else if (property.isIdProperty() || property.isPartitionKeyColumn()) {
+				partitionKey.add(property);
+			}
+		}
+
+		if (partitionKey.isEmpty()) {
+			throw new MappingException(String.format("No partition key columns found in entity [%s]", entity.getType()));
+		}
+
+		List<CqlIdentifier> columns = new ArrayList<>(partitionKey.size());
+
+		for (CassandraPersistentProperty property : partitionKey) {
+			columns.add(property.getRequiredColumnName());
+		}
+
+		return columns;
+	}
+
+	/**
+	 * Read the partition key values from a {@link Row}.
+	 *
+	 * @param row must not be {@literal null}.
+	 * @param partitionKeyColumns the partition key columns.
+	 * @return the partition key values keyed by column name.
+	 * @since 3.1
+	 */
+	static Map<CqlIdentifier, Object> getPartitionKey(Row row, List<CqlIdentifier> partitionKeyColumns) {
+
+		Map<CqlIdentifier, Object> partitionKey = new LinkedHashMap<>(partitionKeyColumns.size(), 1);
+
+		for (CqlIdentifier column : partitionKeyColumns) {
+			partitionKey.put(column, row.getObject(column));
+		}
+
+		return partitionKey;
+	}
+
+	/**
+	 * Group consecutive rows sharing the same partition key into {@link PartitionGroup}s. Groups are read lazily, only
+	 * the rows of the current group are held in memory. Partitions exceeding {@code maxGroupSize} rows are split into
+	 * multiple consecutive groups.
+	 *
+	 * @param rows must not be {@literal null}.
+	 * @param partitionKeyColumns the partition key columns.
+	 * @param mapper must not be {@literal null}.
+	 * @param maxGroupSize maximum number of rows per group.
+	 * @return an {@link Iterator} of {@link PartitionGroup}s.
+	 * @since 3.1
+	 */
+	static <T> Iterator<PartitionGroup<T>> groupByPartition(Iterator<Row> rows, List<CqlIdentifier> partitionKeyColumns,
+			Function<Row, T> mapper, int maxGroupSize) {
+
+		return new Iterator<PartitionGroup<T>>() {
+
+			private @Nullable Row next = rows.hasNext() ? rows.next() : null;
+
+			@Override
+			public boolean hasNext() {
+				return next != null;
+			}
+
+			@Override
+			public PartitionGroup<T> next() {
+
+				Row row = next;
+
+				if (row == null) {
+					throw new NoSuchElementException();
+				}
+
+				Map<CqlIdentifier, Object> partitionKey = getPartitionKey(row, partitionKeyColumns);
+				List<T> content = new ArrayList<>();
+
+				do {
+
+					content.add(mapper.apply(row));
+					row = rows.hasNext() ? rows.next() : null;
+				} while (row != null && content.size() < maxGroupSize
+						&& partitionKey.equals(getPartitionKey(row, partitionKeyColumns)));
+
+				next = row;
+
+				return PartitionGroup.of(partitionKey, content);
+			}
+		};
+	}
+
 	/**
 	 * Returns a view containing the first {@code limitSize} elements of {@code iterator}. If {@code
 	 * iterator} contains fewer than {@code limitSize} elements, the returned view contains all of its elements. The
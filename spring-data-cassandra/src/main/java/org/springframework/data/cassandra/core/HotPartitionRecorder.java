@@ -0,0 +1,281 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.data.cassandra.core.convert.CassandraConverter;
+import org.springframework.data.cassandra.core.convert.ColumnType;
+import org.springframework.data.cassandra.core.convert.Where;
+import org.springframework.data.cassandra.core.cql.support.HotPartitionTracker;
+import org.springframework.data.cassandra.core.cql.support.HotPartitionTracker.Operation;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.core.query.CriteriaDefinition;
+import org.springframework.data.cassandra.core.query.Filter;
+import org.springframework.data.cassandra.core.query.Query;
+import org.springframework.data.mapping.MappingException;
+import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.mapping.PersistentPropertyPathAccessor;
+import org.springframework.lang.Nullable;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+
+/**
+ * Resolves partition keys of entity operations and records them with a {@link HotPartitionTracker}. Partition keys are
+ * resolved only for {@link HotPartitionTracker#isSampled() sampled} operations and are represented as {@link Map} of
+ * partition key column names to their values. Queries are recorded if they restrict all partition key columns using
+ * equality. Partition keys of entities are read through their property accessor without converting the entire entity.
+ * Failures to resolve a partition key are logged and do not affect the operation. {@link #NONE} does not record any
+ * operations and is used while no {@link HotPartitionTracker} is configured.
+ *
+ * @author agent
+ * @since 3.1
+ */
+class HotPartitionRecorder {
+
+	private static final Logger LOG = LoggerFactory.getLogger(HotPartitionRecorder.class);
+
+	/**
+	 * No-op {@link HotPartitionRecorder} that does not record any operations.
+	 */
+	static final HotPartitionRecorder NONE = new HotPartitionRecorder();
+
+	private final @Nullable HotPartitionTracker tracker;
+
+	private final CassandraConverter converter;
+
+	private final StatementFactory statementFactory;
+
+	private final Map<Class<?>, List<CqlIdentifier>> partitionKeyColumns = new ConcurrentHashMap<>();
+
+	private final Map<Class<?>, List<PartitionKeyProperty>> partitionKeyProperties = new ConcurrentHashMap<>();
+
+	@SuppressWarnings("ConstantConditions")
+	private HotPartitionRecorder() {
+		this.tracker = null;
+		this.converter = null;
+		this.statementFactory = null;
+	}
+
+	HotPartitionRecorder(HotPartitionTracker tracker, CassandraConverter converter, StatementFactory statementFactory) {
+		this.tracker = tracker;
+		this.converter = converter;
+		this.statementFactory = statementFactory;
+	}
+
+	@Nullable
+	HotPartitionTracker getTracker() {
+		return this.tracker;
+	}
+
+	private boolean isSampled() {
+		return this.tracker != null && this.tracker.isSampled();
+	}
+
+	/**
+	 * Record an operation on {@code entity}.
+	 */
+	void recordEntity(Object entity, CqlIdentifier tableName, Operation operation) {
+
+		if (!isSampled()) {
+			return;
+		}
+
+		try {
+
+			CassandraPersistentEntity<?> persistentEntity = getPersistentEntity(entity.getClass());
+			List<PartitionKeyProperty> properties = this.partitionKeyProperties.computeIfAbsent(persistentEntity.getType(),
+					it -> getPartitionKeyProperties(persistentEntity));
+			PersistentPropertyPathAccessor<?> accessor = persistentEntity.getPropertyPathAccessor(entity);
+
+			Map<CqlIdentifier, Object> partitionKey = new LinkedHashMap<>(properties.size());
+
+			for (PartitionKeyProperty property : properties) {
+
+				Object value = accessor.getProperty(property.path);
+
+				if (value == null) {
+					return;
+				}
+
+				partitionKey.put(property.columnName, this.converter.convertToColumnType(value, property.columnType));
+			}
+
+			this.tracker.record(tableName, operation, partitionKey);
+		} catch (RuntimeException e) {
+			LOG.debug("Cannot resolve partition key of entity", e);
+		}
+	}
+
+	/**
+	 * Record an operation on an entity given its already converted column {@code values}.
+	 */
+	void recordValues(Map<CqlIdentifier, Object> values, Class<?> entityClass, CqlIdentifier tableName,
+			Operation operation) {
+
+		if (!isSampled()) {
+			return;
+		}
+
+		try {
+			record(values, getPersistentEntity(entityClass), tableName, operation);
+		} catch (RuntimeException e) {
+			LOG.debug("Cannot resolve partition key of entity", e);
+		}
+	}
+
+	/**
+	 * Record an operation by {@code id}.
+	 */
+	void recordId(Object id, Class<?> entityClass, CqlIdentifier tableName, Operation operation) {
+
+		if (!isSampled()) {
+			return;
+		}
+
+		try {
+
+			CassandraPersistentEntity<?> persistentEntity = getPersistentEntity(entityClass);
+			Where where = new Where();
+			this.converter.write(id, where, persistentEntity);
+
+			record(where, persistentEntity, tableName, operation);
+		} catch (RuntimeException e) {
+			LOG.debug("Cannot resolve partition key of id", e);
+		}
+	}
+
+	/**
+	 * Record an operation using {@link Query}. Queries that do not restrict all partition key columns using equality
+	 * are not recorded.
+	 */
+	void recordQuery(Query query, Class<?> entityClass, CqlIdentifier tableName, Operation operation) {
+
+		if (!isSampled()) {
+			return;
+		}
+
+		try {
+
+			CassandraPersistentEntity<?> persistentEntity = getPersistentEntity(entityClass);
+			Filter filter = this.statementFactory.getQueryMapper().getMappedObject(query, persistentEntity);
+			Map<CqlIdentifier, Object> values = new LinkedHashMap<>();
+
+			for (CriteriaDefinition criteria : filter) {
+
+				if (criteria.getPredicate().getOperator() == CriteriaDefinition.Operators.EQ) {
+					criteria.getColumnName().getCqlIdentifier()
+							.ifPresent(column -> values.put(column, criteria.getPredicate().getValue()));
+				}
+			}
+
+			record(values, persistentEntity, tableName, operation);
+		} catch (RuntimeException e) {
+			LOG.debug("Cannot resolve partition key of query", e);
+		}
+	}
+
+	private void record(Map<CqlIdentifier, Object> values, CassandraPersistentEntity<?> persistentEntity,
+			CqlIdentifier tableName, Operation operation) {
+
+		List<CqlIdentifier> columns = this.partitionKeyColumns.computeIfAbsent(persistentEntity.getType(),
+				it -> EntityQueryUtils.getPartitionKeyColumns(persistentEntity, this.converter.getMappingContext()));
+
+		Map<CqlIdentifier, Object> partitionKey = new LinkedHashMap<>(columns.size());
+
+		for (CqlIdentifier column : columns) {
+
+			Object value = values.get(column);
+
+			if (value == null) {
+				return;
+			}
+
+			partitionKey.put(column, value);
+		}
+
+		this.tracker.record(tableName, operation, partitionKey);
+	}
+
+	private List<PartitionKeyProperty> getPartitionKeyProperties(CassandraPersistentEntity<?> persistentEntity) {
+
+		List<PartitionKeyProperty> properties = new ArrayList<>();
+
+		for (CassandraPersistentProperty property : persistentEntity) {
+
+			if (property.isCompositePrimaryKey()) {
+
+				for (CassandraPersistentProperty keyProperty : getPersistentEntity(property.getRawType())) {
+
+					if (keyProperty.isPartitionKeyColumn()) {
+						properties.add(getPartitionKeyProperty(property.getName() + "." + keyProperty.getName(),
+								persistentEntity));
+					}
+				}
+			} else if (property.isIdProperty() || property.isPartitionKeyColumn()) {
+				properties.add(getPartitionKeyProperty(property.getName(), persistentEntity));
+			}
+		}
+
+		if (properties.isEmpty()) {
+			throw new MappingException(
+					String.format("No partition key columns found in entity [%s]", persistentEntity.getType()));
+		}
+
+		return properties;
+	}
+
+	private PartitionKeyProperty getPartitionKeyProperty(String path, CassandraPersistentEntity<?> persistentEntity) {
+
+		PersistentPropertyPath<CassandraPersistentProperty> propertyPath = this.converter.getMappingContext()
+				.getPersistentPropertyPath(path, persistentEntity.getType());
+		CassandraPersistentProperty property = propertyPath.getRequiredLeafProperty();
+
+		return new PartitionKeyProperty(propertyPath, property.getRequiredColumnName(),
+				this.converter.getColumnTypeResolver().resolve(property));
+	}
+
+	private CassandraPersistentEntity<?> getPersistentEntity(Class<?> entityClass) {
+		return this.converter.getMappingContext().getRequiredPersistentEntity(entityClass);
+	}
+
+	/**
+	 * Path to a partition key property along with its column name and column type.
+	 */
+	private static class PartitionKeyProperty {
+
+		private final PersistentPropertyPath<CassandraPersistentProperty> path;
+
+		private final CqlIdentifier columnName;
+
+		private final ColumnType columnType;
+
+		PartitionKeyProperty(PersistentPropertyPath<CassandraPersistentProperty> path, CqlIdentifier columnName,
+				ColumnType columnType) {
+			this.path = path;
+			this.columnName = columnName;
+			this.columnType = columnType;
+		}
+	}
+}
@@ -42,10 +42,11 @@ public class InsertOptions extends WriteOptions {
 
 	private InsertOptions(@Nullable ConsistencyLevel consistencyLevel, ExecutionProfileResolver executionProfileResolver,
 			@Nullable Integer pageSize, @Nullable ConsistencyLevel serialConsistencyLevel, Duration timeout, Duration ttl,
-			@Nullable Long timestamp, @Nullable Boolean tracing, boolean ifNotExists, boolean insertNulls) {
+			@Nullable Long timestamp, @Nullable Boolean tracing, @Nullable Boolean idempotent, boolean ifNotExists,
+			boolean insertNulls) {
 
 		super(consistencyLevel, executionProfileResolver, pageSize, serialConsistencyLevel, timeout, ttl, timestamp,
-				tracing);
+				tracing, idempotent);
 
 		this.ifNotExists = ifNotExists;
 		this.insertNulls = insertNulls;
@@ -274,6 +275,16 @@ public class InsertOptions extends WriteOptions {
 			return this;
 		}
 
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#idempotent(boolean)
+		 */
+		@Override
+		public InsertOptionsBuilder idempotent(boolean idempotent) {
+
+			super.idempotent(idempotent);
+			return this;
+		}
+
 		/* (non-Javadoc)
 		 * @see org.springframework.data.cassandra.core.cql.WriteOptions.WriteOptionsBuilder#ttl(int)
 		 */
@@ -361,8 +372,8 @@ public class InsertOptions extends WriteOptions {
 		 */
 		public InsertOptions build() {
 			return new InsertOptions(this.consistencyLevel, this.executionProfileResolver, this.pageSize,
-					this.serialConsistencyLevel, this.timeout, this.ttl, this.timestamp, this.tracing, this.ifNotExists,
-					this.insertNulls);
+					this.serialConsistencyLevel, this.timeout, this.ttl, this.timestamp, this.tracing, this.idempotent,
+					this.ifNotExists, this.insertNulls);
 		}
 	}
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.dao.TransientDataAccessResourceException;
+
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * {@link Iterator} mapping rows of a {@link ResultSet} in parallel. Rows are read and pages are fetched sequentially on
+ * the consuming thread. Rows are grouped into chunks that are mapped on an {@link Executor} while the consumer keeps
+ * fetching. The number of chunks in flight is bounded to limit the number of buffered rows. Mapped objects are emitted
+ * either in the order of the {@link ResultSet} by awaiting chunks in submission order or unordered as chunks complete.
+ *
+ * @author agent
+ * @since 3.1
+ */
+class ParallelMappingIterator<T> implements Iterator<T> {
+
+	static final int CHUNK_SIZE = 128;
+
+	private final ResultSet resultSet;
+
+	private final Iterator<Row> rows;
+
+	private final Function<Row, T> mapper;
+
+	private final Executor executor;
+
+	private final int maxPendingChunks;
+
+	private final boolean ordered;
+
+	private final Deque<CompletableFuture<List<T>>> pending = new ArrayDeque<>();
+
+	private final BlockingQueue<CompletableFuture<List<T>>> completed = new LinkedBlockingQueue<>();
+
+	private Iterator<T> current = Collections.emptyIterator();
+
+	private ParallelMappingIterator(ResultSet resultSet, Function<Row, T> mapper, Executor executor,
+			int maxPendingChunks, boolean ordered) {
+
+		this.resultSet = resultSet;
+		this.rows = resultSet.iterator();
+		this.mapper = mapper;
+		this.executor = executor;
+		this.maxPendingChunks = maxPendingChunks;
+		this.ordered = ordered;
+	}
+
+	/**
+	 * Create a {@link Stream} mapping rows of {@link ResultSet} in parallel.
+	 *
+	 * @param resultSet the {@link ResultSet} to read.
+	 * @param mapper the row mapping function.
+	 * @param executor the {@link Executor} to map chunks of rows on.
+	 * @param parallelism the maximum number of chunks mapped concurrently.
+	 * @param ordered whether to retain the order of the {@link ResultSet}.
+	 * @return the {@link Stream} of mapped objects. Closing the {@link Stream} cancels chunks that were not mapped yet.
+	 */
+	static <T> Stream<T> stream(ResultSet resultSet, Function<Row, T> mapper, Executor executor, int parallelism,
+			boolean ordered) {
+
+		ParallelMappingIterator<T> iterator = new ParallelMappingIterator<>(resultSet, mapper, executor, parallelism * 2,
+				ordered);
+
+		Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(iterator, ordered ? Spliterator.ORDERED : 0);
+
+		return StreamSupport.stream(spliterator, false).onClose(iterator::cancel);
+	}
+
+	/* (non-Javadoc)
+	 * @see java.util.Iterator#hasNext()
+	 */
+	@Override
+	public boolean hasNext() {
+
+		while (!this.current.hasNext()) {
+
+			fill();
+
+			if (this.pending.isEmpty()) {
+				return false;
+			}
+
+			this.current = await().iterator();
+		}
+
+		return true;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.util.Iterator#next()
+	 */
+	@Override
+	public T next() {
+
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		return this.current.next();
+	}
+
+	/**
+	 * Read chunks of rows and submit them for mapping until the maximum number of pending chunks is reached. Reading a
+	 * row beyond the current page fetches the next page.
+	 */
+	private void fill() {
+
+		while (this.pending.size() < this.maxPendingChunks && this.rows.hasNext()) {
+
+			int chunkSize = Math.min(Math.max(this.resultSet.getAvailableWithoutFetching(), 1), CHUNK_SIZE);
+			List<Row> chunk = new ArrayList<>(chunkSize);
+
+			while (chunk.size() < chunkSize && this.rows.hasNext()) {
+				chunk.add(this.rows.next());
+			}
+
+			CompletableFuture<List<T>> future = CompletableFuture.supplyAsync(() -> map(chunk), this.executor);
+
+			if (!this.ordered) {
+				future.whenComplete((result, error) -> this.completed.add(future));
+			}
+
+			this.pending.add(future);
+		}
+	}
+
+	private List<T> map(List<Row> chunk) {
+
+		List<T> result = new ArrayList<>(chunk.size());
+
+		for (Row row : chunk) {
+			result.add(this.mapper.apply(row));
+		}
+
+		return result;
+	}
+
+	private List<T> await() {
+
+		CompletableFuture<List<T>> future;
+
+		if (this.ordered) {
+			future = this.pending.removeFirst();
+		} else {
+
+			try {
+				future = this.completed.take();
+			} catch (InterruptedException e) {
+
+				Thread.currentThread().interrupt();
+				cancel();
+
+				throw new TransientDataAccessResourceException("Interrupted while awaiting mapped rows", e);
+			}
+
+			this.pending.remove(future);
+		}
+
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+
+			cancel();
+
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			throw e;
+		}
+	}
+
+	private void cancel() {
+
+		for (CompletableFuture<List<T>> future : this.pending) {
+			future.cancel(false);
+		}
+
+		this.pending.clear();
+		this.completed.clear();
+	}
+}
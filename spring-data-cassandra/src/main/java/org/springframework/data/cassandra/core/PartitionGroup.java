@@ -0,0 +1,133 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+
+/**
+ * Group of consecutive result objects sharing the same partition key. Cassandra returns rows of a partition
+ * contiguously so that a result can be split into partition groups while it is read, holding only the rows of a single
+ * partition in memory.
+ * <p>
+ * The content of a group is fully materialized as {@link List} before the group is returned. A group of a wide
+ * partition therefore holds all of its rows in memory unless a maximum group size is specified when querying.
+ * Partitions exceeding the maximum group size are returned as multiple consecutive groups with the same partition key.
+ *
+ * @author agent
+ * @since 3.1
+ * @see CassandraOperations#streamPartitions(org.springframework.data.cassandra.core.query.Query, Class)
+ * @see ReactiveCassandraOperations#selectPartitions(org.springframework.data.cassandra.core.query.Query, Class)
+ */
+public final class PartitionGroup<T> {
+
+	private final Map<CqlIdentifier, Object> partitionKey;
+
+	private final List<T> content;
+
+	private PartitionGroup(Map<CqlIdentifier, Object> partitionKey, List<T> content) {
+		this.partitionKey = partitionKey;
+		this.content = content;
+	}
+
+	/**
+	 * Create a new {@link PartitionGroup}.
+	 *
+	 * @param partitionKey values of the partition key columns keyed by column name, must not be {@literal null}.
+	 * @param content result objects of the partition, must not be {@literal null}.
+	 * @return the {@link PartitionGroup}.
+	 */
+	public static <T> PartitionGroup<T> of(Map<CqlIdentifier, Object> partitionKey, List<T> content) {
+
+		Assert.notNull(partitionKey, "Partition key must not be null");
+		Assert.notNull(content, "Content must not be null");
+
+		return new PartitionGroup<>(Collections.unmodifiableMap(partitionKey), Collections.unmodifiableList(content));
+	}
+
+	/**
+	 * @return the values of the partition key columns keyed by column name.
+	 */
+	public Map<CqlIdentifier, Object> getPartitionKey() {
+		return this.partitionKey;
+	}
+
+	/**
+	 * @return the result objects of the partition in the order of the result.
+	 */
+	public List<T> getContent() {
+		return this.content;
+	}
+
+	/**
+	 * @return a {@link Stream} of the result objects of the partition.
+	 */
+	public Stream<T> stream() {
+		return this.content.stream();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof PartitionGroup)) {
+			return false;
+		}
+
+		PartitionGroup<?> that = (PartitionGroup<?>) o;
+
+		if (!ObjectUtils.nullSafeEquals(partitionKey, that.partitionKey)) {
+			return false;
+		}
+
+		return ObjectUtils.nullSafeEquals(content, that.content);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+
+		int result = ObjectUtils.nullSafeHashCode(partitionKey);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(content);
+		return result;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("PartitionGroup [partitionKey=%s, size=%d]", this.partitionKey, this.content.size());
+	}
+}
@@ -134,6 +134,8 @@ class ReactiveCassandraBatchTemplate implements ReactiveCassandraBatchOperations
 						.flatMap(statements -> {
 
 							this.batch.addStatements((List<BatchableStatement<?>>) statements);
+							this.batch.setIdempotence(
+									statements.stream().allMatch(statement -> Boolean.TRUE.equals(statement.isIdempotent())));
 
 							return this.operations.getReactiveCqlOperations().queryForResultSet(this.batch.build());
 
@@ -147,6 +147,44 @@ public interface ReactiveCassandraOperations extends ReactiveFluentCassandraOper
 	 */
 	<T> Flux<T> select(Query query, Class<T> entityClass) throws DataAccessException;
 
+	/**
+	 * Execute a {@code SELECT} query and group the resulting entities by partition. Rows of a partition are returned
+	 * contiguously; partition boundaries are detected from the values of the partition key columns of the entity while
+	 * pages are streamed. A {@link PartitionGroup} is emitted once the first row of the next partition is read or the
+	 * result completes so that only the entities of the current partition are buffered.
+	 * <p>
+	 * Each {@link PartitionGroup} materializes all entities of its partition as {@link java.util.List}. Use
+	 * {@link #selectPartitions(Query, Class, int)} to bound the number of entities per group when reading wide
+	 * partitions.
+	 * <p>
+	 * The query must select the partition key columns of the entity.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @return a {@link Flux} of {@link PartitionGroup}s in the order of the result.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 3.1
+	 */
+	<T> Flux<PartitionGroup<T>> selectPartitions(Query query, Class<T> entityClass) throws DataAccessException;
+
+	/**
+	 * Execute a {@code SELECT} query and group the resulting entities by partition buffering at most
+	 * {@code maxGroupSize} entities per {@link PartitionGroup}. Partitions with more entities are emitted as multiple
+	 * consecutive groups with the same partition key.
+	 * <p>
+	 * The query must select the partition key columns of the entity.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param entityClass The entity type must not be {@literal null}.
+	 * @param maxGroupSize maximum number of entities per group, must be greater than zero.
+	 * @return a {@link Flux} of {@link PartitionGroup}s in the order of the result.
+	 * @throws DataAccessException if there is any problem issuing the execution.
+	 * @since 3.1
+	 * @see #selectPartitions(Query, Class)
+	 */
+	<T> Flux<PartitionGroup<T>> selectPartitions(Query query, Class<T> entityClass, int maxGroupSize)
+			throws DataAccessException;
+
 	/**
 	 * Execute a {@code SELECT} query with paging and convert the result set to a {@link Slice} of entities.
 	 *
@@ -189,6 +227,20 @@ public interface ReactiveCassandraOperations extends ReactiveFluentCassandraOper
 	 */
 	Mono<Boolean> delete(Query query, Class<?> entityClass) throws DataAccessException;
 
+	/**
+	 * Compile a {@code SELECT} {@link Query} into a reusable {@link ReactiveCompiledQuery}. Criteria values can be
+	 * declared as {@link org.springframework.data.cassandra.core.query.Placeholder placeholders} that are bound on each
+	 * execution. Query mapping and CQL rendering are performed only once. The query is prepared when subscribing to the
+	 * returned {@link Mono}.
+	 *
+	 * @param <T> entity type.
+	 * @param query the query to compile. Must not be {@literal null}.
+	 * @param entityClass the entity type. Must not be {@literal null}.
+	 * @return the compiled query.
+	 * @since 3.1
+	 */
+	<T> Mono<ReactiveCompiledQuery<T>> compile(Query query, Class<T> entityClass);
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with entities
 	// -------------------------------------------------------------------------
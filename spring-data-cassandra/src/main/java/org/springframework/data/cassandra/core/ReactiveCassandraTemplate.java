@@ -18,10 +18,17 @@ package org.springframework.data.cassandra.core;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.publisher.SynchronousSink;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
 import org.reactivestreams.Publisher;
 
@@ -47,6 +54,8 @@ import org.springframework.data.cassandra.core.cql.ReactiveSessionCallback;
 import org.springframework.data.cassandra.core.cql.RowMapper;
 import org.springframework.data.cassandra.core.cql.WriteOptions;
 import org.springframework.data.cassandra.core.cql.session.DefaultReactiveSessionFactory;
+import org.springframework.data.cassandra.core.cql.support.HotPartitionTracker;
+import org.springframework.data.cassandra.core.cql.support.HotPartitionTracker.Operation;
 import org.springframework.data.cassandra.core.cql.util.StatementBuilder;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.event.AfterConvertEvent;
@@ -73,6 +82,7 @@ import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.DriverException;
 import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
 import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
@@ -109,6 +119,8 @@ public class ReactiveCassandraTemplate
 
 	private @Nullable ReactiveEntityCallbacks entityCallbacks;
 
+	private HotPartitionRecorder hotPartitionRecorder = HotPartitionRecorder.NONE;
+
 	private final CassandraConverter converter;
 
 	private final EntityOperations entityOperations;
@@ -221,6 +233,29 @@ public class ReactiveCassandraTemplate
 		this.entityCallbacks = entityCallbacks;
 	}
 
+	/**
+	 * Set the {@link HotPartitionTracker} to record accessed partitions with. Entity operations, operations by id and
+	 * queries restricting all partition key columns using equality record their partition key as read or write upon
+	 * subscription. Default is {@literal null}, not tracking partition access.
+	 *
+	 * @param hotPartitionTracker the {@link HotPartitionTracker} to record partition access with, may be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setHotPartitionTracker(@Nullable HotPartitionTracker hotPartitionTracker) {
+		this.hotPartitionRecorder = hotPartitionTracker != null
+				? new HotPartitionRecorder(hotPartitionTracker, getConverter(), getStatementFactory())
+				: HotPartitionRecorder.NONE;
+	}
+
+	/**
+	 * @return the {@link HotPartitionTracker} specified for this template.
+	 * @since 3.1
+	 */
+	@Nullable
+	public HotPartitionTracker getHotPartitionTracker() {
+		return this.hotPartitionRecorder.getTracker();
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#getConverter()
 	 */
@@ -369,6 +404,52 @@ public class ReactiveCassandraTemplate
 		return doSelect(query, entityClass, getTableName(entityClass), entityClass);
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#selectPartitions(org.springframework.data.cassandra.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public <T> Flux<PartitionGroup<T>> selectPartitions(Query query, Class<T> entityClass) throws DataAccessException {
+		return selectPartitions(query, entityClass, Integer.MAX_VALUE);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#selectPartitions(org.springframework.data.cassandra.core.query.Query, java.lang.Class, int)
+	 */
+	@Override
+	public <T> Flux<PartitionGroup<T>> selectPartitions(Query query, Class<T> entityClass, int maxGroupSize)
+			throws DataAccessException {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entityClass, "Entity type must not be null");
+		Assert.isTrue(maxGroupSize > 0, "Maximum group size must be greater than zero");
+
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		CqlIdentifier tableName = getTableName(entityClass);
+		List<CqlIdentifier> partitionKeyColumns = EntityQueryUtils.getPartitionKeyColumns(entity,
+				getConverter().getMappingContext());
+
+		StatementBuilder<Select> select = getStatementFactory().select(query, entity, tableName);
+
+		Function<Row, T> mapper = getMapper(entityClass, entityClass, tableName);
+
+		Flux<Tuple2<Map<CqlIdentifier, Object>, T>> rows = getReactiveCqlOperations().query(select.build(),
+				(row, rowNum) -> Tuples.of(EntityQueryUtils.getPartitionKey(row, partitionKeyColumns), mapper.apply(row)));
+
+		return Flux.defer(() -> rows.bufferUntil(new PartitionBoundary<>(maxGroupSize), true))
+				.map(ReactiveCassandraTemplate::toPartitionGroup);
+	}
+
+	private static <T> PartitionGroup<T> toPartitionGroup(List<Tuple2<Map<CqlIdentifier, Object>, T>> rows) {
+
+		List<T> content = new ArrayList<>(rows.size());
+
+		for (Tuple2<Map<CqlIdentifier, Object>, T> row : rows) {
+			content.add(row.getT2());
+		}
+
+		return PartitionGroup.of(rows.get(0).getT1(), content);
+	}
+
 	<T> Flux<T> doSelect(Query query, Class<?> entityClass, CqlIdentifier tableName, Class<T> returnType) {
 
 		CassandraPersistentEntity<?> persistentEntity = getRequiredPersistentEntity(entityClass);
@@ -382,7 +463,8 @@ public class ReactiveCassandraTemplate
 
 		Function<Row, T> mapper = getMapper(entityClass, returnType, tableName);
 
-		return getReactiveCqlOperations().query(select.build(), (row, rowNum) -> mapper.apply(row));
+		return getReactiveCqlOperations().query(select.build(), (row, rowNum) -> mapper.apply(row))
+				.doOnSubscribe(it -> this.hotPartitionRecorder.recordQuery(query, entityClass, tableName, Operation.READ));
 	}
 
 	/* (non-Javadoc)
@@ -406,9 +488,15 @@ public class ReactiveCassandraTemplate
 		Assert.notNull(query, "Query must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
-		StatementBuilder<Select> select = getStatementFactory().select(query, getRequiredPersistentEntity(entityClass));
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		StatementBuilder<Select> select = getStatementFactory().select(query, entity);
+
+		Mono<Slice<T>> slice = slice(select.build(), entityClass);
 
-		return slice(select.build(), entityClass);
+		return query.getKeysetPageRequest()
+				.map(it -> slice.map(
+						result -> getStatementFactory().getQueryMapper().withKeyset(result, it, entity)))
+				.orElse(slice);
 	}
 
 	/* (non-Javadoc)
@@ -431,7 +519,9 @@ public class ReactiveCassandraTemplate
 		StatementBuilder<Update> statement = getStatementFactory().update(query, update,
 				getRequiredPersistentEntity(entityClass), tableName);
 
-		return getReactiveCqlOperations().execute(new StatementCallback(statement.build())).next();
+		return getReactiveCqlOperations().execute(new StatementCallback(statement.build()))
+				.doOnSubscribe(it -> this.hotPartitionRecorder.recordQuery(query, entityClass, tableName, Operation.WRITE))
+				.next();
 	}
 
 	/* (non-Javadoc)
@@ -454,11 +544,36 @@ public class ReactiveCassandraTemplate
 		SimpleStatement delete = builder.build();
 
 		Mono<WriteResult> writeResult = getReactiveCqlOperations().execute(new StatementCallback(delete))
-				.doOnSubscribe(it -> maybeEmitEvent(new BeforeDeleteEvent<>(delete, entityClass, tableName))).next();
+				.doOnSubscribe(it -> {
+					this.hotPartitionRecorder.recordQuery(query, entityClass, tableName, Operation.WRITE);
+					maybeEmitEvent(new BeforeDeleteEvent<>(delete, entityClass, tableName));
+				}).next();
 
 		return writeResult.doOnNext(it -> maybeEmitEvent(new AfterDeleteEvent<>(delete, entityClass, tableName)));
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.ReactiveCassandraOperations#compile(org.springframework.data.cassandra.core.query.Query, java.lang.Class)
+	 */
+	@Override
+	public <T> Mono<ReactiveCompiledQuery<T>> compile(Query query, Class<T> entityClass) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(entityClass, "Entity type must not be null");
+
+		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
+		CqlIdentifier tableName = entity.getTableName();
+
+		CompiledStatement compiledStatement = CompiledStatement.select(getStatementFactory(), query, entity, tableName);
+
+		Function<Row, T> mapper = getMapper(entityClass, entityClass, tableName);
+
+		return getReactiveCqlOperations()
+				.execute((ReactiveSessionCallback<PreparedStatement>) session -> session
+						.prepare(compiledStatement.getStatement()))
+				.next().map(prepared -> new DefaultReactiveCompiledQuery<>(compiledStatement, prepared, mapper));
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with entities
 	// -------------------------------------------------------------------------
@@ -506,7 +621,9 @@ public class ReactiveCassandraTemplate
 		CassandraPersistentEntity<?> entity = getRequiredPersistentEntity(entityClass);
 		StatementBuilder<Select> builder = getStatementFactory().selectOneById(id, entity, entity.getTableName());
 
-		return getReactiveCqlOperations().queryForRows(builder.build()).hasElements();
+		return getReactiveCqlOperations().queryForRows(builder.build())
+				.doOnSubscribe(it -> this.hotPartitionRecorder.recordId(id, entityClass, entity.getTableName(), Operation.READ))
+				.hasElements();
 	}
 
 	/* (non-Javadoc)
@@ -526,7 +643,9 @@ public class ReactiveCassandraTemplate
 		StatementBuilder<Select> builder = getStatementFactory().select(query.limit(1),
 				getRequiredPersistentEntity(entityClass), tableName);
 
-		return getReactiveCqlOperations().queryForRows(builder.build()).hasElements();
+		return getReactiveCqlOperations().queryForRows(builder.build())
+				.doOnSubscribe(it -> this.hotPartitionRecorder.recordQuery(query, entityClass, tableName, Operation.READ))
+				.hasElements();
 	}
 
 	/* (non-Javadoc)
@@ -538,10 +657,12 @@ public class ReactiveCassandraTemplate
 		Assert.notNull(id, "Id must not be null");
 		Assert.notNull(entityClass, "Entity type must not be null");
 
+		CqlIdentifier tableName = getTableName(entityClass);
 		StatementBuilder<Select> builder = getStatementFactory().selectOneById(id, getRequiredPersistentEntity(entityClass),
-				getTableName(entityClass));
+				tableName);
 
-		return selectOne(builder.build(), entityClass);
+		return selectOne(builder.build(), entityClass)
+				.doOnSubscribe(it -> this.hotPartitionRecorder.recordId(id, entityClass, tableName, Operation.READ));
 	}
 
 	/* (non-Javadoc)
@@ -574,8 +695,12 @@ public class ReactiveCassandraTemplate
 
 			T entityToUse = source.isVersionedEntity() ? source.initializeVersionProperty() : entityToInsert;
 
-			StatementBuilder<RegularInsert> builder = getStatementFactory().insert(entityToUse, options, persistentEntity,
-					tableName);
+			Map<CqlIdentifier, Object> values = new LinkedHashMap<>();
+			getConverter().write(entityToUse, values, persistentEntity);
+
+			StatementBuilder<RegularInsert> builder = getStatementFactory().insert(values, options, tableName);
+
+			this.hotPartitionRecorder.recordValues(values, entityToUse.getClass(), tableName, Operation.WRITE);
 
 			if (source.isVersionedEntity()) {
 				builder.apply(Insert::ifNotExists);
@@ -646,6 +771,8 @@ public class ReactiveCassandraTemplate
 		StatementBuilder<Update> builder = getStatementFactory().update(toSave, options, persistentEntity, tableName);
 		SimpleStatement update = source.appendVersionCondition(builder, previousVersion).build();
 
+		this.hotPartitionRecorder.recordEntity(toSave, tableName, Operation.WRITE);
+
 		return executeSave(toSave, tableName, update, (result, sink) -> {
 
 			if (!result.wasApplied()) {
@@ -666,6 +793,8 @@ public class ReactiveCassandraTemplate
 
 		StatementBuilder<Update> builder = getStatementFactory().update(entity, options, persistentEntity, tableName);
 
+		this.hotPartitionRecorder.recordEntity(entity, tableName, Operation.WRITE);
+
 		return executeSave(entity, tableName, builder.build());
 	}
 
@@ -734,8 +863,10 @@ public class ReactiveCassandraTemplate
 		StatementBuilder<Delete> builder = getStatementFactory().deleteById(id, entity, tableName);
 		SimpleStatement delete = builder.build();
 
-		Mono<Boolean> result = getReactiveCqlOperations().execute(delete)
-				.doOnSubscribe(it -> maybeEmitEvent(new BeforeDeleteEvent<>(delete, entityClass, tableName)));
+		Mono<Boolean> result = getReactiveCqlOperations().execute(delete).doOnSubscribe(it -> {
+			this.hotPartitionRecorder.recordId(id, entityClass, tableName, Operation.WRITE);
+			maybeEmitEvent(new BeforeDeleteEvent<>(delete, entityClass, tableName));
+		});
 
 		return result.doOnNext(it -> maybeEmitEvent(new AfterDeleteEvent<>(delete, entityClass, tableName)));
 	}
@@ -810,6 +941,7 @@ public class ReactiveCassandraTemplate
 			maybeEmitEvent(new BeforeSaveEvent<>(entity, tableName, statement));
 
 			return maybeCallBeforeSave(entity, tableName, statement).flatMapMany(entityToSave -> {
+
 				Flux<WriteResult> execute = getReactiveCqlOperations().execute(new StatementCallback(statement));
 
 				return execute.map(it -> EntityWriteResult.of(it, entityToSave)).handle(handler) //
@@ -827,7 +959,10 @@ public class ReactiveCassandraTemplate
 		Flux<WriteResult> execute = getReactiveCqlOperations().execute(new StatementCallback(statement));
 
 		return execute.map(it -> EntityWriteResult.of(it, entity)).handle(handler) //
-				.doOnSubscribe(it -> maybeEmitEvent(new BeforeSaveEvent<>(entity, tableName, statement))) //
+				.doOnSubscribe(it -> {
+					this.hotPartitionRecorder.recordEntity(entity, tableName, Operation.WRITE);
+					maybeEmitEvent(new BeforeSaveEvent<>(entity, tableName, statement));
+				}) //
 				.doOnNext(it -> maybeEmitEvent(new AfterDeleteEvent<>(statement, entity.getClass(), tableName))) //
 				.next();
 	}
@@ -913,6 +1048,95 @@ public class ReactiveCassandraTemplate
 		return Mono.just(object);
 	}
 
+	/**
+	 * Default {@link ReactiveCompiledQuery} implementation binding values to a {@link PreparedStatement}.
+	 *
+	 * @param <T> the entity type.
+	 */
+	class DefaultReactiveCompiledQuery<T> implements ReactiveCompiledQuery<T> {
+
+		private final CompiledStatement compiledStatement;
+
+		private final PreparedStatement preparedStatement;
+
+		private final Function<Row, T> mapper;
+
+		DefaultReactiveCompiledQuery(CompiledStatement compiledStatement, PreparedStatement preparedStatement,
+				Function<Row, T> mapper) {
+
+			this.compiledStatement = compiledStatement;
+			this.preparedStatement = preparedStatement;
+			this.mapper = mapper;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.ReactiveCompiledQuery#select(java.util.Map)
+		 */
+		@Override
+		public Flux<T> select(Map<String, ?> values) {
+
+			return Mono.fromSupplier(() -> this.compiledStatement.bind(this.preparedStatement, values))
+					.flatMapMany(statement -> getReactiveCqlOperations().query(statement,
+							(row, rowNum) -> this.mapper.apply(row)));
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.ReactiveCompiledQuery#selectOne(java.util.Map)
+		 */
+		@Override
+		public Mono<T> selectOne(Map<String, ?> values) {
+			return select(values).next();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.ReactiveCompiledQuery#getCql()
+		 */
+		@Override
+		public String getCql() {
+			return this.preparedStatement.getQuery();
+		}
+	}
+
+	/**
+	 * Stateful {@link Predicate} detecting the first row of a partition group by comparing the partition key with the
+	 * previous row and counting the rows of the current group.
+	 */
+	private static class PartitionBoundary<T> implements Predicate<Tuple2<Map<CqlIdentifier, Object>, T>> {
+
+		private final int maxGroupSize;
+
+		private @Nullable Map<CqlIdentifier, Object> partitionKey;
+
+		private int groupSize;
+
+		PartitionBoundary(int maxGroupSize) {
+			this.maxGroupSize = maxGroupSize;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.function.Predicate#test(java.lang.Object)
+		 */
+		@Override
+		public boolean test(Tuple2<Map<CqlIdentifier, Object>, T> row) {
+
+			boolean boundary = this.partitionKey != null
+					&& (this.groupSize >= this.maxGroupSize || !this.partitionKey.equals(row.getT1()));
+
+			if (boundary) {
+				this.groupSize = 0;
+			}
+
+			this.partitionKey = row.getT1();
+			this.groupSize++;
+
+			return boundary;
+		}
+	}
+
 	static class StatementCallback implements ReactiveSessionCallback<WriteResult>, CqlProvider {
 
 		private final SimpleStatement statement;
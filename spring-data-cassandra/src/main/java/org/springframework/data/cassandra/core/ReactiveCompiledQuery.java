@@ -0,0 +1,63 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+import org.springframework.data.cassandra.core.query.Placeholder;
+
+/**
+ * Reactive variant of {@link CompiledQuery}. A {@link org.springframework.data.cassandra.core.query.Query} compiled
+ * and prepared against an entity type that can be executed repeatedly, each time binding new values to the
+ * {@link Placeholder placeholders} of the query.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @author agent
+ * @since 3.1
+ * @param <T> the entity type.
+ * @see ReactiveCassandraOperations#compile(org.springframework.data.cassandra.core.query.Query, Class)
+ * @see Placeholder
+ */
+public interface ReactiveCompiledQuery<T> {
+
+	/**
+	 * Execute the compiled {@code SELECT} query and convert the resulting items to a stream of entities.
+	 *
+	 * @param values values to bind, keyed by {@link Placeholder#getName() placeholder name}. Must not be
+	 *          {@literal null}.
+	 * @return the converted results. Emits {@link IllegalArgumentException} if a placeholder value is missing.
+	 */
+	Flux<T> select(Map<String, ?> values);
+
+	/**
+	 * Execute the compiled {@code SELECT} query and convert the resulting item to an entity.
+	 *
+	 * @param values values to bind, keyed by {@link Placeholder#getName() placeholder name}. Must not be
+	 *          {@literal null}.
+	 * @return the converted object or an empty {@link Mono}. Emits {@link IllegalArgumentException} if a placeholder
+	 *         value is missing.
+	 */
+	Mono<T> selectOne(Map<String, ?> values);
+
+	/**
+	 * @return the prepared CQL.
+	 */
+	String getCql();
+}
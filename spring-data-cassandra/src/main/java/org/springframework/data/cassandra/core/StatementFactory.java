@@ -41,9 +41,11 @@ import org.springframework.data.cassandra.core.query.Columns;
 import org.springframework.data.cassandra.core.query.Columns.ColumnSelector;
 import org.springframework.data.cassandra.core.query.Columns.FunctionCall;
 import org.springframework.data.cassandra.core.query.Columns.Selector;
+import org.springframework.data.cassandra.core.query.Criteria;
 import org.springframework.data.cassandra.core.query.CriteriaDefinition;
 import org.springframework.data.cassandra.core.query.CriteriaDefinition.Predicate;
 import org.springframework.data.cassandra.core.query.Filter;
+import org.springframework.data.cassandra.core.query.KeysetPageRequest;
 import org.springframework.data.cassandra.core.query.Query;
 import org.springframework.data.cassandra.core.query.Update;
 import org.springframework.data.cassandra.core.query.Update.AddToMapOp;
@@ -68,7 +70,9 @@ import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.metadata.schema.ClusteringOrder;
+import com.datastax.oss.driver.api.querybuilder.BindMarker;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
 import com.datastax.oss.driver.api.querybuilder.condition.Condition;
 import com.datastax.oss.driver.api.querybuilder.condition.ConditionBuilder;
@@ -77,6 +81,7 @@ import com.datastax.oss.driver.api.querybuilder.delete.DeleteSelection;
 import com.datastax.oss.driver.api.querybuilder.insert.Insert;
 import com.datastax.oss.driver.api.querybuilder.insert.RegularInsert;
 import com.datastax.oss.driver.api.querybuilder.relation.ColumnRelationBuilder;
+import com.datastax.oss.driver.api.querybuilder.relation.MultiColumnRelationBuilder;
 import com.datastax.oss.driver.api.querybuilder.relation.Relation;
 import com.datastax.oss.driver.api.querybuilder.select.Select;
 import com.datastax.oss.driver.api.querybuilder.term.Term;
@@ -294,18 +299,29 @@ public class StatementFactory {
 		Assert.notNull(persistentEntity, "CassandraPersistentEntity must not be null");
 		Assert.notNull(tableName, "Table name must not be null");
 
-		boolean insertNulls;
-		if (options instanceof InsertOptions) {
-
-			InsertOptions insertOptions = (InsertOptions) options;
-			insertNulls = insertOptions.isInsertNulls();
-		} else {
-			insertNulls = false;
-		}
-
 		Map<CqlIdentifier, Object> object = new LinkedHashMap<>();
 		cassandraConverter.write(objectToInsert, object, persistentEntity);
 
+		return insert(object, options, tableName);
+	}
+
+	/**
+	 * Creates a Query Object for an insert from already converted column values.
+	 *
+	 * @param object the converted column values keyed by column name, must not be {@literal null}.
+	 * @param options optional {@link WriteOptions} to apply to the {@link Insert} statement, may be {@literal null}.
+	 * @param tableName the table name, must not be {@literal null}.
+	 * @return the insert builder.
+	 * @since 3.1
+	 */
+	StatementBuilder<RegularInsert> insert(Map<CqlIdentifier, Object> object, WriteOptions options,
+			CqlIdentifier tableName) {
+
+		Assert.notNull(object, "Values must not be null");
+		Assert.notNull(tableName, "Table name must not be null");
+
+		boolean insertNulls = options instanceof InsertOptions && ((InsertOptions) options).isInsertNulls();
+
 		StatementBuilder<RegularInsert> builder = StatementBuilder
 				.of(QueryBuilder.insertInto(tableName).valuesByIds(Collections.emptyMap())).bind((statement, factory) -> {
 
@@ -314,7 +330,7 @@ public class StatementFactory {
 					return statement.valuesByIds(values);
 				}).apply(statement -> (RegularInsert) addWriteOptions(statement, options));
 
-		builder.transform(statement -> QueryOptionsUtil.addQueryOptions(statement, options));
+		addQueryOptions(builder, options);
 
 		return builder;
 	}
@@ -383,8 +399,7 @@ public class StatementFactory {
 		query.getQueryOptions().filter(WriteOptions.class::isInstance).map(WriteOptions.class::cast)
 				.ifPresent(writeOptions -> builder.apply(statement -> addWriteOptions(statement, writeOptions)));
 
-		query.getQueryOptions().ifPresent(
-				options -> builder.transform(statementBuilder -> QueryOptionsUtil.addQueryOptions(statementBuilder, options)));
+		query.getQueryOptions().ifPresent(options -> addQueryOptions(builder, options));
 
 		return builder;
 	}
@@ -445,7 +460,7 @@ public class StatementFactory {
 				.map(UpdateOptions::getIfCondition)
 				.ifPresent(criteriaDefinitions -> applyUpdateIfCondition(builder, criteriaDefinitions));
 
-		builder.transform(statement -> QueryOptionsUtil.addQueryOptions(statement, options));
+		addQueryOptions(builder, options);
 
 		return builder;
 	}
@@ -513,8 +528,7 @@ public class StatementFactory {
 		query.getQueryOptions().filter(WriteOptions.class::isInstance).map(WriteOptions.class::cast)
 				.ifPresent(writeOptions -> builder.apply(statement -> addWriteOptions(statement, writeOptions)));
 
-		query.getQueryOptions()
-				.ifPresent(options -> builder.transform(statement -> QueryOptionsUtil.addQueryOptions(statement, options)));
+		query.getQueryOptions().ifPresent(options -> addQueryOptions(builder, options));
 
 		return builder;
 	}
@@ -549,7 +563,7 @@ public class StatementFactory {
 				.map(DeleteOptions::getIfCondition)
 				.ifPresent(criteriaDefinitions -> applyDeleteIfCondition(builder, criteriaDefinitions));
 
-		builder.transform(statement -> QueryOptionsUtil.addQueryOptions(statement, options));
+		addQueryOptions(builder, options);
 
 		return builder;
 	}
@@ -599,6 +613,18 @@ public class StatementFactory {
 
 		StatementBuilder<Select> select = createSelectAndOrder(selectors, tableName, filter, sort);
 
+		query.getKeysetPageRequest().filter(it -> !it.getKeyset().isEmpty()).ifPresent(it -> {
+
+			Filter keyset = getQueryMapper().getMappedObject(getKeysetFilter(it), entity);
+			select.bind((statement, factory) -> statement.where(toKeysetRelation(it, keyset, factory)));
+		});
+
+		if (!query.getGroupBy().isEmpty()) {
+
+			List<CqlIdentifier> groupBy = getQueryMapper().getMappedColumnNames(query.getGroupBy(), entity);
+			select.apply(it -> it.groupByColumnIds(groupBy));
+		}
+
 		if (query.getLimit() > 0) {
 			select.apply(it -> it.limit(Math.toIntExact(query.getLimit())));
 		}
@@ -607,14 +633,53 @@ public class StatementFactory {
 			select.apply(Select::allowFiltering);
 		}
 
+		if (query.getPerPartitionLimit() > 0) {
+
+			if (query.getLimit() > 0) {
+				select.transform(statement -> withPerPartitionLimit(statement, query));
+			} else {
+				select.apply(it -> it.perPartitionLimit(query.getPerPartitionLimit()));
+			}
+		}
+
 		select.onBuild(statementBuilder -> query.getPagingState().ifPresent(statementBuilder::setPagingState));
 
-		query.getQueryOptions()
-				.ifPresent(it -> select.transform(statement -> QueryOptionsUtil.addQueryOptions(statement, it)));
+		query.getQueryOptions().ifPresent(it -> addQueryOptions(select, it));
 
 		return select;
 	}
 
+	/**
+	 * Render {@code PER PARTITION LIMIT} ahead of the {@code LIMIT} clause. The 4.7 driver's {@code DefaultSelect}
+	 * renders {@code LIMIT} ahead of {@code PER PARTITION LIMIT} while CQL expects the reverse order, so the
+	 * per-partition limit is inserted into the rendered statement in front of the {@code LIMIT} and
+	 * {@code ALLOW FILTERING} clauses rendered by the query builder.
+	 */
+	private static SimpleStatement withPerPartitionLimit(SimpleStatement statement, Query query) {
+
+		String cql = statement.getQuery();
+		String limit = " LIMIT " + query.getLimit() + (query.isAllowFiltering() ? " ALLOW FILTERING" : "");
+
+		if (!cql.endsWith(limit)) {
+			throw new IllegalStateException(String.format("Cannot apply PER PARTITION LIMIT to [%s]", cql));
+		}
+
+		return statement.setQuery(cql.substring(0, cql.length() - limit.length()) + " PER PARTITION LIMIT "
+				+ query.getPerPartitionLimit() + limit);
+	}
+
+	/**
+	 * Apply {@link QueryOptions} to the {@link com.datastax.oss.driver.api.core.cql.SimpleStatementBuilder} while building
+	 * the statement so that all options are applied in a single pass without creating intermediate statement copies.
+	 * Applying the options to the built statement afterwards leaves it unchanged except for the execution profile that
+	 * can only be resolved against a {@link SimpleStatement}.
+	 */
+	private static void addQueryOptions(StatementBuilder<?> builder, QueryOptions options) {
+
+		builder.onBuild(statementBuilder -> QueryOptionsUtil.addQueryOptions(statementBuilder, options));
+		builder.transform(statement -> QueryOptionsUtil.addQueryOptions(statement, options));
+	}
+
 	private static StatementBuilder<Select> createSelectAndOrder(List<Selector> selectors, CqlIdentifier from,
 			Filter filter, Sort sort) {
 
@@ -926,6 +991,39 @@ public class StatementFactory {
 		return deleteToUse;
 	}
 
+	private static Filter getKeysetFilter(KeysetPageRequest pageRequest) {
+
+		List<CriteriaDefinition> criteriaDefinitions = new ArrayList<>();
+
+		for (Sort.Order order : pageRequest.getSort()) {
+			criteriaDefinitions.add(Criteria.where(order.getProperty()).gt(pageRequest.getKeyset().get(order.getProperty())));
+		}
+
+		return Filter.from(criteriaDefinitions);
+	}
+
+	/**
+	 * Create a tuple relation such as {@code (ck1, ck2) > (?, ?)} from the mapped keyset {@link Filter}. Cassandra
+	 * compares multi-column relations as tuples so the relation selects rows following the keyset in ascending order.
+	 */
+	private static Relation toKeysetRelation(KeysetPageRequest pageRequest, Filter keyset, TermFactory factory) {
+
+		List<CqlIdentifier> columnNames = new ArrayList<>();
+		List<Term> values = new ArrayList<>();
+
+		for (CriteriaDefinition criteriaDefinition : keyset) {
+
+			columnNames.add(criteriaDefinition.getColumnName().getCqlIdentifier()
+					.orElseGet(() -> CqlIdentifier.fromInternal(criteriaDefinition.getColumnName().toCql())));
+			values.add(factory.create(criteriaDefinition.getPredicate().getValue()));
+		}
+
+		MultiColumnRelationBuilder<Relation> relation = Relation.columnIds(columnNames);
+
+		return pageRequest.getDirection().isAscending() ? relation.isGreaterThan(QueryBuilder.tuple(values))
+				: relation.isLessThan(QueryBuilder.tuple(values));
+	}
+
 	private static Relation toClause(CriteriaDefinition criteriaDefinition, TermFactory factory) {
 
 		CqlIdentifier columnName = criteriaDefinition.getColumnName().getCqlIdentifier()
@@ -976,7 +1074,10 @@ public class StatementFactory {
 					return column.in(literals);
 				}
 
-				return column.in(factory.create(predicate.getValue()));
+				Term term = factory.create(predicate.getValue());
+
+				// a single bind marker binds the entire value list
+				return term instanceof BindMarker ? column.in((BindMarker) term) : column.in(term);
 
 			case LIKE:
 				return column.like(factory.create(predicate.getValue()));
@@ -1052,7 +1153,10 @@ public class StatementFactory {
 					return column.in(literals);
 				}
 
-				return column.in(factory.create(predicate.getValue()));
+				Term term = factory.create(predicate.getValue());
+
+				// a single bind marker binds the entire value list
+				return term instanceof BindMarker ? column.in((BindMarker) term) : column.in(term);
 		}
 
 		throw new IllegalArgumentException(String.format("Criteria %s %s %s not supported for IF Conditions", columnName,
@@ -46,10 +46,11 @@ public class UpdateOptions extends WriteOptions {
 
 	private UpdateOptions(@Nullable ConsistencyLevel consistencyLevel, ExecutionProfileResolver executionProfileResolver,
 			@Nullable Integer pageSize, @Nullable ConsistencyLevel serialConsistencyLevel, Duration timeout, Duration ttl,
-			@Nullable Long timestamp, @Nullable Boolean tracing, boolean ifExists, @Nullable Filter ifCondition) {
+			@Nullable Long timestamp, @Nullable Boolean tracing, @Nullable Boolean idempotent, boolean ifExists,
+			@Nullable Filter ifCondition) {
 
 		super(consistencyLevel, executionProfileResolver, pageSize, serialConsistencyLevel, timeout, ttl, timestamp,
-				tracing);
+				tracing, idempotent);
 
 		this.ifExists = ifExists;
 		this.ifCondition = ifCondition;
@@ -283,6 +284,16 @@ public class UpdateOptions extends WriteOptions {
 			return this;
 		}
 
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#idempotent(boolean)
+		 */
+		@Override
+		public UpdateOptionsBuilder idempotent(boolean idempotent) {
+
+			super.idempotent(idempotent);
+			return this;
+		}
+
 		/* (non-Javadoc)
 		 * @see org.springframework.data.cassandra.core.cql.WriteOptions.WriteOptionsBuilder#ttl(int)
 		 */
@@ -376,8 +387,8 @@ public class UpdateOptions extends WriteOptions {
 		public UpdateOptions build() {
 
 			return new UpdateOptions(this.consistencyLevel, this.executionProfileResolver, this.pageSize,
-					this.serialConsistencyLevel, this.timeout, this.ttl, this.timestamp, this.tracing, this.ifExists,
-					this.ifCondition);
+					this.serialConsistencyLevel, this.timeout, this.ttl, this.timestamp, this.tracing, this.idempotent,
+					this.ifExists, this.ifCondition);
 		}
 	}
 }
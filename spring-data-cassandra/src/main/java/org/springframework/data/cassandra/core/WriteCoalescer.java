@@ -0,0 +1,432 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.data.cassandra.core.cql.QueryOptionsUtil;
+import org.springframework.lang.Nullable;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+
+/**
+ * Coalesces entity writes by computing each routing token on the client from the mapped partition key columns and the
+ * cluster partitioner. Writes are grouped by their owning replica set; writes targeting the same partition are
+ * combined into small {@link DefaultBatchType#UNLOGGED unlogged} batches while all other writes and conditional writes
+ * are sent as individual statements. Each resulting statement carries its routing token so that token-aware load
+ * balancing can send it to a replica directly. Statements are ordered round-robin across replica sets and can be
+ * executed pipelined with a bounded number of in-flight requests.
+ * <p>
+ * Writes are sent in input order without coalescing if token metadata or table metadata is not available or if a
+ * partition key value is {@literal null}.
+ *
+ * @author agent
+ * @since 3.1
+ */
+class WriteCoalescer {
+
+	/**
+	 * Maximum number of statements to combine into a single partition batch.
+	 */
+	static final int MAX_BATCH_SIZE = 16;
+
+	/**
+	 * Maximum number of statements in flight.
+	 */
+	static final int CONCURRENCY = 32;
+
+	private WriteCoalescer() {}
+
+	/**
+	 * Coalesce the given writes into routed statements.
+	 *
+	 * @param writes the pending writes.
+	 * @param options {@link QueryOptions} to apply to batch statements. Writes are not batched if {@code options} are
+	 *          {@link InsertOptions#isIfNotExists() conditional}.
+	 * @param session the session providing token and schema metadata.
+	 * @return the statements to execute ordered round-robin across replica sets.
+	 */
+	static List<Statement<?>> coalesce(List<PendingWrite> writes, QueryOptions options, CqlSession session) {
+
+		Optional<CqlIdentifier> keyspace = session.getKeyspace();
+		Optional<TokenMap> tokenMap = keyspace.flatMap(it -> session.getMetadata().getTokenMap());
+
+		if (!tokenMap.isPresent()) {
+			return writes.stream().map(PendingWrite::getStatement).collect(Collectors.toList());
+		}
+
+		ProtocolVersion protocolVersion = session.getContext().getProtocolVersion();
+		CodecRegistry codecRegistry = session.getContext().getCodecRegistry();
+		Map<CqlIdentifier, Optional<TableMetadata>> tables = new LinkedHashMap<>();
+
+		return coalesce(writes, options, keyspace.get(), tokenMap.get(), pendingWrite -> {
+
+			Optional<TableMetadata> table = tables.computeIfAbsent(pendingWrite.getTableName(),
+					it -> session.getMetadata().getKeyspace(keyspace.get()).flatMap(ks -> ks.getTable(it)));
+
+			return table.map(it -> getRoutingKey(pendingWrite.getValues(), it, codecRegistry, protocolVersion)).orElse(null);
+		});
+	}
+
+	/**
+	 * Coalesce the given writes into routed statements using {@code routingKeyFunction} to compute the partition key
+	 * components of a write.
+	 *
+	 * @param writes the pending writes.
+	 * @param options {@link QueryOptions} to apply to batch statements. Writes are not batched if {@code options} are
+	 *          {@link InsertOptions#isIfNotExists() conditional}.
+	 * @param keyspace the keyspace to resolve replicas.
+	 * @param tokenMap the token metadata.
+	 * @param routingKeyFunction function returning the serialized partition key components or {@literal null} if the
+	 *          write cannot be routed.
+	 * @return the statements to execute ordered round-robin across replica sets.
+	 */
+	static List<Statement<?>> coalesce(List<PendingWrite> writes, QueryOptions options, CqlIdentifier keyspace,
+			TokenMap tokenMap, Function<PendingWrite, ByteBuffer[]> routingKeyFunction) {
+
+		Map<Set<Node>, Map<Token, List<SimpleStatement>>> replicaGroups = new LinkedHashMap<>();
+		List<Statement<?>> unroutable = new ArrayList<>();
+
+		for (PendingWrite write : writes) {
+
+			ByteBuffer[] routingKey = routingKeyFunction.apply(write);
+
+			if (routingKey == null) {
+				unroutable.add(write.getStatement());
+				continue;
+			}
+
+			Token token = tokenMap.newToken(routingKey);
+			Set<Node> replicas = tokenMap.getReplicas(keyspace, token);
+
+			replicaGroups.computeIfAbsent(replicas, it -> new LinkedHashMap<>()) //
+					.computeIfAbsent(token, it -> new ArrayList<>()) //
+					.add(write.getStatement());
+		}
+
+		// conditional batches are all-or-nothing, conditional writes must be applied individually
+		int batchSize = options instanceof InsertOptions && ((InsertOptions) options).isIfNotExists() ? 1
+				: MAX_BATCH_SIZE;
+		List<Deque<Statement<?>>> queues = new ArrayList<>(replicaGroups.size());
+
+		replicaGroups.values().forEach(partitions -> {
+
+			Deque<Statement<?>> queue = new ArrayDeque<>();
+			partitions.forEach(
+					(token, statements) -> queue.addAll(toRoutedStatements(token, keyspace, statements, batchSize, options)));
+			queues.add(queue);
+		});
+
+		List<Statement<?>> result = new ArrayList<>(writes.size());
+
+		while (!queues.isEmpty()) {
+
+			for (Iterator<Deque<Statement<?>>> iterator = queues.iterator(); iterator.hasNext();) {
+
+				Deque<Statement<?>> queue = iterator.next();
+				result.add(queue.poll());
+
+				if (queue.isEmpty()) {
+					iterator.remove();
+				}
+			}
+		}
+
+		result.addAll(unroutable);
+
+		return result;
+	}
+
+	/**
+	 * Serialize the partition key values of a write.
+	 *
+	 * @param values the converted column values.
+	 * @param table the table metadata.
+	 * @param codecRegistry the codec registry.
+	 * @param protocolVersion the protocol version.
+	 * @return the serialized partition key components or {@literal null} if a partition key value is {@literal null}.
+	 */
+	@Nullable
+	static ByteBuffer[] getRoutingKey(Map<CqlIdentifier, Object> values, TableMetadata table,
+			CodecRegistry codecRegistry, ProtocolVersion protocolVersion) {
+
+		List<ColumnMetadata> partitionKey = table.getPartitionKey();
+		ByteBuffer[] components = new ByteBuffer[partitionKey.size()];
+
+		for (int i = 0; i < components.length; i++) {
+
+			ColumnMetadata column = partitionKey.get(i);
+			Object value = values.get(column.getName());
+
+			if (value == null) {
+				return null;
+			}
+
+			TypeCodec<Object> codec = codecRegistry.codecFor(column.getType(), value);
+			components[i] = codec.encode(value, protocolVersion);
+		}
+
+		return components;
+	}
+
+	private static List<Statement<?>> toRoutedStatements(Token token, CqlIdentifier keyspace,
+			List<SimpleStatement> statements, int batchSize, QueryOptions options) {
+
+		List<Statement<?>> result = new ArrayList<>(statements.size() / batchSize + 1);
+
+		for (int offset = 0; offset < statements.size(); offset += batchSize) {
+
+			List<BatchableStatement<?>> chunk = new ArrayList<>(
+					statements.subList(offset, Math.min(offset + batchSize, statements.size())));
+
+			Statement<?> statement = chunk.size() == 1 ? chunk.get(0)
+					: QueryOptionsUtil.addQueryOptions(BatchStatement.newInstance(DefaultBatchType.UNLOGGED, chunk), options);
+
+			result.add(statement.setRoutingKeyspace(keyspace).setRoutingToken(token));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Execute statements keeping up to {@code concurrency} statements in flight. The returned future fails with the
+	 * first failure and does not issue further statements after a failure.
+	 *
+	 * @param statements the statements to execute.
+	 * @param concurrency maximum number of statements in flight.
+	 * @param executor function to execute a {@link Statement}.
+	 * @return a future completing with the result sets in statement order.
+	 */
+	static CompletableFuture<List<AsyncResultSet>> execute(List<Statement<?>> statements, int concurrency,
+			Function<Statement<?>, CompletionStage<AsyncResultSet>> executor) {
+
+		return new PipelinedExecution(statements, executor).start(concurrency);
+	}
+
+	/**
+	 * Aggregate result sets into a single {@link WriteResult}.
+	 *
+	 * @param resultSets the result sets.
+	 * @return the aggregated {@link WriteResult}.
+	 */
+	static WriteResult toWriteResult(List<AsyncResultSet> resultSets) {
+
+		List<ExecutionInfo> executionInfo = new ArrayList<>(resultSets.size());
+		List<Row> rows = new ArrayList<>();
+		boolean wasApplied = true;
+
+		for (AsyncResultSet resultSet : resultSets) {
+
+			executionInfo.add(resultSet.getExecutionInfo());
+			wasApplied &= resultSet.wasApplied();
+			resultSet.currentPage().forEach(rows::add);
+		}
+
+		return new WriteResult(Collections.unmodifiableList(executionInfo), wasApplied,
+				Collections.unmodifiableList(rows));
+	}
+
+	/**
+	 * Merge write results into a single {@link WriteResult}.
+	 *
+	 * @param results the write results.
+	 * @return the merged {@link WriteResult}.
+	 */
+	static WriteResult merge(List<WriteResult> results) {
+
+		List<ExecutionInfo> executionInfo = new ArrayList<>(results.size());
+		List<Row> rows = new ArrayList<>();
+		boolean wasApplied = true;
+
+		for (WriteResult result : results) {
+
+			executionInfo.addAll(result.getExecutionInfo());
+			wasApplied &= result.wasApplied();
+			rows.addAll(result.getRows());
+		}
+
+		return new WriteResult(Collections.unmodifiableList(executionInfo), wasApplied,
+				Collections.unmodifiableList(rows));
+	}
+
+	/**
+	 * A write statement along with its entity and converted column values.
+	 */
+	static class PendingWrite {
+
+		private final Object entity;
+
+		private final SimpleStatement statement;
+
+		private final CqlIdentifier tableName;
+
+		private final Map<CqlIdentifier, Object> values;
+
+		PendingWrite(Object entity, SimpleStatement statement, CqlIdentifier tableName,
+				Map<CqlIdentifier, Object> values) {
+
+			this.entity = entity;
+			this.statement = statement;
+			this.tableName = tableName;
+			this.values = values;
+		}
+
+		Object getEntity() {
+			return this.entity;
+		}
+
+		SimpleStatement getStatement() {
+			return this.statement;
+		}
+
+		CqlIdentifier getTableName() {
+			return this.tableName;
+		}
+
+		Map<CqlIdentifier, Object> getValues() {
+			return this.values;
+		}
+	}
+
+	/**
+	 * Executes a list of statements through a number of lanes. Each lane picks the next statement once its previous
+	 * statement completes.
+	 */
+	private static class PipelinedExecution {
+
+		private final List<Statement<?>> statements;
+
+		private final Function<Statement<?>, CompletionStage<AsyncResultSet>> executor;
+
+		private final AsyncResultSet[] results;
+
+		private final AtomicInteger next = new AtomicInteger();
+
+		private final AtomicInteger remaining;
+
+		private final CompletableFuture<List<AsyncResultSet>> result = new CompletableFuture<>();
+
+		PipelinedExecution(List<Statement<?>> statements,
+				Function<Statement<?>, CompletionStage<AsyncResultSet>> executor) {
+
+			this.statements = statements;
+			this.executor = executor;
+			this.results = new AsyncResultSet[statements.size()];
+			this.remaining = new AtomicInteger(statements.size());
+		}
+
+		CompletableFuture<List<AsyncResultSet>> start(int concurrency) {
+
+			if (this.statements.isEmpty()) {
+				this.result.complete(Collections.emptyList());
+			}
+
+			for (int i = 0; i < Math.min(concurrency, this.statements.size()); i++) {
+				runLane();
+			}
+
+			return this.result;
+		}
+
+		private void runLane() {
+
+			for (;;) {
+
+				int index = this.next.getAndIncrement();
+
+				if (index >= this.statements.size() || this.result.isDone()) {
+					return;
+				}
+
+				CompletableFuture<AsyncResultSet> future;
+
+				try {
+					future = this.executor.apply(this.statements.get(index)).toCompletableFuture();
+				} catch (RuntimeException e) {
+					this.result.completeExceptionally(e);
+					return;
+				}
+
+				if (!future.isDone()) {
+
+					future.whenComplete((resultSet, e) -> {
+
+						onComplete(index, resultSet, e);
+						runLane();
+					});
+
+					return;
+				}
+
+				try {
+					onComplete(index, future.join(), null);
+				} catch (CompletionException | CancellationException e) {
+					onComplete(index, null, e);
+				}
+			}
+		}
+
+		private void onComplete(int index, @Nullable AsyncResultSet resultSet, @Nullable Throwable e) {
+
+			if (e != null) {
+				this.result.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+				return;
+			}
+
+			this.results[index] = resultSet;
+
+			if (this.remaining.decrementAndGet() == 0) {
+				this.result.complete(Arrays.asList(this.results));
+			}
+		}
+	}
+}
@@ -19,9 +19,12 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
@@ -37,13 +40,19 @@ import org.springframework.data.cassandra.core.query.Criteria;
 import org.springframework.data.cassandra.core.query.CriteriaDefinition;
 import org.springframework.data.cassandra.core.query.CriteriaDefinition.Predicate;
 import org.springframework.data.cassandra.core.query.Filter;
+import org.springframework.data.cassandra.core.query.KeysetPageRequest;
+import org.springframework.data.cassandra.core.query.Placeholder;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyPath;
+import org.springframework.data.mapping.PersistentPropertyPathAccessor;
 import org.springframework.data.mapping.PropertyHandler;
 import org.springframework.data.mapping.PropertyPath;
 import org.springframework.data.mapping.PropertyReferenceException;
+import org.springframework.data.mapping.context.InvalidPersistentPropertyPath;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -133,9 +142,17 @@ public class QueryMapper {
 			Predicate predicate = criteriaDefinition.getPredicate();
 
 			Object value = predicate.getValue();
-			ColumnType typeDescriptor = getColumnType(field, value, predicate.getOperator());
+			Object mappedValue;
 
-			Object mappedValue = value != null ? getConverter().convertToColumnType(value, typeDescriptor) : null;
+			if (value instanceof Placeholder) {
+				// values bound to placeholders are converted on binding, see getValueConverter(…)
+				mappedValue = value;
+			} else {
+
+				ColumnType typeDescriptor = getColumnType(field, value, predicate.getOperator());
+
+				mappedValue = value != null ? getConverter().convertToColumnType(value, typeDescriptor) : null;
+			}
 
 			Predicate mappedPredicate = new Predicate(predicate.getOperator(), mappedValue);
 
@@ -145,6 +162,37 @@ public class QueryMapper {
 		return Filter.from(result);
 	}
 
+	/**
+	 * Create a {@link Function} that maps values for the given {@link CriteriaDefinition} to simple Cassandra values the
+	 * same way {@link #getMappedObject(Filter, CassandraPersistentEntity)} maps {@link Predicate} values. Typically used to
+	 * convert values that are bound to a {@link Placeholder}.
+	 *
+	 * @param criteriaDefinition must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return the value converter {@link Function}.
+	 * @since 3.1
+	 */
+	public Function<Object, Object> getValueConverter(CriteriaDefinition criteriaDefinition,
+			CassandraPersistentEntity<?> entity) {
+
+		Assert.notNull(criteriaDefinition, "CriteriaDefinition must not be null");
+		Assert.notNull(entity, "Entity must not be null");
+
+		Field field = createPropertyField(entity, criteriaDefinition.getColumnName());
+		Predicate predicate = criteriaDefinition.getPredicate();
+
+		if (field.getProperty().isPresent()) {
+
+			ColumnType typeDescriptor = getColumnType(field, predicate.getValue(), predicate.getOperator());
+
+			return value -> value != null ? getConverter().convertToColumnType(value, typeDescriptor) : null;
+		}
+
+		return value -> value != null
+				? getConverter().convertToColumnType(value, getColumnType(field, value, predicate.getOperator()))
+				: null;
+	}
+
 	/**
 	 * Map {@link Columns} with a {@link CassandraPersistentEntity type hint} to {@link ColumnSelector}s.
 	 *
@@ -168,7 +216,7 @@ public class QueryMapper {
 			Field field = createPropertyField(entity, column);
 
 			columns.getSelector(column).ifPresent(selector -> getCqlIdentifier(column, field)
-					.ifPresent(cqlIdentifier -> selectors.add(getMappedSelector(selector, cqlIdentifier))));
+					.ifPresent(cqlIdentifier -> selectors.add(getMappedSelector(selector, column, cqlIdentifier, entity))));
 		}
 
 		if (columns.isEmpty()) {
@@ -192,7 +240,26 @@ public class QueryMapper {
 		});
 	}
 
-	private Selector getMappedSelector(Selector selector, CqlIdentifier cqlIdentifier) {
+	private Selector getMappedSelector(Selector selector, ColumnName column, CqlIdentifier cqlIdentifier,
+			CassandraPersistentEntity<?> entity) {
+
+		Selector mappedSelector = getMappedSelector(selector, cqlIdentifier, entity);
+
+		// aliases naming the selected property (e.g. aggregates) are mapped to the column name to read results back
+		if (selector instanceof FunctionCall && selector.getAlias().filter(it -> isAliasFor(it, column)).isPresent()) {
+			return ((FunctionCall) mappedSelector).as(cqlIdentifier);
+		}
+
+		return mappedSelector;
+	}
+
+	private static boolean isAliasFor(CqlIdentifier alias, ColumnName column) {
+		return column.getCqlIdentifier().map(alias::equals)
+				.orElseGet(() -> alias.equals(CqlIdentifier.fromCql(column.toCql())));
+	}
+
+	private Selector getMappedSelector(Selector selector, CqlIdentifier cqlIdentifier,
+			CassandraPersistentEntity<?> entity) {
 
 		if (selector instanceof ColumnSelector) {
 
@@ -209,8 +276,17 @@ public class QueryMapper {
 
 			List<Object> mappedParameters = functionCall.getParameters().stream().map(obj -> {
 
+				// function arguments are mapped by their own column name as the selection may be keyed by an alias
+				if (obj instanceof ColumnSelector) {
+
+					ColumnName argument = ((ColumnSelector) obj).getColumnName();
+
+					return getMappedSelector((Selector) obj,
+							getCqlIdentifier(argument, createPropertyField(entity, argument)).orElse(cqlIdentifier), entity);
+				}
+
 				if (obj instanceof Selector) {
-					return getMappedSelector((Selector) obj, cqlIdentifier);
+					return getMappedSelector((Selector) obj, cqlIdentifier, entity);
 				}
 
 				return obj;
@@ -276,6 +352,28 @@ public class QueryMapper {
 		return columnNames;
 	}
 
+	/**
+	 * Map {@link ColumnName}s with a {@link CassandraPersistentEntity type hint} to column names retaining their order.
+	 *
+	 * @param columnNames must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return the mapped column names.
+	 * @since 3.1
+	 */
+	public List<CqlIdentifier> getMappedColumnNames(List<ColumnName> columnNames, CassandraPersistentEntity<?> entity) {
+
+		Assert.notNull(columnNames, "Column names must not be null");
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+
+		List<CqlIdentifier> mapped = new ArrayList<>(columnNames.size());
+
+		for (ColumnName column : columnNames) {
+			getCqlIdentifier(column, createPropertyField(entity, column)).ifPresent(mapped::add);
+		}
+
+		return mapped;
+	}
+
 	public Sort getMappedSort(Sort sort, CassandraPersistentEntity<?> entity) {
 
 		Assert.notNull(sort, "Sort must not be null");
@@ -302,6 +400,70 @@ public class QueryMapper {
 		return Sort.by(mappedOrders);
 	}
 
+	/**
+	 * Capture the values of the sorted properties of {@code source} to seek past it using
+	 * {@link org.springframework.data.cassandra.core.query.KeysetPageRequest keyset paging}. Sort properties must be
+	 * property names or property paths into a composite primary key.
+	 *
+	 * @param source the entity to read the keyset from, must not be {@literal null}.
+	 * @param sort must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return the keyset values keyed by sort property.
+	 * @since 3.1
+	 */
+	public Map<String, Object> getKeyset(Object source, Sort sort, CassandraPersistentEntity<?> entity) {
+
+		Assert.notNull(source, "Source must not be null");
+		Assert.notNull(sort, "Sort must not be null");
+		Assert.notNull(entity, "CassandraPersistentEntity must not be null");
+
+		PersistentPropertyPathAccessor<?> accessor = entity.getPropertyPathAccessor(source);
+		Map<String, Object> keyset = new LinkedHashMap<>();
+
+		for (Order order : sort) {
+
+			try {
+
+				PersistentPropertyPath<CassandraPersistentProperty> path = getMappingContext()
+						.getPersistentPropertyPath(order.getProperty(), entity.getType());
+
+				keyset.put(order.getProperty(), accessor.getProperty(path));
+			} catch (InvalidPersistentPropertyPath cause) {
+				throw new IllegalArgumentException(String.format("Cannot read keyset property %s from %s",
+						order.getProperty(), entity.getName()), cause);
+			}
+		}
+
+		return keyset;
+	}
+
+	/**
+	 * Associate a {@link Slice} with a {@link KeysetPageRequest} capturing the keyset of its last element so that the
+	 * {@link Slice#nextPageable() next page} seeks past it.
+	 *
+	 * @param slice must not be {@literal null}.
+	 * @param pageRequest must not be {@literal null}.
+	 * @param entity must not be {@literal null}.
+	 * @return the resulting {@link Slice}.
+	 * @since 3.1
+	 * @see #getKeyset(Object, Sort, CassandraPersistentEntity)
+	 */
+	public <T> Slice<T> withKeyset(Slice<T> slice, KeysetPageRequest pageRequest, CassandraPersistentEntity<?> entity) {
+
+		Assert.notNull(slice, "Slice must not be null");
+		Assert.notNull(pageRequest, "KeysetPageRequest must not be null");
+
+		List<T> content = slice.getContent();
+
+		if (content.isEmpty()) {
+			return new SliceImpl<>(content, KeysetPageRequest.of(pageRequest, Collections.emptyMap()), false);
+		}
+
+		Map<String, Object> keyset = getKeyset(content.get(content.size() - 1), pageRequest.getSort(), entity);
+
+		return new SliceImpl<>(content, KeysetPageRequest.of(pageRequest, keyset), slice.hasNext());
+	}
+
 	private Optional<CqlIdentifier> getCqlIdentifier(ColumnName column, Field field) {
 
 		try {
@@ -367,7 +529,7 @@ public class QueryMapper {
 			}
 		}
 
-		if (value instanceof Collection && operator == CriteriaDefinition.Operators.IN) {
+		if ((value instanceof Collection || value instanceof Placeholder) && operator == CriteriaDefinition.Operators.IN) {
 			typeDescriptor = ColumnType.listOf(typeDescriptor);
 		}
 
@@ -615,6 +615,22 @@ public interface AsyncCqlOperations {
 	 */
 	ListenableFuture<AsyncResultSet> queryForResultSet(Statement<?> statement) throws DataAccessException;
 
+	/**
+	 * Execute a query given static CQL and open a demand-driven {@link AsyncResultCursor} mapping each row to a result
+	 * object via a {@link RowMapper}. The cursor fetches subsequent pages only when requested, allowing arbitrarily
+	 * large results to be processed holding a single page in memory.
+	 *
+	 * @param statement static CQL {@link Statement}, must not be {@literal null}.
+	 * @param rowMapper object that will map one object per row, must not be {@literal null}.
+	 * @return a {@link ListenableFuture} completing with the {@link AsyncResultCursor} once the first page was fetched.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 * @see AsyncResultCursor#nextPage()
+	 * @see AsyncResultCursor#forEachPage(java.util.function.Function)
+	 */
+	<T> ListenableFuture<AsyncResultCursor<T>> queryForCursor(Statement<?> statement, RowMapper<T> rowMapper)
+			throws DataAccessException;
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with com.datastax.oss.driver.api.core.cql.PreparedStatement
 	// -------------------------------------------------------------------------
@@ -728,4 +744,38 @@ public interface AsyncCqlOperations {
 	 */
 	<T> ListenableFuture<List<T>> query(AsyncPreparedStatementCreator preparedStatementCreator,
 			@Nullable PreparedStatementBinder psb, RowMapper<T> rowMapper) throws DataAccessException;
+
+	// -------------------------------------------------------------------------
+	// Methods dealing with bulk ingestion
+	// -------------------------------------------------------------------------
+
+	/**
+	 * Ingest rows using a single CQL statement with bind markers, such as an insert statement. The statement is prepared
+	 * once and executed for each row using {@link IngestOptions#defaults() default options}. Failures of individual rows
+	 * are reported through {@link IngestResult#getFailures()} and do not abort the ingestion.
+	 *
+	 * @param cql CQL statement with bind markers, must not be empty or {@literal null}.
+	 * @param rows row values to bind to the statement, must not be {@literal null}.
+	 * @return the {@link IngestResult}.
+	 * @throws DataAccessException if the statement cannot be prepared or iterating over {@code rows} fails.
+	 * @since 3.1
+	 */
+	ListenableFuture<IngestResult> ingest(String cql, Iterable<Object[]> rows) throws DataAccessException;
+
+	/**
+	 * Ingest rows using a single CQL statement with bind markers, such as an insert statement. The statement is prepared
+	 * once and executed for each row keeping up to {@link IngestOptions#getConcurrency()} statements in flight. Rows are
+	 * pulled from {@code rows} and bound on an {@link java.util.concurrent.Executor} as statements complete, never on
+	 * driver I/O threads. Failures of individual rows are reported through {@link IngestResult#getFailures()} and do not
+	 * abort the ingestion.
+	 *
+	 * @param cql CQL statement with bind markers, must not be empty or {@literal null}.
+	 * @param rows row values to bind to the statement, must not be {@literal null}.
+	 * @param options ingestion options, must not be {@literal null}.
+	 * @return the {@link IngestResult}.
+	 * @throws DataAccessException if the statement cannot be prepared or iterating over {@code rows} fails.
+	 * @since 3.1
+	 */
+	ListenableFuture<IngestResult> ingest(String cql, Iterable<Object[]> rows, IngestOptions options)
+			throws DataAccessException;
 }
@@ -20,6 +20,8 @@ import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
 import com.datastax.oss.driver.api.core.CqlSession;
@@ -33,6 +35,9 @@ import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.cassandra.SessionFactory;
+import org.springframework.data.cassandra.core.cql.support.AimdConcurrencyLimiter;
+import org.springframework.data.cassandra.core.cql.support.ConcurrencyLimiter;
+import org.springframework.data.cassandra.core.cql.support.FixedConcurrencyLimiter;
 import org.springframework.data.cassandra.core.cql.util.CassandraFutureAdapter;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
@@ -78,6 +83,23 @@ import org.springframework.util.concurrent.SettableListenableFuture;
  */
 public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOperations {
 
+	/**
+	 * If this variable is set to a value, rows are mapped using this {@link Executor} instead of the thread that
+	 * completes the driver future (typically a driver I/O thread).
+	 */
+	private @Nullable Executor mappingExecutor;
+
+	/**
+	 * Minimum number of rows in a page to dispatch row mapping to the {@link #mappingExecutor}.
+	 */
+	private int mappingThreshold = 0;
+
+	/**
+	 * If this variable is set to a value, statements acquire a permit from this {@link ConcurrencyLimiter} before they
+	 * are executed.
+	 */
+	private @Nullable ConcurrencyLimiter concurrencyLimiter;
+
 	/**
 	 * Create a new, uninitialized {@link AsyncCqlTemplate}. Note: The {@link SessionFactory} has to be set before using
 	 * the instance.
@@ -113,6 +135,82 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 		setSessionFactory(sessionFactory);
 	}
 
+	/**
+	 * Set the {@link Executor} to map rows with. Driver futures are typically completed on driver I/O threads. Mapping
+	 * rows (in particular entity conversion) on I/O threads delays other in-flight requests sharing the same
+	 * connection. Setting a mapping {@link Executor} dispatches row extraction of {@link RowMapper} and
+	 * {@link RowCallbackHandler}-based queries to the given {@link Executor}. Default is {@literal null}, mapping rows on
+	 * the thread that completes the driver future.
+	 * <p/>
+	 * {@link #ingest(String, Iterable, IngestOptions) Ingestion} pulls and binds rows on the mapping {@link Executor} and
+	 * falls back to {@link ForkJoinPool#commonPool()} if no mapping {@link Executor} is configured as reading rows from
+	 * the input must not happen on driver I/O threads.
+	 *
+	 * @param mappingExecutor the {@link Executor} to map rows with, may be {@literal null}.
+	 * @since 3.1
+	 * @see #setMappingThreshold(int)
+	 */
+	public void setMappingExecutor(@Nullable Executor mappingExecutor) {
+		this.mappingExecutor = mappingExecutor;
+	}
+
+	/**
+	 * @return the mapping {@link Executor} specified for this template.
+	 * @since 3.1
+	 */
+	@Nullable
+	public Executor getMappingExecutor() {
+		return this.mappingExecutor;
+	}
+
+	/**
+	 * Set the minimum number of rows a page must contain to dispatch its mapping to the
+	 * {@link #setMappingExecutor(Executor) mapping Executor}. Smaller pages are mapped inline as handing off a few rows
+	 * costs more than mapping them. Default is {@literal 0}, dispatching all pages when a mapping {@link Executor} is
+	 * configured.
+	 *
+	 * @param mappingThreshold the minimum number of rows, must not be negative.
+	 * @since 3.1
+	 */
+	public void setMappingThreshold(int mappingThreshold) {
+
+		Assert.isTrue(mappingThreshold >= 0, "Mapping threshold must not be negative");
+
+		this.mappingThreshold = mappingThreshold;
+	}
+
+	/**
+	 * @return the mapping threshold specified for this template.
+	 * @since 3.1
+	 */
+	public int getMappingThreshold() {
+		return this.mappingThreshold;
+	}
+
+	/**
+	 * Set the {@link ConcurrencyLimiter} to limit the number of in-flight statements executed by this template.
+	 * Statements exceeding the limit are queued or rejected with
+	 * {@link org.springframework.data.cassandra.CassandraConcurrencyLimitExceededException} instead of being submitted
+	 * to the driver. Default is {@literal null}, executing statements without limiting concurrency.
+	 *
+	 * @param concurrencyLimiter the {@link ConcurrencyLimiter} to use, may be {@literal null}.
+	 * @since 3.1
+	 * @see FixedConcurrencyLimiter
+	 * @see AimdConcurrencyLimiter
+	 */
+	public void setConcurrencyLimiter(@Nullable ConcurrencyLimiter concurrencyLimiter) {
+		this.concurrencyLimiter = concurrencyLimiter;
+	}
+
+	/**
+	 * @return the {@link ConcurrencyLimiter} specified for this template.
+	 * @since 3.1
+	 */
+	@Nullable
+	public ConcurrencyLimiter getConcurrencyLimiter() {
+		return this.concurrencyLimiter;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with a plain com.datastax.oss.driver.api.core.CqlSession
 	// -------------------------------------------------------------------------
@@ -165,7 +263,7 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 				logger.debug("Executing CQL Statement [{}]", cql);
 			}
 
-			CompletionStage<T> results = getCurrentSession().executeAsync(applyStatementSettings(newStatement(cql)))
+			CompletionStage<T> results = executeAsync(getCurrentSession(), applyStatementSettings(newStatement(cql)))
 					.thenApply(resultSetExtractor::extractData) //
 					.thenCompose(ListenableFuture::completable);
 
@@ -287,8 +385,7 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 				logger.debug("Executing CQL Statement [{}]", statement);
 			}
 
-			CompletionStage<T> results = getCurrentSession() //
-					.executeAsync(applyStatementSettings(statement)) //
+			CompletionStage<T> results = executeAsync(getCurrentSession(), applyStatementSettings(statement)) //
 					.thenApply(resultSetExtractor::extractData) //
 					.thenCompose(ListenableFuture::completable);
 
@@ -384,6 +481,26 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 		return query(statement, AsyncCqlTemplate::toResultSet);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.AsyncCqlOperations#queryForCursor(com.datastax.oss.driver.api.core.cql.Statement, org.springframework.data.cassandra.core.cql.RowMapper)
+	 */
+	@Override
+	public <T> ListenableFuture<AsyncResultCursor<T>> queryForCursor(Statement<?> statement, RowMapper<T> rowMapper)
+			throws DataAccessException {
+
+		Assert.notNull(rowMapper, "RowMapper must not be null");
+
+		return query(statement, resultSet -> {
+
+			SettableListenableFuture<AsyncResultCursor<T>> future = new SettableListenableFuture<>();
+			future.set(new AsyncResultCursor<>(resultSet, rowMapper, getMappingExecutor(), getMappingThreshold(),
+					ex -> translateExceptionIfPossible("Query", statement.toString(), ex)));
+
+			return future;
+		});
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with com.datastax.driver.core.PreparedStatement
 	// -------------------------------------------------------------------------
@@ -531,7 +648,7 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 					});
 
 			CompletableFuture<T> result = statementFuture.completable() //
-					.thenCompose(session::executeAsync) //
+					.thenCompose(statement -> executeAsync(session, statement)) //
 					.thenApply(resultSetExtractor::extractData) //
 					.thenCompose(ListenableFuture::completable);
 
@@ -706,6 +823,55 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 		return query(cql, AsyncCqlTemplate::toResultSet, args);
 	}
 
+	// -------------------------------------------------------------------------
+	// Methods dealing with bulk ingestion
+	// -------------------------------------------------------------------------
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.AsyncCqlOperations#ingest(java.lang.String, java.lang.Iterable)
+	 */
+	@Override
+	public ListenableFuture<IngestResult> ingest(String cql, Iterable<Object[]> rows) throws DataAccessException {
+		return ingest(cql, rows, IngestOptions.defaults());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.AsyncCqlOperations#ingest(java.lang.String, java.lang.Iterable, org.springframework.data.cassandra.core.cql.IngestOptions)
+	 */
+	@Override
+	public ListenableFuture<IngestResult> ingest(String cql, Iterable<Object[]> rows, IngestOptions options)
+			throws DataAccessException {
+
+		Assert.hasText(cql, "CQL must not be empty");
+		Assert.notNull(rows, "Rows must not be null");
+		Assert.notNull(options, "IngestOptions must not be null");
+
+		PersistenceExceptionTranslator exceptionTranslator = ex -> translateExceptionIfPossible("Ingest", cql, ex);
+
+		try {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Ingesting rows using CQL statement [{}]", cql);
+			}
+
+			CqlSession session = getCurrentSession();
+
+			CompletableFuture<IngestResult> result = newAsyncPreparedStatementCreator(cql).createPreparedStatement(session)
+					.completable() //
+					.thenCompose(preparedStatement -> new CqlIngester(rows.iterator(), options,
+							values -> newPreparedStatementBinder(values).bindValues(preparedStatement),
+							statement -> executeAsync(session, applyStatementSettings(statement)),
+							e -> e instanceof DriverException ? translate("Ingest", cql, (DriverException) e) : e,
+							options.isGroupByRoutingToken() ? session.getMetadata().getTokenMap().orElse(null) : null)
+									.ingestAsync(getIngestExecutor()));
+
+			return new CassandraFutureAdapter<>(result, exceptionTranslator);
+		} catch (DriverException e) {
+			throw translateException(exceptionTranslator, e);
+		}
+	}
+
 	// -------------------------------------------------------------------------
 	// Implementation hooks and helper methods
 	// -------------------------------------------------------------------------
@@ -761,7 +927,8 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 	 */
 	protected AsyncRowCallbackHandlerResultSetExtractor newAsyncResultSetExtractor(
 			RowCallbackHandler rowCallbackHandler) {
-		return new AsyncRowCallbackHandlerResultSetExtractor(rowCallbackHandler);
+		return new AsyncRowCallbackHandlerResultSetExtractor(rowCallbackHandler, getMappingExecutor(),
+				getMappingThreshold());
 	}
 
 	/**
@@ -775,7 +942,7 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 	 * @see RowMapperResultSetExtractor
 	 */
 	protected <T> AsyncRowMapperResultSetExtractor<T> newAsyncResultSetExtractor(RowMapper<T> rowMapper) {
-		return new AsyncRowMapperResultSetExtractor<>(rowMapper);
+		return new AsyncRowMapperResultSetExtractor<>(rowMapper, getMappingExecutor(), getMappingThreshold());
 	}
 
 	private CqlSession getCurrentSession() {
@@ -787,6 +954,46 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 		return sessionFactory.getSession();
 	}
 
+	private Executor getIngestExecutor() {
+
+		Executor mappingExecutor = getMappingExecutor();
+
+		return mappingExecutor != null ? mappingExecutor : ForkJoinPool.commonPool();
+	}
+
+	private CompletionStage<AsyncResultSet> executeAsync(CqlSession session, Statement<?> statement) {
+
+		ConcurrencyLimiter concurrencyLimiter = getConcurrencyLimiter();
+
+		if (concurrencyLimiter == null) {
+			return session.executeAsync(statement).thenApply(this::recordResponse);
+		}
+
+		return concurrencyLimiter.acquire().thenCompose(permit -> {
+
+			try {
+				return session.executeAsync(statement).whenComplete((resultSet, e) -> permit.release(e))
+						.thenApply(this::recordResponse);
+			} catch (RuntimeException e) {
+				permit.release(e);
+				throw e;
+			}
+		});
+	}
+
+	private AsyncResultSet recordResponse(AsyncResultSet resultSet) {
+
+		if (getAdaptivePageSizer() != null) {
+			recordPage(resultSet.getExecutionInfo(), resultSet.remaining());
+		}
+
+		if (getServerWarningMonitor() != null) {
+			recordWarnings(resultSet.getExecutionInfo());
+		}
+
+		return resultSet;
+	}
+
 	private static ListenableFuture<AsyncResultSet> toResultSet(AsyncResultSet resultSet) {
 
 		SettableListenableFuture<AsyncResultSet> future = new SettableListenableFuture<>();
@@ -835,8 +1042,22 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 
 		private final RowCallbackHandler rowCallbackHandler;
 
+		private final @Nullable Executor mappingExecutor;
+
+		private final int mappingThreshold;
+
 		protected AsyncRowCallbackHandlerResultSetExtractor(RowCallbackHandler rowCallbackHandler) {
+			this(rowCallbackHandler, null, 0);
+		}
+
+		/**
+		 * @since 3.1
+		 */
+		protected AsyncRowCallbackHandlerResultSetExtractor(RowCallbackHandler rowCallbackHandler,
+				@Nullable Executor mappingExecutor, int mappingThreshold) {
 			this.rowCallbackHandler = rowCallbackHandler;
+			this.mappingExecutor = mappingExecutor;
+			this.mappingThreshold = mappingThreshold;
 		}
 
 		/* (non-Javadoc)
@@ -845,7 +1066,8 @@ public class AsyncCqlTemplate extends CassandraAccessor implements AsyncCqlOpera
 		@Override
 		@Nullable
 		public ListenableFuture<Void> extractData(AsyncResultSet resultSet) {
-			return AsyncResultStream.from(resultSet).forEach(rowCallbackHandler::processRow);
+			return AsyncResultStream.from(resultSet).processOn(mappingExecutor, mappingThreshold)
+					.forEach(rowCallbackHandler::processRow);
 		}
 	}
 
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+import org.springframework.dao.support.PersistenceExceptionTranslator;
+import org.springframework.data.cassandra.core.cql.util.CassandraFutureAdapter;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.util.concurrent.SettableListenableFuture;
+
+/**
+ * Demand-driven cursor over the pages of an {@link AsyncResultSet}. Pages are fetched only when requested through
+ * {@link #nextPage()} so that consumers control the rate at which results are pulled from Cassandra and at most one
+ * page is held in memory at a time. {@link #forEachPage(Function)} requests the next page once the stage returned by
+ * the page handler completes.
+ * <p>
+ * A cursor is not thread-safe and must be used by one consumer at a time. Requests must not overlap: request the next
+ * page only after the previous page has been delivered. Rows of a page are mapped on a single thread, either the thread
+ * completing the page fetch or a mapping {@link Executor}.
+ *
+ * @author agent
+ * @since 3.1
+ * @see AsyncCqlOperations#queryForCursor(com.datastax.oss.driver.api.core.cql.Statement, RowMapper)
+ */
+public class AsyncResultCursor<T> {
+
+	private final RowMapper<T> rowMapper;
+
+	private final @Nullable Executor mappingExecutor;
+
+	private final int mappingThreshold;
+
+	private final PersistenceExceptionTranslator exceptionTranslator;
+
+	private AsyncResultSet resultSet;
+
+	private boolean currentPageConsumed;
+
+	private boolean pageRequested;
+
+	private int rowNumber;
+
+	AsyncResultCursor(AsyncResultSet resultSet, RowMapper<T> rowMapper, @Nullable Executor mappingExecutor,
+			int mappingThreshold, PersistenceExceptionTranslator exceptionTranslator) {
+
+		this.resultSet = resultSet;
+		this.rowMapper = rowMapper;
+		this.mappingExecutor = mappingExecutor;
+		this.mappingThreshold = mappingThreshold;
+		this.exceptionTranslator = exceptionTranslator;
+	}
+
+	/**
+	 * Returns whether the cursor has a page that was not requested yet.
+	 *
+	 * @return {@literal true} if {@link #nextPage()} can be called.
+	 */
+	public boolean hasMorePages() {
+		return !this.currentPageConsumed || this.resultSet.hasMorePages();
+	}
+
+	/**
+	 * Request the next page. The first call returns the page fetched by the initial query, subsequent calls fetch the
+	 * next page from Cassandra.
+	 *
+	 * @return a {@link ListenableFuture} completing with the mapped rows of the next page.
+	 * @throws IllegalStateException if a page request is in progress or if there are no more pages.
+	 */
+	public ListenableFuture<List<T>> nextPage() {
+		return new CassandraFutureAdapter<>(requestPage(), this.exceptionTranslator);
+	}
+
+	private CompletableFuture<List<T>> requestPage() {
+
+		Assert.state(!this.pageRequested, "A page request is already in progress");
+		Assert.state(hasMorePages(), "No more pages available");
+
+		this.pageRequested = true;
+
+		CompletionStage<AsyncResultSet> page = this.currentPageConsumed ? this.resultSet.fetchNextPage()
+				: CompletableFuture.completedFuture(this.resultSet);
+
+		CompletableFuture<List<T>> result = new CompletableFuture<>();
+
+		page.whenComplete((nextResultSet, throwable) -> {
+
+			if (throwable != null) {
+				this.pageRequested = false;
+				result.completeExceptionally(throwable);
+				return;
+			}
+
+			this.resultSet = nextResultSet;
+			this.currentPageConsumed = true;
+
+			if (this.mappingExecutor == null || nextResultSet.remaining() < this.mappingThreshold) {
+				mapPage(nextResultSet, result);
+				return;
+			}
+
+			try {
+				this.mappingExecutor.execute(() -> mapPage(nextResultSet, result));
+			} catch (RuntimeException e) {
+				this.pageRequested = false;
+				result.completeExceptionally(e);
+			}
+		});
+
+		return result;
+	}
+
+	/**
+	 * Request pages one after another and pass each page to {@code pageHandler}. The next page is requested after the
+	 * {@link CompletionStage} returned by {@code pageHandler} completes which allows the handler to apply back-pressure.
+	 * Handlers may return {@literal null} to request the next page immediately. Processing stops if a page fetch or the
+	 * handler fails.
+	 *
+	 * @param pageHandler function processing a page of mapped rows, must not be {@literal null}.
+	 * @return a {@link ListenableFuture} that completes once all pages have been processed.
+	 */
+	public ListenableFuture<Void> forEachPage(Function<? super List<T>, ? extends CompletionStage<?>> pageHandler) {
+
+		Assert.notNull(pageHandler, "Page handler must not be null");
+
+		SettableListenableFuture<Void> target = new SettableListenableFuture<>();
+
+		forEachPage(pageHandler, target);
+
+		return target;
+	}
+
+	/**
+	 * Iterate over pages in a loop as long as page requests complete synchronously and continue from the completing
+	 * thread otherwise. This avoids deep recursion for result sets whose pages are already available.
+	 */
+	private void forEachPage(Function<? super List<T>, ? extends CompletionStage<?>> pageHandler,
+			SettableListenableFuture<Void> target) {
+
+		while (!target.isCancelled()) {
+
+			if (!hasMorePages()) {
+				target.set(null);
+				return;
+			}
+
+			CompletableFuture<?> step = requestPage().thenCompose(page -> {
+
+				CompletionStage<?> demand = pageHandler.apply(page);
+				return demand != null ? demand : CompletableFuture.completedFuture(null);
+			});
+
+			if (!step.isDone()) {
+
+				step.whenComplete((ignore, throwable) -> {
+
+					if (throwable != null) {
+						target.setException(translate(throwable));
+					} else {
+						forEachPage(pageHandler, target);
+					}
+				});
+				return;
+			}
+
+			try {
+				step.join();
+			} catch (CompletionException e) {
+				target.setException(translate(e));
+				return;
+			}
+		}
+	}
+
+	private void mapPage(AsyncResultSet resultSet, CompletableFuture<List<T>> result) {
+
+		List<T> page = new ArrayList<>(resultSet.remaining());
+
+		try {
+			for (Row row : resultSet.currentPage()) {
+				page.add(this.rowMapper.mapRow(row, this.rowNumber++));
+			}
+		} catch (RuntimeException e) {
+			this.pageRequested = false;
+			result.completeExceptionally(e);
+			return;
+		}
+
+		this.pageRequested = false;
+		result.complete(page);
+	}
+
+	private Throwable translate(Throwable throwable) {
+
+		Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause()
+				: throwable;
+
+		if (cause instanceof RuntimeException) {
+
+			RuntimeException translated = this.exceptionTranslator.translateExceptionIfPossible((RuntimeException) cause);
+			return translated != null ? translated : cause;
+		}
+
+		return cause;
+	}
+}
@@ -15,14 +15,17 @@
  */
 package org.springframework.data.cassandra.core.cql;
 
-import java.util.concurrent.CompletionStage;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.stream.Collector;
 
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.concurrent.ListenableFuture;
 import org.springframework.util.concurrent.SettableListenableFuture;
@@ -40,9 +43,16 @@ class AsyncResultStream<T> {
 
 	private final RowMapper<T> mapper;
 
-	private AsyncResultStream(AsyncResultSet resultSet, RowMapper<T> mapper) {
+	private final @Nullable Executor executor;
+
+	private final int inlineThreshold;
+
+	private AsyncResultStream(AsyncResultSet resultSet, RowMapper<T> mapper, @Nullable Executor executor,
+			int inlineThreshold) {
 		this.resultSet = resultSet;
 		this.mapper = mapper;
+		this.executor = executor;
+		this.inlineThreshold = inlineThreshold;
 	}
 
 	/**
@@ -55,7 +65,21 @@ class AsyncResultStream<T> {
 
 		Assert.notNull(resultSet, "AsyncResultSet must not be null");
 
-		return new AsyncResultStream<>(resultSet, (row, rowNum) -> row);
+		return new AsyncResultStream<>(resultSet, (row, rowNum) -> row, null, 0);
+	}
+
+	/**
+	 * Returns a stream that processes pages using the given {@link Executor}. Pages containing fewer rows than
+	 * {@code inlineThreshold} are processed inline on the thread that completed the page fetch. Dispatching pages to a
+	 * dedicated {@link Executor} keeps row mapping off the driver I/O threads.
+	 * <p>
+	 * This is an intermediate operation.
+	 *
+	 * @param executor the {@link Executor} to process pages on, may be {@literal null} to process all pages inline.
+	 * @param inlineThreshold minimum number of rows in a page to dispatch page processing to the {@link Executor}.
+	 */
+	AsyncResultStream<T> processOn(@Nullable Executor executor, int inlineThreshold) {
+		return new AsyncResultStream<>(resultSet, mapper, executor, inlineThreshold);
 	}
 
 	/**
@@ -70,7 +94,7 @@ class AsyncResultStream<T> {
 
 		Assert.notNull(mapper, "RowMapper must not be null");
 
-		return new AsyncResultStream<>(resultSet, mapper);
+		return new AsyncResultStream<>(resultSet, mapper, executor, inlineThreshold);
 	}
 
 	/**
@@ -88,12 +112,22 @@ class AsyncResultStream<T> {
 
 		Assert.notNull(collector, "Collector must not be null");
 
-		SettableListenableFuture<R> future = new SettableListenableFuture<>();
-		CollectState<A, R> collectState = new CollectState<>(collector);
+		BiConsumer<A, ? super T> accumulator = collector.accumulator();
+
+		return new PageLoop<R>() {
 
-		collectState.collectAsync(future, this.resultSet);
+			private final A intermediate = collector.supplier().get();
 
-		return future;
+			@Override
+			void onElement(T element) {
+				accumulator.accept(this.intermediate, element);
+			}
+
+			@Override
+			R complete() {
+				return collector.finisher().apply(this.intermediate);
+			}
+		}.start(this.resultSet);
 	}
 
 	/**
@@ -110,125 +144,114 @@ class AsyncResultStream<T> {
 
 		Assert.notNull(action, "Action must not be null");
 
-		SettableListenableFuture<Void> future = new SettableListenableFuture<>();
-		ForwardLoopState loopState = new ForwardLoopState(action);
+		return new PageLoop<Void>() {
 
-		loopState.forEachAsync(future, this.resultSet);
+			@Override
+			void onElement(T element) {
+				action.accept(element);
+			}
 
-		return future;
+			@Override
+			@Nullable
+			Void complete() {
+				return null;
+			}
+		}.start(this.resultSet);
 	}
 
 	/**
-	 * State object for forward-looping using {@code forEach}.
+	 * Loop processing pages of a {@link AsyncResultSet} one after another. Pages are processed sequentially, each page
+	 * being processed by a single thread, and the next page is fetched once the current page has been processed. State
+	 * is therefore confined to one thread at a time and handed over through the completion of page fetches, which does
+	 * not require atomic or volatile fields.
 	 */
-	class ForwardLoopState {
+	abstract class PageLoop<R> {
 
-		private final AtomicInteger rowNumber = new AtomicInteger();
-		private final Consumer<T> consumer;
+		private final SettableListenableFuture<R> target = new SettableListenableFuture<>();
 
-		ForwardLoopState(Consumer<T> consumer) {
-			this.consumer = consumer;
-		}
+		private int rowNumber;
 
-		void peekRow(Iterable<Row> rows) {
-			rows.forEach(row -> consumer.accept(mapper.mapRow(row, rowNumber.incrementAndGet())));
-		}
+		/**
+		 * Consume a mapped element.
+		 */
+		abstract void onElement(T element);
 
 		/**
-		 * Recursive async iteration.
-		 *
-		 * @param target
-		 * @param resultSet
+		 * Complete the loop once all pages were processed.
 		 */
-		void forEachAsync(SettableListenableFuture<Void> target, AsyncResultSet resultSet) {
+		@Nullable
+		abstract R complete();
+
+		ListenableFuture<R> start(AsyncResultSet resultSet) {
 
-			if (target.isCancelled()) {
+			next(resultSet);
+
+			return this.target;
+		}
+
+		private void next(AsyncResultSet resultSet) {
+
+			if (this.target.isCancelled()) {
 				return;
 			}
 
-			try {
-				peekRow(resultSet.currentPage());
-			} catch (RuntimeException e) {
-				target.setException(e);
+			if (executor == null || resultSet.remaining() < inlineThreshold) {
+				process(resultSet);
 				return;
 			}
 
-			if (!resultSet.hasMorePages()) {
-				target.set(null);
-			} else {
-
-				CompletionStage<AsyncResultSet> nextPage = resultSet.fetchNextPage();
-
-				nextPage.whenComplete((nextResultSet, throwable) -> {
-
-					if (throwable != null) {
-						target.setException(throwable);
-					} else {
-						forEachAsync(target, nextResultSet);
-					}
-				});
+			try {
+				executor.execute(() -> process(resultSet));
+			} catch (RejectedExecutionException e) {
+				this.target.setException(e);
 			}
 		}
-	}
 
-	/**
-	 * State object for collecting rows using {@code collect}.
-	 */
-	class CollectState<A, R> {
-
-		private final AtomicInteger rowNumber = new AtomicInteger();
-		private volatile A intermediate;
-		private final Collector<? super T, A, R> collector;
+		/**
+		 * Process pages in a loop as long as subsequent pages are available without waiting and continue from the thread
+		 * completing the page fetch otherwise. This avoids deep recursion for pages that complete synchronously.
+		 */
+		private void process(AsyncResultSet resultSet) {
 
-		CollectState(Collector<? super T, A, R> collector) {
-			this.collector = collector;
-			this.intermediate = collector.supplier().get();
-		}
+			AsyncResultSet current = resultSet;
 
-		void collectPage(Iterable<Row> rows) {
+			while (!this.target.isCancelled()) {
 
-			for (Row row : rows) {
-				collector.accumulator().accept(intermediate, mapper.mapRow(row, rowNumber.incrementAndGet()));
-			}
-		}
-
-		R finish() {
-			return collector.finisher().apply(intermediate);
-		}
+				try {
+					for (Row row : current.currentPage()) {
+						onElement(mapper.mapRow(row, ++this.rowNumber));
+					}
+				} catch (RuntimeException e) {
+					this.target.setException(e);
+					return;
+				}
 
-		/**
-		 * Recursive collection.
-		 *
-		 * @param target
-		 * @param resultSet
-		 */
-		void collectAsync(SettableListenableFuture<R> target, AsyncResultSet resultSet) {
+				if (!current.hasMorePages()) {
 
-			if (target.isCancelled()) {
-				return;
-			}
+					try {
+						this.target.set(complete());
+					} catch (RuntimeException e) {
+						this.target.setException(e);
+					}
+					return;
+				}
 
-			try {
-				collectPage(resultSet.currentPage());
-			} catch (RuntimeException e) {
-				target.setException(e);
-				return;
-			}
+				CompletableFuture<AsyncResultSet> nextPage = current.fetchNextPage().toCompletableFuture();
 
-			if (!resultSet.hasMorePages()) {
-				target.set(finish());
-			} else {
+				if (!nextPage.isDone() || nextPage.isCompletedExceptionally()) {
 
-				CompletionStage<AsyncResultSet> nextPage = resultSet.fetchNextPage();
+					nextPage.whenComplete((nextResultSet, throwable) -> {
 
-				nextPage.whenComplete((nextResultSet, throwable) -> {
+						if (throwable != null) {
+							this.target.setException(throwable);
+						} else {
+							next(nextResultSet);
+						}
+					});
+					return;
+				}
 
-					if (throwable != null) {
-						target.setException(throwable);
-					} else {
-						collectAsync(target, nextResultSet);
-					}
-				});
+				current = nextPage.join();
 			}
 		}
 	}
@@ -16,12 +16,14 @@
 package org.springframework.data.cassandra.core.cql;
 
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 import com.datastax.oss.driver.api.core.DriverException;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.concurrent.ListenableFuture;
 
@@ -44,16 +46,37 @@ public class AsyncRowMapperResultSetExtractor<T> implements AsyncResultSetExtrac
 
 	private final RowMapper<T> rowMapper;
 
+	private final @Nullable Executor mappingExecutor;
+
+	private final int mappingThreshold;
+
 	/**
 	 * Create a new {@link AsyncRowMapperResultSetExtractor}.
 	 *
 	 * @param rowMapper the {@link RowMapper} which creates an object for each row, must not be {@literal null}.
 	 */
 	public AsyncRowMapperResultSetExtractor(RowMapper<T> rowMapper) {
+		this(rowMapper, null, 0);
+	}
+
+	/**
+	 * Create a new {@link AsyncRowMapperResultSetExtractor} that maps rows using the given {@link Executor}.
+	 *
+	 * @param rowMapper the {@link RowMapper} which creates an object for each row, must not be {@literal null}.
+	 * @param mappingExecutor the {@link Executor} to map rows on. Rows are mapped on the thread completing the page fetch
+	 *          if {@literal null}.
+	 * @param mappingThreshold minimum number of rows in a page to map the page using {@code mappingExecutor}. Smaller
+	 *          pages are mapped inline.
+	 * @since 3.1
+	 */
+	public AsyncRowMapperResultSetExtractor(RowMapper<T> rowMapper, @Nullable Executor mappingExecutor,
+			int mappingThreshold) {
 
 		Assert.notNull(rowMapper, "RowMapper is must not be null");
 
 		this.rowMapper = rowMapper;
+		this.mappingExecutor = mappingExecutor;
+		this.mappingThreshold = mappingThreshold;
 	}
 
 	/* (non-Javadoc)
@@ -61,6 +84,7 @@ public class AsyncRowMapperResultSetExtractor<T> implements AsyncResultSetExtrac
 	 */
 	@Override
 	public ListenableFuture<List<T>> extractData(AsyncResultSet resultSet) throws DriverException, DataAccessException {
-		return AsyncResultStream.from(resultSet).map(rowMapper).collect(Collectors.toList());
+		return AsyncResultStream.from(resultSet).processOn(mappingExecutor, mappingThreshold).map(rowMapper)
+				.collect(Collectors.toList());
 	}
 }
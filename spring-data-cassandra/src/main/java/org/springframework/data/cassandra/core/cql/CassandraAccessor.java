@@ -20,6 +20,7 @@ import java.util.Optional;
 
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.retry.RetryPolicy;
@@ -30,6 +31,8 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.cassandra.SessionFactory;
 import org.springframework.data.cassandra.core.cql.session.DefaultSessionFactory;
+import org.springframework.data.cassandra.core.cql.support.AdaptivePageSizer;
+import org.springframework.data.cassandra.core.cql.support.ServerWarningMonitor;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -65,6 +68,17 @@ public class CassandraAccessor implements InitializingBean {
 	 */
 	private int pageSize = -1;
 
+	/**
+	 * If this variable is set to a value, it will be used to derive the {@code pageSize} property of statements without a
+	 * page size from the observed row size.
+	 */
+	private @Nullable AdaptivePageSizer adaptivePageSizer;
+
+	/**
+	 * If this variable is set to a value, it will be used to aggregate server warnings of query responses.
+	 */
+	private @Nullable ServerWarningMonitor serverWarningMonitor;
+
 	/**
 	 * If this variable is set to a value, it will be used for setting the {@code consistencyLevel} property on statements
 	 * used for query processing.
@@ -208,6 +222,47 @@ public class CassandraAccessor implements InitializingBean {
 		return this.pageSize;
 	}
 
+	/**
+	 * Set the {@link AdaptivePageSizer} to derive the page size of queries from the average row size observed for the
+	 * same query shape. Adaptive page sizing applies to statements that do not specify a page size and takes precedence
+	 * over the fixed {@link #setPageSize(int) page size} of this template.
+	 *
+	 * @param adaptivePageSizer the {@link AdaptivePageSizer} to use, may be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setAdaptivePageSizer(@Nullable AdaptivePageSizer adaptivePageSizer) {
+		this.adaptivePageSizer = adaptivePageSizer;
+	}
+
+	/**
+	 * @return the {@link AdaptivePageSizer} specified for this template.
+	 * @since 3.1
+	 */
+	@Nullable
+	public AdaptivePageSizer getAdaptivePageSizer() {
+		return this.adaptivePageSizer;
+	}
+
+	/**
+	 * Set the {@link ServerWarningMonitor} to aggregate warnings returned by Cassandra along with query responses.
+	 * Warnings are counted per table, query shape and warning type and logged in a rate-limited fashion.
+	 *
+	 * @param serverWarningMonitor the {@link ServerWarningMonitor} to use, may be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setServerWarningMonitor(@Nullable ServerWarningMonitor serverWarningMonitor) {
+		this.serverWarningMonitor = serverWarningMonitor;
+	}
+
+	/**
+	 * @return the {@link ServerWarningMonitor} specified for this template.
+	 * @since 3.1
+	 */
+	@Nullable
+	public ServerWarningMonitor getServerWarningMonitor() {
+		return this.serverWarningMonitor;
+	}
+
 	/**
 	 * Set the serial consistency level for this template.
 	 *
@@ -298,37 +353,59 @@ public class CassandraAccessor implements InitializingBean {
 	}
 
 	/**
-	 * Prepare the given CQL Statement applying statement settings such as page size and consistency level.
+	 * Prepare the given CQL Statement applying statement settings such as page size and consistency level. Settings are
+	 * applied in a single pass to avoid intermediate copies of the immutable {@link Statement}.
 	 *
 	 * @param statement the CQL Statement to prepare
 	 * @see #setConsistencyLevel(ConsistencyLevel)
 	 * @see #setSerialConsistencyLevel(ConsistencyLevel)
 	 * @see #setPageSize(int)
+	 * @see #setAdaptivePageSizer(AdaptivePageSizer)
 	 * @see #setExecutionProfile(String)
 	 * @see #setExecutionProfileResolver(ExecutionProfileResolver)
 	 */
 	protected Statement<?> applyStatementSettings(Statement<?> statement) {
 
-		Statement<?> statementToUse = statement;
-		ConsistencyLevel consistencyLevel = getConsistencyLevel();
-		ConsistencyLevel serialConsistencyLevel = getSerialConsistencyLevel();
-		int pageSize = getPageSize();
+		AdaptivePageSizer adaptivePageSizer = getAdaptivePageSizer();
+		int pageSize = adaptivePageSizer != null && statement.getPageSize() <= 0
+				? adaptivePageSizer.getPageSize(statement)
+				: getPageSize();
 
-		if (consistencyLevel != null) {
-			statementToUse = statementToUse.setConsistencyLevel(consistencyLevel);
-		}
+		return QueryOptionsUtil.applyStatementSettings(statement, getConsistencyLevel(), getSerialConsistencyLevel(),
+				pageSize, getExecutionProfileResolver());
+	}
 
-		if (serialConsistencyLevel != null) {
-			statementToUse = statementToUse.setSerialConsistencyLevel(serialConsistencyLevel);
-		}
+	/**
+	 * Record the size of a fetched page with the {@link AdaptivePageSizer}, if configured.
+	 *
+	 * @param executionInfo the {@link ExecutionInfo} of the fetched page.
+	 * @param rows number of rows contained in the page.
+	 * @since 3.1
+	 * @see #setAdaptivePageSizer(AdaptivePageSizer)
+	 */
+	protected void recordPage(ExecutionInfo executionInfo, int rows) {
+
+		AdaptivePageSizer adaptivePageSizer = getAdaptivePageSizer();
 
-		if (pageSize > -1) {
-			statementToUse = statementToUse.setPageSize(pageSize);
+		if (adaptivePageSizer != null) {
+			adaptivePageSizer.record(executionInfo, rows);
 		}
+	}
 
-		statementToUse = getExecutionProfileResolver().apply(statementToUse);
+	/**
+	 * Record the warnings of a response with the {@link ServerWarningMonitor}, if configured.
+	 *
+	 * @param executionInfo the {@link ExecutionInfo} of the response.
+	 * @since 3.1
+	 * @see #setServerWarningMonitor(ServerWarningMonitor)
+	 */
+	protected void recordWarnings(ExecutionInfo executionInfo) {
 
-		return statementToUse;
+		ServerWarningMonitor serverWarningMonitor = getServerWarningMonitor();
+
+		if (serverWarningMonitor != null) {
+			serverWarningMonitor.record(executionInfo);
+		}
 	}
 
 	/**
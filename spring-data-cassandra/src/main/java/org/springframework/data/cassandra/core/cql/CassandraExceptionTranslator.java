@@ -78,6 +78,10 @@ public class CassandraExceptionTranslator implements CqlExceptionTranslator {
 	@Override
 	public DataAccessException translate(@Nullable String task, @Nullable String cql, RuntimeException exception) {
 
+		if (exception instanceof DataAccessException) {
+			return (DataAccessException) exception;
+		}
+
 		String message = buildMessage(task, cql, exception);
 
 		// Remember: subclasses must come before superclasses, otherwise the
@@ -0,0 +1,391 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.springframework.data.cassandra.core.cql.IngestResult.RowFailure;
+import org.springframework.lang.Nullable;
+
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+
+/**
+ * Executes bound statements for a sequence of rows keeping up to {@link IngestOptions#getConcurrency()} statements in
+ * flight. Rows are pulled from the input and bound either on the calling thread ({@link #ingest()}) or on a given
+ * {@link Executor} ({@link #ingestAsync(Executor)}), never on the thread that completes a statement, as completion
+ * typically happens on driver I/O threads. Row failures are collected instead of aborting the ingestion; failures of
+ * the input itself fail the ingestion.
+ * <p>
+ * The input is only accessed by a single thread at a time: the calling thread for {@link #ingest()} or a single
+ * drainer for {@link #ingestAsync(Executor)}. Completion callbacks only update counters and record outcomes, they
+ * never pull or bind rows.
+ *
+ * @author agent
+ * @since 3.1
+ */
+class CqlIngester {
+
+	private static final Comparator<IngestRow> TOKEN_ORDER = Comparator.comparing(it -> it.token,
+			Comparator.nullsLast(Comparator.naturalOrder()));
+
+	private final Iterator<Object[]> rows;
+
+	private final int concurrency;
+
+	private final int groupingWindow;
+
+	private final Function<Object[], Statement<?>> binder;
+
+	private final Function<Statement<?>, CompletionStage<?>> executor;
+
+	private final Function<Throwable, Throwable> exceptionTranslator;
+
+	private final @Nullable TokenMap tokenMap;
+
+	private final Aggregate aggregate = new Aggregate();
+
+	private final Deque<IngestRow> window = new ArrayDeque<>();
+
+	private final CompletableFuture<IngestResult> result = new CompletableFuture<>();
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+
+	private final AtomicInteger drainRequests = new AtomicInteger();
+
+	private long index;
+
+	private volatile boolean exhausted;
+
+	/**
+	 * @param rows the input rows.
+	 * @param options ingestion options.
+	 * @param binder function to bind row values to a {@link Statement}.
+	 * @param executor function to execute a {@link Statement}.
+	 * @param exceptionTranslator function to translate row failures.
+	 * @param tokenMap token metadata to group rows by routing token, may be {@literal null} to ingest rows in input
+	 *          order.
+	 */
+	CqlIngester(Iterator<Object[]> rows, IngestOptions options, Function<Object[], Statement<?>> binder,
+			Function<Statement<?>, CompletionStage<?>> executor, Function<Throwable, Throwable> exceptionTranslator,
+			@Nullable TokenMap tokenMap) {
+
+		this.rows = rows;
+		this.concurrency = options.getConcurrency();
+		this.groupingWindow = tokenMap != null ? options.getGroupingWindow() : 0;
+		this.binder = binder;
+		this.executor = executor;
+		this.exceptionTranslator = exceptionTranslator;
+		this.tokenMap = tokenMap;
+	}
+
+	/**
+	 * Ingest rows on the calling thread. Rows are pulled from the input and bound on the calling thread which blocks
+	 * while {@link IngestOptions#getConcurrency()} statements are in flight. Returns once all statements have completed.
+	 *
+	 * @return the {@link IngestResult}.
+	 * @throws RuntimeException if the input fails.
+	 */
+	IngestResult ingest() {
+
+		Semaphore permits = new Semaphore(this.concurrency);
+
+		try {
+
+			IngestRow row;
+
+			while ((row = nextRow()) != null) {
+
+				if (row.bindFailure != null) {
+					onComplete(row, row.bindFailure);
+					continue;
+				}
+
+				permits.acquireUninterruptibly();
+				execute(row, permits::release);
+			}
+		} finally {
+			permits.acquireUninterruptibly(this.concurrency);
+		}
+
+		synchronized (this.aggregate) {
+			return this.aggregate.toResult();
+		}
+	}
+
+	/**
+	 * Ingest rows asynchronously. Rows are pulled from the input and bound on {@code drainExecutor} whenever there is
+	 * room in the concurrency window; completion of a statement schedules pulling further rows instead of pulling them
+	 * on the completing thread.
+	 *
+	 * @param drainExecutor the {@link Executor} to pull and bind rows on.
+	 * @return a future completing with the {@link IngestResult} once all rows are processed.
+	 */
+	CompletableFuture<IngestResult> ingestAsync(Executor drainExecutor) {
+
+		scheduleDrain(drainExecutor);
+
+		return this.result;
+	}
+
+	/**
+	 * Request a drain pass. Only the first request schedules a drainer, subsequent requests are picked up by the running
+	 * drainer so that the input is never pulled concurrently.
+	 */
+	private void scheduleDrain(Executor drainExecutor) {
+
+		if (this.drainRequests.getAndIncrement() != 0) {
+			return;
+		}
+
+		try {
+			drainExecutor.execute(() -> drain(drainExecutor));
+		} catch (RuntimeException e) {
+
+			this.exhausted = true;
+			this.result.completeExceptionally(e);
+		}
+	}
+
+	private void drain(Executor drainExecutor) {
+
+		int requests = 1;
+
+		for (;;) {
+
+			if (!this.result.isDone()) {
+
+				try {
+					executeNextRows(drainExecutor);
+				} catch (RuntimeException e) {
+					this.exhausted = true;
+					this.result.completeExceptionally(e);
+				}
+
+				if (this.exhausted && this.inFlight.get() == 0) {
+					synchronized (this.aggregate) {
+						this.result.complete(this.aggregate.toResult());
+					}
+				}
+			}
+
+			requests = this.drainRequests.addAndGet(-requests);
+
+			if (requests == 0) {
+				return;
+			}
+		}
+	}
+
+	private void executeNextRows(Executor drainExecutor) {
+
+		while (this.inFlight.get() < this.concurrency) {
+
+			IngestRow row = nextRow();
+
+			if (row == null) {
+				return;
+			}
+
+			if (row.bindFailure != null) {
+				onComplete(row, row.bindFailure);
+				continue;
+			}
+
+			this.inFlight.incrementAndGet();
+			execute(row, () -> {
+
+				this.inFlight.decrementAndGet();
+				scheduleDrain(drainExecutor);
+			});
+		}
+	}
+
+	@Nullable
+	private IngestRow nextRow() {
+
+		if (this.groupingWindow == 0) {
+			return this.rows.hasNext() ? bind(this.index++, this.rows.next(), this.binder, null) : exhausted();
+		}
+
+		if (this.window.isEmpty()) {
+
+			List<IngestRow> rows = new ArrayList<>(Math.min(this.groupingWindow, 1024));
+
+			while (rows.size() < this.groupingWindow && this.rows.hasNext()) {
+				rows.add(bind(this.index++, this.rows.next(), this.binder, this.tokenMap));
+			}
+
+			rows.sort(TOKEN_ORDER);
+			this.window.addAll(rows);
+		}
+
+		return this.window.isEmpty() ? exhausted() : this.window.poll();
+	}
+
+	@Nullable
+	private IngestRow exhausted() {
+
+		this.exhausted = true;
+		return null;
+	}
+
+	/**
+	 * Execute the statement of {@code row}. The completion callback only records the outcome and runs
+	 * {@code onCompletion}, it does not touch the input.
+	 */
+	private void execute(IngestRow row, Runnable onCompletion) {
+
+		CompletionStage<?> stage;
+
+		try {
+			stage = this.executor.apply(row.statement);
+		} catch (RuntimeException e) {
+			onComplete(row, e);
+			onCompletion.run();
+			return;
+		}
+
+		stage.whenComplete((it, e) -> {
+			onComplete(row, e);
+			onCompletion.run();
+		});
+	}
+
+	private void onComplete(IngestRow row, @Nullable Throwable e) {
+
+		synchronized (this.aggregate) {
+
+			if (e != null) {
+				this.aggregate.failed(row, this.exceptionTranslator.apply(unwrap(e)));
+			} else {
+				this.aggregate.succeeded();
+			}
+		}
+	}
+
+	/**
+	 * Bind row values to a {@link Statement} capturing binding failures.
+	 *
+	 * @param index zero-based row position.
+	 * @param values row values.
+	 * @param binder function to bind row values to a {@link Statement}.
+	 * @param tokenMap token metadata to compute the routing token, may be {@literal null}.
+	 * @return the bound {@link IngestRow}.
+	 */
+	static IngestRow bind(long index, Object[] values, Function<Object[], Statement<?>> binder,
+			@Nullable TokenMap tokenMap) {
+
+		try {
+
+			Statement<?> statement = binder.apply(values);
+			ByteBuffer routingKey = tokenMap != null ? statement.getRoutingKey() : null;
+
+			return new IngestRow(index, values, statement, routingKey != null ? tokenMap.newToken(routingKey) : null, null);
+		} catch (RuntimeException e) {
+			return new IngestRow(index, values, null, null, e);
+		}
+	}
+
+	/**
+	 * Order the given rows by routing token.
+	 *
+	 * @param rows the rows to sort.
+	 * @return the sorted rows.
+	 */
+	static List<IngestRow> sortByToken(List<IngestRow> rows) {
+
+		rows.sort(TOKEN_ORDER);
+		return rows;
+	}
+
+	static Throwable unwrap(Throwable e) {
+		return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+	}
+
+	/**
+	 * A row bound to a {@link Statement}.
+	 */
+	static class IngestRow {
+
+		final long index;
+
+		final Object[] values;
+
+		final @Nullable Statement<?> statement;
+
+		final @Nullable Token token;
+
+		final @Nullable Throwable bindFailure;
+
+		private IngestRow(long index, Object[] values, @Nullable Statement<?> statement, @Nullable Token token,
+				@Nullable Throwable bindFailure) {
+
+			this.index = index;
+			this.values = values;
+			this.statement = statement;
+			this.token = token;
+			this.bindFailure = bindFailure;
+		}
+	}
+
+	/**
+	 * Mutable aggregate of ingested rows. Not thread-safe.
+	 */
+	static class Aggregate {
+
+		private final long startNanos = System.nanoTime();
+
+		private final List<RowFailure> failures = new ArrayList<>();
+
+		private long rowCount;
+
+		Aggregate succeeded() {
+
+			this.rowCount++;
+			return this;
+		}
+
+		Aggregate failed(IngestRow row, Throwable cause) {
+
+			this.rowCount++;
+			this.failures.add(new RowFailure(row.index, row.values, cause));
+			return this;
+		}
+
+		IngestResult toResult() {
+
+			this.failures.sort(Comparator.comparingLong(RowFailure::getIndex));
+
+			return new IngestResult(this.rowCount, this.failures, Duration.ofNanos(System.nanoTime() - this.startNanos));
+		}
+	}
+}
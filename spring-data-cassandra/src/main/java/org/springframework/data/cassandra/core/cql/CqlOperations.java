@@ -18,6 +18,9 @@ package org.springframework.data.cassandra.core.cql;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
 
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
@@ -312,6 +315,125 @@ public interface CqlOperations {
 	 */
 	<T> List<T> queryForList(String cql, Class<T> elementType, Object... args) throws DataAccessException;
 
+	/**
+	 * Execute a query given static CQL reading a single numeric column into a {@code long[]} without boxing. Values of
+	 * {@code bigint}, {@code counter}, {@code time}, {@code int}, {@code smallint} and {@code tinyint} columns are read
+	 * through the primitive getters of {@link Row}; {@literal null} values are read as {@literal 0}.
+	 * <p>
+	 * Uses a CQL Statement, not a {@link PreparedStatement}.
+	 *
+	 * @param cql static CQL to execute, must not be empty or {@literal null}.
+	 * @return the column values in row order.
+	 * @throws IncorrectResultSetColumnCountException if the result does not contain exactly one column.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 * @see #queryForList(String, Class)
+	 */
+	long[] queryForLongArray(String cql) throws DataAccessException;
+
+	/**
+	 * Query given CQL to create a prepared statement from CQL and a list of arguments to bind to the query reading a
+	 * single numeric column into a {@code long[]} without boxing.
+	 *
+	 * @param cql static CQL to execute, must not be empty or {@literal null}.
+	 * @param args arguments to bind to the query (leaving it to the {@link PreparedStatement} to guess the corresponding
+	 *          CQL type).
+	 * @return the column values in row order.
+	 * @throws IncorrectResultSetColumnCountException if the result does not contain exactly one column.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 * @see #queryForLongArray(String)
+	 */
+	long[] queryForLongArray(String cql, Object... args) throws DataAccessException;
+
+	/**
+	 * Execute a query given static CQL reading a single numeric column into a {@code double[]} without boxing. Values of
+	 * {@code double} and {@code float} columns and the integral types supported by {@link #queryForLongArray(String)}
+	 * are read through the primitive getters of {@link Row}; {@literal null} values are read as {@literal 0}.
+	 * <p>
+	 * Uses a CQL Statement, not a {@link PreparedStatement}.
+	 *
+	 * @param cql static CQL to execute, must not be empty or {@literal null}.
+	 * @return the column values in row order.
+	 * @throws IncorrectResultSetColumnCountException if the result does not contain exactly one column.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 */
+	double[] queryForDoubleArray(String cql) throws DataAccessException;
+
+	/**
+	 * Query given CQL to create a prepared statement from CQL and a list of arguments to bind to the query reading a
+	 * single numeric column into a {@code double[]} without boxing.
+	 *
+	 * @param cql static CQL to execute, must not be empty or {@literal null}.
+	 * @param args arguments to bind to the query (leaving it to the {@link PreparedStatement} to guess the corresponding
+	 *          CQL type).
+	 * @return the column values in row order.
+	 * @throws IncorrectResultSetColumnCountException if the result does not contain exactly one column.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 * @see #queryForDoubleArray(String)
+	 */
+	double[] queryForDoubleArray(String cql, Object... args) throws DataAccessException;
+
+	/**
+	 * Execute a query given static CQL passing a single numeric column of each row to {@link LongConsumer} without
+	 * boxing or materializing the result.
+	 * <p>
+	 * Uses a CQL Statement, not a {@link PreparedStatement}.
+	 *
+	 * @param cql static CQL to execute, must not be empty or {@literal null}.
+	 * @param consumer the consumer to receive each value, must not be {@literal null}.
+	 * @throws IncorrectResultSetColumnCountException if the result does not contain exactly one column.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 * @see #queryForLongArray(String)
+	 */
+	void forEachLong(String cql, LongConsumer consumer) throws DataAccessException;
+
+	/**
+	 * Query given CQL to create a prepared statement from CQL and a list of arguments to bind to the query passing a
+	 * single numeric column of each row to {@link LongConsumer} without boxing or materializing the result.
+	 *
+	 * @param cql static CQL to execute, must not be empty or {@literal null}.
+	 * @param consumer the consumer to receive each value, must not be {@literal null}.
+	 * @param args arguments to bind to the query (leaving it to the {@link PreparedStatement} to guess the corresponding
+	 *          CQL type).
+	 * @throws IncorrectResultSetColumnCountException if the result does not contain exactly one column.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 */
+	void forEachLong(String cql, LongConsumer consumer, Object... args) throws DataAccessException;
+
+	/**
+	 * Execute a query given static CQL passing a single numeric column of each row to {@link DoubleConsumer} without
+	 * boxing or materializing the result.
+	 * <p>
+	 * Uses a CQL Statement, not a {@link PreparedStatement}.
+	 *
+	 * @param cql static CQL to execute, must not be empty or {@literal null}.
+	 * @param consumer the consumer to receive each value, must not be {@literal null}.
+	 * @throws IncorrectResultSetColumnCountException if the result does not contain exactly one column.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 * @see #queryForDoubleArray(String)
+	 */
+	void forEachDouble(String cql, DoubleConsumer consumer) throws DataAccessException;
+
+	/**
+	 * Query given CQL to create a prepared statement from CQL and a list of arguments to bind to the query passing a
+	 * single numeric column of each row to {@link DoubleConsumer} without boxing or materializing the result.
+	 *
+	 * @param cql static CQL to execute, must not be empty or {@literal null}.
+	 * @param consumer the consumer to receive each value, must not be {@literal null}.
+	 * @param args arguments to bind to the query (leaving it to the {@link PreparedStatement} to guess the corresponding
+	 *          CQL type).
+	 * @throws IncorrectResultSetColumnCountException if the result does not contain exactly one column.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 */
+	void forEachDouble(String cql, DoubleConsumer consumer, Object... args) throws DataAccessException;
+
 	/**
 	 * Execute a query for a result Map, given static CQL.
 	 * <p>
@@ -573,6 +695,54 @@ public interface CqlOperations {
 	 */
 	<T> List<T> queryForList(Statement<?> statement, Class<T> elementType) throws DataAccessException;
 
+	/**
+	 * Execute a query given a {@link Statement} reading a single numeric column into a {@code long[]} without boxing.
+	 *
+	 * @param statement static CQL {@link Statement}, must not be {@literal null}.
+	 * @return the column values in row order.
+	 * @throws IncorrectResultSetColumnCountException if the result does not contain exactly one column.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 * @see #queryForLongArray(String)
+	 */
+	long[] queryForLongArray(Statement<?> statement) throws DataAccessException;
+
+	/**
+	 * Execute a query given a {@link Statement} reading a single numeric column into a {@code double[]} without boxing.
+	 *
+	 * @param statement static CQL {@link Statement}, must not be {@literal null}.
+	 * @return the column values in row order.
+	 * @throws IncorrectResultSetColumnCountException if the result does not contain exactly one column.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 * @see #queryForDoubleArray(String)
+	 */
+	double[] queryForDoubleArray(Statement<?> statement) throws DataAccessException;
+
+	/**
+	 * Execute a query given a {@link Statement} passing a single numeric column of each row to {@link LongConsumer}
+	 * without boxing or materializing the result.
+	 *
+	 * @param statement static CQL {@link Statement}, must not be {@literal null}.
+	 * @param consumer the consumer to receive each value, must not be {@literal null}.
+	 * @throws IncorrectResultSetColumnCountException if the result does not contain exactly one column.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 */
+	void forEachLong(Statement<?> statement, LongConsumer consumer) throws DataAccessException;
+
+	/**
+	 * Execute a query given a {@link Statement} passing a single numeric column of each row to {@link DoubleConsumer}
+	 * without boxing or materializing the result.
+	 *
+	 * @param statement static CQL {@link Statement}, must not be {@literal null}.
+	 * @param consumer the consumer to receive each value, must not be {@literal null}.
+	 * @throws IncorrectResultSetColumnCountException if the result does not contain exactly one column.
+	 * @throws DataAccessException if there is any problem executing the query.
+	 * @since 3.1
+	 */
+	void forEachDouble(Statement<?> statement, DoubleConsumer consumer) throws DataAccessException;
+
 	/**
 	 * Execute a query for a result Map, given static CQL.
 	 * <p>
@@ -777,6 +947,66 @@ public interface CqlOperations {
 	<T> List<T> query(PreparedStatementCreator preparedStatementCreator, @Nullable PreparedStatementBinder psb,
 			RowMapper<T> rowMapper) throws DataAccessException;
 
+	// -------------------------------------------------------------------------
+	// Methods dealing with bulk ingestion
+	// -------------------------------------------------------------------------
+
+	/**
+	 * Ingest rows using a single CQL statement with bind markers, such as an insert statement. The statement is prepared
+	 * once and executed asynchronously for each row using {@link IngestOptions#defaults() default options}. Failures of
+	 * individual rows are reported through {@link IngestResult#getFailures()} and do not abort the ingestion.
+	 *
+	 * @param cql CQL statement with bind markers, must not be empty or {@literal null}.
+	 * @param rows row values to bind to the statement, must not be {@literal null}.
+	 * @return the {@link IngestResult}.
+	 * @throws DataAccessException if the statement cannot be prepared or iterating over {@code rows} fails.
+	 * @since 3.1
+	 */
+	IngestResult ingest(String cql, Iterable<Object[]> rows) throws DataAccessException;
+
+	/**
+	 * Ingest rows using a single CQL statement with bind markers, such as an insert statement. The statement is prepared
+	 * once and executed asynchronously for each row keeping up to {@link IngestOptions#getConcurrency()} statements in
+	 * flight. Rows are pulled from {@code rows} and bound on the calling thread, which blocks while the concurrency
+	 * window is full. Failures of individual rows are reported through {@link IngestResult#getFailures()} and do not
+	 * abort the ingestion.
+	 *
+	 * @param cql CQL statement with bind markers, must not be empty or {@literal null}.
+	 * @param rows row values to bind to the statement, must not be {@literal null}.
+	 * @param options ingestion options, must not be {@literal null}.
+	 * @return the {@link IngestResult}.
+	 * @throws DataAccessException if the statement cannot be prepared or iterating over {@code rows} fails.
+	 * @since 3.1
+	 */
+	IngestResult ingest(String cql, Iterable<Object[]> rows, IngestOptions options) throws DataAccessException;
+
+	/**
+	 * Ingest rows from a {@link Stream} using a single CQL statement with bind markers. The {@link Stream} is consumed
+	 * lazily and closed after ingestion.
+	 *
+	 * @param cql CQL statement with bind markers, must not be empty or {@literal null}.
+	 * @param rows row values to bind to the statement, must not be {@literal null}.
+	 * @return the {@link IngestResult}.
+	 * @throws DataAccessException if the statement cannot be prepared or consuming {@code rows} fails.
+	 * @since 3.1
+	 * @see #ingest(String, Iterable)
+	 */
+	IngestResult ingest(String cql, Stream<Object[]> rows) throws DataAccessException;
+
+	/**
+	 * Ingest rows from a {@link Stream} using a single CQL statement with bind markers. The {@link Stream} is consumed
+	 * lazily and closed after ingestion.
+	 *
+	 * @param cql CQL statement with bind markers, must not be empty or {@literal null}.
+	 * @param rows row values to bind to the statement, must not be {@literal null}.
+	 * @param options ingestion options, must not be {@literal null}.
+	 * @return the {@link IngestResult}.
+	 * @throws DataAccessException if the statement cannot be prepared or consuming {@code rows} fails.
+	 * @since 3.1
+	 * @see #ingest(String, Iterable, IngestOptions)
+	 */
+	IngestResult ingest(String cql, Stream<Object[]> rows, IngestOptions options) throws DataAccessException;
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with cluster metadata
 	// -------------------------------------------------------------------------
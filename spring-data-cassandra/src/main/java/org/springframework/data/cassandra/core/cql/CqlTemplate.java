@@ -18,7 +18,10 @@ package org.springframework.data.cassandra.core.cql;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.DoubleConsumer;
 import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import com.datastax.oss.driver.api.core.CqlSession;
@@ -32,6 +35,7 @@ import com.datastax.oss.driver.api.core.metadata.Node;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.data.cassandra.SessionFactory;
+import org.springframework.data.cassandra.core.cql.support.ResultSizeGuard;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -78,6 +82,12 @@ import org.springframework.util.Assert;
  */
 public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 
+	/**
+	 * If this variable is set to a value, results materialized into a {@link List} are bounded by this
+	 * {@link ResultSizeGuard}.
+	 */
+	private @Nullable ResultSizeGuard resultSizeGuard;
+
 	/**
 	 * Create a new, uninitialized {@link CqlTemplate}. Note: The {@link SessionFactory} has to be set before using the
 	 * instance.
@@ -112,6 +122,30 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		setSessionFactory(sessionFactory);
 	}
 
+	/**
+	 * Set the {@link ResultSizeGuard} to bound the number of rows and the estimated number of bytes of results that are
+	 * materialized into a {@link List} using a {@link RowMapper}. Queries exceeding a limit fail with
+	 * {@link org.springframework.data.cassandra.CassandraResultSizeExceededException} or return a truncated result
+	 * depending on the {@link ResultSizeGuard.Mode}. Individual queries can be guarded by passing a
+	 * {@link RowMapperResultSetExtractor} configured with a {@link ResultSizeGuard} to
+	 * {@link #query(Statement, ResultSetExtractor)}.
+	 *
+	 * @param resultSizeGuard the {@link ResultSizeGuard} to use, may be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setResultSizeGuard(@Nullable ResultSizeGuard resultSizeGuard) {
+		this.resultSizeGuard = resultSizeGuard;
+	}
+
+	/**
+	 * @return the {@link ResultSizeGuard} specified for this template.
+	 * @since 3.1
+	 */
+	@Nullable
+	public ResultSizeGuard getResultSizeGuard() {
+		return this.resultSizeGuard;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with a plain com.datastax.oss.driver.api.core.CqlSession
 	// -------------------------------------------------------------------------
@@ -167,6 +201,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 			Statement<?> statement = applyStatementSettings(newStatement(cql));
 
 			ResultSet results = getCurrentSession().execute(statement);
+			recordResponse(results);
 
 			return resultSetExtractor.extractData(results);
 		} catch (DriverException e) {
@@ -213,6 +248,50 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		return query(cql, newResultSetExtractor(newSingleColumnRowMapper(elementType)));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cqlOperations#queryForLongArray(java.lang.String)
+	 */
+	@Override
+	public long[] queryForLongArray(String cql) throws DataAccessException {
+		// noinspection ConstantConditions
+		return query(cql, PrimitiveResultSetExtractors.longArray());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cqlOperations#queryForDoubleArray(java.lang.String)
+	 */
+	@Override
+	public double[] queryForDoubleArray(String cql) throws DataAccessException {
+		// noinspection ConstantConditions
+		return query(cql, PrimitiveResultSetExtractors.doubleArray());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cqlOperations#forEachLong(java.lang.String, java.util.function.LongConsumer)
+	 */
+	@Override
+	public void forEachLong(String cql, LongConsumer consumer) throws DataAccessException {
+
+		Assert.notNull(consumer, "LongConsumer must not be null");
+
+		query(cql, PrimitiveResultSetExtractors.forEachLong(consumer));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cqlOperations#forEachDouble(java.lang.String, java.util.function.DoubleConsumer)
+	 */
+	@Override
+	public void forEachDouble(String cql, DoubleConsumer consumer) throws DataAccessException {
+
+		Assert.notNull(consumer, "DoubleConsumer must not be null");
+
+		query(cql, PrimitiveResultSetExtractors.forEachDouble(consumer));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.cqlOperations#queryForMap(java.lang.String)
@@ -290,7 +369,10 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 				logger.debug("Executing CQL Statement [{}]", statement);
 			}
 
-			return resultSetExtractor.extractData(getCurrentSession().execute(applyStatementSettings(statement)));
+			ResultSet results = getCurrentSession().execute(applyStatementSettings(statement));
+			recordResponse(results);
+
+			return resultSetExtractor.extractData(results);
 		} catch (DriverException e) {
 			throw translateException("Query", statement.toString(), e);
 		}
@@ -335,6 +417,50 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		return query(statement, newResultSetExtractor(newSingleColumnRowMapper(elementType)));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cqlOperations#queryForLongArray(com.datastax.oss.driver.api.core.cql.Statement)
+	 */
+	@Override
+	public long[] queryForLongArray(Statement<?> statement) throws DataAccessException {
+		// noinspection ConstantConditions
+		return query(statement, PrimitiveResultSetExtractors.longArray());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cqlOperations#queryForDoubleArray(com.datastax.oss.driver.api.core.cql.Statement)
+	 */
+	@Override
+	public double[] queryForDoubleArray(Statement<?> statement) throws DataAccessException {
+		// noinspection ConstantConditions
+		return query(statement, PrimitiveResultSetExtractors.doubleArray());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cqlOperations#forEachLong(com.datastax.oss.driver.api.core.cql.Statement, java.util.function.LongConsumer)
+	 */
+	@Override
+	public void forEachLong(Statement<?> statement, LongConsumer consumer) throws DataAccessException {
+
+		Assert.notNull(consumer, "LongConsumer must not be null");
+
+		query(statement, PrimitiveResultSetExtractors.forEachLong(consumer));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cqlOperations#forEachDouble(com.datastax.oss.driver.api.core.cql.Statement, java.util.function.DoubleConsumer)
+	 */
+	@Override
+	public void forEachDouble(Statement<?> statement, DoubleConsumer consumer) throws DataAccessException {
+
+		Assert.notNull(consumer, "DoubleConsumer must not be null");
+
+		query(statement, PrimitiveResultSetExtractors.forEachDouble(consumer));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.cqlOperations#queryForMap(com.datastax.oss.driver.api.core.cql.Statement)
@@ -513,6 +639,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 					psb != null ? psb.bindValues(preparedStatement) : preparedStatement.bind());
 
 			ResultSet results = session.execute(boundStatement);
+			recordResponse(results);
 
 			return resultSetExtractor.extractData(results);
 
@@ -627,6 +754,54 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 				newResultSetExtractor(newSingleColumnRowMapper(elementType)));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cqlOperations#queryForLongArray(java.lang.String, java.lang.Object[])
+	 */
+	@Override
+	public long[] queryForLongArray(String cql, Object... args) throws DataAccessException {
+		// noinspection ConstantConditions
+		return query(newPreparedStatementCreator(cql), newPreparedStatementBinder(args),
+				PrimitiveResultSetExtractors.longArray());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cqlOperations#queryForDoubleArray(java.lang.String, java.lang.Object[])
+	 */
+	@Override
+	public double[] queryForDoubleArray(String cql, Object... args) throws DataAccessException {
+		// noinspection ConstantConditions
+		return query(newPreparedStatementCreator(cql), newPreparedStatementBinder(args),
+				PrimitiveResultSetExtractors.doubleArray());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cqlOperations#forEachLong(java.lang.String, java.util.function.LongConsumer, java.lang.Object[])
+	 */
+	@Override
+	public void forEachLong(String cql, LongConsumer consumer, Object... args) throws DataAccessException {
+
+		Assert.notNull(consumer, "LongConsumer must not be null");
+
+		query(newPreparedStatementCreator(cql), newPreparedStatementBinder(args),
+				PrimitiveResultSetExtractors.forEachLong(consumer));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cqlOperations#forEachDouble(java.lang.String, java.util.function.DoubleConsumer, java.lang.Object[])
+	 */
+	@Override
+	public void forEachDouble(String cql, DoubleConsumer consumer, Object... args) throws DataAccessException {
+
+		Assert.notNull(consumer, "DoubleConsumer must not be null");
+
+		query(newPreparedStatementCreator(cql), newPreparedStatementBinder(args),
+				PrimitiveResultSetExtractors.forEachDouble(consumer));
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.cqlOperations#queryForMap(java.lang.String, java.lang.Object[])
@@ -674,6 +849,73 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		return () -> queryForResultSet(cql, args).iterator();
 	}
 
+	// -------------------------------------------------------------------------
+	// Methods dealing with bulk ingestion
+	// -------------------------------------------------------------------------
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.CqlOperations#ingest(java.lang.String, java.lang.Iterable)
+	 */
+	@Override
+	public IngestResult ingest(String cql, Iterable<Object[]> rows) throws DataAccessException {
+		return ingest(cql, rows, IngestOptions.defaults());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.CqlOperations#ingest(java.lang.String, java.lang.Iterable, org.springframework.data.cassandra.core.cql.IngestOptions)
+	 */
+	@Override
+	public IngestResult ingest(String cql, Iterable<Object[]> rows, IngestOptions options) throws DataAccessException {
+
+		Assert.hasText(cql, "CQL must not be empty");
+		Assert.notNull(rows, "Rows must not be null");
+		Assert.notNull(options, "IngestOptions must not be null");
+
+		try {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Ingesting rows using CQL statement [{}]", cql);
+			}
+
+			CqlSession session = getCurrentSession();
+			PreparedStatement preparedStatement = newPreparedStatementCreator(cql).createPreparedStatement(session);
+
+			CqlIngester ingester = new CqlIngester(rows.iterator(), options,
+					values -> newPreparedStatementBinder(values).bindValues(preparedStatement),
+					statement -> session.executeAsync(applyStatementSettings(statement)),
+					e -> e instanceof DriverException ? translate("Ingest", cql, (DriverException) e) : e,
+					options.isGroupByRoutingToken() ? session.getMetadata().getTokenMap().orElse(null) : null);
+
+			return ingester.ingest();
+		} catch (DriverException e) {
+			throw translateException("Ingest", cql, e);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.CqlOperations#ingest(java.lang.String, java.util.stream.Stream)
+	 */
+	@Override
+	public IngestResult ingest(String cql, Stream<Object[]> rows) throws DataAccessException {
+		return ingest(cql, rows, IngestOptions.defaults());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.CqlOperations#ingest(java.lang.String, java.util.stream.Stream, org.springframework.data.cassandra.core.cql.IngestOptions)
+	 */
+	@Override
+	public IngestResult ingest(String cql, Stream<Object[]> rows, IngestOptions options) throws DataAccessException {
+
+		Assert.notNull(rows, "Rows must not be null");
+
+		try (Stream<Object[]> stream = rows) {
+			return ingest(cql, (Iterable<Object[]>) stream::iterator, options);
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.data.cassandra.core.cqlOperations#describeRing()
@@ -754,7 +996,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 	 * @see RowMapperResultSetExtractor
 	 */
 	protected <T> RowMapperResultSetExtractor<T> newResultSetExtractor(RowMapper<T> rowMapper) {
-		return new RowMapperResultSetExtractor<>(rowMapper);
+		return new RowMapperResultSetExtractor<>(rowMapper, 0, getResultSizeGuard());
 	}
 
 	/**
@@ -769,7 +1011,7 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 	 * @see RowMapperResultSetExtractor
 	 */
 	protected <T> RowMapperResultSetExtractor<T> newResultSetExtractor(RowMapper<T> rowMapper, int rowsExpected) {
-		return new RowMapperResultSetExtractor<>(rowMapper, rowsExpected);
+		return new RowMapperResultSetExtractor<>(rowMapper, rowsExpected, getResultSizeGuard());
 	}
 
 	private CqlSession getCurrentSession() {
@@ -781,6 +1023,17 @@ public class CqlTemplate extends CassandraAccessor implements CqlOperations {
 		return sessionFactory.getSession();
 	}
 
+	private void recordResponse(ResultSet resultSet) {
+
+		if (getAdaptivePageSizer() != null) {
+			recordPage(resultSet.getExecutionInfo(), resultSet.getAvailableWithoutFetching());
+		}
+
+		if (getServerWarningMonitor() != null) {
+			recordWarnings(resultSet.getExecutionInfo());
+		}
+	}
+
 	/**
 	 * Adapter to enable use of a {@link RowCallbackHandler} inside a {@link ResultSetExtractor}.
 	 */
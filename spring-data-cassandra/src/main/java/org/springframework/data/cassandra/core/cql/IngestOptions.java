@@ -0,0 +1,132 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import org.springframework.util.Assert;
+
+/**
+ * Options for bulk ingestion through {@link CqlOperations#ingest(String, Iterable, IngestOptions)} and its
+ * asynchronous and reactive variants.
+ *
+ * @author agent
+ * @since 3.1
+ * @see IngestResult
+ */
+public class IngestOptions {
+
+	private static final IngestOptions DEFAULTS = builder().build();
+
+	private final int concurrency;
+
+	private final int groupingWindow;
+
+	private IngestOptions(int concurrency, int groupingWindow) {
+
+		this.concurrency = concurrency;
+		this.groupingWindow = groupingWindow;
+	}
+
+	/**
+	 * Create default {@link IngestOptions} executing up to {@literal 32} statements concurrently without routing token
+	 * grouping.
+	 *
+	 * @return default {@link IngestOptions}.
+	 */
+	public static IngestOptions defaults() {
+		return DEFAULTS;
+	}
+
+	/**
+	 * Create a new {@link IngestOptionsBuilder}.
+	 *
+	 * @return a new {@link IngestOptionsBuilder}.
+	 */
+	public static IngestOptionsBuilder builder() {
+		return new IngestOptionsBuilder();
+	}
+
+	/**
+	 * @return the maximum number of concurrently executing statements.
+	 */
+	public int getConcurrency() {
+		return this.concurrency;
+	}
+
+	/**
+	 * @return the number of rows to buffer and order by routing token, {@literal 0} if rows are not grouped.
+	 */
+	public int getGroupingWindow() {
+		return this.groupingWindow;
+	}
+
+	/**
+	 * @return {@literal true} if rows are grouped by routing token.
+	 */
+	public boolean isGroupByRoutingToken() {
+		return this.groupingWindow > 0;
+	}
+
+	/**
+	 * Builder for {@link IngestOptions}.
+	 */
+	public static class IngestOptionsBuilder {
+
+		private int concurrency = 32;
+
+		private int groupingWindow;
+
+		private IngestOptionsBuilder() {}
+
+		/**
+		 * Set the maximum number of concurrently executing statements.
+		 *
+		 * @param concurrency must be greater than zero.
+		 * @return {@code this} {@link IngestOptionsBuilder}.
+		 */
+		public IngestOptionsBuilder concurrency(int concurrency) {
+
+			Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero");
+
+			this.concurrency = concurrency;
+			return this;
+		}
+
+		/**
+		 * Group rows by routing token. Rows are buffered in windows of {@code groupingWindow} rows and each window is
+		 * executed in token order so that consecutive statements target the same replicas. Requires token metadata;
+		 * rows are ingested in input order if token metadata is not available.
+		 *
+		 * @param groupingWindow number of rows to buffer, must be greater than zero.
+		 * @return {@code this} {@link IngestOptionsBuilder}.
+		 */
+		public IngestOptionsBuilder groupByRoutingToken(int groupingWindow) {
+
+			Assert.isTrue(groupingWindow > 0, "Grouping window must be greater than zero");
+
+			this.groupingWindow = groupingWindow;
+			return this;
+		}
+
+		/**
+		 * Build {@link IngestOptions}.
+		 *
+		 * @return a new {@link IngestOptions} with the configured values.
+		 */
+		public IngestOptions build() {
+			return new IngestOptions(this.concurrency, this.groupingWindow);
+		}
+	}
+}
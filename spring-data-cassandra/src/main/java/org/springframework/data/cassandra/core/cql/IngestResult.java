@@ -0,0 +1,146 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a bulk ingestion reporting the number of ingested rows, throughput and per-row failures. Failures of
+ * individual rows do not abort the ingestion.
+ *
+ * @author agent
+ * @since 3.1
+ * @see CqlOperations#ingest(String, Iterable)
+ */
+public class IngestResult {
+
+	private final long rowCount;
+
+	private final List<RowFailure> failures;
+
+	private final Duration duration;
+
+	IngestResult(long rowCount, List<RowFailure> failures, Duration duration) {
+
+		this.rowCount = rowCount;
+		this.failures = Collections.unmodifiableList(failures);
+		this.duration = duration;
+	}
+
+	/**
+	 * @return the total number of rows consumed from the input.
+	 */
+	public long getRowCount() {
+		return this.rowCount;
+	}
+
+	/**
+	 * @return the number of successfully ingested rows.
+	 */
+	public long getSuccessCount() {
+		return this.rowCount - this.failures.size();
+	}
+
+	/**
+	 * @return the number of rows that failed.
+	 */
+	public long getFailureCount() {
+		return this.failures.size();
+	}
+
+	/**
+	 * @return {@literal true} if at least one row failed.
+	 */
+	public boolean hasFailures() {
+		return !this.failures.isEmpty();
+	}
+
+	/**
+	 * @return the failed rows ordered by their input position.
+	 */
+	public List<RowFailure> getFailures() {
+		return this.failures;
+	}
+
+	/**
+	 * @return the elapsed time from starting the ingestion until the last row completed.
+	 */
+	public Duration getDuration() {
+		return this.duration;
+	}
+
+	/**
+	 * @return the throughput in rows per second.
+	 */
+	public double getRowsPerSecond() {
+
+		long nanos = this.duration.toNanos();
+
+		return nanos == 0 ? 0 : this.rowCount * 1_000_000_000d / nanos;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("IngestResult [rows=%d, failures=%d, duration=%s, rows/s=%.1f]", this.rowCount,
+				this.failures.size(), this.duration, getRowsPerSecond());
+	}
+
+	/**
+	 * Failure of a single row.
+	 */
+	public static class RowFailure {
+
+		private final long index;
+
+		private final Object[] values;
+
+		private final Throwable cause;
+
+		RowFailure(long index, Object[] values, Throwable cause) {
+
+			this.index = index;
+			this.values = values;
+			this.cause = cause;
+		}
+
+		/**
+		 * @return the zero-based position of the row in the input.
+		 */
+		public long getIndex() {
+			return this.index;
+		}
+
+		/**
+		 * @return the row values.
+		 */
+		public Object[] getValues() {
+			return this.values;
+		}
+
+		/**
+		 * @return the failure cause, typically a translated {@link org.springframework.dao.DataAccessException}.
+		 */
+		public Throwable getCause() {
+			return this.cause;
+		}
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+
+import org.springframework.dao.TypeMismatchDataAccessException;
+
+/**
+ * {@link ResultSetExtractor Extractors} reading a single numeric column through the primitive getters of {@link Row}
+ * without boxing. The accessor is resolved once per {@link ResultSet} from the column type. {@literal null} values are
+ * read as {@literal 0} following the semantics of {@link Row#getLong(int)} and {@link Row#getDouble(int)}.
+ *
+ * @author agent
+ * @since 3.1
+ */
+abstract class PrimitiveResultSetExtractors {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private PrimitiveResultSetExtractors() {}
+
+	/**
+	 * @return a {@link ResultSetExtractor} collecting the single column into a {@code long[]}.
+	 */
+	static ResultSetExtractor<long[]> longArray() {
+
+		return resultSet -> {
+
+			ToLongFunction<Row> accessor = getLongAccessor(resultSet);
+			long[] buffer = new long[Math.max(resultSet.getAvailableWithoutFetching(), INITIAL_CAPACITY)];
+			int size = 0;
+
+			for (Row row : resultSet) {
+
+				if (size == buffer.length) {
+					buffer = Arrays.copyOf(buffer, buffer.length << 1);
+				}
+
+				buffer[size++] = accessor.applyAsLong(row);
+			}
+
+			return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+		};
+	}
+
+	/**
+	 * @return a {@link ResultSetExtractor} collecting the single column into a {@code double[]}.
+	 */
+	static ResultSetExtractor<double[]> doubleArray() {
+
+		return resultSet -> {
+
+			ToDoubleFunction<Row> accessor = getDoubleAccessor(resultSet);
+			double[] buffer = new double[Math.max(resultSet.getAvailableWithoutFetching(), INITIAL_CAPACITY)];
+			int size = 0;
+
+			for (Row row : resultSet) {
+
+				if (size == buffer.length) {
+					buffer = Arrays.copyOf(buffer, buffer.length << 1);
+				}
+
+				buffer[size++] = accessor.applyAsDouble(row);
+			}
+
+			return size == buffer.length ? buffer : Arrays.copyOf(buffer, size);
+		};
+	}
+
+	/**
+	 * @param consumer the consumer to receive each value.
+	 * @return a {@link ResultSetExtractor} passing the single column of each row to {@link LongConsumer}.
+	 */
+	static ResultSetExtractor<Void> forEachLong(LongConsumer consumer) {
+
+		return resultSet -> {
+
+			ToLongFunction<Row> accessor = getLongAccessor(resultSet);
+
+			for (Row row : resultSet) {
+				consumer.accept(accessor.applyAsLong(row));
+			}
+
+			return null;
+		};
+	}
+
+	/**
+	 * @param consumer the consumer to receive each value.
+	 * @return a {@link ResultSetExtractor} passing the single column of each row to {@link DoubleConsumer}.
+	 */
+	static ResultSetExtractor<Void> forEachDouble(DoubleConsumer consumer) {
+
+		return resultSet -> {
+
+			ToDoubleFunction<Row> accessor = getDoubleAccessor(resultSet);
+
+			for (Row row : resultSet) {
+				consumer.accept(accessor.applyAsDouble(row));
+			}
+
+			return null;
+		};
+	}
+
+	private static ToLongFunction<Row> getLongAccessor(ResultSet resultSet) {
+
+		DataType type = getRequiredSingleColumnType(resultSet);
+
+		if (DataTypes.BIGINT.equals(type) || DataTypes.COUNTER.equals(type) || DataTypes.TIME.equals(type)) {
+			return row -> row.getLong(0);
+		}
+
+		if (DataTypes.INT.equals(type)) {
+			return row -> row.getInt(0);
+		}
+
+		if (DataTypes.SMALLINT.equals(type)) {
+			return row -> row.getShort(0);
+		}
+
+		if (DataTypes.TINYINT.equals(type)) {
+			return row -> row.getByte(0);
+		}
+
+		throw new TypeMismatchDataAccessException(String.format("Cannot read column of type %s as long", type));
+	}
+
+	private static ToDoubleFunction<Row> getDoubleAccessor(ResultSet resultSet) {
+
+		DataType type = getRequiredSingleColumnType(resultSet);
+
+		if (DataTypes.DOUBLE.equals(type)) {
+			return row -> row.getDouble(0);
+		}
+
+		if (DataTypes.FLOAT.equals(type)) {
+			return row -> row.getFloat(0);
+		}
+
+		ToLongFunction<Row> accessor = getLongAccessor(resultSet);
+
+		return accessor::applyAsLong;
+	}
+
+	private static DataType getRequiredSingleColumnType(ResultSet resultSet) {
+
+		ColumnDefinitions columnDefinitions = resultSet.getColumnDefinitions();
+
+		if (columnDefinitions.size() != 1) {
+			throw new IncorrectResultSetColumnCountException(1, columnDefinitions.size());
+		}
+
+		return columnDefinitions.get(0).getType();
+	}
+}
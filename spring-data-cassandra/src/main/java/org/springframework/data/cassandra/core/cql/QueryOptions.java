@@ -48,9 +48,20 @@ public class QueryOptions {
 
 	private final @Nullable Boolean tracing;
 
+	private final @Nullable Boolean idempotent;
+
 	protected QueryOptions(@Nullable ConsistencyLevel consistencyLevel, ExecutionProfileResolver executionProfileResolver,
 			@Nullable Integer pageSize, @Nullable ConsistencyLevel serialConsistencyLevel, Duration timeout,
 			@Nullable Boolean tracing) {
+		this(consistencyLevel, executionProfileResolver, pageSize, serialConsistencyLevel, timeout, tracing, null);
+	}
+
+	/**
+	 * @since 3.1
+	 */
+	protected QueryOptions(@Nullable ConsistencyLevel consistencyLevel, ExecutionProfileResolver executionProfileResolver,
+			@Nullable Integer pageSize, @Nullable ConsistencyLevel serialConsistencyLevel, Duration timeout,
+			@Nullable Boolean tracing, @Nullable Boolean idempotent) {
 
 		this.consistencyLevel = consistencyLevel;
 		this.executionProfileResolver = executionProfileResolver;
@@ -58,6 +69,7 @@ public class QueryOptions {
 		this.serialConsistencyLevel = serialConsistencyLevel;
 		this.timeout = timeout;
 		this.tracing = tracing;
+		this.idempotent = idempotent;
 	}
 
 	/**
@@ -154,6 +166,16 @@ public class QueryOptions {
 		return this.tracing;
 	}
 
+	/**
+	 * @return whether the statement is idempotent. May be {@literal null} if not set.
+	 * @since 3.1
+	 * @see com.datastax.oss.driver.api.core.cql.Statement#setIdempotent(Boolean)
+	 */
+	@Nullable
+	protected Boolean getIdempotent() {
+		return this.idempotent;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#equals(java.lang.Object)
@@ -191,7 +213,11 @@ public class QueryOptions {
 			return false;
 		}
 
-		return ObjectUtils.nullSafeEquals(tracing, options.tracing);
+		if (!ObjectUtils.nullSafeEquals(tracing, options.tracing)) {
+			return false;
+		}
+
+		return ObjectUtils.nullSafeEquals(idempotent, options.idempotent);
 	}
 
 	/*
@@ -206,6 +232,7 @@ public class QueryOptions {
 		result = 31 * result + ObjectUtils.nullSafeHashCode(serialConsistencyLevel);
 		result = 31 * result + ObjectUtils.nullSafeHashCode(timeout);
 		result = 31 * result + ObjectUtils.nullSafeHashCode(tracing);
+		result = 31 * result + ObjectUtils.nullSafeHashCode(idempotent);
 		return result;
 	}
 
@@ -229,6 +256,8 @@ public class QueryOptions {
 
 		protected @Nullable Boolean tracing;
 
+		protected @Nullable Boolean idempotent;
+
 		QueryOptionsBuilder() {}
 
 		QueryOptionsBuilder(QueryOptions queryOptions) {
@@ -239,6 +268,7 @@ public class QueryOptions {
 			this.serialConsistencyLevel = queryOptions.serialConsistencyLevel;
 			this.timeout = queryOptions.timeout;
 			this.tracing = queryOptions.tracing;
+			this.idempotent = queryOptions.idempotent;
 		}
 
 		/**
@@ -430,6 +460,23 @@ public class QueryOptions {
 			return tracing(true);
 		}
 
+		/**
+		 * Sets whether the statement is idempotent. Idempotent statements can be retried or executed speculatively by the
+		 * driver. Statements created through {@link org.springframework.data.cassandra.core.StatementFactory} are marked
+		 * idempotent automatically if they are safe to be retried. Setting this option overrides the inferred value.
+		 *
+		 * @param idempotent {@literal true} to mark the statement as idempotent.
+		 * @return {@code this} {@link QueryOptionsBuilder}
+		 * @since 3.1
+		 * @see com.datastax.oss.driver.api.core.cql.Statement#setIdempotent(Boolean)
+		 */
+		public QueryOptionsBuilder idempotent(boolean idempotent) {
+
+			this.idempotent = idempotent;
+
+			return this;
+		}
+
 		/**
 		 * Builds a new {@link QueryOptions} with the configured values.
 		 *
@@ -437,7 +484,7 @@ public class QueryOptions {
 		 */
 		public QueryOptions build() {
 			return new QueryOptions(this.consistencyLevel, this.executionProfileResolver, this.pageSize,
-					this.serialConsistencyLevel, this.timeout, this.tracing);
+					this.serialConsistencyLevel, this.timeout, this.tracing, this.idempotent);
 		}
 	}
 }
@@ -17,13 +17,19 @@ package org.springframework.data.cassandra.core.cql;
 
 import java.time.Duration;
 
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.cql.StatementBuilder;
 import com.datastax.oss.driver.api.querybuilder.delete.Delete;
 import com.datastax.oss.driver.api.querybuilder.delete.DeleteSelection;
 import com.datastax.oss.driver.api.querybuilder.insert.Insert;
 import com.datastax.oss.driver.api.querybuilder.update.Update;
 import com.datastax.oss.driver.api.querybuilder.update.UpdateStart;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -36,7 +42,8 @@ import org.springframework.util.Assert;
 public abstract class QueryOptionsUtil {
 
 	/**
-	 * Add common {@link QueryOptions} to all types of queries.
+	 * Add common {@link QueryOptions} to all types of queries. Options are applied in a single pass to avoid
+	 * intermediate copies of the immutable {@link Statement}.
 	 *
 	 * @param statement CQL {@link Statement}, must not be {@literal null}.
 	 * @param queryOptions query options (e.g. consistency level) to add to the CQL statement.
@@ -47,34 +54,182 @@ public abstract class QueryOptionsUtil {
 
 		Assert.notNull(statement, "Statement must not be null");
 
+		Statement<?> statementToUse = applySettings(statement, queryOptions.getConsistencyLevel(),
+				queryOptions.getSerialConsistencyLevel(), queryOptions.getPageSize(),
+				queryOptions.getTimeout().isNegative() ? null : queryOptions.getTimeout(), queryOptions.getTracing(),
+				queryOptions.getIdempotent());
+
+		return (T) queryOptions.getExecutionProfileResolver().apply(statementToUse);
+	}
+
+	/**
+	 * Add common {@link QueryOptions} to a {@link StatementBuilder}. Applying options to the builder before building the
+	 * {@link Statement} does not create any intermediate {@link Statement} objects. Note that the
+	 * {@link QueryOptions#getExecutionProfileResolver() execution profile} requires the built {@link Statement} and must
+	 * be applied separately.
+	 *
+	 * @param builder the {@link StatementBuilder}, must not be {@literal null}.
+	 * @param queryOptions query options (e.g. consistency level) to add to the statement builder.
+	 * @return the given {@link StatementBuilder}.
+	 * @since 3.1
+	 */
+	public static <B extends StatementBuilder<B, ?>> B addQueryOptions(B builder, QueryOptions queryOptions) {
+
+		Assert.notNull(builder, "StatementBuilder must not be null");
+		Assert.notNull(queryOptions, "QueryOptions must not be null");
+
+		return applySettings(builder, queryOptions.getConsistencyLevel(), queryOptions.getSerialConsistencyLevel(),
+				queryOptions.getPageSize(), queryOptions.getTimeout().isNegative() ? null : queryOptions.getTimeout(),
+				queryOptions.getTracing(), queryOptions.getIdempotent());
+	}
+
+	/**
+	 * Apply template-wide statement settings to a {@link Statement}. Settings are applied in a single pass to avoid
+	 * intermediate copies of the immutable {@link Statement}.
+	 *
+	 * @param statement CQL {@link Statement}, must not be {@literal null}.
+	 * @param consistencyLevel the consistency level to apply, may be {@literal null}.
+	 * @param serialConsistencyLevel the serial consistency level to apply, may be {@literal null}.
+	 * @param pageSize the page size to apply, negative values leave the page size unchanged.
+	 * @param executionProfileResolver the {@link ExecutionProfileResolver} to apply.
+	 * @return the {@link Statement} with settings applied.
+	 * @since 3.1
+	 */
+	static Statement<?> applyStatementSettings(Statement<?> statement, @Nullable ConsistencyLevel consistencyLevel,
+			@Nullable ConsistencyLevel serialConsistencyLevel, int pageSize,
+			ExecutionProfileResolver executionProfileResolver) {
+
+		Statement<?> statementToUse = applySettings(statement, consistencyLevel, serialConsistencyLevel,
+				pageSize > -1 ? pageSize : null, null, null, null);
+
+		return executionProfileResolver.apply(statementToUse);
+	}
+
+	private static Statement<?> applySettings(Statement<?> statement, @Nullable ConsistencyLevel consistencyLevel,
+			@Nullable ConsistencyLevel serialConsistencyLevel, @Nullable Integer pageSize, @Nullable Duration timeout,
+			@Nullable Boolean tracing, @Nullable Boolean idempotent) {
+
+		int changes = 0;
+
+		if (consistencyLevel != null && !consistencyLevel.equals(statement.getConsistencyLevel())) {
+			changes++;
+		} else {
+			consistencyLevel = null;
+		}
+
+		if (serialConsistencyLevel != null && !serialConsistencyLevel.equals(statement.getSerialConsistencyLevel())) {
+			changes++;
+		} else {
+			serialConsistencyLevel = null;
+		}
+
+		if (pageSize != null && pageSize != statement.getPageSize()) {
+			changes++;
+		} else {
+			pageSize = null;
+		}
+
+		if (timeout != null && !timeout.equals(statement.getTimeout())) {
+			changes++;
+		} else {
+			timeout = null;
+		}
+
+		if (tracing != null && tracing != statement.isTracing()) {
+			changes++;
+		} else {
+			tracing = null;
+		}
+
+		if (idempotent != null && !idempotent.equals(statement.isIdempotent())) {
+			changes++;
+		} else {
+			idempotent = null;
+		}
+
+		if (changes == 0) {
+			return statement;
+		}
+
+		// Statements are immutable and each setter call creates a copy. Use a builder to apply multiple settings at once.
+		if (changes > 1) {
+
+			if (statement instanceof SimpleStatement) {
+
+				SimpleStatement simpleStatement = (SimpleStatement) statement;
+
+				// SimpleStatementBuilder does not retain the keyspace of its template statement.
+				return applySettings(SimpleStatement.builder(simpleStatement).setKeyspace(simpleStatement.getKeyspace()),
+						consistencyLevel, serialConsistencyLevel, pageSize, timeout, tracing, idempotent).build();
+			}
+
+			if (statement instanceof BoundStatement) {
+				return applySettings(new BoundStatementBuilder((BoundStatement) statement), consistencyLevel,
+						serialConsistencyLevel, pageSize, timeout, tracing, idempotent).build();
+			}
+		}
+
 		Statement<?> statementToUse = statement;
 
-		if (queryOptions.getConsistencyLevel() != null) {
-			statementToUse = statementToUse.setConsistencyLevel(queryOptions.getConsistencyLevel());
+		if (consistencyLevel != null) {
+			statementToUse = statementToUse.setConsistencyLevel(consistencyLevel);
+		}
+
+		if (serialConsistencyLevel != null) {
+			statementToUse = statementToUse.setSerialConsistencyLevel(serialConsistencyLevel);
+		}
+
+		if (pageSize != null) {
+			statementToUse = statementToUse.setPageSize(pageSize);
+		}
+
+		if (timeout != null) {
+			statementToUse = statementToUse.setTimeout(timeout);
+		}
+
+		if (tracing != null) {
+			statementToUse = statementToUse.setTracing(tracing);
+		}
+
+		if (idempotent != null) {
+			statementToUse = statementToUse.setIdempotent(idempotent);
 		}
 
-		statementToUse = queryOptions.getExecutionProfileResolver().apply(statementToUse);
+		return statementToUse;
+	}
+
+	private static <B extends StatementBuilder<B, ?>> B applySettings(B builder,
+			@Nullable ConsistencyLevel consistencyLevel, @Nullable ConsistencyLevel serialConsistencyLevel,
+			@Nullable Integer pageSize, @Nullable Duration timeout, @Nullable Boolean tracing,
+			@Nullable Boolean idempotent) {
+
+		B builderToUse = builder;
+
+		if (consistencyLevel != null) {
+			builderToUse = builderToUse.setConsistencyLevel(consistencyLevel);
+		}
+
+		if (serialConsistencyLevel != null) {
+			builderToUse = builderToUse.setSerialConsistencyLevel(serialConsistencyLevel);
+		}
 
-		if (queryOptions.getPageSize() != null) {
-			statementToUse = statementToUse.setPageSize(queryOptions.getPageSize());
+		if (pageSize != null) {
+			builderToUse = builderToUse.setPageSize(pageSize);
 		}
 
-		if (queryOptions.getSerialConsistencyLevel() != null) {
-			statementToUse = statementToUse.setSerialConsistencyLevel(queryOptions.getSerialConsistencyLevel());
+		if (timeout != null) {
+			builderToUse = builderToUse.setTimeout(timeout);
 		}
 
-		if (!queryOptions.getTimeout().isNegative()) {
-			statementToUse = statementToUse.setTimeout(queryOptions.getTimeout());
+		if (tracing != null) {
+			builderToUse = builderToUse.setTracing(tracing);
 		}
 
-		if (queryOptions.getTracing() != null) {
-			// While the following statement is null-safe, avoid setting Statement tracing if the tracing query option
-			// is null since Statements are immutable and the call creates a new object.  Therefore keep the following
-			// statement wrapped in the conditional null check to avoid additional garbage and added GC pressure.
-			statementToUse = statementToUse.setTracing(Boolean.TRUE.equals(queryOptions.getTracing()));
+		if (idempotent != null) {
+			builderToUse = builderToUse.setIdempotence(idempotent);
 		}
 
-		return (T) statementToUse;
+		return builderToUse;
 	}
 
 	/**
@@ -22,9 +22,12 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.cassandra.ReactiveSession;
 import org.springframework.data.cassandra.ReactiveSessionFactory;
+import org.springframework.data.cassandra.core.cql.support.ServerWarningMonitor;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+
 /**
  * Base class for {@link ReactiveCqlTemplate} and other CQL-accessing DAO helpers, defining common properties such as
  * {@link ReactiveSessionFactory} and exception translator.
@@ -46,6 +49,8 @@ public abstract class ReactiveCassandraAccessor implements InitializingBean {
 
 	private @Nullable ReactiveSessionFactory sessionFactory;
 
+	private @Nullable ServerWarningMonitor serverWarningMonitor;
+
 	/**
 	 * Sets the {@link ReactiveSessionFactory} to use.
 	 *
@@ -93,6 +98,26 @@ public abstract class ReactiveCassandraAccessor implements InitializingBean {
 		return this.exceptionTranslator;
 	}
 
+	/**
+	 * Set the {@link ServerWarningMonitor} to aggregate warnings returned by Cassandra along with query responses.
+	 * Warnings are counted per table, query shape and warning type and logged in a rate-limited fashion.
+	 *
+	 * @param serverWarningMonitor the {@link ServerWarningMonitor} to use, may be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setServerWarningMonitor(@Nullable ServerWarningMonitor serverWarningMonitor) {
+		this.serverWarningMonitor = serverWarningMonitor;
+	}
+
+	/**
+	 * @return the {@link ServerWarningMonitor} specified for this template.
+	 * @since 3.1
+	 */
+	@Nullable
+	public ServerWarningMonitor getServerWarningMonitor() {
+		return this.serverWarningMonitor;
+	}
+
 	/**
 	 * Ensures the Cassandra {@link ReactiveSessionFactory} and exception translator has been properly set.
 	 */
@@ -101,6 +126,22 @@ public abstract class ReactiveCassandraAccessor implements InitializingBean {
 		Assert.notNull(sessionFactory, "ReactiveSessionFactory must not be null");
 	}
 
+	/**
+	 * Record the warnings of a response with the {@link ServerWarningMonitor}, if configured.
+	 *
+	 * @param executionInfo the {@link ExecutionInfo} of the response.
+	 * @since 3.1
+	 * @see #setServerWarningMonitor(ServerWarningMonitor)
+	 */
+	protected void recordWarnings(ExecutionInfo executionInfo) {
+
+		ServerWarningMonitor serverWarningMonitor = getServerWarningMonitor();
+
+		if (serverWarningMonitor != null) {
+			serverWarningMonitor.record(executionInfo);
+		}
+	}
+
 	/**
 	 * Translate the given {@link DriverException} into a generic {@link DataAccessException}.
 	 * <p>
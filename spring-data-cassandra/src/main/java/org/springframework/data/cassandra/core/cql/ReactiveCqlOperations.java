@@ -707,4 +707,36 @@ public interface ReactiveCqlOperations {
 	 * @throws DataAccessException if there is any problem executing the query.
 	 */
 	Flux<Boolean> execute(String cql, Publisher<Object[]> args) throws DataAccessException;
+
+	// -------------------------------------------------------------------------
+	// Methods dealing with bulk ingestion
+	// -------------------------------------------------------------------------
+
+	/**
+	 * Ingest rows using a single CQL statement with bind markers, such as an insert statement. The statement is prepared
+	 * once and executed for each row using {@link IngestOptions#defaults() default options}. Failures of individual rows
+	 * are reported through {@link IngestResult#getFailures()} and do not abort the ingestion.
+	 *
+	 * @param cql CQL statement with bind markers, must not be empty or {@literal null}.
+	 * @param rows row values to bind to the statement, must not be {@literal null}.
+	 * @return a {@link Mono} emitting the {@link IngestResult}.
+	 * @throws DataAccessException if the statement cannot be prepared or {@code rows} emits an error.
+	 * @since 3.1
+	 */
+	Mono<IngestResult> ingest(String cql, Publisher<Object[]> rows) throws DataAccessException;
+
+	/**
+	 * Ingest rows using a single CQL statement with bind markers, such as an insert statement. The statement is prepared
+	 * once and executed for each row keeping up to {@link IngestOptions#getConcurrency()} statements in flight. Rows are
+	 * requested from {@code rows} as statements complete. Failures of individual rows are reported through
+	 * {@link IngestResult#getFailures()} and do not abort the ingestion.
+	 *
+	 * @param cql CQL statement with bind markers, must not be empty or {@literal null}.
+	 * @param rows row values to bind to the statement, must not be {@literal null}.
+	 * @param options ingestion options, must not be {@literal null}.
+	 * @return a {@link Mono} emitting the {@link IngestResult}.
+	 * @throws DataAccessException if the statement cannot be prepared or {@code rows} emits an error.
+	 * @since 3.1
+	 */
+	Mono<IngestResult> ingest(String cql, Publisher<Object[]> rows, IngestOptions options) throws DataAccessException;
 }
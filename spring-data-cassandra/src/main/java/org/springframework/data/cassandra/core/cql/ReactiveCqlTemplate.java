@@ -17,6 +17,9 @@ package org.springframework.data.cassandra.core.cql;
 
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
@@ -26,17 +29,24 @@ import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
 import com.datastax.oss.driver.api.core.retry.RetryPolicy;
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.support.DataAccessUtils;
 import org.springframework.data.cassandra.ReactiveResultSet;
 import org.springframework.data.cassandra.ReactiveSession;
 import org.springframework.data.cassandra.ReactiveSessionFactory;
+import org.springframework.data.cassandra.core.cql.CqlIngester.Aggregate;
+import org.springframework.data.cassandra.core.cql.CqlIngester.IngestRow;
 import org.springframework.data.cassandra.core.cql.session.DefaultReactiveSessionFactory;
+import org.springframework.data.cassandra.core.cql.support.AimdConcurrencyLimiter;
+import org.springframework.data.cassandra.core.cql.support.ConcurrencyLimiter;
+import org.springframework.data.cassandra.core.cql.support.FixedConcurrencyLimiter;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
@@ -103,6 +113,23 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 	 */
 	private @Nullable ConsistencyLevel serialConsistencyLevel;
 
+	/**
+	 * If this variable is set to a value, rows are mapped on this {@link Scheduler} instead of the thread emitting rows
+	 * (typically a driver I/O thread).
+	 */
+	private @Nullable Scheduler mappingScheduler;
+
+	/**
+	 * Minimum number of rows in the first result chunk to map rows on the {@link #mappingScheduler}.
+	 */
+	private int mappingThreshold = 0;
+
+	/**
+	 * If this variable is set to a value, statements acquire a permit from this {@link ConcurrencyLimiter} before they
+	 * are executed.
+	 */
+	private @Nullable ConcurrencyLimiter concurrencyLimiter;
+
 	/**
 	 * Construct a new {@link ReactiveCqlTemplate Note: The {@link ReactiveSessionFactory} has to be set before using the
 	 * instance.
@@ -254,6 +281,77 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 		return this.serialConsistencyLevel;
 	}
 
+	/**
+	 * Set the {@link Scheduler} to map rows on. Rows are typically emitted on driver I/O threads. Mapping rows (in
+	 * particular entity conversion) on I/O threads delays other in-flight requests sharing the same connection. Setting
+	 * a mapping {@link Scheduler} publishes rows of {@link RowMapper}-based queries on the given {@link Scheduler}.
+	 * Default is {@literal null}, mapping rows on the emitting thread.
+	 *
+	 * @param mappingScheduler the {@link Scheduler} to map rows on, may be {@literal null}.
+	 * @since 3.1
+	 * @see #setMappingThreshold(int)
+	 */
+	public void setMappingScheduler(@Nullable Scheduler mappingScheduler) {
+		this.mappingScheduler = mappingScheduler;
+	}
+
+	/**
+	 * @return the mapping {@link Scheduler} specified for this template.
+	 * @since 3.1
+	 */
+	@Nullable
+	public Scheduler getMappingScheduler() {
+		return this.mappingScheduler;
+	}
+
+	/**
+	 * Set the minimum number of rows the first result chunk must contain to map rows on the
+	 * {@link #setMappingScheduler(Scheduler) mapping Scheduler}. Smaller results are mapped inline as handing off a few
+	 * rows costs more than mapping them. Default is {@literal 0}, mapping all results on the mapping {@link Scheduler}
+	 * when configured.
+	 *
+	 * @param mappingThreshold the minimum number of rows, must not be negative.
+	 * @since 3.1
+	 */
+	public void setMappingThreshold(int mappingThreshold) {
+
+		Assert.isTrue(mappingThreshold >= 0, "Mapping threshold must not be negative");
+
+		this.mappingThreshold = mappingThreshold;
+	}
+
+	/**
+	 * @return the mapping threshold specified for this template.
+	 * @since 3.1
+	 */
+	public int getMappingThreshold() {
+		return this.mappingThreshold;
+	}
+
+	/**
+	 * Set the {@link ConcurrencyLimiter} to limit the number of in-flight statements executed by this template.
+	 * Statements exceeding the limit are queued or rejected with
+	 * {@link org.springframework.data.cassandra.CassandraConcurrencyLimitExceededException} instead of being submitted
+	 * to the driver. Default is {@literal null}, executing statements without limiting concurrency.
+	 *
+	 * @param concurrencyLimiter the {@link ConcurrencyLimiter} to use, may be {@literal null}.
+	 * @since 3.1
+	 * @see FixedConcurrencyLimiter
+	 * @see AimdConcurrencyLimiter
+	 */
+	public void setConcurrencyLimiter(@Nullable ConcurrencyLimiter concurrencyLimiter) {
+		this.concurrencyLimiter = concurrencyLimiter;
+	}
+
+	/**
+	 * @return the {@link ConcurrencyLimiter} specified for this template.
+	 * @since 3.1
+	 */
+	@Nullable
+	public ConcurrencyLimiter getConcurrencyLimiter() {
+		return this.concurrencyLimiter;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods dealing with a plain org.springframework.data.cassandra.core.cql.ReactiveSession
 	// -------------------------------------------------------------------------
@@ -301,7 +399,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 	 */
 	@Override
 	public <T> Flux<T> query(String cql, RowMapper<T> rowMapper) throws DataAccessException {
-		return query(cql, new ReactiveRowMapperResultSetExtractor<>(rowMapper));
+		return query(cql, newReactiveResultSetExtractor(rowMapper));
 	}
 
 	/* (non-Javadoc)
@@ -406,7 +504,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 				logger.debug("Executing CQL Statement [{}]", statement);
 			}
 
-			return session.execute(applyStatementSettings(statement)).flatMapMany(rse::extractData);
+			return executeStatement(session, applyStatementSettings(statement)).flatMapMany(rse::extractData);
 		}).onErrorMap(translateException("Query", statement.toString()));
 	}
 
@@ -415,7 +513,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 	 */
 	@Override
 	public <T> Flux<T> query(Statement<?> statement, RowMapper<T> rowMapper) throws DataAccessException {
-		return query(statement, new ReactiveRowMapperResultSetExtractor<>(rowMapper));
+		return query(statement, newReactiveResultSetExtractor(rowMapper));
 	}
 
 	/* (non-Javadoc)
@@ -474,7 +572,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 
 			}
 
-			return session.execute(applyStatementSettings(executedStatement));
+			return executeStatement(session, applyStatementSettings(executedStatement));
 		}).onErrorMap(translateException("QueryForResultSet", statement.toString()));
 	}
 
@@ -540,7 +638,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 			BoundStatement boundStatement = (preparedStatementBinder != null ? preparedStatementBinder.bindValues(ps)
 					: ps.bind());
 
-			return session.execute(applyStatementSettings(boundStatement));
+			return executeStatement(session, applyStatementSettings(boundStatement));
 		}).flatMap(rse::extractData)).onErrorMap(translateException("Query", getCql(psc)));
 	}
 
@@ -575,7 +673,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 	 */
 	@Override
 	public <T> Flux<T> query(ReactivePreparedStatementCreator psc, RowMapper<T> rowMapper) throws DataAccessException {
-		return query(psc, null, new ReactiveRowMapperResultSetExtractor<>(rowMapper));
+		return query(psc, null, newReactiveResultSetExtractor(rowMapper));
 	}
 
 	/* (non-Javadoc)
@@ -584,7 +682,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 	@Override
 	public <T> Flux<T> query(String cql, @Nullable PreparedStatementBinder psb, RowMapper<T> rowMapper)
 			throws DataAccessException {
-		return query(cql, psb, new ReactiveRowMapperResultSetExtractor<>(rowMapper));
+		return query(cql, psb, newReactiveResultSetExtractor(rowMapper));
 	}
 
 	/* (non-Javadoc)
@@ -594,7 +692,7 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 	public <T> Flux<T> query(ReactivePreparedStatementCreator psc, @Nullable PreparedStatementBinder psb,
 			RowMapper<T> rowMapper) throws DataAccessException {
 
-		return query(psc, psb, new ReactiveRowMapperResultSetExtractor<>(rowMapper));
+		return query(psc, psb, newReactiveResultSetExtractor(rowMapper));
 	}
 
 	/* (non-Javadoc)
@@ -706,11 +804,69 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 
 			BoundStatement boundStatement = newArgPreparedStatementBinder(objects).bindValues(ps);
 
-			return session.execute(applyStatementSettings(boundStatement));
+			return executeStatement(session, applyStatementSettings(boundStatement));
 
 		}).map(ReactiveResultSet::wasApplied));
 	}
 
+	// -------------------------------------------------------------------------
+	// Methods dealing with bulk ingestion
+	// -------------------------------------------------------------------------
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.ReactiveCqlOperations#ingest(java.lang.String, org.reactivestreams.Publisher)
+	 */
+	@Override
+	public Mono<IngestResult> ingest(String cql, Publisher<Object[]> rows) throws DataAccessException {
+		return ingest(cql, rows, IngestOptions.defaults());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.ReactiveCqlOperations#ingest(java.lang.String, org.reactivestreams.Publisher, org.springframework.data.cassandra.core.cql.IngestOptions)
+	 */
+	@Override
+	public Mono<IngestResult> ingest(String cql, Publisher<Object[]> rows, IngestOptions options)
+			throws DataAccessException {
+
+		Assert.hasText(cql, "CQL must not be empty");
+		Assert.notNull(rows, "Rows must not be null");
+		Assert.notNull(options, "IngestOptions must not be null");
+
+		Function<Throwable, Throwable> exceptionTranslator = translateException("Ingest", cql);
+
+		return getSession().flatMap(session -> newReactivePreparedStatementCreator(cql).createPreparedStatement(session)
+				.flatMap(preparedStatement -> {
+
+					if (logger.isDebugEnabled()) {
+						logger.debug("Ingesting rows using CQL statement [{}]", cql);
+					}
+
+					TokenMap tokenMap = options.isGroupByRoutingToken() ? getTokenMap(session) : null;
+					Function<Object[], Statement<?>> binder = values -> newArgPreparedStatementBinder(values)
+							.bindValues(preparedStatement);
+
+					Flux<IngestRow> boundRows = Flux.from(rows)
+							.index((index, values) -> CqlIngester.bind(index, values, binder, tokenMap));
+
+					if (tokenMap != null) {
+						boundRows = boundRows.buffer(options.getGroupingWindow()).flatMapIterable(CqlIngester::sortByToken);
+					}
+
+					return boundRows.flatMap(row -> {
+
+						if (row.bindFailure != null) {
+							return Mono.just((Consumer<Aggregate>) it -> it.failed(row, exceptionTranslator.apply(row.bindFailure)));
+						}
+
+						return executeStatement(session, applyStatementSettings(row.statement)) //
+								.thenReturn((Consumer<Aggregate>) Aggregate::succeeded) //
+								.onErrorResume(e -> Mono.just(it -> it.failed(row, exceptionTranslator.apply(e))));
+					}, options.getConcurrency()) //
+							.collect(Aggregate::new, (aggregate, outcome) -> outcome.accept(aggregate)) //
+							.map(Aggregate::toResult);
+				})).onErrorMap(exceptionTranslator);
+	}
+
 	// -------------------------------------------------------------------------
 	// Implementation hooks and helper methods
 	// -------------------------------------------------------------------------
@@ -728,6 +884,19 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 		return new SimpleReactivePreparedStatementCreator(cql);
 	}
 
+	/**
+	 * Create a new {@link ReactiveResultSetExtractor} adapting the given {@link RowMapper}. By default, we'll create a
+	 * {@link ReactiveRowMapperResultSetExtractor} considering the {@link #setMappingScheduler(Scheduler) mapping
+	 * Scheduler}. This method allows for the creation to be overridden by subclasses.
+	 *
+	 * @param rowMapper {@link RowMapper} to adapt as a {@link ReactiveResultSetExtractor}.
+	 * @return the new {@link ReactiveResultSetExtractor} to use.
+	 * @since 3.1
+	 */
+	protected <T> ReactiveResultSetExtractor<T> newReactiveResultSetExtractor(RowMapper<T> rowMapper) {
+		return new ReactiveRowMapperResultSetExtractor<>(rowMapper, getMappingScheduler(), getMappingThreshold());
+	}
+
 	/**
 	 * Create a reusable {@link Flux} given a {@link ReactiveStatementCallback} without exception translation.
 	 *
@@ -806,7 +975,8 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 	}
 
 	/**
-	 * Prepare the given CQL Statement applying statement settings such as page size and consistency level.
+	 * Prepare the given CQL Statement applying statement settings such as page size and consistency level. Settings are
+	 * applied in a single pass to avoid intermediate copies of the immutable {@link Statement}.
 	 *
 	 * @param stmt the CQL Statement to prepare
 	 * @see #setConsistencyLevel(ConsistencyLevel)
@@ -817,26 +987,8 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 	 */
 	protected Statement<?> applyStatementSettings(Statement<?> statement) {
 
-		Statement<?> statementToUse = statement;
-		ConsistencyLevel consistencyLevel = getConsistencyLevel();
-		ConsistencyLevel serialConsistencyLevel = getSerialConsistencyLevel();
-		int pageSize = getPageSize();
-
-		if (consistencyLevel != null) {
-			statementToUse = statementToUse.setConsistencyLevel(consistencyLevel);
-		}
-
-		if (serialConsistencyLevel != null) {
-			statementToUse = statementToUse.setSerialConsistencyLevel(serialConsistencyLevel);
-		}
-
-		if (pageSize > -1) {
-			statementToUse = statementToUse.setPageSize(pageSize);
-		}
-
-		statementToUse = getExecutionProfileResolver().apply(statementToUse);
-
-		return statementToUse;
+		return QueryOptionsUtil.applyStatementSettings(statement, getConsistencyLevel(), getSerialConsistencyLevel(),
+				getPageSize(), getExecutionProfileResolver());
 	}
 
 	/**
@@ -852,6 +1004,54 @@ public class ReactiveCqlTemplate extends ReactiveCassandraAccessor implements Re
 		return new ArgumentPreparedStatementBinder(args);
 	}
 
+	private Mono<ReactiveResultSet> executeStatement(ReactiveSession session, Statement<?> statement) {
+
+		Mono<ReactiveResultSet> result = doExecuteStatement(session, statement);
+
+		return getServerWarningMonitor() != null ? result.doOnNext(it -> recordWarnings(it.getExecutionInfo())) : result;
+	}
+
+	private Mono<ReactiveResultSet> doExecuteStatement(ReactiveSession session, Statement<?> statement) {
+
+		ConcurrencyLimiter concurrencyLimiter = getConcurrencyLimiter();
+
+		if (concurrencyLimiter == null) {
+			return session.execute(statement);
+		}
+
+		Mono<ConcurrencyLimiter.Permit> permit = Mono.defer(() -> {
+
+			CompletableFuture<ConcurrencyLimiter.Permit> future = concurrencyLimiter.acquire();
+
+			return Mono.fromFuture(future).doOnCancel(() -> {
+
+				// a permit granted concurrently with cancellation is released right away
+				if (!future.cancel(false)) {
+					future.thenAccept(it -> it.release(new CancellationException()));
+				}
+			});
+		});
+
+		return Mono.usingWhen(permit, it -> session.execute(statement), //
+				it -> Mono.fromRunnable(() -> it.release(null)), //
+				(it, e) -> Mono.fromRunnable(() -> it.release(e)), //
+				it -> Mono.fromRunnable(() -> it.release(new CancellationException())));
+	}
+
+	/**
+	 * Look up the {@link TokenMap} of the session. Returns {@literal null} to ingest rows unsorted if the session does
+	 * not provide metadata or the token map is not available.
+	 */
+	@Nullable
+	private static TokenMap getTokenMap(ReactiveSession session) {
+
+		try {
+			return session.getMetadata().getTokenMap().orElse(null);
+		} catch (UnsupportedOperationException e) {
+			return null;
+		}
+	}
+
 	private Mono<ReactiveSession> getSession() {
 
 		ReactiveSessionFactory sessionFactory = getSessionFactory();
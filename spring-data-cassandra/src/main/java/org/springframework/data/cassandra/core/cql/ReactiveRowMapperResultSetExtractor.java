@@ -16,10 +16,14 @@
 package org.springframework.data.cassandra.core.cql;
 
 import com.datastax.oss.driver.api.core.DriverException;
+import com.datastax.oss.driver.api.core.cql.Row;
 import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.data.cassandra.ReactiveResultSet;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -41,16 +45,37 @@ public class ReactiveRowMapperResultSetExtractor<T> implements ReactiveResultSet
 
 	private final RowMapper<T> rowMapper;
 
+	private final @Nullable Scheduler mappingScheduler;
+
+	private final int mappingThreshold;
+
 	/**
 	 * Create a new {@link ReactiveRowMapperResultSetExtractor}.
 	 *
 	 * @param rowMapper the {@link RowMapper} which creates an object for each row, must not be {@literal null}.
 	 */
 	public ReactiveRowMapperResultSetExtractor(RowMapper<T> rowMapper) {
+		this(rowMapper, null, 0);
+	}
+
+	/**
+	 * Create a new {@link ReactiveRowMapperResultSetExtractor} that maps rows on the given {@link Scheduler}.
+	 *
+	 * @param rowMapper the {@link RowMapper} which creates an object for each row, must not be {@literal null}.
+	 * @param mappingScheduler the {@link Scheduler} to map rows on. Rows are mapped on the thread emitting the rows if
+	 *          {@literal null}.
+	 * @param mappingThreshold minimum number of rows in the first result chunk to map rows on {@code mappingScheduler}.
+	 *          Smaller results are mapped inline.
+	 * @since 3.1
+	 */
+	public ReactiveRowMapperResultSetExtractor(RowMapper<T> rowMapper, @Nullable Scheduler mappingScheduler,
+			int mappingThreshold) {
 
 		Assert.notNull(rowMapper, "RowMapper is must not be null");
 
 		this.rowMapper = rowMapper;
+		this.mappingScheduler = mappingScheduler;
+		this.mappingThreshold = mappingThreshold;
 	}
 
 	/* (non-Javadoc)
@@ -59,7 +84,13 @@ public class ReactiveRowMapperResultSetExtractor<T> implements ReactiveResultSet
 	@Override
 	public Publisher<T> extractData(ReactiveResultSet resultSet) throws DriverException, DataAccessException {
 
-		return resultSet.rows().handle((row, sink) -> {
+		Flux<Row> rows = resultSet.rows();
+
+		if (this.mappingScheduler != null && !isMappedInline(resultSet)) {
+			rows = rows.publishOn(this.mappingScheduler);
+		}
+
+		return rows.handle((row, sink) -> {
 
 			T value = this.rowMapper.mapRow(row, 0);
 
@@ -68,4 +99,11 @@ public class ReactiveRowMapperResultSetExtractor<T> implements ReactiveResultSet
 			}
 		});
 	}
+
+	private boolean isMappedInline(ReactiveResultSet resultSet) {
+
+		int available = resultSet.getAvailableWithoutFetching();
+
+		return available != -1 && available < this.mappingThreshold;
+	}
 }
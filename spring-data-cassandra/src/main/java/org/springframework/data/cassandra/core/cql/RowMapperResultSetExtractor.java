@@ -23,6 +23,8 @@ import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.data.cassandra.core.cql.support.ResultSizeGuard;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -46,6 +48,8 @@ public class RowMapperResultSetExtractor<T> implements ResultSetExtractor<List<T
 
 	private final RowMapper<T> rowMapper;
 
+	private final @Nullable ResultSizeGuard resultSizeGuard;
+
 	/**
 	 * Create a new {@link RowMapperResultSetExtractor}.
 	 *
@@ -62,11 +66,26 @@ public class RowMapperResultSetExtractor<T> implements ResultSetExtractor<List<T
 	 * @param rowsExpected the number of expected rows (just used for optimized collection handling).
 	 */
 	public RowMapperResultSetExtractor(RowMapper<T> rowMapper, int rowsExpected) {
+		this(rowMapper, rowsExpected, null);
+	}
+
+	/**
+	 * Create a new {@link RowMapperResultSetExtractor} bounding the materialized result with a {@link ResultSizeGuard}.
+	 *
+	 * @param rowMapper the {@link RowMapper} which creates an object for each row, must not be {@literal null}.
+	 * @param rowsExpected the number of expected rows (just used for optimized collection handling).
+	 * @param resultSizeGuard the {@link ResultSizeGuard} to check before materializing each row, may be
+	 *          {@literal null}.
+	 * @since 3.1
+	 */
+	public RowMapperResultSetExtractor(RowMapper<T> rowMapper, int rowsExpected,
+			@Nullable ResultSizeGuard resultSizeGuard) {
 
 		Assert.notNull(rowMapper, "RowMapper is must not be null");
 
 		this.rowMapper = rowMapper;
 		this.rowsExpected = rowsExpected;
+		this.resultSizeGuard = resultSizeGuard;
 	}
 
 	/* (non-Javadoc)
@@ -79,8 +98,25 @@ public class RowMapperResultSetExtractor<T> implements ResultSetExtractor<List<T
 
 		int rowNumber = 0;
 
-		for (Row row : resultSet) {
-			results.add(this.rowMapper.mapRow(row, rowNumber++));
+		if (this.resultSizeGuard == null) {
+
+			for (Row row : resultSet) {
+				results.add(this.rowMapper.mapRow(row, rowNumber++));
+			}
+
+			return results;
+		}
+
+		try (ResultSizeGuard.Tracker tracker = this.resultSizeGuard.track()) {
+
+			for (Row row : resultSet) {
+
+				if (!tracker.tryAccept(resultSet)) {
+					break;
+				}
+
+				results.add(this.rowMapper.mapRow(row, rowNumber++));
+			}
 		}
 
 		return results;
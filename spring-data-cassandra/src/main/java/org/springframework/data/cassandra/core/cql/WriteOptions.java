@@ -44,8 +44,18 @@ public class WriteOptions extends QueryOptions {
 	protected WriteOptions(@Nullable ConsistencyLevel consistencyLevel, ExecutionProfileResolver executionProfileResolver,
 			@Nullable Integer pageSize, @Nullable ConsistencyLevel serialConsistencyLevel, Duration timeout, Duration ttl,
 			@Nullable Long timestamp, @Nullable Boolean tracing) {
+		this(consistencyLevel, executionProfileResolver, pageSize, serialConsistencyLevel, timeout, ttl, timestamp, tracing,
+				null);
+	}
 
-		super(consistencyLevel, executionProfileResolver, pageSize, serialConsistencyLevel, timeout, tracing);
+	/**
+	 * @since 3.1
+	 */
+	protected WriteOptions(@Nullable ConsistencyLevel consistencyLevel, ExecutionProfileResolver executionProfileResolver,
+			@Nullable Integer pageSize, @Nullable ConsistencyLevel serialConsistencyLevel, Duration timeout, Duration ttl,
+			@Nullable Long timestamp, @Nullable Boolean tracing, @Nullable Boolean idempotent) {
+
+		super(consistencyLevel, executionProfileResolver, pageSize, serialConsistencyLevel, timeout, tracing, idempotent);
 
 		this.ttl = ttl;
 		this.timestamp = timestamp;
@@ -270,6 +280,16 @@ public class WriteOptions extends QueryOptions {
 			return this;
 		}
 
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.QueryOptions.QueryOptionsBuilder#idempotent(boolean)
+		 */
+		@Override
+		public WriteOptionsBuilder idempotent(boolean idempotent) {
+
+			super.idempotent(idempotent);
+			return this;
+		}
+
 		/**
 		 * Sets the time to live in seconds for write operations.
 		 *
@@ -342,7 +362,7 @@ public class WriteOptions extends QueryOptions {
 		 */
 		public WriteOptions build() {
 			return new WriteOptions(this.consistencyLevel, this.executionProfileResolver, this.pageSize,
-					this.serialConsistencyLevel, this.timeout, this.ttl, this.timestamp, this.tracing);
+					this.serialConsistencyLevel, this.timeout, this.ttl, this.timestamp, this.tracing, this.idempotent);
 		}
 	}
 }
@@ -18,8 +18,10 @@ package org.springframework.data.cassandra.core.cql.session;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletionStage;
 
+import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.context.DriverContext;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
@@ -29,6 +31,7 @@ import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import reactor.core.publisher.Flux;
@@ -98,6 +101,22 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 		return this.session.getContext();
 	}
 
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.ReactiveSession#getKeyspace()
+	 */
+	@Override
+	public Optional<CqlIdentifier> getKeyspace() {
+		return this.session.getKeyspace();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.ReactiveSession#getMetadata()
+	 */
+	@Override
+	public Metadata getMetadata() {
+		return this.session.getMetadata();
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.ReactiveSession#execute(java.lang.String)
 	 */
@@ -220,6 +239,14 @@ public class DefaultBridgedReactiveSession implements ReactiveSession {
 			return toRows(this.resultSet);
 		}
 
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.ReactiveResultSet#getAvailableWithoutFetching()
+		 */
+		@Override
+		public int getAvailableWithoutFetching() {
+			return this.resultSet.remaining();
+		}
+
 		private Flux<Row> getRows(Mono<AsyncResultSet> nextResults) {
 
 			return nextResults.flatMapMany(it -> {
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.session.init;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Reader that parses CQL statements incrementally from a {@link Reader}. Statements are delimited by a separator and
+ * parsed with the same rules as {@link ScriptUtils#splitCqlScript(EncodedResource, String, String, String[], String,
+ * String, java.util.List)}: line comments and block comments are omitted and multiple adjacent whitespace characters
+ * are collapsed into a single space. Only the current statement is held in memory.
+ * <p>
+ * Unlike {@link ScriptUtils#executeCqlScript(com.datastax.oss.driver.api.core.CqlSession, EncodedResource)}, the reader
+ * does not fall back to {@link ScriptUtils#FALLBACK_STATEMENT_SEPARATOR} if the script does not contain the separator
+ * as that would require reading the entire script upfront.
+ *
+ * @author agent
+ * @since 3.1
+ * @see ScriptUtils
+ */
+public class CqlStatementReader implements Closeable {
+
+	private final BufferedReader reader;
+
+	private final @Nullable EncodedResource resource;
+
+	private final String separator;
+
+	private final String[] commentPrefixes;
+
+	private final String blockCommentStartDelimiter;
+
+	private final String blockCommentEndDelimiter;
+
+	/**
+	 * Create a new {@link CqlStatementReader} for the given {@link EncodedResource} using
+	 * {@link ScriptUtils#DEFAULT_STATEMENT_SEPARATOR default} separator and comment delimiters.
+	 *
+	 * @param resource the resource to read the CQL script from.
+	 * @throws IOException in case of I/O errors.
+	 */
+	public CqlStatementReader(EncodedResource resource) throws IOException {
+		this(resource.getReader(), resource, ScriptUtils.DEFAULT_STATEMENT_SEPARATOR,
+				ScriptUtils.DEFAULT_COMMENT_PREFIXES, ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+				ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER);
+	}
+
+	/**
+	 * Create a new {@link CqlStatementReader}.
+	 *
+	 * @param reader the reader providing the CQL script.
+	 * @param resource the resource from which the script is read, used for error reporting.
+	 * @param separator text separating each statement (typically a ';' or newline character).
+	 * @param commentPrefixes the prefixes that identify CQL line comments (typically "--").
+	 * @param blockCommentStartDelimiter the <em>start</em> block comment delimiter; never {@literal null} or empty.
+	 * @param blockCommentEndDelimiter the <em>end</em> block comment delimiter; never {@literal null} or empty.
+	 */
+	public CqlStatementReader(Reader reader, @Nullable EncodedResource resource, String separator,
+			String[] commentPrefixes, String blockCommentStartDelimiter, String blockCommentEndDelimiter) {
+
+		Assert.notNull(reader, "Reader must not be null");
+		Assert.hasLength(separator, "'separator' must not be null or empty");
+		Assert.notEmpty(commentPrefixes, "'commentPrefixes' must not be null or empty");
+		for (String commentPrefix : commentPrefixes) {
+			Assert.hasText(commentPrefix, "'commentPrefixes' must not contain null or empty elements");
+		}
+		Assert.hasText(blockCommentStartDelimiter, "'blockCommentStartDelimiter' must not be null or empty");
+		Assert.hasText(blockCommentEndDelimiter, "'blockCommentEndDelimiter' must not be null or empty");
+
+		this.reader = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+		this.resource = resource;
+		this.separator = separator;
+		this.commentPrefixes = commentPrefixes;
+		this.blockCommentStartDelimiter = blockCommentStartDelimiter;
+		this.blockCommentEndDelimiter = blockCommentEndDelimiter;
+	}
+
+	/**
+	 * Read the next CQL statement.
+	 *
+	 * @return the next CQL statement or {@literal null} if the end of the script was reached.
+	 * @throws IOException in case of I/O errors.
+	 * @throws ScriptParseException if a block comment is not terminated.
+	 */
+	@Nullable
+	public String readStatement() throws IOException {
+
+		StringBuilder sb = new StringBuilder();
+		boolean inSingleQuote = false;
+		boolean inDoubleQuote = false;
+		boolean inEscape = false;
+		int read;
+
+		while ((read = this.reader.read()) != -1) {
+
+			char c = (char) read;
+
+			if (inEscape) {
+				inEscape = false;
+				sb.append(c);
+				continue;
+			}
+			if (c == '\\') {
+				inEscape = true;
+				sb.append(c);
+				continue;
+			}
+			if (!inDoubleQuote && (c == '\'')) {
+				inSingleQuote = !inSingleQuote;
+			} else if (!inSingleQuote && (c == '"')) {
+				inDoubleQuote = !inDoubleQuote;
+			}
+			if (!inSingleQuote && !inDoubleQuote) {
+				if (consume(c, this.separator)) {
+					// We've reached the end of the current statement
+					if (sb.length() > 0) {
+						return sb.toString();
+					}
+					continue;
+				} else if (consumeAny(c, this.commentPrefixes)) {
+					// Skip over any content from the start of the comment to the EOL
+					if (this.reader.readLine() == null) {
+						break;
+					}
+					continue;
+				} else if (consume(c, this.blockCommentStartDelimiter)) {
+					skipBlockComment();
+					continue;
+				} else if (c == ' ' || c == '\r' || c == '\n' || c == '\t') {
+					// Avoid multiple adjacent whitespace characters
+					if (sb.length() > 0 && sb.charAt(sb.length() - 1) != ' ') {
+						c = ' ';
+					} else {
+						continue;
+					}
+				}
+			}
+			sb.append(c);
+		}
+
+		// trailing line breaks at the end of the script are not part of the statement
+		return StringUtils.hasText(sb) ? StringUtils.trimTrailingWhitespace(sb.toString()) : null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.io.Closeable#close()
+	 */
+	@Override
+	public void close() throws IOException {
+		this.reader.close();
+	}
+
+	private void skipBlockComment() throws IOException {
+
+		int read;
+
+		while ((read = this.reader.read()) != -1) {
+			if (consume((char) read, this.blockCommentEndDelimiter)) {
+				return;
+			}
+		}
+
+		throw new ScriptParseException("Missing block comment end delimiter: " + this.blockCommentEndDelimiter,
+				this.resource);
+	}
+
+	private boolean consumeAny(char current, String[] tokens) throws IOException {
+
+		for (String token : tokens) {
+			if (consume(current, token)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Consume {@code token} if {@code current} and the following characters match {@code token}. Leaves the reader
+	 * position unchanged if the token does not match.
+	 */
+	private boolean consume(char current, String token) throws IOException {
+
+		if (token.charAt(0) != current) {
+			return false;
+		}
+
+		if (token.length() == 1) {
+			return true;
+		}
+
+		this.reader.mark(token.length());
+
+		for (int i = 1; i < token.length(); i++) {
+			if (this.reader.read() != token.charAt(i)) {
+				this.reader.reset();
+				return false;
+			}
+		}
+
+		return true;
+	}
+}
@@ -59,6 +59,10 @@ public class ResourceKeyspacePopulator implements KeyspacePopulator {
 
 	private boolean ignoreFailedDrops = false;
 
+	private boolean streaming = false;
+
+	private int maxConcurrentStatements = 1;
+
 	/**
 	 * Construct a new {@link ResourceKeyspacePopulator} with default settings.
 	 */
@@ -241,6 +245,38 @@ public class ResourceKeyspacePopulator implements KeyspacePopulator {
 		this.ignoreFailedDrops = ignoreFailedDrops;
 	}
 
+	/**
+	 * Flag to indicate that CQL scripts should be streamed from their resource. Streaming parses statements
+	 * incrementally instead of reading each script into memory. Streamed scripts must use the configured
+	 * {@link #setSeparator(String) separator} as they do not fall back to newline-separated statements.
+	 * <p>
+	 * Defaults to {@literal false}.
+	 *
+	 * @param streaming {@literal true} to stream CQL scripts.
+	 * @since 3.1
+	 * @see CqlStatementReader
+	 */
+	public void setStreaming(boolean streaming) {
+		this.streaming = streaming;
+	}
+
+	/**
+	 * Set the maximum number of data manipulation statements ({@code INSERT}, {@code UPDATE}, {@code DELETE} and
+	 * {@code BEGIN BATCH}) to execute concurrently. Other statements are executed sequentially after all previous
+	 * statements have completed. A value greater than {@code 1} enables {@link #setStreaming(boolean) streaming}.
+	 * <p>
+	 * Defaults to {@code 1}.
+	 *
+	 * @param maxConcurrentStatements maximum number of concurrently executed statements, must be greater than zero.
+	 * @since 3.1
+	 */
+	public void setMaxConcurrentStatements(int maxConcurrentStatements) {
+
+		Assert.isTrue(maxConcurrentStatements > 0, "Max concurrent statements must be greater than zero");
+
+		this.maxConcurrentStatements = maxConcurrentStatements;
+	}
+
 	@Override
 	public void populate(CqlSession session) throws ScriptException {
 
@@ -248,8 +284,15 @@ public class ResourceKeyspacePopulator implements KeyspacePopulator {
 
 		for (Resource script : this.scripts) {
 			EncodedResource encodedScript = new EncodedResource(script, this.cqlScriptEncoding);
-			ScriptUtils.executeCqlScript(session, encodedScript, this.continueOnError, this.ignoreFailedDrops,
-					this.commentPrefixes, this.separator, this.blockCommentStartDelimiter, this.blockCommentEndDelimiter);
+
+			if (this.streaming || this.maxConcurrentStatements > 1) {
+				ScriptUtils.executeCqlScript(session, encodedScript, this.continueOnError, this.ignoreFailedDrops,
+						this.commentPrefixes, this.separator, this.blockCommentStartDelimiter, this.blockCommentEndDelimiter,
+						this.maxConcurrentStatements);
+			} else {
+				ScriptUtils.executeCqlScript(session, encodedScript, this.continueOnError, this.ignoreFailedDrops,
+						this.commentPrefixes, this.separator, this.blockCommentStartDelimiter, this.blockCommentEndDelimiter);
+			}
 		}
 	}
 
@@ -19,6 +19,8 @@ import java.io.IOException;
 import java.io.LineNumberReader;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
@@ -568,4 +570,163 @@ public abstract class ScriptUtils {
 		}
 	}
 
+	/**
+	 * Execute the given CQL script by streaming its statements from the resource.
+	 * <p>
+	 * Statements are parsed incrementally using {@link CqlStatementReader} so the script is never held in memory
+	 * entirely. Data manipulation statements ({@code INSERT}, {@code UPDATE}, {@code DELETE} and {@code BEGIN BATCH})
+	 * are executed asynchronously with up to {@code maxConcurrentStatements} statements in flight. All other statements
+	 * (such as schema statements) await completion of in-flight statements and are executed sequentially to retain
+	 * their order. Data manipulation statements following such a statement are executed only after it has completed.
+	 * <p>
+	 * Unlike {@link #executeCqlScript(CqlSession, EncodedResource, boolean, boolean, String[], String, String, String)},
+	 * this method does not fall back to {@value #FALLBACK_STATEMENT_SEPARATOR} if the script does not contain the
+	 * separator.
+	 *
+	 * @param session the CQL {@link CqlSession} to use to execute the script; already configured and ready to use.
+	 * @param resource the resource (potentially associated with a specific encoding) to load the CQL script from.
+	 * @param continueOnError whether or not to continue without throwing an exception in the event of an error.
+	 * @param ignoreFailedDrops whether or not to continue in the event of specifically an error on a {@code DROP}
+	 *          statement.
+	 * @param commentPrefixes the prefixes that identify single-line comments in the CQL script (typically "--").
+	 * @param separator the script statement separator; defaults to {@value #DEFAULT_STATEMENT_SEPARATOR} if not
+	 *          specified; may be set to {@value #EOF_STATEMENT_SEPARATOR} to signal that the script contains a single
+	 *          statement without a separator.
+	 * @param blockCommentStartDelimiter the <em>start</em> block comment delimiter
+	 * @param blockCommentEndDelimiter the <em>end</em> block comment delimiter
+	 * @param maxConcurrentStatements maximum number of data manipulation statements in flight; {@code 1} to execute
+	 *          all statements sequentially.
+	 * @throws ScriptException if an error occurred while executing the CQL script
+	 * @since 3.1
+	 * @see CqlStatementReader
+	 */
+	public static void executeCqlScript(CqlSession session, EncodedResource resource, boolean continueOnError,
+			boolean ignoreFailedDrops, String[] commentPrefixes, @Nullable String separator,
+			String blockCommentStartDelimiter, String blockCommentEndDelimiter, int maxConcurrentStatements)
+			throws ScriptException {
+
+		Assert.isTrue(maxConcurrentStatements > 0, "Max concurrent statements must be greater than zero");
+
+		try {
+			if (logger.isDebugEnabled()) {
+				logger.debug("Executing CQL script from " + resource);
+			}
+
+			long startTime = System.currentTimeMillis();
+
+			Semaphore inFlight = new Semaphore(maxConcurrentStatements);
+			AtomicReference<ScriptException> failure = new AtomicReference<>();
+
+			try (CqlStatementReader reader = new CqlStatementReader(resource.getReader(), resource,
+					separator != null ? separator : DEFAULT_STATEMENT_SEPARATOR, commentPrefixes, blockCommentStartDelimiter,
+					blockCommentEndDelimiter)) {
+
+				int stmtNumber = 0;
+				String statement;
+
+				while ((statement = reader.readStatement()) != null && failure.get() == null) {
+
+					stmtNumber++;
+
+					if (maxConcurrentStatements > 1 && isDataManipulation(statement)) {
+						executeAsync(session, resource, statement, stmtNumber, continueOnError, inFlight, failure);
+						continue;
+					}
+
+					// await in-flight statements to retain ordering
+					inFlight.acquire(maxConcurrentStatements);
+					inFlight.release(maxConcurrentStatements);
+
+					if (failure.get() != null) {
+						break;
+					}
+
+					try {
+						logWarnings(session.execute(statement).getExecutionInfo());
+					} catch (RuntimeException ex) {
+						handleFailure(resource, statement, stmtNumber, continueOnError, ignoreFailedDrops, ex);
+					}
+				}
+			} catch (IOException ex) {
+				throw new CannotReadScriptException(resource, ex);
+			} finally {
+				inFlight.acquire(maxConcurrentStatements);
+			}
+
+			if (failure.get() != null) {
+				throw failure.get();
+			}
+
+			long elapsedTime = System.currentTimeMillis() - startTime;
+			if (logger.isDebugEnabled()) {
+				logger.debug("Executed CQL script from " + resource + " in " + elapsedTime + " ms.");
+			}
+		} catch (Exception ex) {
+			if (ex instanceof ScriptException) {
+				throw (ScriptException) ex;
+			}
+			if (ex instanceof InterruptedException) {
+				Thread.currentThread().interrupt();
+			}
+			throw new UncategorizedScriptException("Failed to execute database script from resource [" + resource + "]", ex);
+		}
+	}
+
+	private static void executeAsync(CqlSession session, EncodedResource resource, String statement, int stmtNumber,
+			boolean continueOnError, Semaphore inFlight, AtomicReference<ScriptException> failure)
+			throws InterruptedException {
+
+		inFlight.acquire();
+
+		try {
+			session.executeAsync(statement).whenComplete((result, ex) -> {
+
+				try {
+					if (ex != null) {
+						handleFailure(resource, statement, stmtNumber, continueOnError, false, ex);
+					} else {
+						logWarnings(result.getExecutionInfo());
+					}
+				} catch (ScriptException e) {
+					failure.compareAndSet(null, e);
+				} finally {
+					inFlight.release();
+				}
+			});
+		} catch (RuntimeException ex) {
+			inFlight.release();
+			throw ex;
+		}
+	}
+
+	private static void handleFailure(EncodedResource resource, String statement, int stmtNumber,
+			boolean continueOnError, boolean ignoreFailedDrops, Throwable ex) {
+
+		boolean dropStatement = StringUtils.startsWithIgnoreCase(statement.trim(), "drop");
+		if (continueOnError || (dropStatement && ignoreFailedDrops)) {
+			if (logger.isDebugEnabled()) {
+				logger.debug(ScriptStatementFailedException.buildErrorMessage(statement, stmtNumber, resource), ex);
+			}
+		} else {
+			throw new ScriptStatementFailedException(statement, stmtNumber, resource, ex);
+		}
+	}
+
+	private static void logWarnings(@Nullable ExecutionInfo executionInfo) {
+
+		if (logger.isDebugEnabled() && executionInfo != null) {
+			for (String warning : executionInfo.getWarnings()) {
+				logger.debug(String.format("CQL warning ignored: [%s]", warning));
+			}
+		}
+	}
+
+	private static boolean isDataManipulation(String statement) {
+
+		String trimmed = statement.trim();
+
+		return StringUtils.startsWithIgnoreCase(trimmed, "insert ") || StringUtils.startsWithIgnoreCase(trimmed, "update ")
+				|| StringUtils.startsWithIgnoreCase(trimmed, "delete ")
+				|| StringUtils.startsWithIgnoreCase(trimmed, "begin ");
+	}
 }
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.session.lookup;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.cassandra.SessionFactory;
+import org.springframework.lang.Nullable;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+
+/**
+ * Abstract {@link SessionFactory} implementation that routes statements of all lookup keys through a single shared
+ * {@link CqlSession}. Unlike {@link AbstractRoutingSessionFactory}, which resolves a separate {@link SessionFactory}
+ * (and therefore a separate session with its own connection pools and metadata) per lookup key, this factory resolves
+ * the lookup key to a keyspace and applies it as statement keyspace to statements that do not specify a keyspace.
+ * <p>
+ * The lookup key is determined on each {@link #getSession()} call. The returned {@link CqlSession} reports the resolved
+ * keyspace through {@link CqlSession#getKeyspace()} so that prepared statement caches keep prepared statements per
+ * keyspace. Per-statement keyspaces require native protocol V5 or DSE_V2.
+ *
+ * @author agent
+ * @since 3.1
+ * @see #setTargetKeyspaces(Map)
+ * @see #setDefaultTargetKeyspace(Object)
+ * @see #determineCurrentLookupKey()
+ */
+public abstract class AbstractKeyspaceRoutingSessionFactory implements SessionFactory, InitializingBean {
+
+	private final KeyspaceRouter<CqlSession> router;
+
+	/**
+	 * Create a new {@link AbstractKeyspaceRoutingSessionFactory} given the shared {@link CqlSession}.
+	 *
+	 * @param session the shared session, must not be {@literal null}.
+	 */
+	protected AbstractKeyspaceRoutingSessionFactory(CqlSession session) {
+		this.router = new KeyspaceRouter<>(session, Function.identity());
+	}
+
+	/**
+	 * Specify the map of target keyspaces, with the lookup key as key. The mapped value can either be a
+	 * {@link CqlIdentifier} or a keyspace name {@link String}.
+	 *
+	 * @param targetKeyspaces must not be {@literal null}.
+	 */
+	public void setTargetKeyspaces(Map<Object, Object> targetKeyspaces) {
+		this.router.setTargetKeyspaces(targetKeyspaces);
+	}
+
+	/**
+	 * Specify the default target keyspace, if any. The value can either be a {@link CqlIdentifier} or a keyspace name
+	 * {@link String}. The default keyspace is used if none of the {@link #setTargetKeyspaces(Map) target keyspaces}
+	 * match the {@link #determineCurrentLookupKey() current lookup key}.
+	 *
+	 * @param defaultTargetKeyspace must not be {@literal null}.
+	 */
+	public void setDefaultTargetKeyspace(Object defaultTargetKeyspace) {
+		this.router.setDefaultTargetKeyspace(defaultTargetKeyspace);
+	}
+
+	/**
+	 * Specify whether to apply a lenient fallback to the default keyspace if no specific keyspace could be found for the
+	 * current lookup key. Default is {@literal true}. Lookup keys without a keyspace entry lead to an
+	 * {@link IllegalStateException} if set to {@literal false}.
+	 *
+	 * @param lenientFallback {@literal true} to accept lookup keys without a corresponding target keyspace.
+	 */
+	public void setLenientFallback(boolean lenientFallback) {
+		this.router.setLenientFallback(lenientFallback);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.beans.factory.InitializingBean#afterPropertiesSet()
+	 */
+	@Override
+	public void afterPropertiesSet() {
+		this.router.afterPropertiesSet();
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.SessionFactory#getSession()
+	 */
+	@Override
+	public CqlSession getSession() {
+		return this.router.getSession(determineCurrentLookupKey());
+	}
+
+	/**
+	 * Determine the current lookup key. This will typically be implemented to check a thread-bound context.
+	 *
+	 * @return the current lookup key. The returned key needs to match the key type of the
+	 *         {@link #setTargetKeyspaces(Map) target keyspaces}.
+	 */
+	@Nullable
+	protected abstract Object determineCurrentLookupKey();
+}
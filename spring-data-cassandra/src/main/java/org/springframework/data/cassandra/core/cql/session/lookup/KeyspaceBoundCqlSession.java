@@ -0,0 +1,230 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.session.lookup;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metrics.Metrics;
+import com.datastax.oss.driver.api.core.session.Request;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+
+/**
+ * {@link CqlSession} decorator that applies a keyspace to {@link SimpleStatement simple} and {@link BatchStatement
+ * batch} statements that do not specify a keyspace. Statements prepared through this session are prepared within the
+ * keyspace, {@link #getKeyspace()} reports the keyspace so that prepared statement caches consider the keyspace.
+ * <p>
+ * All other operations are delegated to the shared {@link CqlSession}. Closing this session does not close the shared
+ * session. Per-statement keyspaces require native protocol V5 or DSE_V2.
+ *
+ * @author agent
+ * @since 3.1
+ */
+class KeyspaceBoundCqlSession implements CqlSession {
+
+	private final CqlSession delegate;
+
+	private final CqlIdentifier keyspace;
+
+	KeyspaceBoundCqlSession(CqlSession delegate, CqlIdentifier keyspace) {
+
+		this.delegate = delegate;
+		this.keyspace = keyspace;
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.session.Session#execute(com.datastax.oss.driver.api.core.session.Request, com.datastax.oss.driver.api.core.type.reflect.GenericType)
+	 */
+	@Nullable
+	@Override
+	public <RequestT extends Request, ResultT> ResultT execute(@NonNull RequestT request,
+			@NonNull GenericType<ResultT> resultType) {
+		return this.delegate.execute(applyKeyspace(request), resultType);
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.cql.SyncCqlSession#prepare(com.datastax.oss.driver.api.core.cql.SimpleStatement)
+	 */
+	@NonNull
+	@Override
+	public PreparedStatement prepare(@NonNull SimpleStatement statement) {
+		return this.delegate.prepare(applyKeyspace(statement));
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.cql.SyncCqlSession#prepare(java.lang.String)
+	 */
+	@NonNull
+	@Override
+	public PreparedStatement prepare(@NonNull String query) {
+		return prepare(SimpleStatement.newInstance(query));
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.cql.AsyncCqlSession#prepareAsync(com.datastax.oss.driver.api.core.cql.SimpleStatement)
+	 */
+	@NonNull
+	@Override
+	public CompletionStage<PreparedStatement> prepareAsync(@NonNull SimpleStatement statement) {
+		return this.delegate.prepareAsync(applyKeyspace(statement));
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.cql.AsyncCqlSession#prepareAsync(java.lang.String)
+	 */
+	@NonNull
+	@Override
+	public CompletionStage<PreparedStatement> prepareAsync(@NonNull String query) {
+		return prepareAsync(SimpleStatement.newInstance(query));
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.session.Session#getKeyspace()
+	 */
+	@NonNull
+	@Override
+	public Optional<CqlIdentifier> getKeyspace() {
+		return Optional.of(this.keyspace);
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.session.Session#getName()
+	 */
+	@NonNull
+	@Override
+	public String getName() {
+		return this.delegate.getName();
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.session.Session#getMetadata()
+	 */
+	@NonNull
+	@Override
+	public Metadata getMetadata() {
+		return this.delegate.getMetadata();
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.session.Session#isSchemaMetadataEnabled()
+	 */
+	@Override
+	public boolean isSchemaMetadataEnabled() {
+		return this.delegate.isSchemaMetadataEnabled();
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.session.Session#setSchemaMetadataEnabled(java.lang.Boolean)
+	 */
+	@NonNull
+	@Override
+	public CompletionStage<Metadata> setSchemaMetadataEnabled(@Nullable Boolean newValue) {
+		return this.delegate.setSchemaMetadataEnabled(newValue);
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.session.Session#refreshSchemaAsync()
+	 */
+	@NonNull
+	@Override
+	public CompletionStage<Metadata> refreshSchemaAsync() {
+		return this.delegate.refreshSchemaAsync();
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.session.Session#checkSchemaAgreementAsync()
+	 */
+	@NonNull
+	@Override
+	public CompletionStage<Boolean> checkSchemaAgreementAsync() {
+		return this.delegate.checkSchemaAgreementAsync();
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.session.Session#getContext()
+	 */
+	@NonNull
+	@Override
+	public DriverContext getContext() {
+		return this.delegate.getContext();
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.session.Session#getMetrics()
+	 */
+	@NonNull
+	@Override
+	public Optional<Metrics> getMetrics() {
+		return this.delegate.getMetrics();
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.AsyncAutoCloseable#closeFuture()
+	 */
+	@NonNull
+	@Override
+	public CompletionStage<Void> closeFuture() {
+		return this.delegate.closeFuture();
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.AsyncAutoCloseable#closeAsync()
+	 */
+	@NonNull
+	@Override
+	public CompletionStage<Void> closeAsync() {
+		// the shared session is closed by its owner
+		return CompletableFuture.completedFuture(null);
+	}
+
+	/* (non-Javadoc)
+	 * @see com.datastax.oss.driver.api.core.AsyncAutoCloseable#forceCloseAsync()
+	 */
+	@NonNull
+	@Override
+	public CompletionStage<Void> forceCloseAsync() {
+		return closeAsync();
+	}
+
+	@SuppressWarnings("unchecked")
+	private <RequestT extends Request> RequestT applyKeyspace(RequestT request) {
+
+		if (request.getKeyspace() != null) {
+			return request;
+		}
+
+		if (request instanceof SimpleStatement) {
+			return (RequestT) ((SimpleStatement) request).setKeyspace(this.keyspace);
+		}
+
+		if (request instanceof BatchStatement) {
+			return (RequestT) ((BatchStatement) request).setKeyspace(this.keyspace);
+		}
+
+		return request;
+	}
+}
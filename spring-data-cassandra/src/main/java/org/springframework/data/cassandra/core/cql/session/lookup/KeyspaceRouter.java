@@ -0,0 +1,143 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.session.lookup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+
+/**
+ * Resolves lookup keys to keyspaces and provides {@link KeyspaceBoundCqlSession keyspace-bound sessions} sharing a
+ * single {@link CqlSession}. Keyspace-bound sessions are created once per keyspace.
+ *
+ * @author agent
+ * @since 3.1
+ * @see AbstractKeyspaceRoutingSessionFactory
+ * @see AbstractKeyspaceRoutingReactiveSessionFactory
+ */
+class KeyspaceRouter<S> {
+
+	private final CqlSession session;
+
+	private final Function<CqlSession, S> sessionFunction;
+
+	private final Map<CqlIdentifier, S> sessions = new ConcurrentHashMap<>();
+
+	private @Nullable Map<Object, Object> targetKeyspaces;
+
+	private @Nullable Object defaultTargetKeyspace;
+
+	private boolean lenientFallback = true;
+
+	private @Nullable Map<Object, CqlIdentifier> resolvedKeyspaces;
+
+	private @Nullable CqlIdentifier resolvedDefaultKeyspace;
+
+	KeyspaceRouter(CqlSession session, Function<CqlSession, S> sessionFunction) {
+
+		Assert.notNull(session, "Session must not be null");
+
+		this.session = session;
+		this.sessionFunction = sessionFunction;
+	}
+
+	void setTargetKeyspaces(Map<Object, Object> targetKeyspaces) {
+
+		Assert.notNull(targetKeyspaces, "Target keyspaces must not be null");
+
+		this.targetKeyspaces = targetKeyspaces;
+	}
+
+	void setDefaultTargetKeyspace(Object defaultTargetKeyspace) {
+
+		Assert.notNull(defaultTargetKeyspace, "Default target keyspace must not be null");
+
+		this.defaultTargetKeyspace = defaultTargetKeyspace;
+	}
+
+	void setLenientFallback(boolean lenientFallback) {
+		this.lenientFallback = lenientFallback;
+	}
+
+	void afterPropertiesSet() {
+
+		Assert.notNull(this.targetKeyspaces, "Property targetKeyspaces is required");
+
+		this.resolvedKeyspaces = new HashMap<>(this.targetKeyspaces.size());
+
+		for (Map.Entry<Object, Object> entry : this.targetKeyspaces.entrySet()) {
+			this.resolvedKeyspaces.put(entry.getKey(), resolveKeyspace(entry.getValue()));
+		}
+
+		if (this.defaultTargetKeyspace != null) {
+			this.resolvedDefaultKeyspace = resolveKeyspace(this.defaultTargetKeyspace);
+		}
+	}
+
+	/**
+	 * Return the session bound to the keyspace for {@code lookupKey}.
+	 *
+	 * @param lookupKey the current lookup key.
+	 * @return the keyspace-bound session.
+	 * @throws IllegalStateException if the lookup key cannot be resolved to a keyspace.
+	 */
+	S getSession(@Nullable Object lookupKey) {
+
+		CqlIdentifier keyspace = determineTargetKeyspace(lookupKey);
+
+		return this.sessions.computeIfAbsent(keyspace,
+				it -> this.sessionFunction.apply(new KeyspaceBoundCqlSession(this.session, it)));
+	}
+
+	private CqlIdentifier determineTargetKeyspace(@Nullable Object lookupKey) {
+
+		Assert.notNull(this.resolvedKeyspaces, "Keyspace router not initialized");
+
+		CqlIdentifier keyspace = this.resolvedKeyspaces.get(lookupKey);
+
+		if (keyspace == null && (this.lenientFallback || lookupKey == null)) {
+			keyspace = this.resolvedDefaultKeyspace;
+		}
+
+		if (keyspace == null) {
+			throw new IllegalStateException(String.format("Cannot determine target keyspace for lookup key [%s]", lookupKey));
+		}
+
+		return keyspace;
+	}
+
+	private static CqlIdentifier resolveKeyspace(Object keyspace) {
+
+		if (keyspace instanceof CqlIdentifier) {
+			return (CqlIdentifier) keyspace;
+		}
+
+		if (keyspace instanceof String) {
+			return CqlIdentifier.fromCql((String) keyspace);
+		}
+
+		throw new IllegalArgumentException(String.format(
+				"Illegal keyspace value. Only [com.datastax.oss.driver.api.core.CqlIdentifier] and String supported: %s",
+				keyspace));
+	}
+}
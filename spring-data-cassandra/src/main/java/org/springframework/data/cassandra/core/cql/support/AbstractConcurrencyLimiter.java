@@ -0,0 +1,235 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.data.cassandra.CassandraConcurrencyLimitExceededException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.DriverTimeoutException;
+import com.datastax.oss.driver.api.core.connection.BusyConnectionException;
+import com.datastax.oss.driver.api.core.servererrors.OverloadedException;
+import com.datastax.oss.driver.api.core.servererrors.ReadTimeoutException;
+import com.datastax.oss.driver.api.core.servererrors.WriteTimeoutException;
+
+/**
+ * Base class for {@link ConcurrencyLimiter} implementations. Manages in-flight accounting, a bounded FIFO queue of
+ * pending requests and the counters exposed through {@link #getMetrics()}. Subclasses determine the
+ * {@link #getLimit() limit} and may adapt it from request outcomes by overriding {@link #onSuccess(long, int)} and
+ * {@link #onOverload()}. Both callbacks are invoked while holding the limiter lock.
+ *
+ * @author agent
+ * @since 3.1
+ */
+public abstract class AbstractConcurrencyLimiter implements ConcurrencyLimiter {
+
+	private final Object lock = new Object();
+
+	private final Deque<CompletableFuture<Permit>> pending = new ArrayDeque<>();
+
+	private final int maxQueueSize;
+
+	private int inFlight;
+
+	private long acquiredCount;
+
+	private long queuedCount;
+
+	private long rejectedCount;
+
+	private long droppedCount;
+
+	/**
+	 * Create a new {@link AbstractConcurrencyLimiter} given {@code maxQueueSize}.
+	 *
+	 * @param maxQueueSize maximum number of requests waiting for a permit. Zero rejects requests immediately once the
+	 *          limit is reached.
+	 */
+	protected AbstractConcurrencyLimiter(int maxQueueSize) {
+
+		Assert.isTrue(maxQueueSize >= 0, "Max queue size must not be negative");
+
+		this.maxQueueSize = maxQueueSize;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.support.ConcurrencyLimiter#acquire()
+	 */
+	@Override
+	public CompletableFuture<Permit> acquire() {
+
+		CompletableFuture<Permit> future;
+
+		synchronized (this.lock) {
+
+			if (this.inFlight < getLimit()) {
+
+				this.inFlight++;
+				this.acquiredCount++;
+
+				return CompletableFuture.completedFuture(new DefaultPermit());
+			}
+
+			if (this.pending.size() >= this.maxQueueSize) {
+
+				this.rejectedCount++;
+
+				future = new CompletableFuture<>();
+				future.completeExceptionally(new CassandraConcurrencyLimitExceededException(
+						String.format("Concurrency limit of %d exceeded; %d requests in flight, %d pending", getLimit(),
+								this.inFlight, this.pending.size())));
+
+				return future;
+			}
+
+			this.queuedCount++;
+
+			future = new CompletableFuture<>();
+			this.pending.add(future);
+		}
+
+		CompletableFuture<Permit> pendingFuture = future;
+		pendingFuture.whenComplete((permit, e) -> {
+
+			if (pendingFuture.isCancelled()) {
+				synchronized (this.lock) {
+					this.pending.remove(pendingFuture);
+				}
+			}
+		});
+
+		return future;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.support.ConcurrencyLimiter#getMetrics()
+	 */
+	@Override
+	public ConcurrencyLimiterMetrics getMetrics() {
+
+		synchronized (this.lock) {
+			return new ConcurrencyLimiterMetrics(getLimit(), this.inFlight, this.pending.size(), this.acquiredCount,
+					this.queuedCount, this.rejectedCount, this.droppedCount);
+		}
+	}
+
+	/**
+	 * Return the current concurrency limit.
+	 *
+	 * @return the current concurrency limit.
+	 */
+	public abstract int getLimit();
+
+	/**
+	 * Callback for a successfully completed request.
+	 *
+	 * @param latencyNanos request latency in nanoseconds, excluding the time spent waiting for a permit.
+	 * @param inFlight number of in-flight requests when the request completed, including the completed request.
+	 */
+	protected void onSuccess(long latencyNanos, int inFlight) {}
+
+	/**
+	 * Callback for a request that failed with an overload error.
+	 *
+	 * @see #isOverload(Throwable)
+	 */
+	protected void onOverload() {}
+
+	/**
+	 * Determine whether the given {@link Throwable} indicates an overloaded client, connection or server. Considers
+	 * client and server-side timeouts, {@link BusyConnectionException} and {@link OverloadedException}.
+	 *
+	 * @param error the request failure.
+	 * @return {@literal true} if the error indicates overload.
+	 */
+	protected boolean isOverload(Throwable error) {
+
+		Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+
+		return cause instanceof OverloadedException || cause instanceof BusyConnectionException
+				|| cause instanceof DriverTimeoutException || cause instanceof ReadTimeoutException
+				|| cause instanceof WriteTimeoutException;
+	}
+
+	private void release(DefaultPermit permit, @Nullable Throwable error) {
+
+		List<CompletableFuture<Permit>> granted = Collections.emptyList();
+
+		synchronized (this.lock) {
+
+			if (error == null) {
+				onSuccess(System.nanoTime() - permit.acquiredAt, this.inFlight);
+			} else if (isOverload(error)) {
+				this.droppedCount++;
+				onOverload();
+			}
+
+			this.inFlight--;
+
+			while (!this.pending.isEmpty() && this.inFlight < getLimit()) {
+
+				if (granted.isEmpty()) {
+					granted = new ArrayList<>();
+				}
+
+				this.inFlight++;
+				this.acquiredCount++;
+				granted.add(this.pending.poll());
+			}
+		}
+
+		// complete outside the lock as completion runs the request
+		for (CompletableFuture<Permit> future : granted) {
+
+			DefaultPermit grantedPermit = new DefaultPermit();
+
+			if (!future.complete(grantedPermit)) {
+				grantedPermit.release(new CancellationException());
+			}
+		}
+	}
+
+	private class DefaultPermit implements Permit {
+
+		private final AtomicBoolean released = new AtomicBoolean();
+
+		private final long acquiredAt = System.nanoTime();
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.data.cassandra.core.cql.support.ConcurrencyLimiter.Permit#release(java.lang.Throwable)
+		 */
+		@Override
+		public void release(@Nullable Throwable error) {
+
+			if (this.released.compareAndSet(false, true)) {
+				AbstractConcurrencyLimiter.this.release(this, error);
+			}
+		}
+	}
+}
@@ -0,0 +1,201 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.session.Request;
+
+/**
+ * Derives the page size of queries from the average serialized row size observed for the same query shape. Page sizes
+ * approach a {@link #getTargetPageBytes() target byte budget} per page within {@link #getMinPageSize() min} and
+ * {@link #getMaxPageSize() max} bounds so that wide rows are fetched in smaller pages than narrow rows.
+ * <p/>
+ * The query shape is the CQL string of a {@link SimpleStatement} or the prepared CQL of a {@link BoundStatement}. The
+ * row size is measured from the {@link ExecutionInfo#getResponseSizeInBytes() response size} of fetched pages and
+ * smoothed using an exponentially weighted moving average. Shapes without observations use the
+ * {@link #getInitialPageSize() initial page size}. The number of tracked shapes is bounded, queries with inlined
+ * literals beyond that bound use the initial page size.
+ *
+ * @author agent
+ * @since 3.1
+ */
+public class AdaptivePageSizer {
+
+	/**
+	 * Page size of the driver's default configuration used for query shapes without observations.
+	 */
+	public static final int DEFAULT_INITIAL_PAGE_SIZE = 5000;
+
+	static final int MAX_QUERY_SHAPES = 1024;
+
+	private static final double SMOOTHING_FACTOR = 0.2;
+
+	private final Map<String, Double> rowSizes = new ConcurrentHashMap<>();
+
+	private final long targetPageBytes;
+
+	private final int minPageSize;
+
+	private final int maxPageSize;
+
+	private final int initialPageSize;
+
+	/**
+	 * Create a new {@link AdaptivePageSizer} using {@link #DEFAULT_INITIAL_PAGE_SIZE} bounded to {@code minPageSize} and
+	 * {@code maxPageSize} for query shapes without observations.
+	 *
+	 * @param targetPageBytes serialized size of a page to approach, must be greater than zero.
+	 * @param minPageSize minimum number of rows per page, must be greater than zero.
+	 * @param maxPageSize maximum number of rows per page, must be greater or equal to {@code minPageSize}.
+	 */
+	public AdaptivePageSizer(long targetPageBytes, int minPageSize, int maxPageSize) {
+		this(targetPageBytes, minPageSize, maxPageSize,
+				Math.min(Math.max(DEFAULT_INITIAL_PAGE_SIZE, minPageSize), maxPageSize));
+	}
+
+	/**
+	 * Create a new {@link AdaptivePageSizer}.
+	 *
+	 * @param targetPageBytes serialized size of a page to approach, must be greater than zero.
+	 * @param minPageSize minimum number of rows per page, must be greater than zero.
+	 * @param maxPageSize maximum number of rows per page, must be greater or equal to {@code minPageSize}.
+	 * @param initialPageSize number of rows per page for query shapes without observations, must be within
+	 *          {@code minPageSize} and {@code maxPageSize}.
+	 */
+	public AdaptivePageSizer(long targetPageBytes, int minPageSize, int maxPageSize, int initialPageSize) {
+
+		Assert.isTrue(targetPageBytes > 0, "Target page bytes must be greater than zero");
+		Assert.isTrue(minPageSize > 0, "Minimum page size must be greater than zero");
+		Assert.isTrue(maxPageSize >= minPageSize, "Maximum page size must be greater or equal to minimum page size");
+		Assert.isTrue(initialPageSize >= minPageSize && initialPageSize <= maxPageSize,
+				"Initial page size must be within minimum and maximum page size");
+
+		this.targetPageBytes = targetPageBytes;
+		this.minPageSize = minPageSize;
+		this.maxPageSize = maxPageSize;
+		this.initialPageSize = initialPageSize;
+	}
+
+	/**
+	 * Determine the page size for {@link Statement}.
+	 *
+	 * @param statement the statement to execute, must not be {@literal null}.
+	 * @return the page size derived from the average row size of the query shape or the initial page size if the query
+	 *         shape was not observed yet.
+	 */
+	public int getPageSize(Statement<?> statement) {
+
+		Assert.notNull(statement, "Statement must not be null");
+
+		String shape = getQueryShape(statement);
+		Double rowSize = shape != null ? this.rowSizes.get(shape) : null;
+
+		if (rowSize == null) {
+			return this.initialPageSize;
+		}
+
+		long pageSize = Math.round(this.targetPageBytes / rowSize);
+
+		return (int) Math.min(Math.max(pageSize, this.minPageSize), this.maxPageSize);
+	}
+
+	/**
+	 * Record the serialized size of a fetched page.
+	 *
+	 * @param executionInfo the {@link ExecutionInfo} of the fetched page, must not be {@literal null}.
+	 * @param rows number of rows contained in the page.
+	 */
+	public void record(ExecutionInfo executionInfo, int rows) {
+
+		Assert.notNull(executionInfo, "ExecutionInfo must not be null");
+
+		int responseSize = executionInfo.getResponseSizeInBytes();
+		String shape = getQueryShape(executionInfo.getRequest());
+
+		if (rows <= 0 || responseSize <= 0 || shape == null) {
+			return;
+		}
+
+		if (this.rowSizes.size() >= MAX_QUERY_SHAPES && !this.rowSizes.containsKey(shape)) {
+			return;
+		}
+
+		double rowSize = (double) responseSize / rows;
+
+		this.rowSizes.merge(shape, rowSize, (average, sample) -> average + SMOOTHING_FACTOR * (sample - average));
+	}
+
+	/**
+	 * @param cql the CQL of the query shape.
+	 * @return the average serialized row size in bytes for the query shape, or {@literal null} if the query shape was not
+	 *         observed yet.
+	 */
+	@Nullable
+	public Double getAverageRowSize(String cql) {
+		return this.rowSizes.get(cql);
+	}
+
+	/**
+	 * @return the serialized size of a page to approach.
+	 */
+	public long getTargetPageBytes() {
+		return this.targetPageBytes;
+	}
+
+	/**
+	 * @return the minimum number of rows per page.
+	 */
+	public int getMinPageSize() {
+		return this.minPageSize;
+	}
+
+	/**
+	 * @return the maximum number of rows per page.
+	 */
+	public int getMaxPageSize() {
+		return this.maxPageSize;
+	}
+
+	/**
+	 * @return the number of rows per page for query shapes without observations.
+	 */
+	public int getInitialPageSize() {
+		return this.initialPageSize;
+	}
+
+	@Nullable
+	private static String getQueryShape(@Nullable Request request) {
+
+		if (request instanceof SimpleStatement) {
+			return ((SimpleStatement) request).getQuery();
+		}
+
+		if (request instanceof BoundStatement) {
+			return ((BoundStatement) request).getPreparedStatement().getQuery();
+		}
+
+		return null;
+	}
+}
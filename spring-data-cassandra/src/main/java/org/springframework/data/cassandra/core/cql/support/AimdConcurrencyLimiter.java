@@ -0,0 +1,153 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import java.time.Duration;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Adaptive {@link ConcurrencyLimiter} using additive-increase/multiplicative-decrease (AIMD). The limit grows by one
+ * for each successful request while the limiter is utilized and shrinks by the {@link #setBackoffRatio(double) backoff
+ * ratio} on overload errors or when a request exceeds the {@link #setLatencyThreshold(Duration) latency threshold}.
+ * The limit is kept between {@link #setMinLimit(int) min limit} and {@link #setMaxLimit(int) max limit}.
+ *
+ * @author agent
+ * @since 3.1
+ */
+public class AimdConcurrencyLimiter extends AbstractConcurrencyLimiter {
+
+	private static final Logger LOG = LoggerFactory.getLogger(AimdConcurrencyLimiter.class);
+
+	private volatile int limit;
+
+	private int minLimit = 1;
+
+	private int maxLimit = 1000;
+
+	private double backoffRatio = 0.9;
+
+	private long latencyThresholdNanos = Long.MAX_VALUE;
+
+	/**
+	 * Create a new {@link AimdConcurrencyLimiter}.
+	 *
+	 * @param initialLimit initial number of in-flight requests, must be greater than zero.
+	 * @param maxQueueSize maximum number of requests waiting for a permit, must not be negative.
+	 */
+	public AimdConcurrencyLimiter(int initialLimit, int maxQueueSize) {
+
+		super(maxQueueSize);
+
+		Assert.isTrue(initialLimit > 0, "Initial limit must be greater than zero");
+
+		this.limit = initialLimit;
+		this.maxLimit = Math.max(this.maxLimit, initialLimit);
+	}
+
+	/**
+	 * Set the lower bound for the limit. Defaults to {@literal 1}.
+	 *
+	 * @param minLimit must be greater than zero.
+	 */
+	public void setMinLimit(int minLimit) {
+
+		Assert.isTrue(minLimit > 0, "Min limit must be greater than zero");
+
+		this.minLimit = minLimit;
+	}
+
+	/**
+	 * Set the upper bound for the limit. Defaults to {@literal 1000} or the initial limit if greater.
+	 *
+	 * @param maxLimit must be greater than zero.
+	 */
+	public void setMaxLimit(int maxLimit) {
+
+		Assert.isTrue(maxLimit > 0, "Max limit must be greater than zero");
+
+		this.maxLimit = maxLimit;
+	}
+
+	/**
+	 * Set the ratio to multiply the limit with on overload. Defaults to {@literal 0.9}.
+	 *
+	 * @param backoffRatio must be between {@literal 0.5} and {@literal 1} (exclusive).
+	 */
+	public void setBackoffRatio(double backoffRatio) {
+
+		Assert.isTrue(backoffRatio >= 0.5 && backoffRatio < 1, "Backoff ratio must be between 0.5 and 1");
+
+		this.backoffRatio = backoffRatio;
+	}
+
+	/**
+	 * Set the latency above which a successful request is considered an overload signal. Defaults to {@literal null}
+	 * to consider overload errors only.
+	 *
+	 * @param latencyThreshold the latency threshold, may be {@literal null}.
+	 */
+	public void setLatencyThreshold(@Nullable Duration latencyThreshold) {
+		this.latencyThresholdNanos = latencyThreshold != null ? latencyThreshold.toNanos() : Long.MAX_VALUE;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.support.AbstractConcurrencyLimiter#getLimit()
+	 */
+	@Override
+	public int getLimit() {
+		return this.limit;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.support.AbstractConcurrencyLimiter#onSuccess(long, int)
+	 */
+	@Override
+	protected void onSuccess(long latencyNanos, int inFlight) {
+
+		if (latencyNanos > this.latencyThresholdNanos) {
+			onOverload();
+			return;
+		}
+
+		// increase only if the limit is actually utilized
+		if (inFlight * 2 >= this.limit && this.limit < this.maxLimit) {
+			this.limit++;
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.support.AbstractConcurrencyLimiter#onOverload()
+	 */
+	@Override
+	protected void onOverload() {
+
+		int newLimit = Math.max(this.minLimit, Math.min(this.limit - 1, (int) (this.limit * this.backoffRatio)));
+
+		if (newLimit != this.limit && LOG.isDebugEnabled()) {
+			LOG.debug("Reducing concurrency limit from {} to {}", this.limit, newLimit);
+		}
+
+		this.limit = newLimit;
+	}
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Strategy interface to limit the number of concurrently executing (in-flight) requests. Requests acquire a
+ * {@link Permit} before they are sent to Cassandra and {@link Permit#release(Throwable) release} it once the response
+ * has been received. Requests exceeding the limit are queued until a permit becomes available or rejected with
+ * {@link org.springframework.data.cassandra.CassandraConcurrencyLimitExceededException} if the queue is full.
+ * <p>
+ * Limiting concurrency client-side degrades gracefully under load spikes instead of saturating connections
+ * ({@code BusyConnectionException}) or Cassandra nodes ({@code OverloadedException}).
+ *
+ * @author agent
+ * @since 3.1
+ * @see FixedConcurrencyLimiter
+ * @see AimdConcurrencyLimiter
+ */
+public interface ConcurrencyLimiter {
+
+	/**
+	 * Acquire a {@link Permit}. The returned future completes immediately if the current limit permits another
+	 * in-flight request. Otherwise, the future completes once a permit becomes available or completes exceptionally
+	 * with {@link org.springframework.data.cassandra.CassandraConcurrencyLimitExceededException} if the request was
+	 * rejected. Cancelling a pending future withdraws the request from the queue.
+	 *
+	 * @return a future completing with the acquired {@link Permit}.
+	 */
+	CompletableFuture<Permit> acquire();
+
+	/**
+	 * Return a snapshot of the current limiter state and its counters.
+	 *
+	 * @return the current {@link ConcurrencyLimiterMetrics}.
+	 */
+	ConcurrencyLimiterMetrics getMetrics();
+
+	/**
+	 * Permit for a single in-flight request.
+	 */
+	interface Permit {
+
+		/**
+		 * Release this permit once the request has completed. The outcome of the request feeds into adaptive limits:
+		 * {@literal null} indicates success, overload errors such as timeouts and {@code OverloadedException} indicate
+		 * that the limit should be reduced. Releasing a permit more than once has no effect.
+		 *
+		 * @param error the request failure, {@literal null} if the request completed successfully.
+		 */
+		void release(@Nullable Throwable error);
+	}
+}
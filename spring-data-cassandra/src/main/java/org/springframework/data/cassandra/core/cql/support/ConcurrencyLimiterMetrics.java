@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+/**
+ * Value object capturing the state of a {@link ConcurrencyLimiter} at a point in time. Counters are cumulative since
+ * the limiter was created and can be exported to a metrics system.
+ *
+ * @author agent
+ * @since 3.1
+ * @see ConcurrencyLimiter#getMetrics()
+ */
+public final class ConcurrencyLimiterMetrics {
+
+	private final int limit;
+
+	private final int inFlight;
+
+	private final int pending;
+
+	private final long acquiredCount;
+
+	private final long queuedCount;
+
+	private final long rejectedCount;
+
+	private final long droppedCount;
+
+	ConcurrencyLimiterMetrics(int limit, int inFlight, int pending, long acquiredCount, long queuedCount,
+			long rejectedCount, long droppedCount) {
+
+		this.limit = limit;
+		this.inFlight = inFlight;
+		this.pending = pending;
+		this.acquiredCount = acquiredCount;
+		this.queuedCount = queuedCount;
+		this.rejectedCount = rejectedCount;
+		this.droppedCount = droppedCount;
+	}
+
+	/**
+	 * @return the current concurrency limit.
+	 */
+	public int getLimit() {
+		return this.limit;
+	}
+
+	/**
+	 * @return the number of requests currently in flight.
+	 */
+	public int getInFlight() {
+		return this.inFlight;
+	}
+
+	/**
+	 * @return the number of requests currently waiting for a permit.
+	 */
+	public int getPending() {
+		return this.pending;
+	}
+
+	/**
+	 * @return the total number of acquired permits.
+	 */
+	public long getAcquiredCount() {
+		return this.acquiredCount;
+	}
+
+	/**
+	 * @return the total number of requests that had to wait for a permit.
+	 */
+	public long getQueuedCount() {
+		return this.queuedCount;
+	}
+
+	/**
+	 * @return the total number of requests rejected because the queue was full.
+	 */
+	public long getRejectedCount() {
+		return this.rejectedCount;
+	}
+
+	/**
+	 * @return the total number of requests that failed with an overload error.
+	 */
+	public long getDroppedCount() {
+		return this.droppedCount;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("ConcurrencyLimiterMetrics [limit=%d, inFlight=%d, pending=%d, acquired=%d, queued=%d, "
+				+ "rejected=%d, dropped=%d]", this.limit, this.inFlight, this.pending, this.acquiredCount, this.queuedCount,
+				this.rejectedCount, this.droppedCount);
+	}
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link ConcurrencyLimiter} allowing a fixed maximum number of in-flight requests.
+ *
+ * @author agent
+ * @since 3.1
+ */
+public class FixedConcurrencyLimiter extends AbstractConcurrencyLimiter {
+
+	private final int limit;
+
+	/**
+	 * Create a new {@link FixedConcurrencyLimiter}.
+	 *
+	 * @param limit maximum number of in-flight requests, must be greater than zero.
+	 * @param maxQueueSize maximum number of requests waiting for a permit, must not be negative.
+	 */
+	public FixedConcurrencyLimiter(int limit, int maxQueueSize) {
+
+		super(maxQueueSize);
+
+		Assert.isTrue(limit > 0, "Limit must be greater than zero");
+
+		this.limit = limit;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.support.AbstractConcurrencyLimiter#getLimit()
+	 */
+	@Override
+	public int getLimit() {
+		return this.limit;
+	}
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import java.time.Duration;
+import java.util.List;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+
+/**
+ * Value object capturing the hottest partitions observed by a {@link HotPartitionTracker} during a reporting interval.
+ * Access counts are estimates extrapolated from sampled accesses.
+ *
+ * @author agent
+ * @since 3.1
+ * @see HotPartitionTracker#report()
+ */
+public final class HotPartitionReport {
+
+	private final Duration interval;
+
+	private final long reads;
+
+	private final long writes;
+
+	private final List<HotPartition> hotPartitions;
+
+	HotPartitionReport(Duration interval, long reads, long writes, List<HotPartition> hotPartitions) {
+
+		this.interval = interval;
+		this.reads = reads;
+		this.writes = writes;
+		this.hotPartitions = hotPartitions;
+	}
+
+	/**
+	 * @return the duration of the reporting interval.
+	 */
+	public Duration getInterval() {
+		return this.interval;
+	}
+
+	/**
+	 * @return the estimated number of reads across all partitions.
+	 */
+	public long getReads() {
+		return this.reads;
+	}
+
+	/**
+	 * @return the estimated number of writes across all partitions.
+	 */
+	public long getWrites() {
+		return this.writes;
+	}
+
+	/**
+	 * @return the hottest partitions ordered by their estimated number of accesses, hottest first.
+	 */
+	public List<HotPartition> getHotPartitions() {
+		return this.hotPartitions;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("HotPartitionReport [interval=%s, reads=%d, writes=%d, hotPartitions=%s]", this.interval,
+				this.reads, this.writes, this.hotPartitions);
+	}
+
+	/**
+	 * Estimated access frequency of a single partition.
+	 */
+	public static final class HotPartition {
+
+		private final CqlIdentifier tableName;
+
+		private final Object partitionKey;
+
+		private final long reads;
+
+		private final long writes;
+
+		private final Duration interval;
+
+		HotPartition(CqlIdentifier tableName, Object partitionKey, long reads, long writes, Duration interval) {
+
+			this.tableName = tableName;
+			this.partitionKey = partitionKey;
+			this.reads = reads;
+			this.writes = writes;
+			this.interval = interval;
+		}
+
+		/**
+		 * @return the table name.
+		 */
+		public CqlIdentifier getTableName() {
+			return this.tableName;
+		}
+
+		/**
+		 * @return the partition key value.
+		 */
+		public Object getPartitionKey() {
+			return this.partitionKey;
+		}
+
+		/**
+		 * @return the estimated number of reads.
+		 */
+		public long getReads() {
+			return this.reads;
+		}
+
+		/**
+		 * @return the estimated number of writes.
+		 */
+		public long getWrites() {
+			return this.writes;
+		}
+
+		/**
+		 * @return the estimated number of reads and writes.
+		 */
+		public long getAccesses() {
+			return this.reads + this.writes;
+		}
+
+		/**
+		 * @return the estimated reads per second.
+		 */
+		public double getReadRate() {
+			return perSecond(this.reads);
+		}
+
+		/**
+		 * @return the estimated writes per second.
+		 */
+		public double getWriteRate() {
+			return perSecond(this.writes);
+		}
+
+		private double perSecond(long count) {
+			return count * 1_000_000_000d / this.interval.toNanos();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String toString() {
+			return String.format("HotPartition [table=%s, partitionKey=%s, readRate=%.2f/s, writeRate=%.2f/s]",
+					this.tableName, this.partitionKey, getReadRate(), getWriteRate());
+		}
+	}
+}
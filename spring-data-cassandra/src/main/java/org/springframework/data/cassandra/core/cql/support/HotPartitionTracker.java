@@ -0,0 +1,396 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.data.cassandra.core.cql.support.HotPartitionReport.HotPartition;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+
+/**
+ * Tracks access frequencies of partitions to detect hot partitions. Accessed partition keys are counted per table and
+ * {@link Operation} in a count-min sketch and the most frequently accessed partitions are kept as top-K candidates.
+ * {@link #report()} returns the hottest partitions along with their estimated read and write rates since the previous
+ * report and starts a new observation window.
+ * <p/>
+ * Tracking is designed to remain enabled in production: accesses are {@link #isSampled() sampled}, sketch counters are
+ * spread across independent atomic cells and totals are kept in striped {@link LongAdder counters}. Recording an
+ * access does not acquire locks unless a new partition displaces a top-K candidate. Counts are estimates: the sketch
+ * may overestimate the frequency of a partition but never underestimates its sampled frequency.
+ *
+ * @author agent
+ * @since 3.1
+ */
+public class HotPartitionTracker {
+
+	private static final Logger LOG = LoggerFactory.getLogger(HotPartitionTracker.class);
+
+	/**
+	 * Default number of hot partitions to report.
+	 */
+	public static final int DEFAULT_TOP_K = 10;
+
+	/**
+	 * Default sketch width.
+	 */
+	public static final int DEFAULT_WIDTH = 2048;
+
+	private static final int DEPTH = 4;
+
+	private static final int CANDIDATE_FACTOR = 4;
+
+	private final int topK;
+
+	private final int width;
+
+	private final int sampleInterval;
+
+	private volatile Window window;
+
+	/**
+	 * Create a new {@link HotPartitionTracker} that records every access and reports the {@link #DEFAULT_TOP_K} hottest
+	 * partitions.
+	 */
+	public HotPartitionTracker() {
+		this(DEFAULT_TOP_K, 1);
+	}
+
+	/**
+	 * Create a new {@link HotPartitionTracker} using a sketch of {@link #DEFAULT_WIDTH}.
+	 *
+	 * @param topK number of hot partitions to report, must be greater than zero.
+	 * @param sampleInterval records one out of {@code sampleInterval} accesses on average, must be greater than zero.
+	 */
+	public HotPartitionTracker(int topK, int sampleInterval) {
+		this(topK, sampleInterval, DEFAULT_WIDTH);
+	}
+
+	/**
+	 * Create a new {@link HotPartitionTracker}.
+	 *
+	 * @param topK number of hot partitions to report, must be greater than zero.
+	 * @param sampleInterval records one out of {@code sampleInterval} accesses on average, must be greater than zero.
+	 * @param width number of counters per sketch row, rounded up to the next power of two. Wider sketches reduce the
+	 *          overestimation caused by hash collisions. Must be greater than zero.
+	 */
+	public HotPartitionTracker(int topK, int sampleInterval, int width) {
+
+		Assert.isTrue(topK > 0, "Top-K must be greater than zero");
+		Assert.isTrue(sampleInterval > 0, "Sample interval must be greater than zero");
+		Assert.isTrue(width > 0 && width <= 1 << 24, "Width must be greater than zero and not exceed 2^24");
+
+		this.topK = topK;
+		this.sampleInterval = sampleInterval;
+		this.width = Integer.bitCount(width) == 1 ? width : Integer.highestOneBit(width) << 1;
+		this.window = new Window(this.width, System.nanoTime());
+	}
+
+	/**
+	 * Decide whether the current access should be recorded. Callers should resolve the partition key only for sampled
+	 * accesses to keep the overhead of unsampled accesses low.
+	 *
+	 * @return {@literal true} if the access should be passed to {@link #record(CqlIdentifier, Operation, Object)}.
+	 */
+	public boolean isSampled() {
+		return this.sampleInterval == 1 || ThreadLocalRandom.current().nextInt(this.sampleInterval) == 0;
+	}
+
+	/**
+	 * Record a sampled access to a partition.
+	 *
+	 * @param tableName the table name, must not be {@literal null}.
+	 * @param operation the operation type, must not be {@literal null}.
+	 * @param partitionKey the partition key value. Composite partition keys should be represented by a value object
+	 *          implementing {@link Object#equals(Object)} and {@link Object#hashCode()}. Must not be {@literal null}.
+	 * @see #isSampled()
+	 */
+	public void record(CqlIdentifier tableName, Operation operation, Object partitionKey) {
+
+		Assert.notNull(tableName, "Table name must not be null");
+		Assert.notNull(operation, "Operation must not be null");
+		Assert.notNull(partitionKey, "Partition key must not be null");
+
+		Window window = this.window;
+		PartitionRef partition = new PartitionRef(tableName, partitionKey);
+
+		long estimate = window.increment(partition, operation);
+
+		window.offer(partition, estimate, this.topK * CANDIDATE_FACTOR);
+	}
+
+	/**
+	 * Report the hottest partitions accessed since the previous report and start a new observation window. Accesses
+	 * recorded concurrently with the report may be attributed to either window or be dropped.
+	 *
+	 * @return the {@link HotPartitionReport}.
+	 */
+	public HotPartitionReport report() {
+
+		long now = System.nanoTime();
+		Window previous = this.window;
+		this.window = new Window(this.width, now);
+
+		Duration interval = Duration.ofNanos(Math.max(now - previous.startNanos, 1));
+
+		PriorityQueue<HotPartition> top = new PriorityQueue<>(this.topK + 1,
+				Comparator.comparingLong(HotPartition::getAccesses));
+
+		for (PartitionRef partition : previous.candidates.keySet()) {
+
+			long reads = previous.estimate(partition, Operation.READ) * this.sampleInterval;
+			long writes = previous.estimate(partition, Operation.WRITE) * this.sampleInterval;
+
+			top.add(new HotPartition(partition.tableName, partition.partitionKey, reads, writes, interval));
+
+			if (top.size() > this.topK) {
+				top.poll();
+			}
+		}
+
+		List<HotPartition> hotPartitions = new ArrayList<>(top);
+		hotPartitions.sort(Comparator.comparingLong(HotPartition::getAccesses).reversed());
+
+		return new HotPartitionReport(interval, previous.reads.sum() * this.sampleInterval,
+				previous.writes.sum() * this.sampleInterval, Collections.unmodifiableList(hotPartitions));
+	}
+
+	/**
+	 * Schedule periodic reports at a fixed rate. Each report covers the accesses since the previous report. Failures of
+	 * {@code listener} are logged and do not cancel subsequent reports.
+	 *
+	 * @param scheduler the scheduler to run reports on, must not be {@literal null}.
+	 * @param interval the reporting interval, must not be {@literal null} and must be positive.
+	 * @param listener the listener receiving reports, must not be {@literal null}.
+	 * @return the {@link ScheduledFuture} to cancel reporting.
+	 */
+	public ScheduledFuture<?> scheduleReports(ScheduledExecutorService scheduler, Duration interval,
+			Consumer<? super HotPartitionReport> listener) {
+
+		Assert.notNull(scheduler, "ScheduledExecutorService must not be null");
+		Assert.notNull(interval, "Interval must not be null");
+		Assert.isTrue(!interval.isNegative() && !interval.isZero(), "Interval must be positive");
+		Assert.notNull(listener, "Listener must not be null");
+
+		long nanos = interval.toNanos();
+
+		return scheduler.scheduleAtFixedRate(() -> {
+
+			try {
+				listener.accept(report());
+			} catch (RuntimeException e) {
+				LOG.warn("Hot partition report listener failed", e);
+			}
+		}, nanos, nanos, TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * @return the number of hot partitions to report.
+	 */
+	public int getTopK() {
+		return this.topK;
+	}
+
+	/**
+	 * @return the sample interval. One out of {@code sampleInterval} accesses is recorded on average.
+	 */
+	public int getSampleInterval() {
+		return this.sampleInterval;
+	}
+
+	/**
+	 * Operation type of a partition access.
+	 */
+	public enum Operation {
+		READ, WRITE
+	}
+
+	/**
+	 * Counters of a single observation window.
+	 */
+	private static class Window {
+
+		private final AtomicLongArray counters;
+
+		private final int mask;
+
+		private final long startNanos;
+
+		private final LongAdder reads = new LongAdder();
+
+		private final LongAdder writes = new LongAdder();
+
+		private final Map<PartitionRef, Long> candidates = new ConcurrentHashMap<>();
+
+		private volatile long admissionThreshold;
+
+		Window(int width, long startNanos) {
+			this.counters = new AtomicLongArray(DEPTH * width);
+			this.mask = width - 1;
+			this.startNanos = startNanos;
+		}
+
+		long increment(PartitionRef partition, Operation operation) {
+
+			(operation == Operation.READ ? this.reads : this.writes).increment();
+
+			int hash = hash(partition, operation);
+			long estimate = Long.MAX_VALUE;
+
+			for (int row = 0; row < DEPTH; row++) {
+				estimate = Math.min(estimate, this.counters.incrementAndGet(index(hash, row)));
+			}
+
+			return estimate;
+		}
+
+		long estimate(PartitionRef partition, Operation operation) {
+
+			int hash = hash(partition, operation);
+			long estimate = Long.MAX_VALUE;
+
+			for (int row = 0; row < DEPTH; row++) {
+				estimate = Math.min(estimate, this.counters.get(index(hash, row)));
+			}
+
+			return estimate;
+		}
+
+		/**
+		 * Offer a partition as top-K candidate. Known candidates and partitions below the admission threshold of a full
+		 * candidate set are handled without locking.
+		 */
+		void offer(PartitionRef partition, long estimate, int capacity) {
+
+			if (this.candidates.containsKey(partition)) {
+				this.candidates.merge(partition, estimate, Math::max);
+				return;
+			}
+
+			if (this.candidates.size() >= capacity && estimate <= this.admissionThreshold) {
+				return;
+			}
+
+			this.candidates.merge(partition, estimate, Math::max);
+
+			if (this.candidates.size() > capacity) {
+				evict(capacity);
+			}
+		}
+
+		private synchronized void evict(int capacity) {
+
+			while (this.candidates.size() > capacity) {
+
+				Map.Entry<PartitionRef, Long> coldest = null;
+
+				for (Map.Entry<PartitionRef, Long> entry : this.candidates.entrySet()) {
+					if (coldest == null || entry.getValue() < coldest.getValue()) {
+						coldest = entry;
+					}
+				}
+
+				if (coldest == null) {
+					return;
+				}
+
+				this.candidates.remove(coldest.getKey());
+				this.admissionThreshold = Math.max(this.admissionThreshold, coldest.getValue());
+			}
+		}
+
+		private int index(int hash, int row) {
+
+			int h = (hash + row * 0x9E3779B9) * 0x85EBCA6B;
+			h ^= h >>> 13;
+
+			return row * (this.mask + 1) + (h & this.mask);
+		}
+
+		private static int hash(PartitionRef partition, Operation operation) {
+
+			int h = partition.hashCode() * 31 + operation.ordinal();
+			return h ^ (h >>> 16);
+		}
+	}
+
+	/**
+	 * Partition identified by table name and partition key.
+	 */
+	private static class PartitionRef {
+
+		private final CqlIdentifier tableName;
+
+		private final Object partitionKey;
+
+		private final int hashCode;
+
+		PartitionRef(CqlIdentifier tableName, Object partitionKey) {
+			this.tableName = tableName;
+			this.partitionKey = partitionKey;
+			this.hashCode = 31 * tableName.hashCode() + ObjectUtils.nullSafeHashCode(partitionKey);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof PartitionRef)) {
+				return false;
+			}
+
+			PartitionRef that = (PartitionRef) o;
+
+			return this.tableName.equals(that.tableName)
+					&& ObjectUtils.nullSafeEquals(this.partitionKey, that.partitionKey);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+}
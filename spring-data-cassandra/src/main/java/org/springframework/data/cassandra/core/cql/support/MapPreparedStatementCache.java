@@ -19,6 +19,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
@@ -31,7 +32,9 @@ import com.datastax.oss.driver.api.core.cql.SimpleStatement;
  * {@link PreparedStatementCache} backed by a {@link Map} cache. Defaults to simple {@link ConcurrentHashMap} caching.
  * <p/>
  * Statements are cached with a key consisting of {@link CqlSession#getName() session name}, {@code keyspace} and the
- * {@code cql} text. Statement options (idempotency, timeouts) apply from the statement that was initially prepared.
+ * {@code cql} text. The keyspace is the {@link SimpleStatement#getKeyspace() statement keyspace}, falling back to the
+ * {@link CqlSession#getKeyspace() session keyspace}. Statement options (idempotency, timeouts) apply from the
+ * statement that was initially prepared.
  *
  * @author Mark Paluch
  * @since 2.0
@@ -84,7 +87,7 @@ public class MapPreparedStatementCache implements PreparedStatementCache {
 	public PreparedStatement getPreparedStatement(CqlSession session, SimpleStatement statement,
 			Supplier<PreparedStatement> preparer) {
 
-		CacheKey cacheKey = new CacheKey(session, statement.toString());
+		CacheKey cacheKey = new CacheKey(session, statement.getKeyspace(), statement.getQuery());
 
 		return getCache().computeIfAbsent(cacheKey, key -> preparer.get());
 	}
@@ -98,10 +101,11 @@ public class MapPreparedStatementCache implements PreparedStatementCache {
 		final String keyspace;
 		final String cql;
 
-		CacheKey(CqlSession session, String cql) {
+		CacheKey(CqlSession session, @Nullable CqlIdentifier keyspace, String cql) {
 
 			this.sessionName = session.getName();
-			this.keyspace = session.getKeyspace().orElse(CqlIdentifier.fromCql("system")).asInternal();
+			this.keyspace = (keyspace != null ? keyspace
+					: session.getKeyspace().orElse(CqlIdentifier.fromCql("system"))).asInternal();
 			this.cql = cql;
 		}
 
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.data.cassandra.ReactiveSession;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * {@link ReactivePreparedStatementCache} backed by a {@link Map} cache. Defaults to simple {@link ConcurrentHashMap}
+ * caching.
+ * <p/>
+ * Statements are cached with a key consisting of the session name, the {@link SimpleStatement#getKeyspace() statement
+ * keyspace} (falling back to the {@link ReactiveSession#getKeyspace() session keyspace}) and the {@code cql} text.
+ * Concurrent cache misses for the same key may prepare the statement more than once. Failed preparations are not
+ * cached.
+ *
+ * @author agent
+ * @since 3.1
+ */
+public class MapReactivePreparedStatementCache implements ReactivePreparedStatementCache {
+
+	private final Map<CacheKey, PreparedStatement> cache;
+
+	/**
+	 * Create a new {@link MapReactivePreparedStatementCache}.
+	 *
+	 * @param cache must not be {@literal null}.
+	 */
+	private MapReactivePreparedStatementCache(Map<CacheKey, PreparedStatement> cache) {
+
+		Assert.notNull(cache, "Cache must not be null");
+
+		this.cache = cache;
+	}
+
+	/**
+	 * Create a {@link MapReactivePreparedStatementCache} using {@link ConcurrentHashMap}.
+	 *
+	 * @return the new {@link MapReactivePreparedStatementCache} backed by {@link ConcurrentHashMap}.
+	 */
+	public static MapReactivePreparedStatementCache create() {
+		return of(new ConcurrentHashMap<>());
+	}
+
+	/**
+	 * Create a {@link MapReactivePreparedStatementCache} using the given {@link Map}.
+	 *
+	 * @return the new {@link MapReactivePreparedStatementCache} backed the given {@link Map}.
+	 */
+	public static MapReactivePreparedStatementCache of(Map<CacheKey, PreparedStatement> cache) {
+		return new MapReactivePreparedStatementCache(cache);
+	}
+
+	/**
+	 * @return the underlying {@link Map cache}.
+	 */
+	protected Map<CacheKey, PreparedStatement> getCache() {
+		return this.cache;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.cassandra.core.cql.support.ReactivePreparedStatementCache#getPreparedStatement(org.springframework.data.cassandra.ReactiveSession, com.datastax.oss.driver.api.core.cql.SimpleStatement, java.util.function.Supplier)
+	 */
+	@Override
+	public Mono<PreparedStatement> getPreparedStatement(ReactiveSession session, SimpleStatement statement,
+			Supplier<Mono<PreparedStatement>> preparer) {
+
+		CacheKey cacheKey = new CacheKey(session,
+				statement.getKeyspace() != null ? statement.getKeyspace() : session.getKeyspace().orElse(null),
+				statement.getQuery());
+
+		return Mono.defer(() -> {
+
+			PreparedStatement preparedStatement = getCache().get(cacheKey);
+
+			if (preparedStatement != null) {
+				return Mono.just(preparedStatement);
+			}
+
+			return preparer.get().doOnNext(it -> getCache().put(cacheKey, it));
+		});
+	}
+
+	/**
+	 * {@link CacheKey} for {@link PreparedStatement} caching.
+	 */
+	protected static class CacheKey {
+
+		final String sessionName;
+		final String keyspace;
+		final String cql;
+
+		CacheKey(ReactiveSession session, @Nullable CqlIdentifier keyspace, String cql) {
+
+			this.sessionName = session.getContext().getSessionName();
+			this.keyspace = keyspace != null ? keyspace.asInternal() : "";
+			this.cql = cql;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof CacheKey)) {
+				return false;
+			}
+			CacheKey cacheKey = (CacheKey) o;
+			if (!ObjectUtils.nullSafeEquals(sessionName, cacheKey.sessionName)) {
+				return false;
+			}
+			if (!ObjectUtils.nullSafeEquals(keyspace, cacheKey.keyspace)) {
+				return false;
+			}
+			return ObjectUtils.nullSafeEquals(cql, cacheKey.cql);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			int result = ObjectUtils.nullSafeHashCode(sessionName);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(keyspace);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(cql);
+			return result;
+		}
+	}
+}
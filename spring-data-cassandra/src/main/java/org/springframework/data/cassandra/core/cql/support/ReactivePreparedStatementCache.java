@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+import org.springframework.data.cassandra.ReactiveSession;
+
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Cache interface to reactively prepare CQL statements.
+ * <p />
+ * Reactive variant of {@link PreparedStatementCache}. Implementing classes come with own synchronization and cache
+ * implementation characteristics.
+ *
+ * @author agent
+ * @since 3.1
+ * @see PreparedStatement
+ * @see PreparedStatementCache
+ */
+public interface ReactivePreparedStatementCache {
+
+	/**
+	 * Create a default cache backed by a {@link java.util.concurrent.ConcurrentHashMap}.
+	 *
+	 * @return a new {@link MapReactivePreparedStatementCache}.
+	 */
+	static ReactivePreparedStatementCache create() {
+		return MapReactivePreparedStatementCache.create();
+	}
+
+	/**
+	 * Obtain a {@link PreparedStatement} by {@link ReactiveSession} and {@link SimpleStatement}.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 * @return the {@link PreparedStatement}.
+	 */
+	default Mono<PreparedStatement> getPreparedStatement(ReactiveSession session, SimpleStatement statement) {
+		return getPreparedStatement(session, statement, () -> session.prepare(statement));
+	}
+
+	/**
+	 * Obtain a {@link PreparedStatement} by {@link ReactiveSession} and {@link SimpleStatement}.
+	 *
+	 * @param session must not be {@literal null}.
+	 * @param statement must not be {@literal null}.
+	 * @param preparer must not be {@literal null}.
+	 * @return the {@link PreparedStatement}.
+	 */
+	Mono<PreparedStatement> getPreparedStatement(ReactiveSession session, SimpleStatement statement,
+			Supplier<Mono<PreparedStatement>> preparer);
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.data.cassandra.CassandraResultSizeExceededException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+
+/**
+ * Guard bounding the number of rows and the estimated number of bytes that are materialized into a single result
+ * {@link java.util.List}. Limits are checked while rows are extracted so that an unbounded query cannot exhaust the
+ * heap. Exceeding a limit either fails the query with {@link CassandraResultSizeExceededException} or
+ * {@link Mode#TRUNCATE truncates} the result to the rows extracted so far.
+ * <p/>
+ * The byte size of a result is estimated from the {@link ExecutionInfo#getResponseSizeInBytes() response size} of the
+ * fetched pages. A page is accounted when its first row is extracted. The guard is thread-safe and keeps cumulative
+ * {@link #getMetrics() metrics} about guarded queries and how close they got to the limits.
+ *
+ * @author agent
+ * @since 3.1
+ * @see org.springframework.data.cassandra.core.cql.RowMapperResultSetExtractor
+ */
+public class ResultSizeGuard {
+
+	/**
+	 * Value to indicate no limit.
+	 */
+	public static final long UNLIMITED = Long.MAX_VALUE;
+
+	private final long maxRows;
+
+	private final long maxBytes;
+
+	private final Mode mode;
+
+	private final LongAdder queryCount = new LongAdder();
+
+	private final LongAdder exceededCount = new LongAdder();
+
+	private final AtomicLong maxObservedRows = new AtomicLong();
+
+	private final AtomicLong maxObservedBytes = new AtomicLong();
+
+	/**
+	 * Create a new {@link ResultSizeGuard}.
+	 *
+	 * @param maxRows maximum number of rows to materialize, must be greater than zero. Use {@link #UNLIMITED} to not
+	 *          limit the number of rows.
+	 * @param maxBytes maximum estimated number of bytes to materialize, must be greater than zero. Use
+	 *          {@link #UNLIMITED} to not limit the number of bytes.
+	 * @param mode the {@link Mode} to apply when exceeding a limit, must not be {@literal null}.
+	 */
+	public ResultSizeGuard(long maxRows, long maxBytes, Mode mode) {
+
+		Assert.isTrue(maxRows > 0, "Maximum number of rows must be greater than zero");
+		Assert.isTrue(maxBytes > 0, "Maximum number of bytes must be greater than zero");
+		Assert.notNull(mode, "Mode must not be null");
+
+		this.maxRows = maxRows;
+		this.maxBytes = maxBytes;
+		this.mode = mode;
+	}
+
+	/**
+	 * Create a new {@link ResultSizeGuard} failing queries that return more than {@code maxRows} rows.
+	 *
+	 * @param maxRows maximum number of rows to materialize, must be greater than zero.
+	 * @return the {@link ResultSizeGuard}.
+	 */
+	public static ResultSizeGuard maxRows(long maxRows) {
+		return new ResultSizeGuard(maxRows, UNLIMITED, Mode.FAIL);
+	}
+
+	/**
+	 * Create a new {@link ResultSizeGuard} failing queries whose estimated result size exceeds {@code maxBytes}.
+	 *
+	 * @param maxBytes maximum estimated number of bytes to materialize, must be greater than zero.
+	 * @return the {@link ResultSizeGuard}.
+	 */
+	public static ResultSizeGuard maxBytes(long maxBytes) {
+		return new ResultSizeGuard(UNLIMITED, maxBytes, Mode.FAIL);
+	}
+
+	/**
+	 * Create a new {@link ResultSizeGuard} applying the same limits with {@link Mode#TRUNCATE}. The resulting guard keeps
+	 * its own metrics.
+	 *
+	 * @return a new {@link ResultSizeGuard} truncating results that exceed the limits.
+	 */
+	public ResultSizeGuard truncating() {
+		return new ResultSizeGuard(this.maxRows, this.maxBytes, Mode.TRUNCATE);
+	}
+
+	/**
+	 * Start tracking the extraction of a single result.
+	 *
+	 * @return a new {@link Tracker}.
+	 */
+	public Tracker track() {
+		return new Tracker();
+	}
+
+	/**
+	 * @return the maximum number of rows to materialize.
+	 */
+	public long getMaxRows() {
+		return this.maxRows;
+	}
+
+	/**
+	 * @return the maximum estimated number of bytes to materialize.
+	 */
+	public long getMaxBytes() {
+		return this.maxBytes;
+	}
+
+	/**
+	 * @return the {@link Mode} to apply when exceeding a limit.
+	 */
+	public Mode getMode() {
+		return this.mode;
+	}
+
+	/**
+	 * @return a snapshot of the metrics of this guard.
+	 */
+	public ResultSizeGuardMetrics getMetrics() {
+
+		long rows = this.maxObservedRows.get();
+		long bytes = this.maxObservedBytes.get();
+
+		return new ResultSizeGuardMetrics(this.maxRows, this.maxBytes, this.queryCount.sum(), this.exceededCount.sum(),
+				rows, bytes, Math.max(utilization(rows, this.maxRows), utilization(bytes, this.maxBytes)));
+	}
+
+	private static double utilization(long value, long limit) {
+		return limit == UNLIMITED ? 0 : (double) value / limit;
+	}
+
+	/**
+	 * Behavior when a result exceeds a limit.
+	 */
+	public enum Mode {
+
+		/**
+		 * Fail the query with {@link CassandraResultSizeExceededException}.
+		 */
+		FAIL,
+
+		/**
+		 * Stop extraction and return the rows extracted so far.
+		 */
+		TRUNCATE
+	}
+
+	/**
+	 * Tracks the extraction of a single result. Call {@link #tryAccept(ResultSet)} before materializing each row and
+	 * {@link #close()} once extraction has finished. Not thread-safe.
+	 */
+	public class Tracker implements AutoCloseable {
+
+		private @Nullable ExecutionInfo currentPage;
+
+		private long rows;
+
+		private long bytes;
+
+		private boolean closed;
+
+		private Tracker() {}
+
+		/**
+		 * Account the current row of {@link ResultSet}.
+		 *
+		 * @param resultSet the {@link ResultSet} positioned at the row to materialize, must not be {@literal null}.
+		 * @return {@literal true} if the row can be materialized; {@literal false} if the result exceeds a limit and
+		 *         extraction should stop.
+		 * @throws CassandraResultSizeExceededException if the result exceeds a limit using {@link Mode#FAIL}.
+		 */
+		public boolean tryAccept(ResultSet resultSet) {
+
+			ExecutionInfo page = resultSet.getExecutionInfo();
+
+			if (page != null && page != this.currentPage) {
+				this.currentPage = page;
+				this.bytes += Math.max(page.getResponseSizeInBytes(), 0);
+			}
+
+			if (this.rows < maxRows && this.bytes <= maxBytes) {
+				this.rows++;
+				return true;
+			}
+
+			exceededCount.increment();
+
+			if (mode == Mode.TRUNCATE) {
+				return false;
+			}
+
+			close();
+
+			throw new CassandraResultSizeExceededException(String.format(
+					"Result exceeds the materialization limit of %s rows and %s bytes; Use a Stream, a Slice or a more "
+							+ "selective query to read large results",
+					format(maxRows), format(maxBytes)), this.rows + 1, this.bytes);
+		}
+
+		/**
+		 * @return the number of accepted rows.
+		 */
+		public long getRows() {
+			return this.rows;
+		}
+
+		/**
+		 * @return the estimated number of bytes of the fetched pages.
+		 */
+		public long getBytes() {
+			return this.bytes;
+		}
+
+		/**
+		 * Finish tracking and record metrics.
+		 */
+		@Override
+		public void close() {
+
+			if (this.closed) {
+				return;
+			}
+
+			this.closed = true;
+
+			queryCount.increment();
+			maxObservedRows.accumulateAndGet(this.rows, Math::max);
+			maxObservedBytes.accumulateAndGet(this.bytes, Math::max);
+		}
+
+		private String format(long limit) {
+			return limit == UNLIMITED ? "unlimited" : Long.toString(limit);
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+/**
+ * Value object capturing the state of a {@link ResultSizeGuard} at a point in time. Counters are cumulative since the
+ * guard was created and can be exported to a metrics system.
+ *
+ * @author agent
+ * @since 3.1
+ * @see ResultSizeGuard#getMetrics()
+ */
+public final class ResultSizeGuardMetrics {
+
+	private final long maxRows;
+
+	private final long maxBytes;
+
+	private final long queryCount;
+
+	private final long exceededCount;
+
+	private final long maxObservedRows;
+
+	private final long maxObservedBytes;
+
+	private final double peakUtilization;
+
+	ResultSizeGuardMetrics(long maxRows, long maxBytes, long queryCount, long exceededCount, long maxObservedRows,
+			long maxObservedBytes, double peakUtilization) {
+
+		this.maxRows = maxRows;
+		this.maxBytes = maxBytes;
+		this.queryCount = queryCount;
+		this.exceededCount = exceededCount;
+		this.maxObservedRows = maxObservedRows;
+		this.maxObservedBytes = maxObservedBytes;
+		this.peakUtilization = peakUtilization;
+	}
+
+	/**
+	 * @return the maximum number of rows to materialize.
+	 */
+	public long getMaxRows() {
+		return this.maxRows;
+	}
+
+	/**
+	 * @return the maximum estimated number of bytes to materialize.
+	 */
+	public long getMaxBytes() {
+		return this.maxBytes;
+	}
+
+	/**
+	 * @return the total number of guarded results.
+	 */
+	public long getQueryCount() {
+		return this.queryCount;
+	}
+
+	/**
+	 * @return the total number of results that exceeded a limit and were failed or truncated.
+	 */
+	public long getExceededCount() {
+		return this.exceededCount;
+	}
+
+	/**
+	 * @return the largest number of rows materialized by a single result.
+	 */
+	public long getMaxObservedRows() {
+		return this.maxObservedRows;
+	}
+
+	/**
+	 * @return the largest estimated number of bytes fetched by a single result.
+	 */
+	public long getMaxObservedBytes() {
+		return this.maxObservedBytes;
+	}
+
+	/**
+	 * @return the largest observed fraction of a limit, {@literal 1.0} or more indicates that a limit was reached.
+	 */
+	public double getPeakUtilization() {
+		return this.peakUtilization;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("ResultSizeGuardMetrics [maxRows=%d, maxBytes=%d, queries=%d, exceeded=%d, "
+				+ "maxObservedRows=%d, maxObservedBytes=%d, peakUtilization=%.2f]", this.maxRows, this.maxBytes,
+				this.queryCount, this.exceededCount, this.maxObservedRows, this.maxObservedBytes, this.peakUtilization);
+	}
+}
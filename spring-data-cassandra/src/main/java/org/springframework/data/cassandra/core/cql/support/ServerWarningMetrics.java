@@ -0,0 +1,99 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import org.springframework.data.cassandra.core.cql.support.ServerWarningMonitor.WarningType;
+import org.springframework.lang.Nullable;
+
+/**
+ * Value object capturing the number of server warnings of a {@link WarningType} recorded by a
+ * {@link ServerWarningMonitor} for a table and query shape. Counts are cumulative since the monitor was created or
+ * {@link ServerWarningMonitor#reset() reset} and can be exported to a metrics system.
+ *
+ * @author agent
+ * @since 3.1
+ * @see ServerWarningMonitor#getMetrics()
+ */
+public final class ServerWarningMetrics {
+
+	private final @Nullable String tableName;
+
+	private final @Nullable String queryShape;
+
+	private final WarningType type;
+
+	private final long count;
+
+	private final String lastWarning;
+
+	ServerWarningMetrics(@Nullable String tableName, @Nullable String queryShape, WarningType type, long count,
+			String lastWarning) {
+
+		this.tableName = tableName;
+		this.queryShape = queryShape;
+		this.type = type;
+		this.count = count;
+		this.lastWarning = lastWarning;
+	}
+
+	/**
+	 * @return the table name as it appears in the query, or {@literal null} if the table could not be determined.
+	 */
+	@Nullable
+	public String getTableName() {
+		return this.tableName;
+	}
+
+	/**
+	 * @return the CQL of the query shape, or {@literal null} for statements without a query string and for warnings
+	 *         recorded after the number of tracked query shapes was exceeded.
+	 */
+	@Nullable
+	public String getQueryShape() {
+		return this.queryShape;
+	}
+
+	/**
+	 * @return the warning type.
+	 */
+	public WarningType getType() {
+		return this.type;
+	}
+
+	/**
+	 * @return the number of recorded warnings.
+	 */
+	public long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * @return the most recent warning message.
+	 */
+	public String getLastWarning() {
+		return this.lastWarning;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("ServerWarningMetrics [table=%s, type=%s, count=%d, queryShape=%s]", this.tableName,
+				this.type, this.count, this.queryShape);
+	}
+}
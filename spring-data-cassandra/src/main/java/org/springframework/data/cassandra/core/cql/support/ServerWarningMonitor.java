@@ -0,0 +1,376 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.session.Request;
+
+/**
+ * Aggregates warnings that Cassandra returns along with query responses through {@link ExecutionInfo#getWarnings()},
+ * such as tombstone threshold, batch size and aggregation warnings. Warnings are {@link WarningType classified} and
+ * counted per table, query shape and warning type. Counts are exposed through {@link #getMetrics()} and warnings are
+ * logged at most once per {@link #getLogInterval() log interval} per table, query shape and warning type along with the
+ * number of occurrences since the previous log entry.
+ * <p/>
+ * The query shape is the CQL string of a {@link SimpleStatement} or the prepared CQL of a {@link BoundStatement}. The
+ * number of tracked query shapes is bounded, warnings of queries with inlined literals beyond that bound are counted
+ * per table and warning type only. Responses without warnings are not recorded.
+ *
+ * @author agent
+ * @since 3.1
+ */
+public class ServerWarningMonitor {
+
+	private static final Logger LOG = LoggerFactory.getLogger(ServerWarningMonitor.class);
+
+	/**
+	 * Default interval between log entries of the same table, query shape and warning type.
+	 */
+	public static final Duration DEFAULT_LOG_INTERVAL = Duration.ofMinutes(1);
+
+	static final int MAX_ENTRIES = 1024;
+
+	private static final Pattern TABLE_REGEX = Pattern
+			.compile("(?i)\\b(?:FROM|INTO|UPDATE)\\s+((?:\"[^\"]+\"|\\w+)(?:\\.(?:\"[^\"]+\"|\\w+))?)");
+
+	private static final Pattern BATCH_TABLE_REGEX = Pattern.compile("(?i)batch for \\[([^,\\]]+)");
+
+	private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+	private final long logIntervalNanos;
+
+	/**
+	 * Create a new {@link ServerWarningMonitor} using {@link #DEFAULT_LOG_INTERVAL}.
+	 */
+	public ServerWarningMonitor() {
+		this(DEFAULT_LOG_INTERVAL);
+	}
+
+	/**
+	 * Create a new {@link ServerWarningMonitor}.
+	 *
+	 * @param logInterval minimum interval between log entries of the same table, query shape and warning type. Use
+	 *          {@link Duration#ZERO} to log every warning. Must not be {@literal null} or negative.
+	 */
+	public ServerWarningMonitor(Duration logInterval) {
+
+		Assert.notNull(logInterval, "Log interval must not be null");
+		Assert.isTrue(!logInterval.isNegative(), "Log interval must not be negative");
+
+		this.logIntervalNanos = logInterval.toNanos();
+	}
+
+	/**
+	 * Record the warnings of a response.
+	 *
+	 * @param executionInfo the {@link ExecutionInfo} of the response, must not be {@literal null}.
+	 */
+	public void record(ExecutionInfo executionInfo) {
+
+		Assert.notNull(executionInfo, "ExecutionInfo must not be null");
+
+		List<String> warnings = executionInfo.getWarnings();
+
+		if (warnings.isEmpty()) {
+			return;
+		}
+
+		String shape = getQueryShape(executionInfo.getRequest());
+
+		for (String warning : warnings) {
+			record(shape, warning);
+		}
+	}
+
+	private void record(@Nullable String shape, String warning) {
+
+		WarningType type = WarningType.classify(warning);
+		String tableName = getTableName(shape, warning);
+
+		Key key = new Key(tableName, shape, type);
+		Entry entry = this.entries.get(key);
+
+		if (entry == null) {
+
+			if (this.entries.size() >= MAX_ENTRIES) {
+				key = new Key(tableName, null, type);
+			}
+
+			entry = this.entries.computeIfAbsent(key, it -> new Entry(System.nanoTime() - this.logIntervalNanos));
+		}
+
+		entry.count.increment();
+		entry.lastWarning = warning;
+
+		maybeLog(key, entry, warning);
+	}
+
+	private void maybeLog(Key key, Entry entry, String warning) {
+
+		if (!LOG.isWarnEnabled()) {
+			return;
+		}
+
+		long now = System.nanoTime();
+		long lastLogged = entry.lastLogged.get();
+
+		if (now - lastLogged < this.logIntervalNanos || !entry.lastLogged.compareAndSet(lastLogged, now)) {
+			return;
+		}
+
+		long count = entry.count.sum();
+		long occurrences = count - entry.loggedCount.getAndSet(count);
+
+		LOG.warn("Cassandra warning [{}] for table [{}] ({} occurrences since last report) executing [{}]: {}", key.type,
+				key.tableName, occurrences, key.queryShape, warning);
+	}
+
+	/**
+	 * @return a snapshot of the warning counts ordered by count, most frequent first.
+	 */
+	public List<ServerWarningMetrics> getMetrics() {
+
+		List<ServerWarningMetrics> metrics = new ArrayList<>(this.entries.size());
+
+		this.entries.forEach((key, entry) -> metrics.add(new ServerWarningMetrics(key.tableName, key.queryShape,
+				key.type, entry.count.sum(), entry.lastWarning)));
+
+		metrics.sort(Comparator.comparingLong(ServerWarningMetrics::getCount).reversed());
+
+		return metrics;
+	}
+
+	/**
+	 * Return the number of warnings of the given {@link WarningType} across all tables and query shapes.
+	 *
+	 * @param type the warning type, must not be {@literal null}.
+	 * @return the number of recorded warnings.
+	 */
+	public long getCount(WarningType type) {
+
+		Assert.notNull(type, "WarningType must not be null");
+
+		long count = 0;
+
+		for (Map.Entry<Key, Entry> entry : this.entries.entrySet()) {
+			if (entry.getKey().type == type) {
+				count += entry.getValue().count.sum();
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * Discard all recorded warnings.
+	 */
+	public void reset() {
+		this.entries.clear();
+	}
+
+	/**
+	 * @return the minimum interval between log entries of the same table, query shape and warning type.
+	 */
+	public Duration getLogInterval() {
+		return Duration.ofNanos(this.logIntervalNanos);
+	}
+
+	@Nullable
+	private static String getQueryShape(@Nullable Request request) {
+
+		if (request instanceof SimpleStatement) {
+			return ((SimpleStatement) request).getQuery();
+		}
+
+		if (request instanceof BoundStatement) {
+			return ((BoundStatement) request).getPreparedStatement().getQuery();
+		}
+
+		return null;
+	}
+
+	@Nullable
+	private static String getTableName(@Nullable String shape, String warning) {
+
+		if (shape != null) {
+
+			Matcher matcher = TABLE_REGEX.matcher(shape);
+
+			if (matcher.find()) {
+				return matcher.group(1);
+			}
+		}
+
+		Matcher matcher = BATCH_TABLE_REGEX.matcher(warning);
+
+		return matcher.find() ? matcher.group(1).trim() : null;
+	}
+
+	/**
+	 * Type of server warning.
+	 */
+	public enum WarningType {
+
+		/**
+		 * A read scanned more tombstones than the warning threshold.
+		 */
+		TOMBSTONE,
+
+		/**
+		 * A batch exceeded the batch size warning threshold.
+		 */
+		BATCH_SIZE,
+
+		/**
+		 * An unlogged batch spanned multiple partitions.
+		 */
+		UNLOGGED_BATCH,
+
+		/**
+		 * An aggregation query was issued without restricting the partition key.
+		 */
+		AGGREGATION,
+
+		/**
+		 * A read or write exceeded a partition or result size threshold.
+		 */
+		LARGE_PARTITION,
+
+		/**
+		 * Any other warning.
+		 */
+		OTHER;
+
+		/**
+		 * Classify a server warning message.
+		 *
+		 * @param warning the warning message, must not be {@literal null}.
+		 * @return the {@link WarningType}.
+		 */
+		public static WarningType classify(String warning) {
+
+			String message = warning.toLowerCase(Locale.ROOT);
+
+			if (message.contains("tombstone")) {
+				return TOMBSTONE;
+			}
+
+			if (message.contains("unlogged batch")) {
+				return UNLOGGED_BATCH;
+			}
+
+			if (message.contains("batch") && message.contains("size")) {
+				return BATCH_SIZE;
+			}
+
+			if (message.contains("aggregation")) {
+				return AGGREGATION;
+			}
+
+			if (message.contains("partition") && (message.contains("size") || message.contains("large"))
+					|| message.contains("read size")) {
+				return LARGE_PARTITION;
+			}
+
+			return OTHER;
+		}
+	}
+
+	private static class Entry {
+
+		private final LongAdder count = new LongAdder();
+
+		private final AtomicLong lastLogged;
+
+		private final AtomicLong loggedCount = new AtomicLong();
+
+		private volatile String lastWarning = "";
+
+		Entry(long lastLogged) {
+			this.lastLogged = new AtomicLong(lastLogged);
+		}
+	}
+
+	private static class Key {
+
+		private final @Nullable String tableName;
+
+		private final @Nullable String queryShape;
+
+		private final WarningType type;
+
+		Key(@Nullable String tableName, @Nullable String queryShape, WarningType type) {
+			this.tableName = tableName;
+			this.queryShape = queryShape;
+			this.type = type;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof Key)) {
+				return false;
+			}
+
+			Key that = (Key) o;
+
+			return this.type == that.type && ObjectUtils.nullSafeEquals(this.tableName, that.tableName)
+					&& ObjectUtils.nullSafeEquals(this.queryShape, that.queryShape);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+
+			int result = ObjectUtils.nullSafeHashCode(this.tableName);
+			result = 31 * result + ObjectUtils.nullSafeHashCode(this.queryShape);
+			result = 31 * result + this.type.hashCode();
+			return result;
+		}
+	}
+}
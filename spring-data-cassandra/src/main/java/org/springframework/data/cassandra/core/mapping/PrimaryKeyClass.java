@@ -23,6 +23,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import org.springframework.data.annotation.Persistent;
+import org.springframework.stereotype.Indexed;
 
 /**
  * Annotates a type that represents the identity type of another class whose instances are stored in a table.
@@ -40,5 +41,6 @@ import org.springframework.data.annotation.Persistent;
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ ElementType.TYPE })
 @Persistent
+@Indexed
 public @interface PrimaryKeyClass {
 }
@@ -23,6 +23,7 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 import org.springframework.data.annotation.Persistent;
+import org.springframework.stereotype.Indexed;
 
 /**
  * Identifies a domain object to be persisted to Cassandra as a table.
@@ -32,6 +33,7 @@ import org.springframework.data.annotation.Persistent;
  */
 @Documented
 @Persistent
+@Indexed
 @Inherited
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ ElementType.TYPE })
@@ -147,6 +147,7 @@ public class CassandraPageRequest extends PageRequest {
 	 * <li>Unpaged</li>
 	 * <li>Request the first page</li>
 	 * <li>{@link CassandraPageRequest} with a {@link ByteBuffer paging state}</li>
+	 * <li>{@link KeysetPageRequest} with a {@link KeysetPageRequest#getKeyset() keyset}</li>
 	 * </ul>
 	 *
 	 * @param pageable
@@ -167,6 +168,10 @@ public class CassandraPageRequest extends PageRequest {
 			}
 		}
 
+		if (pageable instanceof KeysetPageRequest && !((KeysetPageRequest) pageable).getKeyset().isEmpty()) {
+			return;
+		}
+
 		throw new IllegalArgumentException(
 				"Paging queries for pages other than the first one require a CassandraPageRequest with a valid paging state");
 	}
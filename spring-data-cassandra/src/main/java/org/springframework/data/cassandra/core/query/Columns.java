@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
@@ -45,6 +46,8 @@ import com.datastax.oss.driver.api.core.CqlIdentifier;
  */
 public class Columns implements Iterable<ColumnName> {
 
+	private static final String COUNT = "count";
+
 	private final Map<ColumnName, Selector> columns;
 
 	private Columns(Map<ColumnName, Selector> columns) {
@@ -139,6 +142,89 @@ public class Columns implements Iterable<ColumnName> {
 		return select(columnName, FunctionCall.from("TTL", ColumnSelector.from(columnName)));
 	}
 
+	/**
+	 * Include the number of rows as {@code COUNT(*)} aliased as {@code count} in the selection. Counts rows per group
+	 * when used with {@link Query#groupBy(String...)}.
+	 *
+	 * @return a new {@link Columns} object containing all column definitions and the row count.
+	 * @since 3.1
+	 */
+	public Columns count() {
+		return select(COUNT, FunctionCall.from("COUNT", "*").as(COUNT));
+	}
+
+	/**
+	 * Include the number of non-null values of column {@code columnName} as {@code COUNT(columnName)} in the selection.
+	 * The aggregate is aliased as {@code count_columnName} so that it can be combined with other selections of the same
+	 * column.
+	 *
+	 * @param columnName must not be {@literal null}.
+	 * @return a new {@link Columns} object containing all column definitions and the number of non-null values of
+	 *         {@code columnName}.
+	 * @since 3.1
+	 */
+	public Columns count(String columnName) {
+		return aggregate("COUNT", columnName);
+	}
+
+	/**
+	 * Include the sum of column {@code columnName} as {@code SUM(columnName)} in the selection. The aggregate is
+	 * aliased as {@code sum_columnName} so that it can be combined with other selections of the same column.
+	 *
+	 * @param columnName must not be {@literal null}.
+	 * @return a new {@link Columns} object containing all column definitions and the sum of {@code columnName}.
+	 * @since 3.1
+	 */
+	public Columns sum(String columnName) {
+		return aggregate("SUM", columnName);
+	}
+
+	/**
+	 * Include the average of column {@code columnName} as {@code AVG(columnName)} in the selection. The aggregate is
+	 * aliased as {@code avg_columnName} so that it can be combined with other selections of the same column.
+	 *
+	 * @param columnName must not be {@literal null}.
+	 * @return a new {@link Columns} object containing all column definitions and the average of {@code columnName}.
+	 * @since 3.1
+	 */
+	public Columns avg(String columnName) {
+		return aggregate("AVG", columnName);
+	}
+
+	/**
+	 * Include the minimum of column {@code columnName} as {@code MIN(columnName)} in the selection. The aggregate is
+	 * aliased as {@code min_columnName} so that it can be combined with other selections of the same column.
+	 *
+	 * @param columnName must not be {@literal null}.
+	 * @return a new {@link Columns} object containing all column definitions and the minimum of {@code columnName}.
+	 * @since 3.1
+	 */
+	public Columns min(String columnName) {
+		return aggregate("MIN", columnName);
+	}
+
+	/**
+	 * Include the maximum of column {@code columnName} as {@code MAX(columnName)} in the selection. The aggregate is
+	 * aliased as {@code max_columnName} so that it can be combined with other selections of the same column.
+	 *
+	 * @param columnName must not be {@literal null}.
+	 * @return a new {@link Columns} object containing all column definitions and the maximum of {@code columnName}.
+	 * @since 3.1
+	 */
+	public Columns max(String columnName) {
+		return aggregate("MAX", columnName);
+	}
+
+	private Columns aggregate(String function, String columnName) {
+
+		Assert.notNull(columnName, "Column name must not be null");
+
+		// alias by function and column so that several aggregates of the same column and the column itself can be selected
+		String alias = function.toLowerCase(Locale.ROOT) + "_" + columnName.replaceAll("\\W", "_");
+
+		return select(alias, FunctionCall.from(function, ColumnSelector.from(columnName)).as(alias));
+	}
+
 	/**
 	 * Include column {@code columnName} with {@link Selector}. This column selection overrides an existing selection for
 	 * the column name.
@@ -366,6 +452,14 @@ public class Columns implements Iterable<ColumnName> {
 			return new ColumnSelector(columnName, alias);
 		}
 
+		/**
+		 * @return the selected {@link ColumnName}.
+		 * @since 3.1
+		 */
+		public ColumnName getColumnName() {
+			return columnName;
+		}
+
 		public Optional<CqlIdentifier> getAlias() {
 			return alias;
 		}
@@ -187,7 +187,7 @@ public class Criteria implements CriteriaDefinition {
 	}
 
 	/**
-	 * Create a criterion using the {@literal IN} operator.
+	 * Create a criterion using the {@literal IN} operator. A single {@link Placeholder} binds the entire value list.
 	 *
 	 * @param values the values to match against.
 	 * @return {@literal this} {@link Criteria} object.
@@ -201,6 +201,12 @@ public class Criteria implements CriteriaDefinition {
 					"You can only pass in one argument of type " + values[1].getClass().getName());
 		}
 
+		if (values.length == 1 && values[0] instanceof Placeholder) {
+
+			this.predicate = new Predicate(Operators.IN, values[0]);
+			return this;
+		}
+
 		return in(Arrays.asList(values));
 	}
 
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.query;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Keyset-based {@link PageRequest} that seeks past the clustering values of the last row of the previous page instead
+ * of relying on the driver's {@link java.nio.ByteBuffer paging state}. Queries for subsequent pages render a tuple
+ * relation such as {@code (ck1, ck2) > (?, ?)} on the {@link #getSort() sorted} clustering columns so that fetching a
+ * page has constant cost regardless of its position. The keyset consists of plain values so it can be serialized and
+ * used to resume paging across application restarts, driver upgrades or schema changes.
+ * <p/>
+ * The {@link Sort} must reference clustering columns in their declared order, either as a prefix or all of them, and
+ * use a single {@link Direction}. Results are compared as tuples; {@link Direction#ASC ascending} order seeks to rows
+ * following the keyset, {@link Direction#DESC descending} order to rows preceding it. Queries must select all sorted
+ * properties so that the keyset of the last row can be captured.
+ *
+ * @author agent
+ * @since 3.1
+ * @see Query#pageRequest(Pageable)
+ */
+public class KeysetPageRequest extends PageRequest {
+
+	private final Map<String, Object> keyset;
+
+	private final boolean nextAllowed;
+
+	private KeysetPageRequest(int page, int size, Sort sort, Map<String, Object> keyset, boolean nextAllowed) {
+
+		super(page, size, sort);
+
+		this.keyset = keyset;
+		this.nextAllowed = nextAllowed;
+	}
+
+	/**
+	 * Creates a new {@link KeysetPageRequest} for the first page.
+	 *
+	 * @param size the size of the page to be returned.
+	 * @param sort must not be {@literal null} or unsorted.
+	 * @throws IllegalArgumentException if the {@link Sort} is unsorted or mixes sort directions.
+	 */
+	public static KeysetPageRequest first(int size, Sort sort) {
+		return of(0, size, sort, Collections.emptyMap());
+	}
+
+	/**
+	 * Creates a new {@link KeysetPageRequest} for the first page with sort direction and properties applied.
+	 *
+	 * @param size the size of the page to be returned.
+	 * @param direction must not be {@literal null}.
+	 * @param properties must not be {@literal null} or empty.
+	 */
+	public static KeysetPageRequest first(int size, Direction direction, String... properties) {
+		return first(size, Sort.by(direction, properties));
+	}
+
+	/**
+	 * Creates a new {@link KeysetPageRequest} that seeks past the given {@code keyset}. Use this method to resume paging
+	 * from a previously captured {@link #getKeyset() keyset}.
+	 *
+	 * @param size the size of the page to be returned.
+	 * @param sort must not be {@literal null} or unsorted.
+	 * @param keyset values of the last row of the previous page keyed by property name, must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Sort} is unsorted or mixes sort directions or if the keyset does not
+	 *           contain a value for each sorted property.
+	 */
+	public static KeysetPageRequest after(int size, Sort sort, Map<String, ?> keyset) {
+
+		Assert.notEmpty(keyset, "Keyset must not be empty");
+
+		return of(1, size, sort, keyset);
+	}
+
+	/**
+	 * Creates a {@link KeysetPageRequest} for the current {@link Pageable} associated with the {@code keyset} of its last
+	 * row. The resulting request allows navigation to the {@link #next() next} page.
+	 *
+	 * @param current the current {@link Pageable}, must not be {@literal null}.
+	 * @param keyset values of the last row of the current page keyed by property name, must not be {@literal null}.
+	 */
+	public static KeysetPageRequest of(Pageable current, Map<String, ?> keyset) {
+
+		Assert.notNull(current, "Pageable must not be null");
+		Assert.notNull(keyset, "Keyset must not be null");
+
+		validateSort(current.getSort());
+
+		return new KeysetPageRequest(current.getPageNumber(), current.getPageSize(), current.getSort(),
+				Collections.unmodifiableMap(new LinkedHashMap<>(keyset)), !keyset.isEmpty());
+	}
+
+	private static KeysetPageRequest of(int page, int size, Sort sort, Map<String, ?> keyset) {
+
+		Assert.notNull(sort, "Sort must not be null");
+		Assert.notNull(keyset, "Keyset must not be null");
+
+		validateSort(sort);
+
+		for (Order order : sort) {
+			Assert.isTrue(keyset.isEmpty() || keyset.containsKey(order.getProperty()),
+					() -> String.format("Keyset does not contain a value for sorted property %s", order.getProperty()));
+		}
+
+		return new KeysetPageRequest(page, size, sort, Collections.unmodifiableMap(new LinkedHashMap<>(keyset)), false);
+	}
+
+	private static void validateSort(Sort sort) {
+
+		Assert.isTrue(sort.isSorted(), "Keyset paging requires a Sort");
+
+		Direction direction = sort.iterator().next().getDirection();
+
+		for (Order order : sort) {
+			Assert.isTrue(order.getDirection() == direction,
+					() -> String.format("Keyset paging requires a single sort direction; Sort %s mixes directions", sort));
+		}
+	}
+
+	/**
+	 * @return the values of the last row keyed by property name. The keyset is empty when requesting the first page.
+	 */
+	public Map<String, Object> getKeyset() {
+		return this.keyset;
+	}
+
+	/**
+	 * @return the common {@link Direction} of all sorted properties.
+	 */
+	public Direction getDirection() {
+		return getSort().iterator().next().getDirection();
+	}
+
+	/**
+	 * Returns whether there's a next {@link Pageable} we can access from the current one. Will return {@literal false} in
+	 * case the current {@link Pageable} already refers to the next page.
+	 *
+	 * @return {@literal true } if there's a next {@link Pageable} we can access from the current one.
+	 */
+	public boolean hasNext() {
+		return this.nextAllowed;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#next()
+	 */
+	@Override
+	public KeysetPageRequest next() {
+
+		Assert.state(hasNext(), "Cannot create a next page request without a keyset");
+
+		return new KeysetPageRequest(getPageNumber() + 1, getPageSize(), getSort(), this.keyset, false);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#previous()
+	 */
+	@Override
+	public PageRequest previous() {
+
+		Assert.state(getPageNumber() < 2, "Cannot navigate to an intermediate page");
+
+		return first(getPageSize(), getSort());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#first()
+	 */
+	@Override
+	public KeysetPageRequest first() {
+		return first(getPageSize(), getSort());
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof KeysetPageRequest)) {
+			return false;
+		}
+		if (!super.equals(obj)) {
+			return false;
+		}
+
+		KeysetPageRequest that = (KeysetPageRequest) obj;
+
+		if (nextAllowed != that.nextAllowed) {
+			return false;
+		}
+
+		return ObjectUtils.nullSafeEquals(keyset, that.keyset);
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.domain.PageRequest#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+
+		int result = super.hashCode();
+
+		result = 31 * result + keyset.hashCode();
+		result = 31 * result + (nextAllowed ? 1 : 0);
+
+		return result;
+	}
+
+	/* (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return String.format("Keyset page request [number: %d, size %d, sort: %s, keyset: %s]", getPageNumber(),
+				getPageSize(), getSort(), this.keyset);
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.query;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Value object representing a named placeholder for a {@link Criteria} value. Placeholders are used to compile a
+ * {@link Query} once and to bind the actual values on each execution:
+ *
+ * <pre class="code">
+ * Query query = Query.query(Criteria.where("lastname").is(Placeholder.named("lastname")));
+ *
+ * CompiledQuery&lt;Person&gt; compiled = template.compile(query, Person.class);
+ *
+ * List&lt;Person&gt; people = compiled.select(Collections.singletonMap("lastname", "White"));
+ * </pre>
+ *
+ * A {@link Query} containing placeholders cannot be executed directly.
+ *
+ * @author agent
+ * @since 3.1
+ * @see org.springframework.data.cassandra.core.CompiledQuery
+ */
+public final class Placeholder {
+
+	private final String name;
+
+	private Placeholder(String name) {
+		this.name = name;
+	}
+
+	/**
+	 * Create a new {@link Placeholder} given its {@code name}.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @return the {@link Placeholder} for {@code name}.
+	 */
+	public static Placeholder named(String name) {
+
+		Assert.hasText(name, "Placeholder name must not be null or empty");
+
+		return new Placeholder(name);
+	}
+
+	/**
+	 * @return the placeholder name.
+	 */
+	public String getName() {
+		return this.name;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object o) {
+
+		if (this == o) {
+			return true;
+		}
+
+		if (!(o instanceof Placeholder)) {
+			return false;
+		}
+
+		return ObjectUtils.nullSafeEquals(this.name, ((Placeholder) o).name);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return ObjectUtils.nullSafeHashCode(this.name);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return ":" + this.name;
+	}
+}
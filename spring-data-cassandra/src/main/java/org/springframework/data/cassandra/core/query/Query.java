@@ -32,6 +32,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * Query object representing {@link CriteriaDefinition}s, {@link Columns}, {@link Sort}, {@link ByteBuffer paging state}
@@ -45,7 +46,7 @@ import org.springframework.util.Assert;
 public class Query implements Filter {
 
 	private static final Query EMPTY = new Query(Collections.emptyList(), Columns.empty(), Sort.unsorted(),
-			Optional.empty(), Optional.empty(), Optional.empty(), false);
+			Optional.empty(), Optional.empty(), Optional.empty(), false, Collections.emptyList(), 0, Optional.empty());
 
 	private final boolean allowFiltering;
 
@@ -53,17 +54,24 @@ public class Query implements Filter {
 
 	private final List<CriteriaDefinition> criteriaDefinitions;
 
+	private final List<ColumnName> groupBy;
+
 	private final Optional<Long> limit;
 
+	private final int perPartitionLimit;
+
 	private final Optional<ByteBuffer> pagingState;
 
 	private final Optional<QueryOptions> queryOptions;
 
 	private final Sort sort;
 
+	private final Optional<KeysetPageRequest> keysetPageRequest;
+
 	private Query(List<CriteriaDefinition> criteriaDefinitions, Columns columns, Sort sort,
 			Optional<ByteBuffer> pagingState, Optional<QueryOptions> queryOptions, Optional<Long> limit,
-			boolean allowFiltering) {
+			boolean allowFiltering, List<ColumnName> groupBy, int perPartitionLimit,
+			Optional<KeysetPageRequest> keysetPageRequest) {
 
 		this.criteriaDefinitions = criteriaDefinitions;
 		this.columns = columns;
@@ -72,6 +80,9 @@ public class Query implements Filter {
 		this.queryOptions = queryOptions;
 		this.limit = limit;
 		this.allowFiltering = allowFiltering;
+		this.groupBy = groupBy;
+		this.perPartitionLimit = perPartitionLimit;
+		this.keysetPageRequest = keysetPageRequest;
 	}
 
 	/**
@@ -110,7 +121,7 @@ public class Query implements Filter {
 				.collect(Collectors.toList());
 
 		return new Query(collect, Columns.empty(), Sort.unsorted(), Optional.empty(), Optional.empty(), Optional.empty(),
-				false);
+				false, Collections.emptyList(), 0, Optional.empty());
 	}
 
 	/**
@@ -132,7 +143,7 @@ public class Query implements Filter {
 		}
 
 		return new Query(criteriaDefinitions, this.columns, this.sort, this.pagingState, this.queryOptions, this.limit,
-				this.allowFiltering);
+				this.allowFiltering, this.groupBy, this.perPartitionLimit, this.keysetPageRequest);
 	}
 
 	/* (non-Javadoc)
@@ -155,7 +166,8 @@ public class Query implements Filter {
 		Assert.notNull(columns, "Columns must not be null");
 
 		return new Query(this.criteriaDefinitions, this.columns.and(columns), this.sort, this.pagingState,
-				this.queryOptions, this.limit, this.allowFiltering);
+				this.queryOptions, this.limit, this.allowFiltering, this.groupBy, this.perPartitionLimit,
+				this.keysetPageRequest);
 	}
 
 	/**
@@ -183,7 +195,7 @@ public class Query implements Filter {
 		}
 
 		return new Query(this.criteriaDefinitions, this.columns, this.sort.and(sort), this.pagingState, this.queryOptions,
-				this.limit, this.allowFiltering);
+				this.limit, this.allowFiltering, this.groupBy, this.perPartitionLimit, this.keysetPageRequest);
 	}
 
 	/**
@@ -196,11 +208,13 @@ public class Query implements Filter {
 	/**
 	 * Create a {@link Query} initialized with a {@link PageRequest} to fetch the first page of results or advance in
 	 * paging along with sorting. Reads (and overrides, if set) {@link Pageable#getPageSize() page size} into
-	 * {@link QueryOptions#getPageSize()} and sets {@link PagingState} and {@link Sort}.
+	 * {@link QueryOptions#getPageSize()} and sets {@link PagingState} and {@link Sort}. A {@link KeysetPageRequest}
+	 * replaces the paging state with a relation seeking past its {@link KeysetPageRequest#getKeyset() keyset}.
 	 *
 	 * @param pageable must not be {@literal null}.
 	 * @return a new {@link Query} object containing the former settings with {@link PageRequest} applied.
 	 * @see CassandraPageRequest
+	 * @see KeysetPageRequest
 	 */
 	public Query pageRequest(Pageable pageable) {
 
@@ -209,16 +223,40 @@ public class Query implements Filter {
 		CassandraPageRequest.validatePageable(pageable);
 
 		ByteBuffer pagingState = getPagingState().orElse(null);
+		Optional<KeysetPageRequest> keysetPageRequest = Optional.empty();
 
 		if (pageable instanceof CassandraPageRequest) {
 			pagingState = ((CassandraPageRequest) pageable).getPagingState();
 		}
 
+		if (pageable instanceof KeysetPageRequest) {
+			pagingState = null;
+			keysetPageRequest = Optional.of((KeysetPageRequest) pageable);
+		}
+
 		QueryOptions queryOptions = this.queryOptions.map(QueryOptions::mutate).orElse(QueryOptions.builder())
 				.pageSize(pageable.getPageSize()).build();
 
-		return new Query(this.criteriaDefinitions, this.columns, this.sort.and(pageable.getSort()),
-				Optional.ofNullable(pagingState), Optional.of(queryOptions), this.limit, this.allowFiltering);
+		return new Query(this.criteriaDefinitions, this.columns, mergeSort(this.sort, pageable.getSort()),
+				Optional.ofNullable(pagingState), Optional.of(queryOptions), this.limit, this.allowFiltering,
+				this.groupBy, this.perPartitionLimit, keysetPageRequest);
+	}
+
+	private static Sort mergeSort(Sort sort, Sort additional) {
+
+		List<Order> orders = additional.stream().filter(it -> sort.getOrderFor(it.getProperty()) == null)
+				.collect(Collectors.toList());
+
+		return sort.and(Sort.by(orders));
+	}
+
+	/**
+	 * @return the {@link KeysetPageRequest} if the query pages through results by keyset.
+	 * @since 3.1
+	 * @see #pageRequest(Pageable)
+	 */
+	public Optional<KeysetPageRequest> getKeysetPageRequest() {
+		return this.keysetPageRequest;
 	}
 
 	/**
@@ -232,7 +270,7 @@ public class Query implements Filter {
 		Assert.notNull(pagingState, "PagingState must not be null");
 
 		return new Query(this.criteriaDefinitions, this.columns, this.sort, Optional.of(pagingState), this.queryOptions,
-				this.limit, this.allowFiltering);
+				this.limit, this.allowFiltering, this.groupBy, this.perPartitionLimit, this.keysetPageRequest);
 	}
 
 	/**
@@ -253,7 +291,7 @@ public class Query implements Filter {
 		Assert.notNull(queryOptions, "QueryOptions must not be null");
 
 		return new Query(this.criteriaDefinitions, this.columns, this.sort, this.pagingState, Optional.of(queryOptions),
-				this.limit, this.allowFiltering);
+				this.limit, this.allowFiltering, this.groupBy, this.perPartitionLimit, this.keysetPageRequest);
 	}
 
 	/**
@@ -271,7 +309,7 @@ public class Query implements Filter {
 	 */
 	public Query limit(long limit) {
 		return new Query(this.criteriaDefinitions, this.columns, this.sort, this.pagingState, this.queryOptions,
-				Optional.of(limit), this.allowFiltering);
+				Optional.of(limit), this.allowFiltering, this.groupBy, this.perPartitionLimit, this.keysetPageRequest);
 	}
 
 	/**
@@ -281,6 +319,31 @@ public class Query implements Filter {
 		return this.limit.orElse(0L);
 	}
 
+	/**
+	 * Limit the number of returned rows per partition to {@code perPartitionLimit} using {@code PER PARTITION LIMIT}.
+	 * Rows are returned in clustering order so that the limit retains the head rows of each partition. Can be combined
+	 * with {@link #limit(long)} to additionally limit the total number of rows.
+	 *
+	 * @param perPartitionLimit must be greater than zero.
+	 * @return a new {@link Query} object containing the former settings with {@code perPartitionLimit} applied.
+	 * @since 3.1
+	 */
+	public Query perPartitionLimit(int perPartitionLimit) {
+
+		Assert.isTrue(perPartitionLimit > 0, "Per partition limit must be greater than zero");
+
+		return new Query(this.criteriaDefinitions, this.columns, this.sort, this.pagingState, this.queryOptions, this.limit,
+				this.allowFiltering, this.groupBy, perPartitionLimit, this.keysetPageRequest);
+	}
+
+	/**
+	 * @return the maximum number of rows to be returned per partition, {@literal 0} if not limited.
+	 * @since 3.1
+	 */
+	public int getPerPartitionLimit() {
+		return this.perPartitionLimit;
+	}
+
 	/**
 	 * Allow filtering with {@code this} {@link Query}.
 	 *
@@ -288,7 +351,7 @@ public class Query implements Filter {
 	 */
 	public Query withAllowFiltering() {
 		return new Query(this.criteriaDefinitions, this.columns, this.sort, this.pagingState, this.queryOptions, this.limit,
-				true);
+				true, this.groupBy, this.perPartitionLimit, this.keysetPageRequest);
 	}
 
 	/**
@@ -298,6 +361,36 @@ public class Query implements Filter {
 		return this.allowFiltering;
 	}
 
+	/**
+	 * Group rows by the given columns using {@code GROUP BY}. Columns must form a prefix of the primary key, that is the
+	 * partition key columns optionally followed by a prefix of the clustering columns. Use aggregate selectors such as
+	 * {@link Columns#sum(String)} or {@link Columns#count()} to aggregate rows within each group.
+	 *
+	 * @param columnNames must not be {@literal null}.
+	 * @return a new {@link Query} object containing the former settings with {@code GROUP BY} applied.
+	 * @since 3.1
+	 */
+	public Query groupBy(String... columnNames) {
+
+		Assert.notNull(columnNames, "Column names must not be null");
+
+		List<ColumnName> groupBy = new ArrayList<>(this.groupBy.size() + columnNames.length);
+
+		groupBy.addAll(this.groupBy);
+		Arrays.stream(columnNames).map(ColumnName::from).forEach(groupBy::add);
+
+		return new Query(this.criteriaDefinitions, this.columns, this.sort, this.pagingState, this.queryOptions, this.limit,
+				this.allowFiltering, Collections.unmodifiableList(groupBy), this.perPartitionLimit, this.keysetPageRequest);
+	}
+
+	/**
+	 * @return the {@link ColumnName}s to group by in {@code GROUP BY} order, empty if the query does not group rows.
+	 * @since 3.1
+	 */
+	public List<ColumnName> getGroupBy() {
+		return this.groupBy;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see java.lang.Object#equals(java.lang.Object)
@@ -331,9 +424,12 @@ public class Query implements Filter {
 		boolean queryOptionsEqual = nullSafeEquals(this.queryOptions, that.queryOptions);
 		boolean limitEqual = this.limit == that.limit;
 		boolean allowFilteringEqual = this.allowFiltering == that.allowFiltering;
+		boolean groupByEqual = this.groupBy.equals(that.groupBy);
+		boolean perPartitionLimitEqual = this.perPartitionLimit == that.perPartitionLimit;
+		boolean keysetPageRequestEqual = nullSafeEquals(this.keysetPageRequest, that.keysetPageRequest);
 
 		return criteriaEqual && columnsEqual && sortEqual && pagingStateEqual && queryOptionsEqual && limitEqual
-				&& allowFilteringEqual;
+				&& allowFilteringEqual && groupByEqual && perPartitionLimitEqual && keysetPageRequestEqual;
 	}
 
 	/*
@@ -350,6 +446,9 @@ public class Query implements Filter {
 		result += 31 * nullSafeHashCode(queryOptions);
 		result += 31 * nullSafeHashCode(limit);
 		result += (allowFiltering ? 0 : 1);
+		result += 31 * groupBy.hashCode();
+		result += 31 * perPartitionLimit;
+		result += 31 * nullSafeHashCode(keysetPageRequest);
 		return result;
 	}
 
@@ -363,6 +462,18 @@ public class Query implements Filter {
 		String query = StreamSupport.stream(this.spliterator(), false).map(SerializationUtils::serializeToCqlSafely)
 				.collect(Collectors.joining(" AND "));
 
-		return String.format("Query: %s, Columns: %s, Sort: %s, Limit: %d", query, getColumns(), getSort(), getLimit());
+		StringBuilder builder = new StringBuilder(String.format("Query: %s, Columns: %s", query, getColumns()));
+
+		if (!getGroupBy().isEmpty()) {
+			builder.append(", Group By: ").append(StringUtils.collectionToDelimitedString(getGroupBy(), ", "));
+		}
+
+		builder.append(", Sort: ").append(getSort());
+
+		if (getPerPartitionLimit() > 0) {
+			builder.append(", Per Partition Limit: ").append(getPerPartitionLimit());
+		}
+
+		return builder.append(", Limit: ").append(getLimit()).toString();
 	}
 }
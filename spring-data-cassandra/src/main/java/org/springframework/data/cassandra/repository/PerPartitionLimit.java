@@ -0,0 +1,53 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.data.annotation.QueryAnnotation;
+
+/**
+ * Annotation to declare a {@code PER PARTITION LIMIT} for derived query methods. Limits the number of rows returned
+ * from each partition, for example to read the latest events per device in clustering order:
+ *
+ * <pre class="code">
+ * &#64;PerPartitionLimit(10)
+ * List&lt;Event&gt; findByDeviceIdIn(Collection&lt;String&gt; deviceIds);
+ * </pre>
+ *
+ * String-based queries declared through {@link Query @Query} cannot be combined with this annotation and are rejected
+ * on repository initialization. Declare {@code PER PARTITION LIMIT} in the query string instead.
+ *
+ * @author agent
+ * @see org.springframework.data.cassandra.core.query.Query#perPartitionLimit(int)
+ * @since 3.1
+ */
+@Documented
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@QueryAnnotation
+public @interface PerPartitionLimit {
+
+	/**
+	 * @return the maximum number of rows to return per partition. Must be greater than zero.
+	 */
+	int value();
+
+}
@@ -52,7 +52,8 @@ public @interface Query {
 	/**
 	 * Specifies whether the {@link #value() CQL query} is
 	 * {@link com.datastax.oss.driver.api.core.cql.Statement#isIdempotent}. {@code SELECT} statements are considered
-	 * {@link Idempotency#IDEMPOTENT idempotent} by default.
+	 * {@link Idempotency#IDEMPOTENT idempotent} by default. Derived queries are marked idempotent if the derived statement
+	 * is safe to be retried; declaring {@link Idempotency} overrides the inferred value.
 	 *
 	 * @since 2.2
 	 */
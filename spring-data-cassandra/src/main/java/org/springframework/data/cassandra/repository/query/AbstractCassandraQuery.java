@@ -95,7 +95,7 @@ public abstract class AbstractCassandraQuery extends CassandraRepositoryQuerySup
 
 		ResultProcessor resultProcessor = getQueryMethod().getResultProcessor().withDynamicProjection(parameterAccessor);
 
-		Statement<?> statement = createQuery(parameterAccessor);
+		Statement<?> statement = getStatementToExecute(parameterAccessor);
 
 		CassandraQueryExecution queryExecution = getExecution(parameterAccessor,
 				new ResultProcessingConverter(resultProcessor, toMappingContext(getOperations()), getEntityInstantiators()));
@@ -120,6 +120,30 @@ public abstract class AbstractCassandraQuery extends CassandraRepositoryQuerySup
 	 */
 	protected abstract SimpleStatement createQuery(CassandraParameterAccessor accessor);
 
+	/**
+	 * Obtain the {@link Statement} to execute using the given {@link CassandraParameterAccessor}. Subclasses may override
+	 * this method to execute the query as prepared statement. The default implementation returns the
+	 * {@link SimpleStatement} created by {@link #createQuery(CassandraParameterAccessor)}.
+	 *
+	 * @param parameterAccessor must not be {@literal null}.
+	 * @return the {@link Statement} to execute.
+	 * @since 3.1
+	 */
+	protected Statement<?> getStatementToExecute(CassandraParameterAccessor parameterAccessor) {
+		return createQuery(parameterAccessor);
+	}
+
+	/**
+	 * Derive and prepare the statement of this query method ahead of its first invocation so that the first invocation
+	 * does not pay for query derivation and statement preparation. The default implementation does nothing.
+	 *
+	 * @return {@literal true} if the query method was warmed up.
+	 * @since 3.1
+	 */
+	public boolean warmUp() {
+		return false;
+	}
+
 	/**
 	 * Returns the execution instance to use.
 	 *
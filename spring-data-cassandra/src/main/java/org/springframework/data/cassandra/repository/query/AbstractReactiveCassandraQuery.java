@@ -38,6 +38,7 @@ import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.util.Assert;
 
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 
 /**
  * Base class for reactive {@link RepositoryQuery} implementations for Cassandra.
@@ -91,7 +92,7 @@ public abstract class AbstractReactiveCassandraQuery extends CassandraRepository
 		CassandraParameterAccessor convertingParameterAccessor = new ConvertingParameterAccessor(
 				getRequiredConverter(getReactiveCassandraOperations()), parameterAccessor);
 
-		Mono<SimpleStatement> statement = createQuery(convertingParameterAccessor);
+		Mono<? extends Statement<?>> statement = getStatementToExecute(convertingParameterAccessor);
 
 		ResultProcessor resultProcessor = getQueryMethod().getResultProcessor()
 				.withDynamicProjection(convertingParameterAccessor);
@@ -119,6 +120,19 @@ public abstract class AbstractReactiveCassandraQuery extends CassandraRepository
 	 */
 	protected abstract Mono<SimpleStatement> createQuery(CassandraParameterAccessor accessor);
 
+	/**
+	 * Obtain the {@link Statement} to execute using the given {@link CassandraParameterAccessor}. Subclasses may override
+	 * this method to execute the query as prepared statement. The default implementation emits the
+	 * {@link SimpleStatement} created by {@link #createQuery(CassandraParameterAccessor)}.
+	 *
+	 * @param parameterAccessor must not be {@literal null}.
+	 * @return the {@link Statement} to execute.
+	 * @since 3.1
+	 */
+	protected Mono<? extends Statement<?>> getStatementToExecute(CassandraParameterAccessor parameterAccessor) {
+		return createQuery(parameterAccessor);
+	}
+
 	protected ReactiveCassandraOperations getReactiveCassandraOperations() {
 		return this.operations;
 	}
@@ -21,9 +21,11 @@ import java.util.List;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.convert.QueryMapper;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.query.CassandraPageRequest;
+import org.springframework.data.cassandra.core.query.KeysetPageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
@@ -106,6 +108,11 @@ interface CassandraQueryExecution {
 
 			Slice<?> slice = operations.slice(statementToUse, type);
 
+			if (pageable instanceof KeysetPageRequest) {
+				return new QueryMapper(operations.getConverter()).withKeyset(slice, (KeysetPageRequest) pageable,
+						operations.getConverter().getMappingContext().getRequiredPersistentEntity(type));
+			}
+
 			if (pageable.getSort().isUnsorted()) {
 				return slice;
 			}
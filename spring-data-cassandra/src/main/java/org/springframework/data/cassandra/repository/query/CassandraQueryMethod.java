@@ -24,6 +24,7 @@ import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.repository.Consistency;
+import org.springframework.data.cassandra.repository.PerPartitionLimit;
 import org.springframework.data.cassandra.repository.Query;
 import org.springframework.data.cassandra.repository.Query.Idempotency;
 import org.springframework.data.mapping.context.MappingContext;
@@ -58,6 +59,8 @@ public class CassandraQueryMethod extends QueryMethod {
 
 	private final Optional<Consistency> consistency;
 
+	private final Optional<PerPartitionLimit> perPartitionLimit;
+
 	private @Nullable CassandraEntityMetadata<?> entityMetadata;
 
 	/**
@@ -81,10 +84,13 @@ public class CassandraQueryMethod extends QueryMethod {
 		this.mappingContext = mappingContext;
 		this.query = Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(method, Query.class));
 		this.consistency = Optional.ofNullable(AnnotatedElementUtils.findMergedAnnotation(method, Consistency.class));
+		this.perPartitionLimit = Optional
+				.ofNullable(AnnotatedElementUtils.findMergedAnnotation(method, PerPartitionLimit.class));
 	}
 
 	/**
-	 * Validates that this query is not a page query.
+	 * Validates that this query is not a page query and that string-based queries do not declare a
+	 * {@link PerPartitionLimit}.
 	 */
 	@SuppressWarnings("unused")
 	public void verify(Method method, RepositoryMetadata metadata) {
@@ -92,6 +98,15 @@ public class CassandraQueryMethod extends QueryMethod {
 		if (isPageQuery()) {
 			throw new InvalidDataAccessApiUsageException("Page queries are not supported. Use a Slice query.");
 		}
+
+		Query query = AnnotatedElementUtils.findMergedAnnotation(method, Query.class);
+
+		if (query != null && StringUtils.hasText(query.value())
+				&& AnnotatedElementUtils.hasAnnotation(method, PerPartitionLimit.class)) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("@PerPartitionLimit is not supported on string-based query method %s;"
+							+ " Declare PER PARTITION LIMIT in the query instead", method.getName()));
+		}
 	}
 
 	/*
@@ -182,6 +197,27 @@ public class CassandraQueryMethod extends QueryMethod {
 				.orElseThrow(() -> new IllegalStateException("No @Consistency annotation found"));
 	}
 
+	/**
+	 * @return whether the method declares a {@link PerPartitionLimit}.
+	 * @since 3.1
+	 */
+	public boolean hasPerPartitionLimit() {
+		return this.perPartitionLimit.isPresent();
+	}
+
+	/**
+	 * Returns the per partition limit declared in a {@link PerPartitionLimit} annotation or throws
+	 * {@link IllegalStateException} if the annotation was not found.
+	 *
+	 * @return the per partition limit.
+	 * @throws IllegalStateException if the required annotation was not found.
+	 * @since 3.1
+	 */
+	public int getRequiredPerPartitionLimit() throws IllegalStateException {
+		return this.perPartitionLimit.map(PerPartitionLimit::value)
+				.orElseThrow(() -> new IllegalStateException("No @PerPartitionLimit annotation found"));
+	}
+
 	/**
 	 * Returns the required query string declared in a {@link Query} annotation or throws {@link IllegalStateException} if
 	 * neither the annotation found nor the attribute was specified.
@@ -15,19 +15,32 @@
  */
 package org.springframework.data.cassandra.repository.query;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.CassandraTemplate;
 import org.springframework.data.cassandra.core.StatementFactory;
 import org.springframework.data.cassandra.core.convert.UpdateMapper;
+import org.springframework.data.cassandra.core.cql.SessionCallback;
+import org.springframework.data.cassandra.core.cql.WriteOptions;
+import org.springframework.data.cassandra.core.cql.support.PreparedStatementCache;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.core.query.KeysetPageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.util.Pair;
+import org.springframework.lang.Nullable;
 
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 
 /**
  * {@link RepositoryQuery} implementation for Cassandra.
@@ -44,6 +57,12 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 
 	private final StatementFactory statementFactory;
 
+	private final boolean templated;
+
+	private final Map<Pair<Sort, Optional<Class<?>>>, PartTreeStatementTemplate> templates = new ConcurrentHashMap<>();
+
+	private final PreparedStatementCache preparedStatementCache = PreparedStatementCache.create();
+
 	/**
 	 * Create a new {@link PartTreeCassandraQuery} from the given {@link QueryMethod} and {@link CassandraTemplate}.
 	 *
@@ -57,6 +76,7 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 		this.tree = new PartTree(queryMethod.getName(), queryMethod.getResultProcessor().getReturnedType().getDomainType());
 		this.mappingContext = operations.getConverter().getMappingContext();
 		this.statementFactory = new StatementFactory(new UpdateMapper(operations.getConverter()));
+		this.templated = PartTreeStatementTemplate.supports(this.tree, this.mappingContext);
 	}
 
 	/**
@@ -112,6 +132,94 @@ public class PartTreeCassandraQuery extends AbstractCassandraQuery {
 				getQueryMethod().getResultProcessor());
 	}
 
+	/**
+	 * Execute the query as prepared statement. The statement template is derived once per sort and projection and
+	 * prepared through {@link PreparedStatementCache}, each invocation binds the converted parameter values. Falls back
+	 * to the statement created by {@link #createQuery(CassandraParameterAccessor)} if the query cannot be templated or
+	 * the number of cached templates is exhausted.
+	 *
+	 * @param parameterAccessor must not be {@literal null}.
+	 * @return the {@link Statement} to execute.
+	 * @since 3.1
+	 */
+	@Override
+	protected Statement<?> getStatementToExecute(CassandraParameterAccessor parameterAccessor) {
+
+		if (!isTemplated(parameterAccessor)) {
+			return createQuery(parameterAccessor);
+		}
+
+		PartTreeStatementTemplate template = getTemplate(parameterAccessor);
+
+		if (template == null) {
+			return createQuery(parameterAccessor);
+		}
+
+		return getQueryStatementCreator().bind(template, prepare(template), parameterAccessor);
+	}
+
+	/**
+	 * Derive and prepare the statement template for unsorted invocations without dynamic projection.
+	 *
+	 * @return {@literal true} if the query method was warmed up.
+	 * @since 3.1
+	 */
+	@Override
+	public boolean warmUp() {
+
+		CassandraParameters parameters = getQueryMethod().getParameters();
+
+		if (!this.templated || parameters.hasDynamicProjection()) {
+			return false;
+		}
+
+		CassandraParameterAccessor parameterAccessor = new ConvertingParameterAccessor(getOperations().getConverter(),
+				new CassandraParametersParameterAccessor(getQueryMethod(), new Object[parameters.getNumberOfParameters()]));
+
+		PartTreeStatementTemplate template = getTemplate(parameterAccessor);
+
+		if (template == null) {
+			return false;
+		}
+
+		prepare(template);
+
+		return true;
+	}
+
+	@Nullable
+	private PartTreeStatementTemplate getTemplate(CassandraParameterAccessor parameterAccessor) {
+
+		Pair<Sort, Optional<Class<?>>> key = Pair.of(parameterAccessor.getSort(),
+				parameterAccessor.getDynamicProjection());
+		PartTreeStatementTemplate template = this.templates.get(key);
+
+		if (template != null || this.templates.size() >= PartTreeStatementTemplate.MAX_TEMPLATES) {
+			return template;
+		}
+
+		return this.templates.computeIfAbsent(key, it -> getQueryStatementCreator().template(getStatementFactory(),
+				getTree(), parameterAccessor, getQueryMethod().getResultProcessor()));
+	}
+
+	private PreparedStatement prepare(PartTreeStatementTemplate template) {
+
+		return getOperations().getCqlOperations()
+				.execute((SessionCallback<PreparedStatement>) session -> this.preparedStatementCache
+						.getPreparedStatement(session, template.getStatement()));
+	}
+
+	private boolean isTemplated(CassandraParameterAccessor parameterAccessor) {
+
+		// write options render USING TTL/TIMESTAMP and IF EXISTS into DELETE statements
+		if (getTree().isDelete() && parameterAccessor.getQueryOptions() instanceof WriteOptions) {
+			return false;
+		}
+
+		// keyset values are not query method parameters and cannot be bound to the template
+		return this.templated && !(parameterAccessor.getPageable() instanceof KeysetPageRequest);
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#isCountQuery()
 	 */
@@ -0,0 +1,343 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.data.cassandra.core.CompiledStatement;
+import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
+import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.core.mapping.CassandraType;
+import org.springframework.data.cassandra.core.query.CriteriaDefinition;
+import org.springframework.data.cassandra.core.query.Placeholder;
+import org.springframework.data.cassandra.core.query.Query;
+import org.springframework.data.cassandra.repository.query.ConvertingParameterAccessor.PotentiallyConvertingIterator;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.Part.Type;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
+import org.springframework.util.CollectionUtils;
+
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.type.DataType;
+
+/**
+ * Statement template for a {@link PartTree} query. The template is a {@link CompiledStatement} that renders every
+ * bindable query method parameter as bind marker. Query derivation, query mapping and CQL rendering happen once per
+ * template, subsequent invocations only convert and bind the actual parameter values.
+ * <p/>
+ * Templates do not contain query options. Parts that render their parameter value into the CQL text
+ * ({@literal BETWEEN}, {@literal LIKE} and {@literal CONTAINING} on non-collection properties) cannot be templated,
+ * see {@link #supports(PartTree, MappingContext)}.
+ *
+ * @author agent
+ * @since 3.1
+ */
+class PartTreeStatementTemplate {
+
+	/**
+	 * Maximum number of templates a query method caches. Each {@link Sort} and dynamic projection derives its own
+	 * template, invocations beyond that bound fall back to non-prepared statements.
+	 */
+	static final int MAX_TEMPLATES = 256;
+
+	private static final Set<Type> SUPPORTED_TYPES = EnumSet.of(Type.SIMPLE_PROPERTY, Type.GREATER_THAN,
+			Type.GREATER_THAN_EQUAL, Type.LESS_THAN, Type.LESS_THAN_EQUAL, Type.AFTER, Type.BEFORE, Type.IN, Type.TRUE,
+			Type.FALSE, Type.CONTAINING);
+
+	private final CompiledStatement statement;
+
+	private final List<CassandraPersistentProperty> properties;
+
+	private final Set<String> collectionPlaceholders;
+
+	private PartTreeStatementTemplate(CompiledStatement statement, List<CassandraPersistentProperty> properties,
+			Set<String> collectionPlaceholders) {
+
+		this.statement = statement;
+		this.properties = properties;
+		this.collectionPlaceholders = collectionPlaceholders;
+	}
+
+	/**
+	 * Create a {@link PartTreeStatementTemplate}. {@code queryFunction} is called with a {@link CassandraParameterAccessor}
+	 * that yields {@link Placeholder placeholders} instead of the actual parameter values.
+	 *
+	 * @param parameterAccessor the actual parameter accessor providing sort and projection details.
+	 * @param queryFunction function deriving the {@link Query} from the given {@link CassandraParameterAccessor}.
+	 * @param compiler function compiling the derived {@link Query}.
+	 * @return the {@link PartTreeStatementTemplate}.
+	 */
+	static PartTreeStatementTemplate create(CassandraParameterAccessor parameterAccessor,
+			Function<CassandraParameterAccessor, Query> queryFunction, Function<Query, CompiledStatement> compiler) {
+
+		PlaceholderParameterAccessor placeholders = new PlaceholderParameterAccessor(parameterAccessor);
+
+		Query query = queryFunction.apply(placeholders);
+		Set<String> collectionPlaceholders = new HashSet<>();
+
+		for (CriteriaDefinition criteriaDefinition : query.getCriteriaDefinitions()) {
+
+			CriteriaDefinition.Predicate predicate = criteriaDefinition.getPredicate();
+
+			if (predicate.getOperator() == CriteriaDefinition.Operators.IN && predicate.getValue() instanceof Placeholder) {
+				collectionPlaceholders.add(((Placeholder) predicate.getValue()).getName());
+			}
+		}
+
+		return new PartTreeStatementTemplate(compiler.apply(query), placeholders.getProperties(), collectionPlaceholders);
+	}
+
+	/**
+	 * Determine whether the given {@link PartTree} can be rendered as {@link PartTreeStatementTemplate}.
+	 *
+	 * @param tree must not be {@literal null}.
+	 * @param mappingContext must not be {@literal null}.
+	 * @return {@literal true} if all parts of {@code tree} can be bound to bind markers.
+	 */
+	static boolean supports(PartTree tree,
+			MappingContext<? extends CassandraPersistentEntity<?>, CassandraPersistentProperty> mappingContext) {
+
+		for (Part part : tree.getParts()) {
+
+			if (!SUPPORTED_TYPES.contains(part.getType())) {
+				return false;
+			}
+
+			if (part.getType() == Type.CONTAINING) {
+
+				CassandraPersistentProperty property = mappingContext.getPersistentPropertyPath(part.getProperty())
+						.getRequiredLeafProperty();
+
+				if (!property.isCollectionLike() && !property.isMapLike()) {
+					return false;
+				}
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * @return the {@link SimpleStatement} to prepare. The statement does not contain any values.
+	 */
+	SimpleStatement getStatement() {
+		return this.statement.getStatement();
+	}
+
+	/**
+	 * Bind the parameter values of {@code parameterAccessor} to the given {@link PreparedStatement}.
+	 *
+	 * @param preparedStatement the {@link PreparedStatement} prepared from {@link #getStatement()}.
+	 * @param parameterAccessor the parameter accessor providing the actual values.
+	 * @return the {@link BoundStatement}.
+	 */
+	BoundStatement bind(PreparedStatement preparedStatement, CassandraParameterAccessor parameterAccessor) {
+
+		PotentiallyConvertingIterator iterator = (PotentiallyConvertingIterator) parameterAccessor.iterator();
+		Map<String, Object> values = new HashMap<>(this.properties.size());
+
+		for (int i = 0; i < this.properties.size(); i++) {
+
+			CassandraPersistentProperty property = this.properties.get(i);
+			Object value = property != null ? iterator.nextConverted(property) : iterator.next();
+			String name = getPlaceholderName(i);
+
+			values.put(name, this.collectionPlaceholders.contains(name) ? toList(value) : value);
+		}
+
+		return this.statement.bind(preparedStatement, values);
+	}
+
+	private static String getPlaceholderName(int index) {
+		return Integer.toString(index);
+	}
+
+	private static List<?> toList(@Nullable Object value) {
+
+		if (value instanceof List) {
+			return (List<?>) value;
+		}
+
+		if (value instanceof Collection) {
+			return new ArrayList<>((Collection<?>) value);
+		}
+
+		if (value != null && value.getClass().isArray()) {
+			return CollectionUtils.arrayToList(value);
+		}
+
+		return Collections.singletonList(value);
+	}
+
+	/**
+	 * {@link CassandraParameterAccessor} that yields {@link Placeholder placeholders} instead of parameter values. Records
+	 * the {@link CassandraPersistentProperty} used to convert each parameter value.
+	 */
+	static class PlaceholderParameterAccessor implements CassandraParameterAccessor {
+
+		private final CassandraParameterAccessor delegate;
+
+		private final List<CassandraPersistentProperty> properties = new ArrayList<>();
+
+		PlaceholderParameterAccessor(CassandraParameterAccessor delegate) {
+			this.delegate = delegate;
+		}
+
+		List<CassandraPersistentProperty> getProperties() {
+			return this.properties;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.repository.query.ParameterAccessor#getPageable()
+		 */
+		@Override
+		public Pageable getPageable() {
+			return this.delegate.getPageable();
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.repository.query.ParameterAccessor#getSort()
+		 */
+		@Override
+		public Sort getSort() {
+			return this.delegate.getSort();
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.repository.query.ParameterAccessor#getDynamicProjection()
+		 */
+		@Override
+		public Optional<Class<?>> getDynamicProjection() {
+			return this.delegate.getDynamicProjection();
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.repository.query.ParameterAccessor#findDynamicProjection()
+		 */
+		@Nullable
+		@Override
+		public Class<?> findDynamicProjection() {
+			return this.delegate.findDynamicProjection();
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.repository.query.ParameterAccessor#getBindableValue(int)
+		 */
+		@Override
+		public Object getBindableValue(int index) {
+			return Placeholder.named(getPlaceholderName(index));
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraParameterAccessor#findCassandraType(int)
+		 */
+		@Nullable
+		@Override
+		public CassandraType findCassandraType(int index) {
+			return this.delegate.findCassandraType(index);
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraParameterAccessor#getDataType(int)
+		 */
+		@Override
+		public DataType getDataType(int index) {
+			return this.delegate.getDataType(index);
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraParameterAccessor#getParameterType(int)
+		 */
+		@Override
+		public Class<?> getParameterType(int index) {
+			return this.delegate.getParameterType(index);
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraParameterAccessor#getValues()
+		 */
+		@Override
+		public Object[] getValues() {
+			return this.delegate.getValues();
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.cassandra.repository.query.CassandraParameterAccessor#getQueryOptions()
+		 */
+		@Nullable
+		@Override
+		public QueryOptions getQueryOptions() {
+			return null;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.repository.query.ParameterAccessor#hasBindableNullValue()
+		 */
+		@Override
+		public boolean hasBindableNullValue() {
+			return false;
+		}
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.repository.query.ParameterAccessor#iterator()
+		 */
+		@Override
+		public Iterator<Object> iterator() {
+
+			Iterator<Object> iterator = this.delegate.iterator();
+
+			return new PotentiallyConvertingIterator() {
+
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public Object next() {
+					return nextConverted(null);
+				}
+
+				@Override
+				public Object nextConverted(@Nullable CassandraPersistentProperty property) {
+
+					iterator.next();
+					properties.add(property);
+
+					return Placeholder.named(getPlaceholderName(properties.size() - 1));
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.repository.query;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.type.codec.CodecNotFoundException;
+
+/**
+ * Utility methods to run {@link SimpleStatement}s created by repository query methods as prepared statements.
+ *
+ * @author agent
+ * @since 3.1
+ */
+abstract class PreparedStatementUtil {
+
+	private PreparedStatementUtil() {}
+
+	/**
+	 * Determine whether the {@link SimpleStatement} can be prepared. Statements using named values are executed as-is.
+	 *
+	 * @param statement the statement to inspect.
+	 * @return {@literal true} if the statement can be prepared.
+	 */
+	static boolean isPreparable(SimpleStatement statement) {
+		return statement.getNamedValues().isEmpty();
+	}
+
+	/**
+	 * Create the {@link SimpleStatement} to prepare from {@code statement}. The resulting statement retains the CQL
+	 * text and keyspace only so that prepared statements can be cached by their CQL text. Execution settings are
+	 * applied when binding values, see {@link #bind(PreparedStatement, SimpleStatement)}.
+	 *
+	 * @param statement the statement to prepare.
+	 * @return the {@link SimpleStatement} to prepare.
+	 */
+	static SimpleStatement getStatementToPrepare(SimpleStatement statement) {
+		return SimpleStatement.newInstance(statement.getQuery()).setKeyspace(statement.getKeyspace());
+	}
+
+	/**
+	 * Bind the positional values of {@code statement} to the {@link PreparedStatement} and apply the execution settings
+	 * (consistency levels, paging, timeouts, execution profile, idempotence, tracing) of {@code statement}.
+	 *
+	 * @param preparedStatement the prepared statement.
+	 * @param statement the statement providing values and execution settings.
+	 * @return the {@link BoundStatement} or {@literal null} if the values cannot be bound to the column types of the
+	 *         prepared statement.
+	 */
+	@Nullable
+	static BoundStatement bind(PreparedStatement preparedStatement, SimpleStatement statement) {
+
+		BoundStatementBuilder builder;
+
+		try {
+			builder = preparedStatement.boundStatementBuilder(statement.getPositionalValues().toArray());
+		} catch (CodecNotFoundException e) {
+			return null;
+		}
+
+		if (statement.getExecutionProfile() != null) {
+			builder.setExecutionProfile(statement.getExecutionProfile());
+		}
+
+		if (statement.getExecutionProfileName() != null) {
+			builder.setExecutionProfileName(statement.getExecutionProfileName());
+		}
+
+		for (Map.Entry<String, ByteBuffer> entry : statement.getCustomPayload().entrySet()) {
+			builder.addCustomPayload(entry.getKey(), entry.getValue());
+		}
+
+		return builder.setIdempotence(statement.isIdempotent()) //
+				.setTracing(statement.isTracing()) //
+				.setQueryTimestamp(statement.getQueryTimestamp()) //
+				.setPagingState(statement.getPagingState()) //
+				.setPageSize(statement.getPageSize()) //
+				.setConsistencyLevel(statement.getConsistencyLevel()) //
+				.setSerialConsistencyLevel(statement.getSerialConsistencyLevel()) //
+				.setTimeout(statement.getTimeout()) //
+				.setNode(statement.getNode()) //
+				.setNowInSeconds(statement.getNowInSeconds()) //
+				.build();
+	}
+}
@@ -22,12 +22,14 @@ import java.util.function.Function;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.data.cassandra.core.CompiledStatement;
 import org.springframework.data.cassandra.core.StatementFactory;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
 import org.springframework.data.cassandra.core.cql.QueryOptionsUtil;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.query.Columns;
+import org.springframework.data.cassandra.core.query.KeysetPageRequest;
 import org.springframework.data.cassandra.core.query.Query;
 import org.springframework.data.cassandra.repository.Query.Idempotency;
 import org.springframework.data.mapping.context.MappingContext;
@@ -36,7 +38,10 @@ import org.springframework.data.repository.query.QueryCreationException;
 import org.springframework.data.repository.query.ResultProcessor;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.Nullable;
 
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
 
@@ -78,15 +83,8 @@ class QueryStatementCreator {
 
 		Function<Query, SimpleStatement> function = query -> {
 
-			ReturnedType returnedType = processor.withDynamicProjection(parameterAccessor).getReturnedType();
-
-			if (returnedType.needsCustomConstruction()) {
-
-				Columns columns = Columns.from(returnedType.getInputProperties().toArray(new String[0]));
-				query = query.columns(columns);
-			}
-
-			SimpleStatement statement = statementFactory.select(query, getPersistentEntity()).build();
+			SimpleStatement statement = statementFactory
+					.select(withProjection(query, parameterAccessor, processor), getPersistentEntity()).build();
 
 			if (LOG.isDebugEnabled()) {
 				LOG.debug(String.format("Created query [%s].", statement));
@@ -178,6 +176,74 @@ class QueryStatementCreator {
 		return doWithQuery(parameterAccessor, tree, function);
 	}
 
+	/**
+	 * Create a {@link PartTreeStatementTemplate} from a {@link PartTree}. The template is derived once for the sort and
+	 * projection of {@code parameterAccessor} and renders bindable parameters as bind markers. Query options are applied
+	 * when binding values, see {@link #bind(PartTreeStatementTemplate, PreparedStatement, CassandraParameterAccessor)}.
+	 *
+	 * @param statementFactory must not be {@literal null}.
+	 * @param tree must not be {@literal null}.
+	 * @param parameterAccessor must not be {@literal null}.
+	 * @param processor must not be {@literal null}.
+	 * @return the {@link PartTreeStatementTemplate}.
+	 * @since 3.1
+	 */
+	PartTreeStatementTemplate template(StatementFactory statementFactory, PartTree tree,
+			CassandraParameterAccessor parameterAccessor, ResultProcessor processor) {
+
+		CassandraPersistentEntity<?> entity = getPersistentEntity();
+		Function<Query, CompiledStatement> compiler;
+
+		if (tree.isCountProjection()) {
+			compiler = query -> CompiledStatement.count(statementFactory, query, entity, entity.getTableName());
+		} else if (tree.isExistsProjection()) {
+			compiler = query -> CompiledStatement.select(statementFactory, query.limit(1), entity, entity.getTableName());
+		} else if (tree.isDelete()) {
+			compiler = query -> CompiledStatement.delete(statementFactory, query, entity, entity.getTableName());
+		} else {
+			compiler = query -> CompiledStatement.select(statementFactory,
+					withProjection(query, parameterAccessor, processor), entity, entity.getTableName());
+		}
+
+		try {
+
+			PartTreeStatementTemplate template = PartTreeStatementTemplate.create(parameterAccessor,
+					it -> createQuery(it, tree), compiler);
+
+			if (LOG.isDebugEnabled()) {
+				LOG.debug(String.format("Created statement template [%s].", template.getStatement().getQuery()));
+			}
+
+			return template;
+		} catch (RuntimeException cause) {
+			throw QueryCreationException.create(this.queryMethod, cause);
+		}
+	}
+
+	/**
+	 * Bind the parameter values of {@code parameterAccessor} to a {@link PreparedStatement} created from a
+	 * {@link PartTreeStatementTemplate} and apply query options.
+	 *
+	 * @param template must not be {@literal null}.
+	 * @param preparedStatement must not be {@literal null}.
+	 * @param parameterAccessor must not be {@literal null}.
+	 * @return the {@link BoundStatement}.
+	 * @since 3.1
+	 */
+	BoundStatement bind(PartTreeStatementTemplate template, PreparedStatement preparedStatement,
+			CassandraParameterAccessor parameterAccessor) {
+
+		try {
+
+			BoundStatement statement = template.bind(preparedStatement, parameterAccessor);
+			QueryOptions queryOptions = getQueryOptions(parameterAccessor);
+
+			return queryOptions != null ? QueryOptionsUtil.addQueryOptions(statement, queryOptions) : statement;
+		} catch (RuntimeException cause) {
+			throw QueryCreationException.create(this.queryMethod, cause);
+		}
+	}
+
 	/**
 	 * A {@link Function} to {@link Query} derived from a {@link PartTree} and apply query options.
 	 *
@@ -189,27 +255,14 @@ class QueryStatementCreator {
 	<T> T doWithQuery(CassandraParameterAccessor parameterAccessor, PartTree tree,
 			Function<Query, ? extends T> function) {
 
-		CassandraQueryCreator queryCreator = new CassandraQueryCreator(tree, parameterAccessor, this.mappingContext);
-
-		Query query = queryCreator.createQuery();
+		Query query = createQuery(parameterAccessor, tree);
 
 		try {
 
-			if (tree.isLimiting()) {
-				query = query.limit(tree.getMaxResults());
-			}
-
-			if (allowsFiltering()) {
-				query = query.withAllowFiltering();
-			}
-
-			Optional<QueryOptions> queryOptions = Optional.ofNullable(parameterAccessor.getQueryOptions());
+			QueryOptions queryOptions = getQueryOptions(parameterAccessor);
 
-			if (queryOptions.isPresent()) {
-				query = Optional.ofNullable(parameterAccessor.getQueryOptions()).map(query::queryOptions).orElse(query);
-			} else if (this.queryMethod.hasConsistencyLevel()) {
-				query = query.queryOptions(
-						QueryOptions.builder().consistencyLevel(this.queryMethod.getRequiredAnnotatedConsistencyLevel()).build());
+			if (queryOptions != null) {
+				query = query.queryOptions(queryOptions);
 			}
 
 			return function.apply(query);
@@ -218,21 +271,97 @@ class QueryStatementCreator {
 		}
 	}
 
+	private Query createQuery(CassandraParameterAccessor parameterAccessor, PartTree tree) {
+
+		CassandraQueryCreator queryCreator = new CassandraQueryCreator(tree, parameterAccessor, this.mappingContext);
+
+		Query query = queryCreator.createQuery();
+
+		if (tree.isLimiting()) {
+			query = query.limit(tree.getMaxResults());
+		}
+
+		if (this.queryMethod.hasPerPartitionLimit()) {
+			query = query.perPartitionLimit(this.queryMethod.getRequiredPerPartitionLimit());
+		}
+
+		if (allowsFiltering()) {
+			query = query.withAllowFiltering();
+		}
+
+		if (parameterAccessor.getPageable() instanceof KeysetPageRequest) {
+			query = query.pageRequest(parameterAccessor.getPageable());
+		}
+
+		return query;
+	}
+
+	/**
+	 * Determine the {@link QueryOptions} for a query method invocation, either from the query method parameters or from
+	 * annotations declared on the query method.
+	 *
+	 * @param parameterAccessor must not be {@literal null}.
+	 * @return the {@link QueryOptions} to apply or {@literal null} if none.
+	 */
+	@Nullable
+	private QueryOptions getQueryOptions(CassandraParameterAccessor parameterAccessor) {
+
+		QueryOptions queryOptions = parameterAccessor.getQueryOptions();
+
+		if (queryOptions == null && this.queryMethod.hasConsistencyLevel()) {
+			queryOptions = QueryOptions.builder().consistencyLevel(this.queryMethod.getRequiredAnnotatedConsistencyLevel())
+					.build();
+		}
+
+		Idempotency idempotency = this.queryMethod.getIdempotency();
+
+		if (idempotency != Idempotency.UNDEFINED) {
+
+			QueryOptions options = queryOptions != null ? queryOptions : QueryOptions.empty();
+			queryOptions = options.mutate().idempotent(idempotency == Idempotency.IDEMPOTENT).build();
+		}
+
+		return queryOptions;
+	}
+
+	private static Query withProjection(Query query, CassandraParameterAccessor parameterAccessor,
+			ResultProcessor processor) {
+
+		ReturnedType returnedType = processor.withDynamicProjection(parameterAccessor).getReturnedType();
+
+		if (returnedType.needsCustomConstruction()) {
+
+			Columns columns = Columns.from(returnedType.getInputProperties().toArray(new String[0]));
+			return query.columns(columns);
+		}
+
+		return query;
+	}
+
 	private boolean allowsFiltering() {
 		return this.queryMethod.getQueryAnnotation()
 				.map(org.springframework.data.cassandra.repository.Query::allowFiltering).orElse(false);
 	}
 
 	/**
-	 * Create a {@link Statement} from a {@link StringBasedQuery} and apply query options.
+	 * Create a {@link Statement} from a {@link StringBasedQuery} and apply query options. String-based queries cannot
+	 * be restricted to seek past a keyset and therefore reject {@link KeysetPageRequest}s.
 	 *
 	 * @param stringBasedQuery must not be {@literal null}.
 	 * @param parameterAccessor must not be {@literal null}.
 	 * @return the {@link Statement}.
+	 * @throws IllegalArgumentException if the {@link org.springframework.data.domain.Pageable} is a
+	 *           {@link KeysetPageRequest}.
 	 */
 	SimpleStatement select(StringBasedQuery stringBasedQuery, CassandraParameterAccessor parameterAccessor,
 			SpELExpressionEvaluator evaluator) {
 
+		if (parameterAccessor.getPageable() instanceof KeysetPageRequest) {
+			throw new IllegalArgumentException(String.format(
+					"Keyset pagination is not supported for string-based query method %s; Use CassandraPageRequest instead",
+					this.queryMethod));
+		}
+
 		try {
 
 			SimpleStatement boundQuery = stringBasedQuery.bindQuery(parameterAccessor, evaluator);
@@ -25,9 +25,11 @@ import org.reactivestreams.Publisher;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
+import org.springframework.data.cassandra.core.convert.QueryMapper;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.core.query.CassandraPageRequest;
+import org.springframework.data.cassandra.core.query.KeysetPageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
@@ -83,6 +85,14 @@ interface ReactiveCassandraQueryExecution {
 			}
 			Mono<? extends Slice<?>> slice = operations.slice(statementToUse, type);
 
+			if (pageable instanceof KeysetPageRequest) {
+				QueryMapper queryMapper = new QueryMapper(operations.getConverter());
+				CassandraPersistentEntity<?> entity = operations.getConverter().getMappingContext()
+						.getRequiredPersistentEntity(type);
+
+				return slice.map(it -> queryMapper.withKeyset(it, (KeysetPageRequest) pageable, entity));
+			}
+
 			if (pageable.getSort().isUnsorted()) {
 				return slice;
 			}
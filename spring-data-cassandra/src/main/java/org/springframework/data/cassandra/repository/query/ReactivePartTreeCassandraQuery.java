@@ -17,17 +17,30 @@ package org.springframework.data.cassandra.repository.query;
 
 import reactor.core.publisher.Mono;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
 import org.springframework.data.cassandra.core.StatementFactory;
 import org.springframework.data.cassandra.core.convert.UpdateMapper;
+import org.springframework.data.cassandra.core.cql.ReactiveSessionCallback;
+import org.springframework.data.cassandra.core.cql.WriteOptions;
+import org.springframework.data.cassandra.core.cql.support.ReactivePreparedStatementCache;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
+import org.springframework.data.cassandra.core.query.KeysetPageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.util.Pair;
+import org.springframework.lang.Nullable;
 
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 
 /**
  * Reactive PartTree {@link RepositoryQuery} implementation for Cassandra.
@@ -44,6 +57,12 @@ public class ReactivePartTreeCassandraQuery extends AbstractReactiveCassandraQue
 
 	private final StatementFactory statementFactory;
 
+	private final boolean templated;
+
+	private final Map<Pair<Sort, Optional<Class<?>>>, PartTreeStatementTemplate> templates = new ConcurrentHashMap<>();
+
+	private final ReactivePreparedStatementCache preparedStatementCache = ReactivePreparedStatementCache.create();
+
 	/**
 	 * Create a new {@link ReactivePartTreeCassandraQuery} from the given {@link ReactiveCassandraQueryMethod} and
 	 * {@link ReactiveCassandraOperations}.
@@ -59,6 +78,7 @@ public class ReactivePartTreeCassandraQuery extends AbstractReactiveCassandraQue
 		this.tree = new PartTree(queryMethod.getName(), queryMethod.getResultProcessor().getReturnedType().getDomainType());
 		this.mappingContext = operations.getConverter().getMappingContext();
 		this.statementFactory = new StatementFactory(new UpdateMapper(operations.getConverter()));
+		this.templated = PartTreeStatementTemplate.supports(this.tree, this.mappingContext);
 	}
 
 	/**
@@ -117,6 +137,64 @@ public class ReactivePartTreeCassandraQuery extends AbstractReactiveCassandraQue
 		});
 	}
 
+	/**
+	 * Execute the query as prepared statement. The statement template is derived once per sort and projection and
+	 * prepared through {@link ReactivePreparedStatementCache}, each invocation binds the converted parameter values.
+	 * Falls back to the statement created by {@link #createQuery(CassandraParameterAccessor)} if the query cannot be
+	 * templated or the number of cached templates is exhausted.
+	 *
+	 * @param parameterAccessor must not be {@literal null}.
+	 * @return the {@link Statement} to execute.
+	 * @since 3.1
+	 */
+	@Override
+	protected Mono<? extends Statement<?>> getStatementToExecute(CassandraParameterAccessor parameterAccessor) {
+
+		if (!isTemplated(parameterAccessor)) {
+			return createQuery(parameterAccessor);
+		}
+
+		return Mono.fromSupplier(() -> Optional.ofNullable(getTemplate(parameterAccessor)))
+				.flatMap(template -> template.isPresent() ? bind(template.get(), parameterAccessor)
+						: createQuery(parameterAccessor));
+	}
+
+	private Mono<? extends Statement<?>> bind(PartTreeStatementTemplate template,
+			CassandraParameterAccessor parameterAccessor) {
+
+		return getReactiveCassandraOperations().getReactiveCqlOperations()
+				.execute((ReactiveSessionCallback<PreparedStatement>) session -> this.preparedStatementCache
+						.getPreparedStatement(session, template.getStatement()))
+				.next() //
+				.map(it -> getQueryStatementCreator().bind(template, it, parameterAccessor));
+	}
+
+	@Nullable
+	private PartTreeStatementTemplate getTemplate(CassandraParameterAccessor parameterAccessor) {
+
+		Pair<Sort, Optional<Class<?>>> key = Pair.of(parameterAccessor.getSort(),
+				parameterAccessor.getDynamicProjection());
+		PartTreeStatementTemplate template = this.templates.get(key);
+
+		if (template != null || this.templates.size() >= PartTreeStatementTemplate.MAX_TEMPLATES) {
+			return template;
+		}
+
+		return this.templates.computeIfAbsent(key, it -> getQueryStatementCreator().template(getStatementFactory(),
+				getTree(), parameterAccessor, getQueryMethod().getResultProcessor()));
+	}
+
+	private boolean isTemplated(CassandraParameterAccessor parameterAccessor) {
+
+		// write options render USING TTL/TIMESTAMP and IF EXISTS into DELETE statements
+		if (getTree().isDelete() && parameterAccessor.getQueryOptions() instanceof WriteOptions) {
+			return false;
+		}
+
+		// keyset values are not query method parameters and cannot be bound to the template
+		return this.templated && !(parameterAccessor.getPageable() instanceof KeysetPageRequest);
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.repository.query.AbstractReactiveCassandraQuery#isCountQuery()
 	 */
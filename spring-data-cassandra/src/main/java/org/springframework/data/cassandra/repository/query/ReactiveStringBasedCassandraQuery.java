@@ -18,6 +18,8 @@ package org.springframework.data.cassandra.repository.query;
 import reactor.core.publisher.Mono;
 
 import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
+import org.springframework.data.cassandra.core.cql.ReactiveSessionCallback;
+import org.springframework.data.cassandra.core.cql.support.ReactivePreparedStatementCache;
 import org.springframework.data.cassandra.repository.Query;
 import org.springframework.data.mapping.model.SpELExpressionEvaluator;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
@@ -27,7 +29,10 @@ import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.Assert;
 
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 
 /**
  * String-based {@link AbstractReactiveCassandraQuery} implementation.
@@ -54,6 +59,8 @@ public class ReactiveStringBasedCassandraQuery extends AbstractReactiveCassandra
 	private final ExpressionParser expressionParser;
 	private final ReactiveQueryMethodEvaluationContextProvider evaluationContextProvider;
 
+	private final ReactivePreparedStatementCache preparedStatementCache = ReactivePreparedStatementCache.create();
+
 	/**
 	 * Create a new {@link ReactiveStringBasedCassandraQuery} for the given {@link CassandraQueryMethod},
 	 * {@link ReactiveCassandraOperations}, {@link SpelExpressionParser}, and
@@ -134,6 +141,41 @@ public class ReactiveStringBasedCassandraQuery extends AbstractReactiveCassandra
 		return spelEvaluator.map(it -> getQueryStatementCreator().select(query, parameterAccessor, it));
 	}
 
+	/**
+	 * Execute the query as prepared statement. The CQL is prepared once through {@link ReactivePreparedStatementCache}
+	 * and each invocation binds the converted parameter values. Falls back to executing the statement created by
+	 * {@link #createQuery(CassandraParameterAccessor)} if it cannot be prepared or its values cannot be bound to the
+	 * prepared statement.
+	 *
+	 * @param parameterAccessor must not be {@literal null}.
+	 * @return the {@link Statement} to execute.
+	 * @since 3.1
+	 */
+	@Override
+	protected Mono<? extends Statement<?>> getStatementToExecute(CassandraParameterAccessor parameterAccessor) {
+		return createQuery(parameterAccessor).flatMap(this::prepareAndBind);
+	}
+
+	private Mono<? extends Statement<?>> prepareAndBind(SimpleStatement statement) {
+
+		if (!PreparedStatementUtil.isPreparable(statement)) {
+			return Mono.just(statement);
+		}
+
+		SimpleStatement statementToPrepare = PreparedStatementUtil.getStatementToPrepare(statement);
+
+		return getReactiveCassandraOperations().getReactiveCqlOperations()
+				.execute((ReactiveSessionCallback<PreparedStatement>) session -> this.preparedStatementCache
+						.getPreparedStatement(session, statementToPrepare))
+				.next() //
+				.map(it -> {
+
+					BoundStatement boundStatement = PreparedStatementUtil.bind(it, statement);
+
+					return boundStatement != null ? boundStatement : statement;
+				});
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.repository.query.AbstractReactiveCassandraQuery#isCountQuery()
 	 */
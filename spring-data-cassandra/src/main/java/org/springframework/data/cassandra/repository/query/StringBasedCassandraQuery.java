@@ -16,13 +16,18 @@
 package org.springframework.data.cassandra.repository.query;
 
 import org.springframework.data.cassandra.core.CassandraOperations;
+import org.springframework.data.cassandra.core.cql.SessionCallback;
+import org.springframework.data.cassandra.core.cql.support.PreparedStatementCache;
 import org.springframework.data.cassandra.repository.Query;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 
 /**
  * String-based {@link AbstractCassandraQuery} implementation.
@@ -49,6 +54,8 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 	private final ExpressionParser expressionParser;
 	private final QueryMethodEvaluationContextProvider evaluationContextProvider;
 
+	private final PreparedStatementCache preparedStatementCache = PreparedStatementCache.create();
+
 	/**
 	 * Create a new {@link StringBasedCassandraQuery} for the given {@link CassandraQueryMethod},
 	 * {@link CassandraOperations}, {@link SpelExpressionParser}, and {@link QueryMethodEvaluationContextProvider}.
@@ -126,6 +133,53 @@ public class StringBasedCassandraQuery extends AbstractCassandraQuery {
 				new DefaultSpELExpressionEvaluator(expressionParser, evaluationContext));
 	}
 
+	/**
+	 * Execute the query as prepared statement. The CQL is prepared once through {@link PreparedStatementCache} and each
+	 * invocation binds the converted parameter values. Falls back to executing the statement created by
+	 * {@link #createQuery(CassandraParameterAccessor)} if it cannot be prepared or its values cannot be bound to the
+	 * prepared statement.
+	 *
+	 * @param parameterAccessor must not be {@literal null}.
+	 * @return the {@link Statement} to execute.
+	 * @since 3.1
+	 */
+	@Override
+	protected Statement<?> getStatementToExecute(CassandraParameterAccessor parameterAccessor) {
+
+		SimpleStatement statement = createQuery(parameterAccessor);
+
+		if (!PreparedStatementUtil.isPreparable(statement)) {
+			return statement;
+		}
+
+		PreparedStatement preparedStatement = prepare(PreparedStatementUtil.getStatementToPrepare(statement));
+
+		BoundStatement boundStatement = PreparedStatementUtil.bind(preparedStatement, statement);
+
+		return boundStatement != null ? boundStatement : statement;
+	}
+
+	/**
+	 * Prepare the query with bind markers for all parameter bindings.
+	 *
+	 * @return {@literal true} if the query method was warmed up.
+	 * @since 3.1
+	 */
+	@Override
+	public boolean warmUp() {
+
+		prepare(SimpleStatement.newInstance(getStringBasedQuery().getBindableQuery()));
+
+		return true;
+	}
+
+	private PreparedStatement prepare(SimpleStatement statementToPrepare) {
+
+		return getOperations().getCqlOperations()
+				.execute((SessionCallback<PreparedStatement>) session -> this.preparedStatementCache
+						.getPreparedStatement(session, statementToPrepare));
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.cassandra.repository.query.AbstractCassandraQuery#isCountQuery()
 	 */
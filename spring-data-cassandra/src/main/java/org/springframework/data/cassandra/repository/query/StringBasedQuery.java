@@ -93,6 +93,17 @@ class StringBasedQuery {
 		return expressionDependencies;
 	}
 
+	/**
+	 * Render the query with bind markers for all parameter bindings without binding values. The rendered query is equal
+	 * to the CQL of statements created by {@link #bindQuery(CassandraParameterAccessor, SpELExpressionEvaluator)}.
+	 *
+	 * @return the query containing bind markers.
+	 * @since 3.1
+	 */
+	public String getBindableQuery() {
+		return ParameterBinder.ARGUMENT_PLACEHOLDER_PATTERN.matcher(this.query).replaceAll("?");
+	}
+
 	/**
 	 * Bind the query to actual parameters using {@link CassandraParameterAccessor},
 	 *
@@ -16,12 +16,23 @@
 package org.springframework.data.cassandra.repository.support;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentProperty;
 import org.springframework.data.cassandra.repository.CassandraRepository;
+import org.springframework.data.cassandra.repository.query.AbstractCassandraQuery;
 import org.springframework.data.cassandra.repository.query.CassandraEntityInformation;
 import org.springframework.data.cassandra.repository.query.CassandraQueryMethod;
 import org.springframework.data.cassandra.repository.query.PartTreeCassandraQuery;
@@ -31,6 +42,8 @@ import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.NamedQueries;
 import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.core.support.QueryCreationListener;
+import org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments;
 import org.springframework.data.repository.core.support.RepositoryFactorySupport;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.QueryLookupStrategy.Key;
@@ -52,12 +65,20 @@ import org.springframework.util.Assert;
  */
 public class CassandraRepositoryFactory extends RepositoryFactorySupport {
 
+	private static final Logger LOG = LoggerFactory.getLogger(CassandraRepositoryFactory.class);
+
 	private static final SpelExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
 
 	private final MappingContext<? extends CassandraPersistentEntity<?>, CassandraPersistentProperty> mappingContext;
 
 	private final CassandraOperations operations;
 
+	private final List<AbstractCassandraQuery> queriesToWarmUp = new ArrayList<>();
+
+	private boolean warmUpQueries = false;
+
+	private @Nullable Executor warmUpExecutor;
+
 	/**
 	 * Create a new {@link CassandraRepositoryFactory} with the given {@link CassandraOperations}.
 	 *
@@ -69,6 +90,81 @@ public class CassandraRepositoryFactory extends RepositoryFactorySupport {
 
 		this.operations = operations;
 		this.mappingContext = operations.getConverter().getMappingContext();
+
+		addQueryCreationListener(new WarmUpQueryCreationListener());
+	}
+
+	/**
+	 * Configure whether to warm up query methods when creating a repository. Warming up derives and prepares the
+	 * statements of derived and string-based query methods concurrently so that the first invocation of each query
+	 * method does not pay for query derivation and statement preparation. Requires a connected session when creating
+	 * repositories. Default is {@literal false}.
+	 *
+	 * @param warmUpQueries {@literal true} to warm up query methods.
+	 * @since 3.1
+	 * @see AbstractCassandraQuery#warmUp()
+	 */
+	public void setWarmUpQueries(boolean warmUpQueries) {
+		this.warmUpQueries = warmUpQueries;
+	}
+
+	/**
+	 * Set the {@link Executor} to warm up query methods with. Defaults to {@link ForkJoinPool#commonPool()}.
+	 *
+	 * @param warmUpExecutor the {@link Executor} to warm up query methods with, may be {@literal null}.
+	 * @since 3.1
+	 */
+	public void setWarmUpExecutor(@Nullable Executor warmUpExecutor) {
+		this.warmUpExecutor = warmUpExecutor;
+	}
+
+	/* (non-Javadoc)
+	 * @see org.springframework.data.repository.core.support.RepositoryFactorySupport#getRepository(java.lang.Class, org.springframework.data.repository.core.support.RepositoryComposition.RepositoryFragments)
+	 */
+	@Override
+	public <T> T getRepository(Class<T> repositoryInterface, RepositoryFragments fragments) {
+
+		T repository = super.getRepository(repositoryInterface, fragments);
+
+		if (this.warmUpQueries) {
+
+			List<AbstractCassandraQuery> queries = new ArrayList<>(this.queriesToWarmUp);
+			this.queriesToWarmUp.clear();
+
+			warmUp(repositoryInterface, queries);
+		}
+
+		return repository;
+	}
+
+	private void warmUp(Class<?> repositoryInterface, List<AbstractCassandraQuery> queries) {
+
+		long startNanos = System.nanoTime();
+		Executor executor = this.warmUpExecutor != null ? this.warmUpExecutor : ForkJoinPool.commonPool();
+
+		List<CompletableFuture<Boolean>> futures = queries.stream()
+				.map(query -> CompletableFuture.supplyAsync(() -> warmUp(query), executor)).collect(Collectors.toList());
+
+		long warmedUp = futures.stream().map(CompletableFuture::join).filter(Boolean::booleanValue).count();
+
+		if (LOG.isInfoEnabled()) {
+			LOG.info(String.format("Warmed up %d of %d query methods of [%s] in %d ms", warmedUp, queries.size(),
+					repositoryInterface.getName(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos)));
+		}
+	}
+
+	private static boolean warmUp(AbstractCassandraQuery query) {
+
+		try {
+			return query.warmUp();
+		} catch (RuntimeException e) {
+
+			if (LOG.isWarnEnabled()) {
+				LOG.warn(String.format("Cannot warm up query method [%s]", query.getQueryMethod()), e);
+			}
+
+			return false;
+		}
 	}
 
 	/* (non-Javadoc)
@@ -113,6 +209,23 @@ public class CassandraRepositoryFactory extends RepositoryFactorySupport {
 		return Optional.of(new CassandraQueryLookupStrategy(operations, evaluationContextProvider, mappingContext));
 	}
 
+	/**
+	 * {@link QueryCreationListener} collecting {@link AbstractCassandraQuery queries} to warm up.
+	 */
+	private class WarmUpQueryCreationListener implements QueryCreationListener<AbstractCassandraQuery> {
+
+		/* (non-Javadoc)
+		 * @see org.springframework.data.repository.core.support.QueryCreationListener#onCreation(org.springframework.data.repository.query.RepositoryQuery)
+		 */
+		@Override
+		public void onCreation(AbstractCassandraQuery query) {
+
+			if (warmUpQueries) {
+				queriesToWarmUp.add(query);
+			}
+		}
+	}
+
 	private static class CassandraQueryLookupStrategy implements QueryLookupStrategy {
 
 		private final QueryMethodEvaluationContextProvider evaluationContextProvider;
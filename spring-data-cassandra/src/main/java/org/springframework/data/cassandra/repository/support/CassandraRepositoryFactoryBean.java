@@ -15,6 +15,8 @@
  */
 package org.springframework.data.cassandra.repository.support;
 
+import java.util.concurrent.Executor;
+
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.CassandraTemplate;
 import org.springframework.data.cassandra.repository.CassandraRepository;
@@ -37,6 +39,10 @@ public class CassandraRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 
 	private @Nullable CassandraOperations cassandraOperations;
 
+	private boolean warmUpQueries = false;
+
+	private @Nullable Executor warmUpExecutor;
+
 	/**
 	 * Create a new {@link CassandraRepositoryFactoryBean} for the given repository interface.
 	 *
@@ -51,7 +57,12 @@ public class CassandraRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 
 		Assert.state(cassandraOperations != null, "CassandraOperations must not be null");
 
-		return new CassandraRepositoryFactory(cassandraOperations);
+		CassandraRepositoryFactory factory = new CassandraRepositoryFactory(cassandraOperations);
+
+		factory.setWarmUpQueries(this.warmUpQueries);
+		factory.setWarmUpExecutor(this.warmUpExecutor);
+
+		return factory;
 	}
 
 	/**
@@ -66,6 +77,28 @@ public class CassandraRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		setMappingContext(cassandraTemplate.getConverter().getMappingContext());
 	}
 
+	/**
+	 * Configure whether to warm up query methods when creating the repository. Default is {@literal false}.
+	 *
+	 * @param warmUpQueries {@literal true} to warm up query methods.
+	 * @since 3.1
+	 * @see CassandraRepositoryFactory#setWarmUpQueries(boolean)
+	 */
+	public void setWarmUpQueries(boolean warmUpQueries) {
+		this.warmUpQueries = warmUpQueries;
+	}
+
+	/**
+	 * Set the {@link Executor} to warm up query methods with.
+	 *
+	 * @param warmUpExecutor the {@link Executor} to warm up query methods with, may be {@literal null}.
+	 * @since 3.1
+	 * @see CassandraRepositoryFactory#setWarmUpExecutor(Executor)
+	 */
+	public void setWarmUpExecutor(@Nullable Executor warmUpExecutor) {
+		this.warmUpExecutor = warmUpExecutor;
+	}
+
 	/* (non-Javadoc)
 	 * @see org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport#afterPropertiesSet()
 	 */
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.config;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.data.cassandra.core.mapping.Table;
+import org.springframework.data.cassandra.core.mapping.multipackagescanning.first.First;
+import org.springframework.data.cassandra.core.mapping.multipackagescanning.second.Second;
+import org.springframework.stereotype.Component;
+
+/**
+ * Unit tests for {@link CassandraEntityClassScanner}.
+ *
+ * @author agent
+ */
+class CassandraEntityClassScannerUnitTests {
+
+	private String pkg = "org.springframework.data.cassandra.core.mapping.multipackagescanning";
+
+	@Test
+	void shouldScanClassPathWithoutIndex() throws ClassNotFoundException {
+
+		assertThat(CassandraEntityClassScanner.scan(pkg + ".first", pkg + ".second")).containsOnly(First.class,
+				Second.class);
+	}
+
+	@Test
+	void shouldUseCandidateComponentsIndex(@TempDir Path directory) throws Exception {
+
+		String index = First.class.getName() + "=" + Table.class.getName();
+
+		try (URLClassLoader classLoader = createClassLoader(directory, index)) {
+
+			CassandraEntityClassScanner scanner = new CassandraEntityClassScanner(pkg);
+			scanner.setBeanClassLoader(classLoader);
+
+			assertThat(scanner.scanForEntityClasses()).extracting(Class::getName).containsOnly(First.class.getName());
+		}
+	}
+
+	@Test
+	void shouldScanClassPathIfIndexDoesNotListEntities(@TempDir Path directory) throws Exception {
+
+		String index = "com.example.SomeComponent=" + Component.class.getName();
+
+		try (URLClassLoader classLoader = createClassLoader(directory, index)) {
+
+			CassandraEntityClassScanner scanner = new CassandraEntityClassScanner(pkg + ".first", pkg + ".second");
+			scanner.setBeanClassLoader(classLoader);
+
+			assertThat(scanner.scanForEntityClasses()).extracting(Class::getName).containsOnly(First.class.getName(),
+					Second.class.getName());
+		}
+	}
+
+	private URLClassLoader createClassLoader(Path directory, String index) throws IOException {
+
+		Path metaInf = Files.createDirectories(directory.resolve("META-INF"));
+		Files.write(metaInf.resolve("spring.components"), Collections.singletonList(index), StandardCharsets.ISO_8859_1);
+
+		return new URLClassLoader(new URL[] { directory.toUri().toURL() }, getClass().getClassLoader());
+	}
+}
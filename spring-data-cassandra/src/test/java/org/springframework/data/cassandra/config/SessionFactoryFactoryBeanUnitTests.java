@@ -0,0 +1,61 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.config;
+
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+
+/**
+ * Unit tests for {@link SessionFactoryFactoryBean}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class SessionFactoryFactoryBeanUnitTests {
+
+	@Mock CqlSession session;
+	@Mock PreparedStatement preparedStatement;
+
+	@Test
+	void warmUpShouldContinueIfStatementCannotBePrepared() {
+
+		CompletableFuture<PreparedStatement> failed = new CompletableFuture<>();
+		failed.completeExceptionally(new InvalidQueryException(null, "unconfigured table users"));
+
+		when(session.prepareAsync("SELECT * FROM users")).thenReturn(failed);
+		when(session.prepareAsync("SELECT * FROM person")).thenReturn(CompletableFuture.completedFuture(preparedStatement));
+
+		SessionFactoryFactoryBean bean = new SessionFactoryFactoryBean();
+		bean.setSession(session);
+		bean.setWarmUpStatements(Arrays.asList("SELECT * FROM users", "SELECT * FROM person"));
+
+		bean.warmUp();
+
+		verify(session).prepareAsync("SELECT * FROM users");
+		verify(session).prepareAsync("SELECT * FROM person");
+	}
+}
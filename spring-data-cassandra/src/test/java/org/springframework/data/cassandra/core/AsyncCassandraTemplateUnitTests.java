@@ -21,6 +21,7 @@ import static org.mockito.Mockito.*;
 import static org.springframework.data.cassandra.core.query.Criteria.*;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
@@ -38,9 +39,11 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import org.springframework.data.cassandra.CassandraConnectionFailureException;
+import org.springframework.data.cassandra.core.cql.AsyncCqlTemplate;
 import org.springframework.data.cassandra.core.mapping.event.BeforeConvertCallback;
 import org.springframework.data.cassandra.core.mapping.event.BeforeSaveCallback;
 import org.springframework.data.cassandra.core.query.Filter;
+import org.springframework.data.cassandra.core.query.Placeholder;
 import org.springframework.data.cassandra.core.query.Query;
 import org.springframework.data.cassandra.core.query.Update;
 import org.springframework.data.cassandra.domain.User;
@@ -50,10 +53,13 @@ import org.springframework.util.concurrent.ListenableFuture;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
 import com.datastax.oss.driver.api.core.NoNodeAvailableException;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
@@ -73,6 +79,8 @@ public class AsyncCassandraTemplateUnitTests {
 	@Mock Row row;
 	@Mock ColumnDefinition columnDefinition;
 	@Mock ColumnDefinitions columnDefinitions;
+	@Mock PreparedStatement preparedStatement;
+	@Mock BoundStatement boundStatement;
 
 	@Captor ArgumentCaptor<SimpleStatement> statementCaptor;
 
@@ -312,6 +320,23 @@ public class AsyncCassandraTemplateUnitTests {
 		assertThat(beforeSave).isSameAs(user);
 	}
 
+	@Test
+	void insertAllShouldExecuteStatementsThroughCqlTemplate() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+		((AsyncCqlTemplate) template.getAsyncCqlOperations()).setConsistencyLevel(DefaultConsistencyLevel.LOCAL_QUORUM);
+
+		User walter = new User("heisenberg", "Walter", "White");
+		User jesse = new User("capncook", "Jesse", "Pinkman");
+
+		WriteResult result = getUninterruptibly(template.insertAll(Arrays.asList(walter, jesse), InsertOptions.empty()));
+
+		assertThat(result.wasApplied()).isTrue();
+		verify(session, times(2)).executeAsync(statementCaptor.capture());
+		assertThat(statementCaptor.getAllValues()).extracting(SimpleStatement::getConsistencyLevel)
+				.containsOnly(DefaultConsistencyLevel.LOCAL_QUORUM);
+	}
+
 	@Test // DATACASS-618
 	void insertShouldInsertVersionedEntity() {
 
@@ -540,6 +565,29 @@ public class AsyncCassandraTemplateUnitTests {
 		assertThat(statementCaptor.getValue().getQuery()).isEqualTo("TRUNCATE users");
 	}
 
+	@Test
+	void compileShouldPrepareStatementOnce() {
+
+		when(session.prepareAsync(any(SimpleStatement.class)))
+				.thenReturn(CompletableFuture.completedFuture(preparedStatement));
+		when(preparedStatement.getQuery()).thenReturn("SELECT * FROM users WHERE id=?");
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(resultSet.currentPage()).thenReturn(Collections.emptyList());
+
+		AsyncCompiledQuery<User> compiled = getUninterruptibly(
+				template.compile(Query.query(where("id").is(Placeholder.named("id"))), User.class));
+
+		assertThat(getUninterruptibly(compiled.select(Collections.singletonMap("id", "heisenberg")))).isEmpty();
+		assertThat(getUninterruptibly(compiled.selectOne(Collections.singletonMap("id", "walter")))).isNull();
+
+		verify(session).prepareAsync(statementCaptor.capture());
+		assertThat(statementCaptor.getValue().getQuery()).isEqualTo("SELECT * FROM users WHERE id=?");
+
+		verify(preparedStatement).bind("heisenberg");
+		verify(preparedStatement).bind("walter");
+		verify(session, times(2)).executeAsync(boundStatement);
+	}
+
 	private static <T> T getUninterruptibly(Future<T> future) {
 
 		try {
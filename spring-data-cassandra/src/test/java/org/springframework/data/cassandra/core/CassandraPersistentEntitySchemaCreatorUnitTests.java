@@ -24,6 +24,8 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -37,14 +39,22 @@ import org.mockito.quality.Strictness;
 
 import org.springframework.data.cassandra.core.convert.SchemaFactory;
 import org.springframework.data.cassandra.core.cql.CqlOperations;
+import org.springframework.data.cassandra.core.cql.SessionCallback;
 import org.springframework.data.cassandra.core.cql.keyspace.CreateUserTypeSpecification;
 import org.springframework.data.cassandra.core.cql.keyspace.UserTypeNameSpecification;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity;
 import org.springframework.data.cassandra.core.mapping.UserDefinedType;
 import org.springframework.data.convert.CustomConversions;
+import org.springframework.data.mapping.MappingException;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.schema.IndexMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
 
 /**
@@ -59,6 +69,7 @@ class CassandraPersistentEntitySchemaCreatorUnitTests extends CassandraPersisten
 
 	@Mock CassandraAdminOperations adminOperations;
 	@Mock CqlOperations operations;
+	@Mock KeyspaceMetadata keyspaceMetadata;
 
 	private CassandraMappingContext context = new CassandraMappingContext();
 
@@ -183,6 +194,87 @@ class CassandraPersistentEntitySchemaCreatorUnitTests extends CassandraPersisten
 		verify(operations).execute("CREATE INDEX ON indexedentity (firstname);");
 	}
 
+	@Test
+	void shouldCreateMissingSchemaElementsOnly() {
+
+		context.getPersistentEntity(PlanetType.class);
+		context.getPersistentEntity(IndexedEntity.class);
+		context.getPersistentEntity(Person.class);
+
+		TableMetadata indexedEntity = mock(TableMetadata.class);
+		IndexMetadata index = mock(IndexMetadata.class);
+
+		when(index.getTarget()).thenReturn("firstname");
+		when(indexedEntity.getIndexes()).thenReturn(Collections.singletonMap(CqlIdentifier.fromCql("idx"), index));
+		when(keyspaceMetadata.getUserDefinedType(CqlIdentifier.fromCql("universetype")))
+				.thenReturn(Optional.of(mock(com.datastax.oss.driver.api.core.type.UserDefinedType.class)));
+		when(keyspaceMetadata.getTable(CqlIdentifier.fromCql("indexedentity"))).thenReturn(Optional.of(indexedEntity));
+
+		CassandraPersistentEntitySchemaCreator schemaCreator = new CassandraPersistentEntitySchemaCreator(context,
+				adminOperations);
+
+		List<List<String>> levels = schemaCreator.getMissingSchemaLevels(keyspaceMetadata);
+
+		assertThat(levels).hasSize(3);
+		assertThat(levels.get(0)).hasSize(1).allMatch(it -> it.startsWith("CREATE TYPE IF NOT EXISTS moontype"));
+		assertThat(levels.get(1)).hasSize(1).allMatch(it -> it.startsWith("CREATE TYPE IF NOT EXISTS planettype"));
+		assertThat(levels.get(2)).hasSize(1).allMatch(it -> it.startsWith("CREATE TABLE IF NOT EXISTS person"));
+	}
+
+	@Test
+	void shouldCreateMissingIndexOnExistingTable() {
+
+		context.getPersistentEntity(IndexedEntity.class);
+
+		when(keyspaceMetadata.getTable(CqlIdentifier.fromCql("indexedentity")))
+				.thenReturn(Optional.of(mock(TableMetadata.class)));
+
+		CassandraPersistentEntitySchemaCreator schemaCreator = new CassandraPersistentEntitySchemaCreator(context,
+				adminOperations);
+
+		assertThat(schemaCreator.getMissingSchemaLevels(keyspaceMetadata))
+				.containsOnly(Collections.singletonList("CREATE INDEX IF NOT EXISTS ON indexedentity (firstname);"));
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void createMissingSchemaShouldAwaitSchemaAgreementOncePerLevel() {
+
+		context.getPersistentEntity(IndexedEntity.class);
+
+		CqlSession session = mock(CqlSession.class);
+		Metadata metadata = mock(Metadata.class);
+		CqlIdentifier keyspace = CqlIdentifier.fromCql("ks");
+
+		when(operations.execute(any(SessionCallback.class)))
+				.thenAnswer(invocation -> invocation.getArgument(0, SessionCallback.class).doInSession(session));
+		when(session.getKeyspace()).thenReturn(Optional.of(keyspace));
+		when(session.refreshSchema()).thenReturn(metadata);
+		when(metadata.getKeyspace(keyspace)).thenReturn(Optional.of(keyspaceMetadata));
+		when(session.executeAsync(anyString()))
+				.thenReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+		when(session.checkSchemaAgreementAsync()).thenReturn(CompletableFuture.completedFuture(true));
+
+		new CassandraPersistentEntitySchemaCreator(context, adminOperations).createMissingSchema();
+
+		verify(session).executeAsync(startsWith("CREATE TABLE IF NOT EXISTS indexedentity"));
+		verify(session).executeAsync("CREATE INDEX IF NOT EXISTS ON indexedentity (firstname);");
+		verify(session, times(2)).checkSchemaAgreementAsync();
+	}
+
+	@Test
+	void shouldRejectConflictingUserTypeEntities() {
+
+		context.getPersistentEntity(Udt1.class);
+		context.getPersistentEntity(ConflictingUdt1.class);
+
+		CassandraPersistentEntitySchemaCreator schemaCreator = new CassandraPersistentEntitySchemaCreator(context,
+				adminOperations);
+
+		assertThatExceptionOfType(MappingException.class)
+				.isThrownBy(() -> schemaCreator.createUserTypeSpecifications(false)).withMessageContaining("udt1");
+	}
+
 	private void verifyTypesGetCreatedInOrderFor(String... typenames) {
 
 		ArgumentCaptor<String> cql = ArgumentCaptor.forClass(String.class);
@@ -212,6 +304,11 @@ class CassandraPersistentEntitySchemaCreatorUnitTests extends CassandraPersisten
 		private RequiredByAll attachment;
 	}
 
+	@UserDefinedType("udt1")
+	private static class ConflictingUdt1 {
+		private String name;
+	}
+
 	@UserDefinedType
 	private static class Udt2 extends AbstractModel {
 
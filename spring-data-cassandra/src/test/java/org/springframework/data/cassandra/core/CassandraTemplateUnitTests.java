@@ -20,8 +20,13 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.data.cassandra.core.query.Criteria.*;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,20 +39,31 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import org.springframework.data.cassandra.CassandraConnectionFailureException;
+import org.springframework.data.cassandra.core.cql.CqlTemplate;
+import org.springframework.data.cassandra.core.cql.support.HotPartitionReport;
+import org.springframework.data.cassandra.core.cql.support.HotPartitionReport.HotPartition;
+import org.springframework.data.cassandra.core.cql.support.HotPartitionTracker;
 import org.springframework.data.cassandra.core.mapping.event.BeforeConvertCallback;
 import org.springframework.data.cassandra.core.mapping.event.BeforeSaveCallback;
 import org.springframework.data.cassandra.core.query.Filter;
+import org.springframework.data.cassandra.core.query.Placeholder;
 import org.springframework.data.cassandra.core.query.Query;
 import org.springframework.data.cassandra.core.query.Update;
+import org.springframework.data.cassandra.domain.CompositeKey;
+import org.springframework.data.cassandra.domain.TypeWithKeyClass;
 import org.springframework.data.cassandra.domain.User;
 import org.springframework.data.cassandra.domain.VersionedUser;
 import org.springframework.data.mapping.callback.EntityCallbacks;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
 import com.datastax.oss.driver.api.core.NoNodeAvailableException;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
@@ -68,6 +84,8 @@ class CassandraTemplateUnitTests {
 	@Mock Row row;
 	@Mock ColumnDefinition columnDefinition;
 	@Mock ColumnDefinitions columnDefinitions;
+	@Mock PreparedStatement preparedStatement;
+	@Mock BoundStatement boundStatement;
 
 	@Captor ArgumentCaptor<SimpleStatement> statementCaptor;
 
@@ -128,6 +146,34 @@ class CassandraTemplateUnitTests {
 		assertThat(statementCaptor.getValue().getQuery()).isEqualTo("SELECT * FROM users");
 	}
 
+	@Test
+	void streamShouldMapRowsOnStreamMappingExecutor() {
+
+		when(resultSet.iterator()).thenReturn(Collections.singleton(row).iterator());
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.firstIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.firstIndexOf("lastname")).thenReturn(2);
+
+		when(columnDefinition.getType()).thenReturn(DataTypes.TEXT);
+
+		when(row.getObject(0)).thenReturn("myid");
+		when(row.getObject(1)).thenReturn("Walter");
+		when(row.getObject(2)).thenReturn("White");
+
+		List<Runnable> tasks = new ArrayList<>();
+		template.setStreamMappingExecutor(command -> {
+			tasks.add(command);
+			command.run();
+		});
+
+		Stream<User> stream = template.stream("SELECT * FROM users", User.class);
+
+		assertThat(stream).containsExactly(new User("myid", "Walter", "White"));
+		assertThat(tasks).hasSize(1);
+	}
+
 	@Test // DATACASS-292
 	void selectShouldTranslateException() {
 
@@ -295,6 +341,76 @@ class CassandraTemplateUnitTests {
 		assertThat(beforeSave).isSameAs(user);
 	}
 
+	@Test
+	void shouldRecordAccessedPartitions() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+		when(resultSet.iterator()).thenReturn(Collections.emptyIterator());
+
+		HotPartitionTracker tracker = new HotPartitionTracker();
+		template.setHotPartitionTracker(tracker);
+
+		template.insert(new User("heisenberg", "Walter", "White"));
+		template.delete(new User("heisenberg", "Walter", "White"));
+		template.select(Query.query(where("id").is("heisenberg")), User.class);
+		template.select(Query.empty(), User.class);
+
+		HotPartitionReport report = tracker.report();
+
+		assertThat(report.getReads()).isEqualTo(1);
+		assertThat(report.getWrites()).isEqualTo(2);
+		assertThat(report.getHotPartitions()).hasSize(1);
+
+		HotPartition partition = report.getHotPartitions().get(0);
+
+		assertThat(partition.getTableName()).isEqualTo(CqlIdentifier.fromCql("users"));
+		assertThat(partition.getPartitionKey())
+				.isEqualTo(Collections.singletonMap(CqlIdentifier.fromCql("id"), "heisenberg"));
+		assertThat(partition.getReads()).isEqualTo(1);
+		assertThat(partition.getWrites()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldRecordPartitionKeyOfCompositeKeyEntity() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+		when(resultSet.iterator()).thenReturn(Collections.emptyIterator());
+
+		HotPartitionTracker tracker = new HotPartitionTracker();
+		template.setHotPartitionTracker(tracker);
+
+		CompositeKey key = new CompositeKey();
+		key.setFirstname("Walter");
+		key.setLastname("White");
+
+		TypeWithKeyClass entity = new TypeWithKeyClass();
+		entity.setKey(key);
+
+		template.update(entity);
+
+		Map<CqlIdentifier, Object> partitionKey = new LinkedHashMap<>();
+		partitionKey.put(CqlIdentifier.fromCql("first_name"), "Walter");
+		partitionKey.put(CqlIdentifier.fromCql("lastname"), "White");
+
+		assertThat(tracker.report().getHotPartitions()).extracting(HotPartition::getPartitionKey)
+				.containsExactly(partitionKey);
+	}
+
+	@Test
+	void shouldNotRecordPartitionsAfterRemovingTracker() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		HotPartitionTracker tracker = new HotPartitionTracker();
+		template.setHotPartitionTracker(tracker);
+		template.setHotPartitionTracker(null);
+
+		template.insert(new User("heisenberg", "Walter", "White"));
+
+		assertThat(template.getHotPartitionTracker()).isNull();
+		assertThat(tracker.report().getWrites()).isZero();
+	}
+
 	@Test // DATACASS-618
 	void insertShouldInsertVersionedEntity() {
 
@@ -311,6 +427,44 @@ class CassandraTemplateUnitTests {
 		assertThat(beforeSave).isSameAs(user);
 	}
 
+	@Test
+	void insertAllShouldExecuteStatementsWithoutTokenMetadata() {
+
+		when(resultSet.wasApplied()).thenReturn(true);
+		when(resultSet.getExecutionInfos()).thenReturn(Collections.singletonList(mock(ExecutionInfo.class)));
+
+		User walter = new User("heisenberg", "Walter", "White");
+		User jesse = new User("capncook", "Jesse", "Pinkman");
+
+		WriteResult result = template.insertAll(Arrays.asList(walter, jesse), InsertOptions.empty());
+
+		assertThat(result.wasApplied()).isTrue();
+		assertThat(result.getExecutionInfo()).hasSize(2);
+		verify(session, times(2)).execute(statementCaptor.capture());
+		assertThat(statementCaptor.getAllValues()).extracting(SimpleStatement::getQuery).containsExactly(
+				"INSERT INTO users (firstname,id,lastname) VALUES ('Walter','heisenberg','White')",
+				"INSERT INTO users (firstname,id,lastname) VALUES ('Jesse','capncook','Pinkman')");
+		assertThat(beforeSave).isSameAs(jesse);
+	}
+
+	@Test
+	void insertAllShouldApplyTemplateSettings() {
+
+		((CqlTemplate) template.getCqlOperations()).setConsistencyLevel(DefaultConsistencyLevel.LOCAL_QUORUM);
+
+		template.insertAll(Collections.singleton(new User("heisenberg", "Walter", "White")), InsertOptions.empty());
+
+		verify(session).execute(statementCaptor.capture());
+		assertThat(statementCaptor.getValue().getConsistencyLevel()).isEqualTo(DefaultConsistencyLevel.LOCAL_QUORUM);
+	}
+
+	@Test
+	void insertAllShouldRejectVersionedEntities() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> template
+				.insertAll(Collections.singleton(new VersionedUser("heisenberg", "Walter", "White")), InsertOptions.empty()));
+	}
+
 	@Test // DATACASS-250
 	void insertShouldInsertWithOptionsEntity() {
 
@@ -553,6 +707,40 @@ class CassandraTemplateUnitTests {
 		assertThat(statementCaptor.getValue().getQuery()).isEqualTo("TRUNCATE users");
 	}
 
+	@Test
+	void compileShouldPrepareStatementOnce() {
+
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.getQuery()).thenReturn("SELECT * FROM users WHERE id=?");
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(resultSet.iterator()).thenReturn(Collections.emptyIterator());
+
+		CompiledQuery<User> compiled = template.compile(Query.query(where("id").is(Placeholder.named("id"))), User.class);
+
+		compiled.select(Collections.singletonMap("id", "heisenberg"));
+		compiled.select(Collections.singletonMap("id", "walter"));
+
+		verify(session).prepare(statementCaptor.capture());
+		assertThat(statementCaptor.getValue().getQuery()).isEqualTo("SELECT * FROM users WHERE id=?");
+		assertThat(statementCaptor.getValue().getPositionalValues()).isEmpty();
+
+		verify(preparedStatement).bind("heisenberg");
+		verify(preparedStatement).bind("walter");
+		verify(session, times(2)).execute(boundStatement);
+		assertThat(compiled.getCql()).isEqualTo("SELECT * FROM users WHERE id=?");
+	}
+
+	@Test
+	void compiledQueryShouldRejectMissingPlaceholderValue() {
+
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+
+		CompiledQuery<User> compiled = template.compile(Query.query(where("id").is(Placeholder.named("id"))), User.class);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> compiled.select(Collections.emptyMap()))
+				.withMessageContaining("id");
+	}
+
 	private interface UserProjection {
 		String getFirstname();
 	}
@@ -16,10 +16,21 @@
 package org.springframework.data.cassandra.core;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.domain.Group;
+import org.springframework.data.cassandra.domain.User;
+
 import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.querybuilder.QueryBuilder;
 import com.datastax.oss.driver.api.querybuilder.select.Select;
@@ -67,4 +78,53 @@ class EntityQueryUtilsUnitTests {
 
 		assertThat(tableName).isEqualTo(CqlIdentifier.fromInternal("table"));
 	}
+
+	@Test
+	void shouldResolvePartitionKeyColumns() {
+
+		CassandraMappingContext mappingContext = new CassandraMappingContext();
+
+		assertThat(EntityQueryUtils.getPartitionKeyColumns(mappingContext.getRequiredPersistentEntity(Group.class),
+				mappingContext)).containsExactlyInAnyOrder(CqlIdentifier.fromCql("groupname"),
+						CqlIdentifier.fromCql("hash_prefix"));
+		assertThat(EntityQueryUtils.getPartitionKeyColumns(mappingContext.getRequiredPersistentEntity(User.class),
+				mappingContext)).containsExactly(CqlIdentifier.fromCql("id"));
+	}
+
+	@Test
+	void shouldGroupConsecutiveRowsByPartition() {
+
+		List<Row> rows = Arrays.asList(row("a", 1), row("a", 2), row("b", 3), row("a", 4));
+		List<CqlIdentifier> partitionKey = Collections.singletonList(CqlIdentifier.fromCql("key"));
+
+		Iterator<PartitionGroup<Integer>> groups = EntityQueryUtils.groupByPartition(rows.iterator(), partitionKey,
+				row -> row.getInt("value"), Integer.MAX_VALUE);
+
+		assertThat(groups).toIterable().extracting(it -> it.getPartitionKey().get(CqlIdentifier.fromCql("key")),
+				PartitionGroup::getContent).containsExactly(tuple("a", Arrays.asList(1, 2)), tuple("b", Arrays.asList(3)),
+						tuple("a", Arrays.asList(4)));
+	}
+
+	@Test
+	void shouldSplitPartitionsExceedingMaxGroupSize() {
+
+		List<Row> rows = Arrays.asList(row("a", 1), row("a", 2), row("a", 3), row("b", 4));
+		List<CqlIdentifier> partitionKey = Collections.singletonList(CqlIdentifier.fromCql("key"));
+
+		Iterator<PartitionGroup<Integer>> groups = EntityQueryUtils.groupByPartition(rows.iterator(), partitionKey,
+				row -> row.getInt("value"), 2);
+
+		assertThat(groups).toIterable().extracting(it -> it.getPartitionKey().get(CqlIdentifier.fromCql("key")),
+				PartitionGroup::getContent).containsExactly(tuple("a", Arrays.asList(1, 2)), tuple("a", Arrays.asList(3)),
+						tuple("b", Arrays.asList(4)));
+	}
+
+	private static Row row(String key, int value) {
+
+		Row row = mock(Row.class);
+		when(row.getObject(CqlIdentifier.fromCql("key"))).thenReturn(key);
+		when(row.getInt("value")).thenReturn(value);
+
+		return row;
+	}
 }
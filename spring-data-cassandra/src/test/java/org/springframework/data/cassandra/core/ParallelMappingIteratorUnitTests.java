@@ -0,0 +1,124 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * Unit tests for {@link ParallelMappingIterator}.
+ *
+ * @author agent
+ */
+class ParallelMappingIteratorUnitTests {
+
+	private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+	@AfterEach
+	void tearDown() {
+		executor.shutdownNow();
+	}
+
+	@Test
+	void shouldRetainOrder() {
+
+		ResultSet resultSet = resultSet(1000);
+
+		try (Stream<Integer> stream = ParallelMappingIterator.stream(resultSet, ParallelMappingIteratorUnitTests::map,
+				executor, 4, true)) {
+			assertThat(stream).containsExactlyElementsOf(IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+		}
+	}
+
+	@Test
+	void shouldEmitAllElementsUnordered() {
+
+		ResultSet resultSet = resultSet(1000);
+
+		try (Stream<Integer> stream = ParallelMappingIterator.stream(resultSet, ParallelMappingIteratorUnitTests::map,
+				executor, 4, false)) {
+			assertThat(stream).containsExactlyInAnyOrderElementsOf(
+					IntStream.range(0, 1000).boxed().collect(Collectors.toList()));
+		}
+	}
+
+	@Test
+	void shouldBoundRowsReadAhead() {
+
+		ResultSet resultSet = resultSet(10 * ParallelMappingIterator.CHUNK_SIZE);
+		List<Integer> read = new ArrayList<>();
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(ParallelMappingIterator.CHUNK_SIZE);
+
+		Stream<Integer> stream = ParallelMappingIterator.stream(resultSet, row -> {
+			int value = map(row);
+			synchronized (read) {
+				read.add(value);
+			}
+			return value;
+		}, Runnable::run, 2, true);
+
+		assertThat(stream.findFirst()).contains(0);
+		assertThat(read).hasSize(4 * ParallelMappingIterator.CHUNK_SIZE);
+	}
+
+	@Test
+	void shouldPropagateMappingFailure() {
+
+		ResultSet resultSet = resultSet(10);
+
+		Stream<Integer> stream = ParallelMappingIterator.stream(resultSet, row -> {
+			throw new IllegalStateException("Cannot map row");
+		}, executor, 2, true);
+
+		assertThatIllegalStateException().isThrownBy(() -> stream.collect(Collectors.toList()))
+				.withMessage("Cannot map row");
+	}
+
+	private static Integer map(Row row) {
+		return row.getInt(0);
+	}
+
+	private static ResultSet resultSet(int rows) {
+
+		List<Row> result = new ArrayList<>(rows);
+
+		for (int i = 0; i < rows; i++) {
+			Row row = mock(Row.class);
+			when(row.getInt(0)).thenReturn(i);
+			result.add(row);
+		}
+
+		ResultSet resultSet = mock(ResultSet.class);
+		when(resultSet.iterator()).thenReturn(result.iterator());
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(100);
+
+		return resultSet;
+	}
+}
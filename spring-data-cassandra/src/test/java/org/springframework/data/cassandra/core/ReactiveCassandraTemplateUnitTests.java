@@ -24,6 +24,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.Collections;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,9 +38,13 @@ import org.mockito.quality.Strictness;
 
 import org.springframework.data.cassandra.ReactiveResultSet;
 import org.springframework.data.cassandra.ReactiveSession;
+import org.springframework.data.cassandra.core.cql.support.HotPartitionReport;
+import org.springframework.data.cassandra.core.cql.support.HotPartitionReport.HotPartition;
+import org.springframework.data.cassandra.core.cql.support.HotPartitionTracker;
 import org.springframework.data.cassandra.core.mapping.event.ReactiveBeforeConvertCallback;
 import org.springframework.data.cassandra.core.mapping.event.ReactiveBeforeSaveCallback;
 import org.springframework.data.cassandra.core.query.Filter;
+import org.springframework.data.cassandra.core.query.Placeholder;
 import org.springframework.data.cassandra.core.query.Query;
 import org.springframework.data.cassandra.core.query.Update;
 import org.springframework.data.cassandra.domain.User;
@@ -47,8 +53,10 @@ import org.springframework.data.mapping.callback.ReactiveEntityCallbacks;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.NoNodeAvailableException;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
@@ -68,6 +76,8 @@ class ReactiveCassandraTemplateUnitTests {
 	@Mock Row row;
 	@Mock ColumnDefinition columnDefinition;
 	@Mock ColumnDefinitions columnDefinitions;
+	@Mock PreparedStatement preparedStatement;
+	@Mock BoundStatement boundStatement;
 
 	@Captor ArgumentCaptor<SimpleStatement> statementCaptor;
 
@@ -104,6 +114,74 @@ class ReactiveCassandraTemplateUnitTests {
 		template.setEntityCallbacks(callbacks);
 	}
 
+	@Test
+	void selectPartitionsShouldGroupByPartitionKey() {
+
+		Row other = mock(Row.class);
+		when(reactiveResultSet.rows()).thenReturn(Flux.just(row, row, other));
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinitions.firstIndexOf("firstname")).thenReturn(1);
+		when(columnDefinitions.firstIndexOf("lastname")).thenReturn(2);
+
+		when(columnDefinition.getType()).thenReturn(DataTypes.TEXT);
+
+		when(row.getObject(CqlIdentifier.fromCql("id"))).thenReturn("myid");
+		when(row.getObject(0)).thenReturn("myid");
+		when(row.getObject(1)).thenReturn("Walter");
+		when(row.getObject(2)).thenReturn("White");
+
+		when(other.getColumnDefinitions()).thenReturn(columnDefinitions);
+		when(other.getObject(CqlIdentifier.fromCql("id"))).thenReturn("other");
+		when(other.getObject(0)).thenReturn("other");
+		when(other.getObject(1)).thenReturn("Skyler");
+		when(other.getObject(2)).thenReturn("White");
+
+		template.selectPartitions(Query.empty(), User.class).as(StepVerifier::create) //
+				.assertNext(actual -> {
+
+					assertThat(actual.getPartitionKey()).containsEntry(CqlIdentifier.fromCql("id"), "myid");
+					assertThat(actual.getContent()).hasSize(2);
+				}) //
+				.assertNext(actual -> {
+
+					assertThat(actual.getPartitionKey()).containsEntry(CqlIdentifier.fromCql("id"), "other");
+					assertThat(actual.getContent()).containsExactly(new User("other", "Skyler", "White"));
+				}) //
+				.verifyComplete();
+	}
+
+	@Test
+	void selectPartitionsShouldSplitGroupsExceedingMaxGroupSize() {
+
+		Row other = mock(Row.class);
+		when(reactiveResultSet.rows()).thenReturn(Flux.just(row, row, row, other));
+		when(columnDefinitions.contains(any(CqlIdentifier.class))).thenReturn(true);
+
+		when(columnDefinitions.get(anyInt())).thenReturn(columnDefinition);
+		when(columnDefinitions.firstIndexOf("id")).thenReturn(0);
+		when(columnDefinition.getType()).thenReturn(DataTypes.TEXT);
+
+		when(row.getObject(CqlIdentifier.fromCql("id"))).thenReturn("myid");
+		when(row.getObject(0)).thenReturn("myid");
+
+		when(other.getColumnDefinitions()).thenReturn(columnDefinitions);
+		when(other.getObject(CqlIdentifier.fromCql("id"))).thenReturn("other");
+		when(other.getObject(0)).thenReturn("other");
+
+		Flux<PartitionGroup<User>> groups = template.selectPartitions(Query.empty(), User.class, 2);
+
+		for (int i = 0; i < 2; i++) {
+
+			groups.map(it -> it.getPartitionKey().get(CqlIdentifier.fromCql("id")) + ":" + it.getContent().size())
+					.as(StepVerifier::create) //
+					.expectNext("myid:2", "myid:1", "other:1") //
+					.verifyComplete();
+		}
+	}
+
 	@Test // DATACASS-335
 	void selectUsingCqlShouldReturnMappedResults() {
 
@@ -282,6 +360,32 @@ class ReactiveCassandraTemplateUnitTests {
 		assertThat(beforeSave).isSameAs(user);
 	}
 
+	@Test
+	void shouldRecordInsertedAndUpdatedPartitions() {
+
+		when(reactiveResultSet.wasApplied()).thenReturn(true);
+		when(reactiveResultSet.rows()).thenReturn(Flux.just(row));
+
+		HotPartitionTracker tracker = new HotPartitionTracker();
+		template.setHotPartitionTracker(tracker);
+
+		User user = new User("heisenberg", "Walter", "White");
+
+		Mono<User> insert = template.insert(user);
+		Mono<User> update = template.update(user);
+
+		assertThat(tracker.report().getWrites()).isZero();
+
+		insert.as(StepVerifier::create).expectNext(user).verifyComplete();
+		update.as(StepVerifier::create).expectNext(user).verifyComplete();
+
+		HotPartitionReport report = tracker.report();
+
+		assertThat(report.getWrites()).isEqualTo(2);
+		assertThat(report.getHotPartitions()).extracting(HotPartition::getPartitionKey)
+				.containsExactly(Collections.singletonMap(CqlIdentifier.fromCql("id"), "heisenberg"));
+	}
+
 	@Test // DATACASS-618
 	void insertShouldInsertVersionedEntity() {
 
@@ -481,6 +585,28 @@ class ReactiveCassandraTemplateUnitTests {
 		assertThat(statementCaptor.getValue().getQuery()).isEqualTo("TRUNCATE users");
 	}
 
+	@Test
+	void compileShouldPrepareStatementOnce() {
+
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(Mono.just(preparedStatement));
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(reactiveResultSet.rows()).thenReturn(Flux.empty());
+
+		ReactiveCompiledQuery<User> compiled = template
+				.compile(Query.query(where("id").is(Placeholder.named("id"))), User.class).block();
+
+		compiled.select(Collections.singletonMap("id", "heisenberg")).as(StepVerifier::create).verifyComplete();
+		compiled.selectOne(Collections.singletonMap("id", "walter")).as(StepVerifier::create).verifyComplete();
+		compiled.select(Collections.emptyMap()).as(StepVerifier::create).verifyError(IllegalArgumentException.class);
+
+		verify(session).prepare(statementCaptor.capture());
+		assertThat(statementCaptor.getValue().getQuery()).isEqualTo("SELECT * FROM users WHERE id=?");
+
+		verify(preparedStatement).bind("heisenberg");
+		verify(preparedStatement).bind("walter");
+		verify(session, times(2)).execute(boundStatement);
+	}
+
 	private interface UserProjection {
 		String getFirstname();
 	}
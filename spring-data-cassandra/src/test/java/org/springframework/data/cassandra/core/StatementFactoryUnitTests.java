@@ -37,10 +37,12 @@ import org.springframework.data.cassandra.core.mapping.CassandraPersistentEntity
 import org.springframework.data.cassandra.core.mapping.Column;
 import org.springframework.data.cassandra.core.query.Columns;
 import org.springframework.data.cassandra.core.query.Criteria;
+import org.springframework.data.cassandra.core.query.KeysetPageRequest;
 import org.springframework.data.cassandra.core.query.Query;
 import org.springframework.data.cassandra.core.query.Update;
 import org.springframework.data.cassandra.domain.Group;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
 
 import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
@@ -133,6 +135,110 @@ class StatementFactoryUnitTests {
 		assertThat(select.build(ParameterHandling.INLINE).getQuery()).isEqualTo("SELECT ttl(email) FROM group");
 	}
 
+	@Test
+	void shouldMapSelectQueryWithAggregatesAndGroupBy() {
+
+		Query query = Query.empty().columns(Columns.empty().count().max("age")).groupBy("id.groupname", "id.hashPrefix");
+
+		StatementBuilder<Select> select = statementFactory.select(query, groupEntity);
+
+		assertThat(select.build(ParameterHandling.INLINE).getQuery())
+				.isEqualTo("SELECT count(*) AS count,max(age) AS max_age FROM group GROUP BY groupname,hash_prefix");
+	}
+
+	@Test
+	void shouldRenderGroupByInPrimaryKeyOrder() {
+
+		Query query = Query.empty().columns(Columns.empty().count()).groupBy("id.groupname", "id.hashPrefix",
+				"id.username");
+
+		StatementBuilder<Select> select = statementFactory.select(query, groupEntity);
+
+		assertThat(select.build(ParameterHandling.INLINE).getQuery())
+				.isEqualTo("SELECT count(*) AS count FROM group GROUP BY groupname,hash_prefix,username");
+	}
+
+	@Test
+	void shouldSelectMultipleAggregatesOfSameColumn() {
+
+		Query query = Query.empty().columns(Columns.from("age").min("age").max("age").avg("age"));
+
+		StatementBuilder<Select> select = statementFactory.select(query, groupEntity);
+
+		assertThat(select.build(ParameterHandling.INLINE).getQuery())
+				.isEqualTo("SELECT age,min(age) AS min_age,max(age) AS max_age,avg(age) AS avg_age FROM group");
+	}
+
+	@Test
+	void shouldMapSelectQueryWithPerPartitionLimit() {
+
+		Query query = Query.empty().perPartitionLimit(3).limit(10);
+
+		StatementBuilder<Select> select = statementFactory.select(query, groupEntity);
+
+		assertThat(select.build(ParameterHandling.INLINE).getQuery())
+				.isEqualTo("SELECT * FROM group PER PARTITION LIMIT 3 LIMIT 10");
+	}
+
+	@Test
+	void shouldRenderPerPartitionLimitAheadOfLimitAndAllowFiltering() {
+
+		Query query = Query.query(Criteria.where("email").is("walter@white.com")).perPartitionLimit(3).limit(10)
+				.withAllowFiltering();
+
+		StatementBuilder<Select> select = statementFactory.select(query, groupEntity);
+
+		assertThat(select.build(ParameterHandling.INLINE).getQuery()).isEqualTo(
+				"SELECT * FROM group WHERE email='walter@white.com' PER PARTITION LIMIT 3 LIMIT 10 ALLOW FILTERING");
+	}
+
+	@Test
+	void shouldMapSelectQueryWithPerPartitionLimitOnly() {
+
+		Query query = Query.empty().perPartitionLimit(3).withAllowFiltering();
+
+		StatementBuilder<Select> select = statementFactory.select(query, groupEntity);
+
+		assertThat(select.build(ParameterHandling.INLINE).getQuery())
+				.isEqualTo("SELECT * FROM group PER PARTITION LIMIT 3 ALLOW FILTERING");
+	}
+
+	@Test
+	void shouldMapSelectQueryWithKeyset() {
+
+		Query query = Query.query(Criteria.where("id.groupname").is("users"), Criteria.where("id.hashPrefix").is("0x1"))
+				.pageRequest(KeysetPageRequest.after(10, Sort.by(Direction.DESC, "id.username"),
+						Collections.singletonMap("id.username", "walter")));
+
+		StatementBuilder<Select> select = statementFactory.select(query, groupEntity);
+
+		assertThat(select.build(ParameterHandling.INLINE).getQuery()).isEqualTo("SELECT * FROM group "
+				+ "WHERE groupname='users' AND hash_prefix='0x1' AND (username)<('walter') ORDER BY username DESC");
+	}
+
+	@Test
+	void shouldNotRenderKeysetForFirstPage() {
+
+		Query query = Query.empty().pageRequest(KeysetPageRequest.first(10, Direction.ASC, "id.username"));
+
+		StatementBuilder<Select> select = statementFactory.select(query, groupEntity);
+
+		assertThat(select.build(ParameterHandling.INLINE).getQuery())
+				.isEqualTo("SELECT * FROM group ORDER BY username ASC");
+		assertThat(select.build().getPageSize()).isEqualTo(10);
+	}
+
+	@Test
+	void shouldMapAggregateArgumentsToColumnName() {
+
+		Query query = Query.empty().columns(Columns.empty().min("firstName"));
+
+		StatementBuilder<Select> select = statementFactory.select(query, personEntity);
+
+		assertThat(select.build(ParameterHandling.INLINE).getQuery())
+				.isEqualTo("SELECT min(first_name) AS min_firstname FROM person");
+	}
+
 	@Test // DATACASS-343
 	void shouldMapSelectQueryWithSortLimitAndAllowFiltering() {
 
@@ -610,6 +716,61 @@ class StatementFactoryUnitTests {
 				.isEqualTo("SELECT count(1) FROM group WHERE foo='bar'");
 	}
 
+	@Test
+	void selectAndCountShouldBeIdempotent() {
+
+		Query query = Query.query(Criteria.where("foo").is("bar"));
+
+		assertThat(statementFactory.select(query, groupEntity).build().isIdempotent()).isTrue();
+		assertThat(statementFactory.count(query, groupEntity).build().isIdempotent()).isTrue();
+	}
+
+	@Test
+	void insertAndDeleteShouldBeIdempotent() {
+
+		Person person = new Person();
+		person.id = "foo";
+
+		assertThat(statementFactory.insert(person, WriteOptions.empty()).build().isIdempotent()).isTrue();
+		assertThat(statementFactory.delete(Query.query(Criteria.where("id").is("foo")), personEntity).build()
+				.isIdempotent()).isTrue();
+	}
+
+	@Test
+	void lightweightTransactionsShouldNotBeIdempotent() {
+
+		Person person = new Person();
+		person.id = "foo";
+
+		assertThat(statementFactory.insert(person, InsertOptions.builder().withIfNotExists().build()).build()
+				.isIdempotent()).isFalse();
+		assertThat(statementFactory.update(person, UpdateOptions.builder().withIfExists().build()).build().isIdempotent())
+				.isFalse();
+	}
+
+	@Test
+	void counterAndListAppendUpdatesShouldNotBeIdempotent() {
+
+		assertThat(statementFactory.update(Query.empty(), Update.empty().set("firstName", "bar"), personEntity).build()
+				.isIdempotent()).isTrue();
+		assertThat(statementFactory.update(Query.empty(), Update.empty().increment("number"), personEntity).build()
+				.isIdempotent()).isFalse();
+		assertThat(statementFactory
+				.update(Query.empty(), Update.empty().addTo("list").appendAll("foo", "Euro"), personEntity).build()
+				.isIdempotent()).isFalse();
+	}
+
+	@Test
+	void queryOptionsShouldOverrideInferredIdempotence() {
+
+		Query query = Query.empty().queryOptions(UpdateOptions.builder().idempotent(true).build());
+
+		assertThat(statementFactory.update(query, Update.empty().increment("number"), personEntity).build()
+				.isIdempotent()).isTrue();
+		assertThat(statementFactory.select(Query.empty().queryOptions(QueryOptions.builder().idempotent(false).build()),
+				groupEntity).build().isIdempotent()).isFalse();
+	}
+
 	@SuppressWarnings("unused")
 	static class Person {
 
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.cassandra.core.WriteCoalescer.PendingWrite;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+import com.datastax.oss.driver.api.core.servererrors.OverloadedException;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+
+/**
+ * Unit tests for {@link WriteCoalescer}.
+ *
+ * @author agent
+ */
+class WriteCoalescerUnitTests {
+
+	private static final CqlIdentifier KEYSPACE = CqlIdentifier.fromCql("ks");
+
+	private static final CqlIdentifier TABLE = CqlIdentifier.fromCql("users");
+
+	@Test
+	void shouldBatchWritesToSamePartitionAndAlternateReplicaSets() {
+
+		Node node1 = mock(Node.class);
+		Node node2 = mock(Node.class);
+
+		TokenMap tokenMap = mock(TokenMap.class);
+		when(tokenMap.newToken(any(ByteBuffer.class)))
+				.thenAnswer(invocation -> new TestToken(((ByteBuffer) invocation.getArgument(0)).getInt(0)));
+		when(tokenMap.getReplicas(eq(KEYSPACE), any(Token.class))).thenAnswer(invocation -> {
+
+			TestToken token = invocation.getArgument(1);
+			return Collections.singleton(token.value < 10 ? node1 : node2);
+		});
+
+		List<PendingWrite> writes = Arrays.asList(write(1, "a"), write(2, "b"), write(1, "c"), write(11, "d"),
+				write(null, "e"));
+
+		List<Statement<?>> statements = WriteCoalescer.coalesce(writes, InsertOptions.empty(), KEYSPACE, tokenMap,
+				it -> {
+
+					Integer key = (Integer) it.getValues().get(CqlIdentifier.fromCql("key"));
+					return key != null ? new ByteBuffer[] { ByteBuffer.allocate(4).putInt(0, key) } : null;
+				});
+
+		assertThat(statements).hasSize(4);
+
+		assertThat(statements.get(0)).isInstanceOf(BatchStatement.class);
+		BatchStatement batch = (BatchStatement) statements.get(0);
+		assertThat(batch.getBatchType()).isEqualTo(DefaultBatchType.UNLOGGED);
+		assertThat(batch.size()).isEqualTo(2);
+		assertThat(batch.getRoutingToken()).isEqualTo(new TestToken(1));
+		assertThat(batch.getRoutingKeyspace()).isEqualTo(KEYSPACE);
+
+		assertThat(((SimpleStatement) statements.get(1)).getQuery()).isEqualTo("d");
+		assertThat(statements.get(1).getRoutingToken()).isEqualTo(new TestToken(11));
+		assertThat(((SimpleStatement) statements.get(2)).getQuery()).isEqualTo("b");
+		assertThat(((SimpleStatement) statements.get(3)).getQuery()).isEqualTo("e");
+		assertThat(statements.get(3).getRoutingToken()).isNull();
+	}
+
+	@Test
+	void shouldSplitLargePartitionBatches() {
+
+		TokenMap tokenMap = mock(TokenMap.class);
+		when(tokenMap.newToken(any(ByteBuffer.class))).thenReturn(new TestToken(1));
+
+		List<PendingWrite> writes = new ArrayList<>();
+		for (int i = 0; i < WriteCoalescer.MAX_BATCH_SIZE + 1; i++) {
+			writes.add(write(1, "insert" + i));
+		}
+
+		List<Statement<?>> statements = WriteCoalescer.coalesce(writes, InsertOptions.empty(), KEYSPACE, tokenMap,
+				it -> new ByteBuffer[] { ByteBuffer.allocate(4) });
+
+		assertThat(statements).hasSize(2);
+		assertThat(((BatchStatement) statements.get(0)).size()).isEqualTo(WriteCoalescer.MAX_BATCH_SIZE);
+		assertThat(((SimpleStatement) statements.get(1)).getQuery()).isEqualTo("insert16");
+	}
+
+	@Test
+	void shouldNotBatchConditionalWrites() {
+
+		TokenMap tokenMap = mock(TokenMap.class);
+		when(tokenMap.newToken(any(ByteBuffer.class))).thenReturn(new TestToken(1));
+
+		List<PendingWrite> writes = Arrays.asList(write(1, "a"), write(1, "b"), write(1, "c"));
+
+		List<Statement<?>> statements = WriteCoalescer.coalesce(writes,
+				InsertOptions.builder().withIfNotExists().build(), KEYSPACE, tokenMap,
+				it -> new ByteBuffer[] { ByteBuffer.allocate(4) });
+
+		assertThat(statements).hasSize(3).allMatch(SimpleStatement.class::isInstance);
+		assertThat(statements).extracting(Statement::getRoutingToken).containsOnly(new TestToken(1));
+	}
+
+	@Test
+	void shouldSerializePartitionKeyColumns() {
+
+		ColumnMetadata column = mock(ColumnMetadata.class);
+		when(column.getName()).thenReturn(CqlIdentifier.fromCql("key"));
+		when(column.getType()).thenReturn(DataTypes.INT);
+
+		TableMetadata table = mock(TableMetadata.class);
+		when(table.getPartitionKey()).thenReturn(Collections.singletonList(column));
+
+		ByteBuffer[] routingKey = WriteCoalescer.getRoutingKey(write(42, "a").getValues(), table, CodecRegistry.DEFAULT,
+				ProtocolVersion.DEFAULT);
+
+		assertThat(routingKey).containsExactly(TypeCodecs.INT.encode(42, ProtocolVersion.DEFAULT));
+		assertThat(WriteCoalescer.getRoutingKey(write(null, "a").getValues(), table, CodecRegistry.DEFAULT,
+				ProtocolVersion.DEFAULT)).isNull();
+	}
+
+	@Test
+	void shouldBoundStatementsInFlight() {
+
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		List<CompletableFuture<AsyncResultSet>> futures = new ArrayList<>();
+
+		List<Statement<?>> statements = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			statements.add(SimpleStatement.newInstance("insert" + i));
+		}
+
+		CompletableFuture<List<AsyncResultSet>> result = WriteCoalescer.execute(statements, 2, statement -> {
+
+			maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+			CompletableFuture<AsyncResultSet> future = new CompletableFuture<>();
+			futures.add(future);
+			return future;
+		});
+
+		for (int i = 0; i < 5; i++) {
+			inFlight.decrementAndGet();
+			futures.get(i).complete(mock(AsyncResultSet.class));
+		}
+
+		assertThat(result).isCompleted();
+		assertThat(result.join()).hasSize(5);
+		assertThat(maxInFlight).hasValue(2);
+	}
+
+	@Test
+	void shouldFailWithFirstFailure() {
+
+		AtomicInteger executed = new AtomicInteger();
+
+		CompletableFuture<List<AsyncResultSet>> result = WriteCoalescer.execute(
+				Arrays.asList(SimpleStatement.newInstance("a"), SimpleStatement.newInstance("b")), 1, statement -> {
+
+					executed.incrementAndGet();
+					CompletableFuture<AsyncResultSet> future = new CompletableFuture<>();
+					future.completeExceptionally(new OverloadedException(mock(Node.class)));
+					return (CompletionStage<AsyncResultSet>) future;
+				});
+
+		assertThatExceptionOfType(CompletionException.class).isThrownBy(result::join)
+				.withCauseInstanceOf(OverloadedException.class);
+		assertThat(executed).hasValue(1);
+	}
+
+	private static PendingWrite write(Integer key, String cql) {
+
+		Map<CqlIdentifier, Object> values = Collections.singletonMap(CqlIdentifier.fromCql("key"), key);
+
+		return new PendingWrite(new Object(), SimpleStatement.newInstance(cql), TABLE, values);
+	}
+
+	private static class TestToken implements Token {
+
+		private final int value;
+
+		TestToken(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public int compareTo(Token o) {
+			return Integer.compare(this.value, ((TestToken) o).value);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof TestToken && ((TestToken) o).value == this.value;
+		}
+
+		@Override
+		public int hashCode() {
+			return this.value;
+		}
+	}
+}
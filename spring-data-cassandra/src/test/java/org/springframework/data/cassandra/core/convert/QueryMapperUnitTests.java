@@ -57,6 +57,8 @@ import org.springframework.data.cassandra.core.query.CriteriaDefinition;
 import org.springframework.data.cassandra.core.query.CriteriaDefinition.Operators;
 import org.springframework.data.cassandra.core.query.Filter;
 import org.springframework.data.cassandra.core.query.Query;
+import org.springframework.data.cassandra.domain.Group;
+import org.springframework.data.cassandra.domain.GroupKey;
 import org.springframework.data.cassandra.domain.TypeWithKeyClass;
 import org.springframework.data.cassandra.support.UserDefinedTypeBuilder;
 import org.springframework.data.domain.Sort;
@@ -406,6 +408,18 @@ public class QueryMapperUnitTests {
 		assertThat(mappedObject.iterator().next().getColumnName()).isEqualTo(ColumnName.from("prefixfirstname"));
 	}
 
+	@Test
+	void shouldCaptureKeysetFromEntity() {
+
+		Group group = new Group(new GroupKey("users", "0x1", "walter"));
+		group.setAge(42);
+
+		Map<String, Object> keyset = this.queryMapper.getKeyset(group, Sort.by("id.username", "age"),
+				this.mappingContext.getRequiredPersistentEntity(Group.class));
+
+		assertThat(keyset).containsExactly(entry("id.username", "walter"), entry("age", 42));
+	}
+
 	static class Person {
 
 		@Id String id;
@@ -19,8 +19,10 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
@@ -39,8 +41,11 @@ import org.mockito.quality.Strictness;
 
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.cassandra.CassandraConcurrencyLimitExceededException;
 import org.springframework.data.cassandra.CassandraConnectionFailureException;
 import org.springframework.data.cassandra.CassandraInvalidQueryException;
+import org.springframework.data.cassandra.core.cql.support.FixedConcurrencyLimiter;
+import org.springframework.data.cassandra.core.cql.support.ServerWarningMonitor;
 import org.springframework.lang.Nullable;
 import org.springframework.scheduling.annotation.AsyncResult;
 import org.springframework.util.concurrent.ListenableFuture;
@@ -51,6 +56,7 @@ import com.datastax.oss.driver.api.core.NoNodeAvailableException;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
@@ -760,6 +766,136 @@ public class AsyncCqlTemplateUnitTests {
 		assertThat(getUninterruptibly(future)).isTrue();
 	}
 
+	@Test
+	void ingestShouldKeepConcurrencyWindow() {
+
+		TestResultSetFuture first = new TestResultSetFuture();
+		TestResultSetFuture second = new TestResultSetFuture();
+		TestResultSetFuture third = new TestResultSetFuture();
+
+		when(session.prepareAsync("INSERT INTO user (id) VALUES (?)"))
+				.thenReturn(new TestPreparedStatementFuture(preparedStatement));
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(session.executeAsync(any(Statement.class))).thenReturn(first, second, third);
+		template.setMappingExecutor(Runnable::run);
+
+		ListenableFuture<IngestResult> future = template.ingest("INSERT INTO user (id) VALUES (?)",
+				Arrays.asList(new Object[] { "Walter" }, new Object[] { "Hank" }, new Object[] { "Jesse" }),
+				IngestOptions.builder().concurrency(2).build());
+
+		verify(session, times(2)).executeAsync(any(Statement.class));
+
+		first.complete(resultSet);
+
+		verify(session, times(3)).executeAsync(any(Statement.class));
+		assertThat(future).isNotDone();
+
+		second.complete(resultSet);
+		third.complete(resultSet);
+
+		IngestResult result = getUninterruptibly(future);
+		assertThat(result.getRowCount()).isEqualTo(3);
+		assertThat(result.getSuccessCount()).isEqualTo(3);
+	}
+
+	@Test
+	void ingestShouldPullRowsOnMappingExecutor() {
+
+		Deque<Runnable> tasks = new ArrayDeque<>();
+		TestResultSetFuture first = new TestResultSetFuture();
+
+		when(session.prepareAsync("INSERT INTO user (id) VALUES (?)"))
+				.thenReturn(new TestPreparedStatementFuture(preparedStatement));
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(session.executeAsync(any(Statement.class))).thenReturn(first, new TestResultSetFuture(resultSet));
+		template.setMappingExecutor(tasks::add);
+
+		ListenableFuture<IngestResult> future = template.ingest("INSERT INTO user (id) VALUES (?)",
+				Arrays.asList(new Object[] { "Walter" }, new Object[] { "Hank" }),
+				IngestOptions.builder().concurrency(1).build());
+
+		verify(session, never()).executeAsync(any(Statement.class));
+
+		tasks.poll().run();
+		first.complete(resultSet);
+
+		verify(session, times(1)).executeAsync(any(Statement.class));
+
+		while (!tasks.isEmpty()) {
+			tasks.poll().run();
+		}
+
+		verify(session, times(2)).executeAsync(any(Statement.class));
+		assertThat(future).isDone();
+	}
+
+	@Test
+	void shouldQueueStatementsExceedingConcurrencyLimit() {
+
+		TestResultSetFuture first = new TestResultSetFuture();
+		when(session.executeAsync(any(Statement.class))).thenReturn(first, new TestResultSetFuture(resultSet));
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		FixedConcurrencyLimiter limiter = new FixedConcurrencyLimiter(1, 1);
+		template.setConcurrencyLimiter(limiter);
+
+		ListenableFuture<Boolean> firstResult = template.execute("UPDATE user SET a = 'b';");
+		ListenableFuture<Boolean> secondResult = template.execute("UPDATE user SET a = 'c';");
+
+		verify(session).executeAsync(any(Statement.class));
+		assertThat(limiter.getMetrics().getPending()).isEqualTo(1);
+
+		first.complete(resultSet);
+
+		assertThat(getUninterruptibly(firstResult)).isTrue();
+		assertThat(getUninterruptibly(secondResult)).isTrue();
+		verify(session, times(2)).executeAsync(any(Statement.class));
+		assertThat(limiter.getMetrics().getInFlight()).isZero();
+		assertThat(limiter.getMetrics().getQueuedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldRejectStatementsExceedingConcurrencyLimit() throws Exception {
+
+		when(session.executeAsync(any(Statement.class))).thenReturn(new TestResultSetFuture());
+
+		template.setConcurrencyLimiter(new FixedConcurrencyLimiter(1, 0));
+
+		template.execute("UPDATE user SET a = 'b';");
+		ListenableFuture<Boolean> future = template.execute("UPDATE user SET a = 'c';");
+
+		try {
+			future.get();
+
+			fail("Missing CassandraConcurrencyLimitExceededException");
+		} catch (ExecutionException e) {
+			assertThat(e).hasCauseInstanceOf(CassandraConcurrencyLimitExceededException.class);
+		}
+
+		verify(session).executeAsync(any(Statement.class));
+	}
+
+	@Test
+	void executeShouldRecordServerWarnings() {
+
+		ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+		doReturn(SimpleStatement.newInstance("UPDATE users SET a = 'b'")).when(executionInfo).getRequest();
+		when(executionInfo.getWarnings())
+				.thenReturn(Collections.singletonList("Batch for [users] is of size 6144, exceeding specified threshold"));
+		when(session.executeAsync(any(Statement.class))).thenReturn(new TestResultSetFuture(resultSet));
+		when(resultSet.getExecutionInfo()).thenReturn(executionInfo);
+		when(resultSet.wasApplied()).thenReturn(true);
+
+		ServerWarningMonitor monitor = new ServerWarningMonitor();
+		template.setServerWarningMonitor(monitor);
+
+		assertThat(getUninterruptibly(template.execute("UPDATE users SET a = 'b'"))).isTrue();
+
+		assertThat(monitor.getMetrics()).hasSize(1);
+		assertThat(monitor.getMetrics().get(0).getTableName()).isEqualTo("users");
+		assertThat(monitor.getMetrics().get(0).getType()).isEqualTo(ServerWarningMonitor.WarningType.BATCH_SIZE);
+	}
+
 	private void doTestStrings(Consumer<AsyncCqlTemplate> cqlTemplateConsumer) {
 		doTestStrings(null, null, cqlTemplateConsumer);
 	}
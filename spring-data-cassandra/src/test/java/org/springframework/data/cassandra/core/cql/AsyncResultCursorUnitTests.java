@@ -0,0 +1,130 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.cassandra.CassandraConnectionFailureException;
+import org.springframework.util.concurrent.ListenableFuture;
+
+import com.datastax.oss.driver.api.core.NoNodeAvailableException;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * Unit tests for {@link AsyncResultCursor}.
+ *
+ * @author agent
+ */
+class AsyncResultCursorUnitTests {
+
+	private AsyncResultSet first = mock(AsyncResultSet.class);
+	private AsyncResultSet last = mock(AsyncResultSet.class);
+	private Row row1 = mock(Row.class);
+	private Row row2 = mock(Row.class);
+
+	@Test
+	void shouldFetchPagesOnDemand() throws ExecutionException, InterruptedException {
+
+		when(first.currentPage()).thenReturn(Collections.singletonList(row1));
+		when(first.hasMorePages()).thenReturn(true);
+		when(last.currentPage()).thenReturn(Collections.singletonList(row2));
+		when(first.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(last));
+
+		AsyncResultCursor<String> cursor = cursor();
+
+		assertThat(cursor.nextPage().get()).containsExactly("row-0");
+		verify(first, never()).fetchNextPage();
+
+		assertThat(cursor.hasMorePages()).isTrue();
+		assertThat(cursor.nextPage().get()).containsExactly("row-1");
+		assertThat(cursor.hasMorePages()).isFalse();
+		assertThatIllegalStateException().isThrownBy(cursor::nextPage);
+	}
+
+	@Test
+	void shouldRejectOverlappingPageRequests() {
+
+		when(first.currentPage()).thenReturn(Collections.singletonList(row1));
+		when(first.hasMorePages()).thenReturn(true);
+		when(first.fetchNextPage()).thenReturn(new CompletableFuture<>());
+
+		AsyncResultCursor<String> cursor = cursor();
+
+		cursor.nextPage();
+		ListenableFuture<List<String>> pending = cursor.nextPage();
+
+		assertThat(pending).isNotDone();
+		assertThatIllegalStateException().isThrownBy(cursor::nextPage);
+	}
+
+	@Test
+	void shouldRequestNextPageOnceHandlerCompletes() throws ExecutionException, InterruptedException {
+
+		when(first.currentPage()).thenReturn(Collections.singletonList(row1));
+		when(first.hasMorePages()).thenReturn(true);
+		when(last.currentPage()).thenReturn(Collections.singletonList(row2));
+		when(first.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(last));
+
+		List<List<String>> pages = new ArrayList<>();
+		CompletableFuture<Void> demand = new CompletableFuture<>();
+
+		ListenableFuture<Void> completion = cursor().forEachPage(page -> {
+
+			pages.add(page);
+			return pages.size() == 1 ? demand : null;
+		});
+
+		assertThat(pages).hasSize(1);
+		verify(first, never()).fetchNextPage();
+
+		demand.complete(null);
+
+		assertThat(completion.get()).isNull();
+		assertThat(pages).containsExactly(Collections.singletonList("row-0"), Collections.singletonList("row-1"));
+	}
+
+	@Test
+	void shouldTranslatePageFetchFailure() {
+
+		when(first.currentPage()).thenReturn(Arrays.asList(row1, row2));
+		when(first.hasMorePages()).thenReturn(true);
+
+		CompletableFuture<AsyncResultSet> failed = new CompletableFuture<>();
+		failed.completeExceptionally(new NoNodeAvailableException());
+		when(first.fetchNextPage()).thenReturn(failed);
+
+		ListenableFuture<Void> completion = cursor().forEachPage(page -> null);
+
+		assertThatExceptionOfType(ExecutionException.class).isThrownBy(completion::get)
+				.withCauseInstanceOf(CassandraConnectionFailureException.class);
+	}
+
+	private AsyncResultCursor<String> cursor() {
+		return new AsyncResultCursor<>(first, (row, rowNum) -> "row-" + rowNum, null, 0,
+				new CassandraExceptionTranslator());
+	}
+}
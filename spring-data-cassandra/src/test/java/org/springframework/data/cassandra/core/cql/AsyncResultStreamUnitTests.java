@@ -23,6 +23,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -139,4 +141,73 @@ class AsyncResultStreamUnitTests {
 
 		assertThatThrownBy(collect::get).hasRootCauseInstanceOf(RuntimeException.class);
 	}
+
+	@Test
+	void shouldCollectPagesUsingExecutor() throws ExecutionException, InterruptedException {
+
+		when(first.currentPage()).thenReturn(Collections.singletonList(row1));
+		when(first.remaining()).thenReturn(1);
+
+		List<Runnable> tasks = new ArrayList<>();
+		Executor executor = tasks::add;
+
+		ListenableFuture<List<Row>> collect = AsyncResultStream.from(first).processOn(executor, 1)
+				.collect(Collectors.toList());
+
+		assertThat(collect).isNotDone();
+		assertThat(tasks).hasSize(1);
+
+		tasks.get(0).run();
+
+		assertThat(collect.get()).containsOnly(row1);
+	}
+
+	@Test
+	void shouldCollectPagesBelowThresholdInline() throws ExecutionException, InterruptedException {
+
+		when(first.currentPage()).thenReturn(Collections.singletonList(row1));
+		when(first.remaining()).thenReturn(1);
+
+		Executor executor = mock(Executor.class);
+
+		ListenableFuture<List<Row>> collect = AsyncResultStream.from(first).processOn(executor, 2)
+				.collect(Collectors.toList());
+
+		assertThat(collect.get()).containsOnly(row1);
+		verifyZeroInteractions(executor);
+	}
+
+	@Test
+	void shouldPropagateRejectedExecution() {
+
+		when(first.remaining()).thenReturn(1);
+
+		Executor executor = command -> {
+			throw new RejectedExecutionException();
+		};
+
+		ListenableFuture<Void> completion = AsyncResultStream.from(first).processOn(executor, 0).forEach(row -> {});
+
+		assertThatThrownBy(completion::get).hasRootCauseInstanceOf(RejectedExecutionException.class);
+	}
+
+	@Test
+	void shouldIterateCompletedPagesWithoutRecursion() throws ExecutionException, InterruptedException {
+
+		AsyncResultSet page = last;
+		when(page.currentPage()).thenReturn(Collections.singletonList(row1));
+
+		for (int i = 0; i < 10_000; i++) {
+
+			AsyncResultSet previous = mock(AsyncResultSet.class);
+			when(previous.currentPage()).thenReturn(Collections.singletonList(row1));
+			when(previous.hasMorePages()).thenReturn(true);
+			when(previous.fetchNextPage()).thenReturn(CompletableFuture.completedFuture(page));
+			page = previous;
+		}
+
+		ListenableFuture<Long> count = AsyncResultStream.from(page).collect(Collectors.counting());
+
+		assertThat(count.get()).isEqualTo(10_001);
+	}
 }
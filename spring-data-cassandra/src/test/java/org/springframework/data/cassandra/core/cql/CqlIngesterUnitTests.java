@@ -0,0 +1,313 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+
+/**
+ * Unit tests for {@link CqlIngester}.
+ *
+ * @author agent
+ */
+class CqlIngesterUnitTests {
+
+	@Test
+	void shouldExecuteRowsInTokenOrderWithinGroupingWindow() {
+
+		TokenMap tokenMap = mock(TokenMap.class);
+		when(tokenMap.newToken(any(ByteBuffer.class)))
+				.thenAnswer(invocation -> new TestToken(((ByteBuffer) invocation.getArgument(0)).getInt(0)));
+
+		List<Object> executed = new ArrayList<>();
+		Function<Statement<?>, CompletableFuture<?>> executor = statement -> {
+			executed.add(((SimpleStatement) statement).getPositionalValues().get(0));
+			return CompletableFuture.completedFuture(null);
+		};
+
+		IngestOptions options = IngestOptions.builder().groupByRoutingToken(3).build();
+
+		IngestResult result = new CqlIngester(rows(3, 1, 2, 6, 5, 4), options, CqlIngesterUnitTests::bind,
+				executor::apply, Function.identity(), tokenMap).ingest();
+
+		assertThat(result.getRowCount()).isEqualTo(6);
+		assertThat(executed).containsExactly(1, 2, 3, 4, 5, 6);
+	}
+
+	@Test
+	void shouldIngestInInputOrderWithoutTokenMap() {
+
+		List<Object> executed = new ArrayList<>();
+		Function<Statement<?>, CompletableFuture<?>> executor = statement -> {
+			executed.add(((SimpleStatement) statement).getPositionalValues().get(0));
+			return CompletableFuture.completedFuture(null);
+		};
+
+		new CqlIngester(rows(3, 1, 2), IngestOptions.builder().groupByRoutingToken(3).build(), CqlIngesterUnitTests::bind,
+				executor::apply, Function.identity(), null).ingest();
+
+		assertThat(executed).containsExactly(3, 1, 2);
+	}
+
+	@Test
+	void shouldReportBindingFailures() {
+
+		IngestResult result = new CqlIngester(rows(1, 2), IngestOptions.defaults(), values -> {
+
+			if (values[0].equals(2)) {
+				throw new IllegalArgumentException("Cannot bind");
+			}
+
+			return bind(values);
+		}, statement -> CompletableFuture.completedFuture(null), Function.identity(), null).ingest();
+
+		assertThat(result.getSuccessCount()).isEqualTo(1);
+		assertThat(result.getFailures()).extracting(IngestResult.RowFailure::getIndex).containsExactly(1L);
+	}
+
+	@Test
+	void shouldFailIfInputFails() {
+
+		Iterator<Object[]> rows = new Iterator<Object[]>() {
+
+			@Override
+			public boolean hasNext() {
+				return true;
+			}
+
+			@Override
+			public Object[] next() {
+				throw new IllegalStateException("Input failed");
+			}
+		};
+
+		CqlIngester ingester = new CqlIngester(rows, IngestOptions.defaults(), CqlIngesterUnitTests::bind,
+				statement -> CompletableFuture.completedFuture(null), Function.identity(), null);
+
+		assertThatIllegalStateException().isThrownBy(ingester::ingest);
+	}
+
+	@Test
+	void shouldFailAsyncIngestIfInputFails() {
+
+		Iterator<Object[]> rows = new Iterator<Object[]>() {
+
+			@Override
+			public boolean hasNext() {
+				return true;
+			}
+
+			@Override
+			public Object[] next() {
+				throw new IllegalStateException("Input failed");
+			}
+		};
+
+		CompletableFuture<IngestResult> future = new CqlIngester(rows, IngestOptions.defaults(),
+				CqlIngesterUnitTests::bind, statement -> CompletableFuture.completedFuture(null), Function.identity(), null)
+						.ingestAsync(Runnable::run);
+
+		assertThat(future).hasFailedWithThrowableThat().isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void shouldLimitStatementsInFlightWhenIngestingOnCallingThread() throws InterruptedException {
+
+		ExecutorService completions = Executors.newSingleThreadExecutor();
+		AtomicInteger inFlight = new AtomicInteger();
+		AtomicInteger maxInFlight = new AtomicInteger();
+		Thread caller = Thread.currentThread();
+		List<Thread> bindingThreads = new CopyOnWriteArrayList<>();
+
+		try {
+
+			IngestOptions options = IngestOptions.builder().concurrency(2).build();
+
+			Function<Object[], Statement<?>> binder = values -> {
+
+				bindingThreads.add(Thread.currentThread());
+				return bind(values);
+			};
+
+			Function<Statement<?>, CompletableFuture<?>> executor = statement -> {
+
+				maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+				return CompletableFuture.runAsync(inFlight::decrementAndGet, completions);
+			};
+
+			IngestResult result = new CqlIngester(rows(1, 2, 3, 4, 5, 6, 7, 8), options, binder, executor::apply,
+					Function.identity(), null).ingest();
+
+			assertThat(result.getSuccessCount()).isEqualTo(8);
+			assertThat(maxInFlight).hasValueLessThanOrEqualTo(2);
+			assertThat(bindingThreads).containsOnly(caller);
+		} finally {
+			completions.shutdown();
+			completions.awaitTermination(1, TimeUnit.SECONDS);
+		}
+	}
+
+	@Test
+	void shouldPullRowsOnDrainExecutorWhenIngestingAsync() {
+
+		Deque<Runnable> tasks = new ArrayDeque<>();
+		List<CompletableFuture<Object>> statements = new ArrayList<>();
+
+		IngestOptions options = IngestOptions.builder().concurrency(2).build();
+
+		CompletableFuture<IngestResult> future = new CqlIngester(rows(1, 2, 3), options, CqlIngesterUnitTests::bind,
+				statement -> {
+
+					CompletableFuture<Object> completion = new CompletableFuture<>();
+					statements.add(completion);
+					return completion;
+				}, Function.identity(), null).ingestAsync(tasks::add);
+
+		assertThat(statements).isEmpty();
+
+		tasks.poll().run();
+
+		assertThat(statements).hasSize(2);
+
+		statements.get(0).complete(null);
+
+		assertThat(statements).hasSize(2);
+		assertThat(tasks).hasSize(1);
+
+		tasks.poll().run();
+
+		assertThat(statements).hasSize(3);
+
+		statements.get(1).complete(null);
+		statements.get(2).complete(null);
+
+		while (!tasks.isEmpty()) {
+			tasks.poll().run();
+		}
+
+		assertThat(future).isCompletedWithValueMatching(it -> it.getSuccessCount() == 3);
+	}
+
+	@Test
+	void shouldNotBlockCompletionWhileBindingRows() throws Exception {
+
+		ExecutorService drainer = Executors.newSingleThreadExecutor();
+		CountDownLatch binding = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch executed = new CountDownLatch(3);
+		List<CompletableFuture<Object>> statements = new CopyOnWriteArrayList<>();
+
+		try {
+
+			Function<Object[], Statement<?>> binder = values -> {
+
+				if (values[0].equals(3)) {
+
+					binding.countDown();
+
+					try {
+						release.await(5, TimeUnit.SECONDS);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				}
+
+				return bind(values);
+			};
+
+			CompletableFuture<IngestResult> future = new CqlIngester(rows(1, 2, 3),
+					IngestOptions.builder().concurrency(3).build(), binder, statement -> {
+
+						CompletableFuture<Object> completion = new CompletableFuture<>();
+						statements.add(completion);
+						executed.countDown();
+						return completion;
+					}, Function.identity(), null).ingestAsync(drainer);
+
+			assertThat(binding.await(5, TimeUnit.SECONDS)).isTrue();
+
+			CompletableFuture<Void> completing = CompletableFuture.runAsync(() -> statements.get(0).complete(null));
+
+			assertThat(completing).succeedsWithin(Duration.ofSeconds(1));
+
+			release.countDown();
+			statements.get(1).complete(null);
+
+			assertThat(executed.await(5, TimeUnit.SECONDS)).isTrue();
+
+			statements.get(2).complete(null);
+
+			assertThat(future).succeedsWithin(Duration.ofSeconds(5)).matches(it -> it.getSuccessCount() == 3);
+		} finally {
+			release.countDown();
+			drainer.shutdown();
+			drainer.awaitTermination(1, TimeUnit.SECONDS);
+		}
+	}
+
+	private static Iterator<Object[]> rows(Integer... values) {
+
+		List<Object[]> rows = new ArrayList<>();
+		Arrays.stream(values).forEach(it -> rows.add(new Object[] { it }));
+
+		return rows.iterator();
+	}
+
+	private static Statement<?> bind(Object[] values) {
+
+		ByteBuffer routingKey = ByteBuffer.allocate(4).putInt(0, (Integer) values[0]);
+
+		return SimpleStatement.newInstance("INSERT", values).setRoutingKey(routingKey);
+	}
+
+	private static class TestToken implements Token {
+
+		private final int value;
+
+		TestToken(int value) {
+			this.value = value;
+		}
+
+		@Override
+		public int compareTo(Token o) {
+			return Integer.compare(this.value, ((TestToken) o).value);
+		}
+	}
+}
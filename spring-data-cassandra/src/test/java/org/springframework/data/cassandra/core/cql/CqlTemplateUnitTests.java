@@ -19,11 +19,14 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,22 +39,31 @@ import org.mockito.quality.Strictness;
 
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.dao.TypeMismatchDataAccessException;
 import org.springframework.data.cassandra.CassandraConnectionFailureException;
 import org.springframework.data.cassandra.CassandraInvalidQueryException;
+import org.springframework.data.cassandra.CassandraResultSizeExceededException;
+import org.springframework.data.cassandra.core.cql.support.AdaptivePageSizer;
+import org.springframework.data.cassandra.core.cql.support.ResultSizeGuard;
+import org.springframework.data.cassandra.core.cql.support.ServerWarningMonitor;
 import org.springframework.lang.Nullable;
 
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
 import com.datastax.oss.driver.api.core.NoNodeAvailableException;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.servererrors.InvalidQueryException;
+import com.datastax.oss.driver.api.core.type.DataTypes;
 
 /**
  * Unit tests for {@link CqlTemplate}.
@@ -260,6 +272,127 @@ class CqlTemplateUnitTests {
 		assertThat(result).contains("OK", "NOT OK");
 	}
 
+	@Test
+	void queryShouldApplyAdaptivePageSize() {
+
+		ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+		doReturn(SimpleStatement.newInstance("SELECT * FROM blobs")).when(executionInfo).getRequest();
+		when(executionInfo.getResponseSizeInBytes()).thenReturn(10 * 64 * 1024);
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.getExecutionInfo()).thenReturn(executionInfo);
+		when(resultSet.getAvailableWithoutFetching()).thenReturn(10);
+		when(resultSet.iterator()).thenReturn(Collections.emptyIterator());
+
+		template.setAdaptivePageSizer(new AdaptivePageSizer(1024 * 1024, 1, 5000));
+
+		template.queryForResultSet("SELECT * FROM blobs");
+		template.queryForResultSet("SELECT * FROM blobs");
+		template.queryForResultSet(SimpleStatement.newInstance("SELECT * FROM blobs").setPageSize(100));
+
+		ArgumentCaptor<Statement> captor = ArgumentCaptor.forClass(Statement.class);
+		verify(session, times(3)).execute(captor.capture());
+
+		assertThat(captor.getAllValues()).extracting(Statement::getPageSize).containsExactly(5000, 16, 100);
+	}
+
+	@Test
+	void queryShouldRecordServerWarnings() {
+
+		ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+		doReturn(SimpleStatement.newInstance("SELECT * FROM users")).when(executionInfo).getRequest();
+		when(executionInfo.getWarnings())
+				.thenReturn(Collections.singletonList("Read 1000 live rows and 2000 tombstone cells for query SELECT *"));
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.getExecutionInfo()).thenReturn(executionInfo);
+
+		ServerWarningMonitor monitor = new ServerWarningMonitor();
+		template.setServerWarningMonitor(monitor);
+
+		template.queryForResultSet("SELECT * FROM users");
+		template.queryForResultSet("SELECT * FROM users");
+
+		assertThat(monitor.getMetrics()).hasSize(1);
+		assertThat(monitor.getMetrics().get(0).getTableName()).isEqualTo("users");
+		assertThat(monitor.getMetrics().get(0).getType()).isEqualTo(ServerWarningMonitor.WarningType.TOMBSTONE);
+		assertThat(monitor.getMetrics().get(0).getCount()).isEqualTo(2);
+	}
+
+	@Test
+	void queryShouldApplyResultSizeGuard() {
+
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.iterator()).thenReturn(Collections.nCopies(5, row).iterator());
+		when(row.getString(0)).thenReturn("Walter");
+
+		template.setResultSizeGuard(ResultSizeGuard.maxRows(4));
+
+		assertThatExceptionOfType(CassandraResultSizeExceededException.class)
+				.isThrownBy(() -> template.query("SELECT * FROM USERS", (row, index) -> row.getString(0)));
+
+		assertThat(template.getResultSizeGuard().getMetrics().getMaxObservedRows()).isEqualTo(4);
+	}
+
+	@Test
+	void queryForLongArrayCqlShouldReadPrimitiveValues() {
+
+		ColumnDefinition columnDefinition = mock(ColumnDefinition.class);
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.getColumnDefinitions()).thenReturn(columnDefinitions);
+		when(columnDefinitions.size()).thenReturn(1);
+		when(columnDefinitions.get(0)).thenReturn(columnDefinition);
+		when(columnDefinition.getType()).thenReturn(DataTypes.BIGINT);
+		when(resultSet.iterator()).thenReturn(Collections.nCopies(20, row).iterator());
+		when(row.getLong(0)).thenReturn(1L, 2L);
+
+		long[] result = template.queryForLongArray("SELECT value FROM metrics");
+
+		assertThat(result).hasSize(20).startsWith(1L, 2L, 2L);
+		verify(row, never()).getObject(anyInt());
+	}
+
+	@Test
+	void forEachDoubleCqlShouldReadIntegralColumnAsDouble() {
+
+		ColumnDefinition columnDefinition = mock(ColumnDefinition.class);
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.getColumnDefinitions()).thenReturn(columnDefinitions);
+		when(columnDefinitions.size()).thenReturn(1);
+		when(columnDefinitions.get(0)).thenReturn(columnDefinition);
+		when(columnDefinition.getType()).thenReturn(DataTypes.INT);
+		when(resultSet.iterator()).thenReturn(Arrays.asList(row, row).iterator());
+		when(row.getInt(0)).thenReturn(3, 4);
+
+		List<Double> values = new ArrayList<>();
+		template.forEachDouble("SELECT value FROM metrics", values::add);
+
+		assertThat(values).containsExactly(3d, 4d);
+	}
+
+	@Test
+	void queryForLongArrayShouldRejectMultipleColumns() {
+
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.getColumnDefinitions()).thenReturn(columnDefinitions);
+		when(columnDefinitions.size()).thenReturn(2);
+
+		assertThatExceptionOfType(IncorrectResultSetColumnCountException.class)
+				.isThrownBy(() -> template.queryForLongArray("SELECT a, b FROM metrics"));
+	}
+
+	@Test
+	void queryForDoubleArrayShouldRejectNonNumericColumns() {
+
+		ColumnDefinition columnDefinition = mock(ColumnDefinition.class);
+		when(session.execute(any(Statement.class))).thenReturn(resultSet);
+		when(resultSet.getColumnDefinitions()).thenReturn(columnDefinitions);
+		when(columnDefinitions.size()).thenReturn(1);
+		when(columnDefinitions.get(0)).thenReturn(columnDefinition);
+		when(columnDefinition.getType()).thenReturn(DataTypes.TEXT);
+
+		assertThatExceptionOfType(TypeMismatchDataAccessException.class)
+				.isThrownBy(() -> template.queryForDoubleArray(SimpleStatement.newInstance("SELECT name FROM metrics")));
+	}
+
 	@Test // DATACASS-292
 	void executeCqlShouldReturnWasApplied() {
 
@@ -682,6 +815,57 @@ class CqlTemplateUnitTests {
 		assertThat(applied).isTrue();
 	}
 
+	@Test
+	void ingestShouldPrepareOnceAndExecuteRows() {
+
+		when(session.prepare("INSERT INTO user (id) VALUES (?)")).thenReturn(preparedStatement);
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(session.executeAsync(any(Statement.class)))
+				.thenReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+
+		IngestResult result = template.ingest("INSERT INTO user (id) VALUES (?)",
+				Arrays.asList(new Object[] { "Walter" }, new Object[] { "Hank" }, new Object[] { "Jesse" }));
+
+		assertThat(result.getRowCount()).isEqualTo(3);
+		assertThat(result.getSuccessCount()).isEqualTo(3);
+		assertThat(result.hasFailures()).isFalse();
+
+		verify(session).prepare("INSERT INTO user (id) VALUES (?)");
+		verify(session, times(3)).executeAsync(boundStatement);
+	}
+
+	@Test
+	void ingestShouldReportRowFailures() {
+
+		CompletableFuture<AsyncResultSet> failed = new CompletableFuture<>();
+		failed.completeExceptionally(new InvalidQueryException(null, "wrong query"));
+
+		when(session.prepare("INSERT INTO user (id) VALUES (?)")).thenReturn(preparedStatement);
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(session.executeAsync(any(Statement.class))).thenReturn(
+				CompletableFuture.completedFuture(mock(AsyncResultSet.class)), failed,
+				CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+
+		IngestResult result = template.ingest("INSERT INTO user (id) VALUES (?)",
+				Stream.of(new Object[] { "Walter" }, new Object[] { "Hank" }, new Object[] { "Jesse" }),
+				IngestOptions.builder().concurrency(1).build());
+
+		assertThat(result.getRowCount()).isEqualTo(3);
+		assertThat(result.getFailureCount()).isEqualTo(1);
+		assertThat(result.getFailures().get(0).getIndex()).isEqualTo(1);
+		assertThat(result.getFailures().get(0).getValues()).containsExactly("Hank");
+		assertThat(result.getFailures().get(0).getCause()).isInstanceOf(CassandraInvalidQueryException.class);
+	}
+
+	@Test
+	void ingestShouldTranslatePrepareFailure() {
+
+		when(session.prepare(anyString())).thenThrow(new InvalidQueryException(null, "wrong query"));
+
+		assertThatExceptionOfType(CassandraInvalidQueryException.class)
+				.isThrownBy(() -> template.ingest("INSERT INTO user (id) VALUES (?)", Collections.emptyList()));
+	}
+
 	private void doTestStrings(Consumer<CqlTemplate> cqlTemplateConsumer) {
 		doTestStrings(null, null, null, null, cqlTemplateConsumer);
 	}
@@ -59,4 +59,14 @@ class QueryOptionsUnitTests {
 		assertThat(mutated.getPageSize()).isEqualTo(10);
 		assertThat(mutated.getTracing()).isTrue();
 	}
+
+	@Test
+	void buildIdempotentQueryOptions() {
+
+		QueryOptions queryOptions = QueryOptions.builder().idempotent(true).build();
+
+		assertThat(queryOptions.getIdempotent()).isTrue();
+		assertThat(queryOptions.mutate().build()).isEqualTo(queryOptions);
+		assertThat(QueryOptions.empty().getIdempotent()).isNull();
+	}
 }
@@ -15,6 +15,7 @@
  */
 package org.springframework.data.cassandra.core.cql;
 
+import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.time.Duration;
@@ -42,21 +43,18 @@ class QueryOptionsUtilUnitTests {
 	@Test // DATACASS-202, DATACASS-708
 	void addPreparedStatementOptionsShouldAddDriverQueryOptions() {
 
-		when(simpleStatement.setConsistencyLevel(any())).thenReturn(simpleStatement);
-		when(simpleStatement.setSerialConsistencyLevel(any())).thenReturn(simpleStatement);
-		when(simpleStatement.setExecutionProfileName(anyString())).thenReturn(simpleStatement);
-
 		QueryOptions queryOptions = QueryOptions.builder() //
 				.consistencyLevel(DefaultConsistencyLevel.EACH_QUORUM) //
 				.serialConsistencyLevel(DefaultConsistencyLevel.LOCAL_ONE) //
 				.executionProfile("foo") //
 				.build();
 
-		QueryOptionsUtil.addQueryOptions(simpleStatement, queryOptions);
+		SimpleStatement statement = QueryOptionsUtil.addQueryOptions(SimpleStatement.newInstance("SELECT * FROM users"),
+				queryOptions);
 
-		verify(simpleStatement).setConsistencyLevel(DefaultConsistencyLevel.EACH_QUORUM);
-		verify(simpleStatement).setSerialConsistencyLevel(DefaultConsistencyLevel.LOCAL_ONE);
-		verify(simpleStatement).setExecutionProfileName("foo");
+		assertThat(statement.getConsistencyLevel()).isEqualTo(DefaultConsistencyLevel.EACH_QUORUM);
+		assertThat(statement.getSerialConsistencyLevel()).isEqualTo(DefaultConsistencyLevel.LOCAL_ONE);
+		assertThat(statement.getExecutionProfileName()).isEqualTo("foo");
 	}
 
 	@Test // DATACASS-202
@@ -72,20 +70,87 @@ class QueryOptionsUtilUnitTests {
 	@Test // DATACASS-202
 	void addStatementQueryOptionsShouldAddGenericQueryOptions() {
 
-		when(simpleStatement.setPageSize(anyInt())).thenReturn(simpleStatement);
-		when(simpleStatement.setTimeout(any())).thenReturn(simpleStatement);
-		when(simpleStatement.setTracing(anyBoolean())).thenReturn(simpleStatement);
-
 		QueryOptions queryOptions = QueryOptions.builder() //
 				.pageSize(10) //
 				.readTimeout(1, TimeUnit.MINUTES) //
 				.withTracing() //
 				.build();
 
-		QueryOptionsUtil.addQueryOptions(simpleStatement, queryOptions);
+		SimpleStatement statement = QueryOptionsUtil.addQueryOptions(SimpleStatement.newInstance("SELECT * FROM users"),
+				queryOptions);
+
+		assertThat(statement.getTimeout()).isEqualTo(Duration.ofMinutes(1));
+		assertThat(statement.getPageSize()).isEqualTo(10);
+		assertThat(statement.isTracing()).isTrue();
+	}
+
+	@Test
+	void addStatementQueryOptionsShouldRetainStatementProperties() {
+
+		SimpleStatement source = SimpleStatement.newInstance("SELECT * FROM users WHERE id = ?", "foo")
+				.setKeyspace("ks").setIdempotent(true);
+
+		QueryOptions queryOptions = QueryOptions.builder() //
+				.consistencyLevel(DefaultConsistencyLevel.QUORUM) //
+				.pageSize(10) //
+				.build();
+
+		SimpleStatement statement = QueryOptionsUtil.addQueryOptions(source, queryOptions);
+
+		assertThat(statement.getQuery()).isEqualTo(source.getQuery());
+		assertThat(statement.getPositionalValues()).containsExactly("foo");
+		assertThat(statement.getKeyspace()).isEqualTo(source.getKeyspace());
+		assertThat(statement.isIdempotent()).isTrue();
+		assertThat(statement.getConsistencyLevel()).isEqualTo(DefaultConsistencyLevel.QUORUM);
+		assertThat(statement.getPageSize()).isEqualTo(10);
+	}
+
+	@Test
+	void addStatementQueryOptionsShouldApplySingleSettingUsingSetter() {
+
+		when(simpleStatement.setPageSize(anyInt())).thenReturn(simpleStatement);
+
+		QueryOptionsUtil.addQueryOptions(simpleStatement, QueryOptions.builder().pageSize(10).build());
 
-		verify(simpleStatement).setTimeout(Duration.ofMinutes(1));
 		verify(simpleStatement).setPageSize(10);
-		verify(simpleStatement).setTracing(true);
+	}
+
+	@Test
+	void addStatementQueryOptionsShouldNotCopyUnchangedStatement() {
+
+		SimpleStatement source = SimpleStatement.newInstance("SELECT * FROM users")
+				.setConsistencyLevel(DefaultConsistencyLevel.QUORUM).setPageSize(10);
+
+		QueryOptions queryOptions = QueryOptions.builder() //
+				.consistencyLevel(DefaultConsistencyLevel.QUORUM) //
+				.pageSize(10) //
+				.build();
+
+		assertThat(QueryOptionsUtil.addQueryOptions(source, queryOptions)).isSameAs(source);
+	}
+
+	@Test
+	void addQueryOptionsShouldApplyOptionsToBuilder() {
+
+		QueryOptions queryOptions = QueryOptions.builder() //
+				.consistencyLevel(DefaultConsistencyLevel.QUORUM) //
+				.pageSize(10) //
+				.build();
+
+		SimpleStatement statement = QueryOptionsUtil
+				.addQueryOptions(SimpleStatement.builder("SELECT * FROM users"), queryOptions).build();
+
+		assertThat(statement.getConsistencyLevel()).isEqualTo(DefaultConsistencyLevel.QUORUM);
+		assertThat(statement.getPageSize()).isEqualTo(10);
+	}
+
+	@Test
+	void addQueryOptionsShouldApplyIdempotence() {
+
+		SimpleStatement statement = QueryOptionsUtil.addQueryOptions(SimpleStatement.newInstance("SELECT * FROM users"),
+				QueryOptions.builder().idempotent(true).pageSize(10).build());
+
+		assertThat(statement.isIdempotent()).isTrue();
+		assertThat(statement.getPageSize()).isEqualTo(10);
 	}
 }
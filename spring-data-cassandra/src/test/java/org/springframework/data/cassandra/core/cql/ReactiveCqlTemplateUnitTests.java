@@ -21,8 +21,11 @@ import static org.mockito.Mockito.*;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 import reactor.test.StepVerifier;
 
+import java.util.Collections;
 import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -35,12 +38,15 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.cassandra.CassandraConcurrencyLimitExceededException;
 import org.springframework.data.cassandra.CassandraConnectionFailureException;
 import org.springframework.data.cassandra.CassandraInvalidQueryException;
 import org.springframework.data.cassandra.ReactiveResultSet;
 import org.springframework.data.cassandra.ReactiveSession;
 import org.springframework.data.cassandra.ReactiveSessionFactory;
 import org.springframework.data.cassandra.core.cql.session.DefaultReactiveSessionFactory;
+import org.springframework.data.cassandra.core.cql.support.FixedConcurrencyLimiter;
+import org.springframework.data.cassandra.core.cql.support.ServerWarningMonitor;
 import org.springframework.lang.Nullable;
 
 import com.datastax.oss.driver.api.core.ConsistencyLevel;
@@ -48,6 +54,7 @@ import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
 import com.datastax.oss.driver.api.core.NoNodeAvailableException;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
@@ -296,6 +303,50 @@ class ReactiveCqlTemplateUnitTests {
 		flux.as(StepVerifier::create).expectNext("OK", "NOT OK").verifyComplete();
 	}
 
+	@Test
+	void queryShouldMapRowsOnMappingScheduler() {
+
+		when(session.execute(any(Statement.class))).thenReturn(Mono.just(reactiveResultSet));
+		when(reactiveResultSet.rows()).thenReturn(Flux.just(row, row));
+		when(reactiveResultSet.getAvailableWithoutFetching()).thenReturn(2);
+
+		Scheduler scheduler = Schedulers.newSingle("mapping");
+
+		try {
+
+			template.setMappingScheduler(scheduler);
+
+			Flux<String> flux = template.query("SELECT * FROM user", (row, index) -> Thread.currentThread().getName());
+
+			flux.as(StepVerifier::create).expectNextMatches(it -> it.startsWith("mapping"))
+					.expectNextMatches(it -> it.startsWith("mapping")).verifyComplete();
+		} finally {
+			scheduler.dispose();
+		}
+	}
+
+	@Test
+	void queryShouldMapSmallResultsInline() {
+
+		when(session.execute(any(Statement.class))).thenReturn(Mono.just(reactiveResultSet));
+		when(reactiveResultSet.rows()).thenReturn(Flux.just(row));
+		when(reactiveResultSet.getAvailableWithoutFetching()).thenReturn(1);
+
+		Scheduler scheduler = Schedulers.newSingle("mapping");
+
+		try {
+
+			template.setMappingScheduler(scheduler);
+			template.setMappingThreshold(2);
+
+			Flux<String> flux = template.query("SELECT * FROM user", (row, index) -> Thread.currentThread().getName());
+
+			flux.as(StepVerifier::create).expectNextMatches(it -> !it.startsWith("mapping")).verifyComplete();
+		} finally {
+			scheduler.dispose();
+		}
+	}
+
 	@Test // DATACASS-335
 	void queryForRowsCqlReturnRows() {
 
@@ -783,6 +834,101 @@ class ReactiveCqlTemplateUnitTests {
 		verify(session, times(2)).execute(boundStatement);
 	}
 
+	@Test
+	void ingestShouldPrepareOnceAndReportRowFailures() {
+
+		when(session.prepare("INSERT INTO user (id) VALUES (?)")).thenReturn(Mono.just(preparedStatement));
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(session.execute(boundStatement)).thenReturn(Mono.just(reactiveResultSet),
+				Mono.error(new InvalidQueryException(null, "wrong query")));
+
+		template.ingest("INSERT INTO user (id) VALUES (?)", Flux.just(new Object[] { "Walter" }, new Object[] { "Hank" }),
+				IngestOptions.builder().concurrency(1).build()) //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> {
+
+					assertThat(actual.getRowCount()).isEqualTo(2);
+					assertThat(actual.getSuccessCount()).isEqualTo(1);
+					assertThat(actual.getFailures()).hasSize(1);
+					assertThat(actual.getFailures().get(0).getIndex()).isEqualTo(1);
+					assertThat(actual.getFailures().get(0).getCause()).isInstanceOf(CassandraInvalidQueryException.class);
+				}).verifyComplete();
+
+		verify(session).prepare("INSERT INTO user (id) VALUES (?)");
+	}
+
+	@Test
+	void ingestShouldNotGroupRowsIfSessionDoesNotProvideMetadata() {
+
+		when(session.prepare("INSERT INTO user (id) VALUES (?)")).thenReturn(Mono.just(preparedStatement));
+		when(session.getMetadata()).thenThrow(new UnsupportedOperationException());
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(session.execute(boundStatement)).thenReturn(Mono.just(reactiveResultSet));
+
+		template.ingest("INSERT INTO user (id) VALUES (?)", Flux.just(new Object[] { "Walter" }, new Object[] { "Hank" }),
+				IngestOptions.builder().groupByRoutingToken(10).build()) //
+				.as(StepVerifier::create) //
+				.assertNext(actual -> assertThat(actual.getSuccessCount()).isEqualTo(2)) //
+				.verifyComplete();
+
+		verify(boundStatement, never()).getRoutingKey();
+	}
+
+	@Test
+	void shouldLimitConcurrentStatements() {
+
+		when(session.execute(any(Statement.class))).thenReturn(Mono.just(reactiveResultSet));
+		when(reactiveResultSet.wasApplied()).thenReturn(true);
+
+		FixedConcurrencyLimiter limiter = new FixedConcurrencyLimiter(1, 0);
+		template.setConcurrencyLimiter(limiter);
+
+		template.execute("UPDATE user SET a = 'b';").as(StepVerifier::create).expectNext(true).verifyComplete();
+		template.execute("UPDATE user SET a = 'c';").as(StepVerifier::create).expectNext(true).verifyComplete();
+
+		assertThat(limiter.getMetrics().getInFlight()).isZero();
+		assertThat(limiter.getMetrics().getAcquiredCount()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldRejectStatementsExceedingConcurrencyLimit() {
+
+		when(session.execute(any(Statement.class))).thenReturn(Mono.never());
+
+		FixedConcurrencyLimiter limiter = new FixedConcurrencyLimiter(1, 0);
+		template.setConcurrencyLimiter(limiter);
+
+		template.execute("UPDATE user SET a = 'b';").subscribe();
+
+		template.execute("UPDATE user SET a = 'c';").as(StepVerifier::create)
+				.verifyError(CassandraConcurrencyLimitExceededException.class);
+
+		assertThat(limiter.getMetrics().getRejectedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void queryShouldRecordServerWarnings() {
+
+		ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+		doReturn(SimpleStatement.newInstance("SELECT * FROM users")).when(executionInfo).getRequest();
+		when(executionInfo.getWarnings())
+				.thenReturn(Collections.singletonList("Read 1000 live rows and 2000 tombstone cells for query SELECT *"));
+		when(session.execute(any(Statement.class))).thenReturn(Mono.just(reactiveResultSet));
+		when(reactiveResultSet.getExecutionInfo()).thenReturn(executionInfo);
+		when(reactiveResultSet.rows()).thenReturn(Flux.just(row));
+
+		ServerWarningMonitor monitor = new ServerWarningMonitor();
+		template.setServerWarningMonitor(monitor);
+
+		template.queryForRows("SELECT * FROM users").as(StepVerifier::create).expectNext(row).verifyComplete();
+		template.queryForRows("SELECT * FROM users").as(StepVerifier::create).expectNext(row).verifyComplete();
+
+		assertThat(monitor.getMetrics()).hasSize(1);
+		assertThat(monitor.getMetrics().get(0).getTableName()).isEqualTo("users");
+		assertThat(monitor.getMetrics().get(0).getType()).isEqualTo(ServerWarningMonitor.WarningType.TOMBSTONE);
+		assertThat(monitor.getMetrics().get(0).getCount()).isEqualTo(2);
+	}
+
 	private void doTestStrings(Consumer<ReactiveCqlTemplate> cqlTemplateConsumer) {
 		doTestStrings(null, null, null, null, cqlTemplateConsumer);
 	}
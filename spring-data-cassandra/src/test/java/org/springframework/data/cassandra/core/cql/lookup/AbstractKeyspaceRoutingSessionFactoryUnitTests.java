@@ -0,0 +1,213 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.lookup;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.cassandra.ReactiveSession;
+import org.springframework.data.cassandra.core.cql.session.lookup.AbstractKeyspaceRoutingReactiveSessionFactory;
+import org.springframework.data.cassandra.core.cql.session.lookup.AbstractKeyspaceRoutingSessionFactory;
+import org.springframework.data.cassandra.core.cql.support.MapPreparedStatementCache;
+import org.springframework.lang.Nullable;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.session.Request;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+
+/**
+ * Unit tests for {@link AbstractKeyspaceRoutingSessionFactory} and
+ * {@link AbstractKeyspaceRoutingReactiveSessionFactory}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class AbstractKeyspaceRoutingSessionFactoryUnitTests {
+
+	@Mock CqlSession session;
+
+	private StubbedKeyspaceRoutingSessionFactory sut;
+
+	@BeforeEach
+	void before() {
+
+		sut = new StubbedKeyspaceRoutingSessionFactory(session);
+		sut.setTargetKeyspaces(Collections.singletonMap("tenant1", "ks1"));
+		sut.setDefaultTargetKeyspace(CqlIdentifier.fromCql("shared"));
+		sut.afterPropertiesSet();
+	}
+
+	@Test
+	void shouldApplyKeyspaceToStatements() {
+
+		doReturn(mock(ResultSet.class)).when(session).execute(any(Request.class), any(GenericType.class));
+		sut.setLookupKey("tenant1");
+
+		sut.getSession().execute("SELECT * FROM users");
+
+		ArgumentCaptor<Request> captor = ArgumentCaptor.forClass(Request.class);
+		verify(session).execute(captor.capture(), eq(Statement.SYNC));
+
+		assertThat(captor.getValue().getKeyspace()).isEqualTo(CqlIdentifier.fromCql("ks1"));
+	}
+
+	@Test
+	void shouldRetainStatementKeyspace() {
+
+		doReturn(mock(ResultSet.class)).when(session).execute(any(Request.class), any(GenericType.class));
+		sut.setLookupKey("tenant1");
+
+		sut.getSession().execute(SimpleStatement.newInstance("SELECT * FROM users").setKeyspace("other"));
+
+		ArgumentCaptor<Request> captor = ArgumentCaptor.forClass(Request.class);
+		verify(session).execute(captor.capture(), any(GenericType.class));
+
+		assertThat(captor.getValue().getKeyspace()).isEqualTo(CqlIdentifier.fromCql("other"));
+	}
+
+	@Test
+	void shouldPrepareWithinKeyspace() {
+
+		sut.setLookupKey("tenant1");
+
+		sut.getSession().prepare("SELECT * FROM users");
+
+		verify(session).prepare(argThat((SimpleStatement it) -> CqlIdentifier.fromCql("ks1").equals(it.getKeyspace())));
+	}
+
+	@Test
+	void shouldFallbackToDefaultKeyspace() {
+
+		sut.setLookupKey("unknown");
+
+		assertThat(sut.getSession().getKeyspace()).contains(CqlIdentifier.fromCql("shared"));
+	}
+
+	@Test
+	void shouldRejectUnknownLookupKeyWithoutLenientFallback() {
+
+		sut.setLenientFallback(false);
+		sut.setLookupKey("unknown");
+
+		assertThatIllegalStateException().isThrownBy(() -> sut.getSession());
+	}
+
+	@Test
+	void shouldReuseSessionPerKeyspace() {
+
+		sut.setLookupKey("tenant1");
+		CqlSession first = sut.getSession();
+
+		sut.setLookupKey(null);
+		CqlSession fallback = sut.getSession();
+
+		sut.setLookupKey("tenant1");
+
+		assertThat(sut.getSession()).isSameAs(first).isNotSameAs(fallback);
+	}
+
+	@Test
+	void shouldCachePreparedStatementsPerKeyspace() {
+
+		when(session.getName()).thenReturn("session");
+		when(session.prepare(any(SimpleStatement.class))).then(invocation -> mock(PreparedStatement.class));
+
+		MapPreparedStatementCache cache = MapPreparedStatementCache.create();
+		SimpleStatement statement = SimpleStatement.newInstance("SELECT * FROM users");
+
+		sut.setLookupKey("tenant1");
+		PreparedStatement tenant = cache.getPreparedStatement(sut.getSession(), statement);
+
+		sut.setLookupKey(null);
+		PreparedStatement shared = cache.getPreparedStatement(sut.getSession(), statement);
+
+		sut.setLookupKey("tenant1");
+
+		assertThat(cache.getPreparedStatement(sut.getSession(), statement)).isSameAs(tenant).isNotSameAs(shared);
+		verify(session, times(2)).prepare(any(SimpleStatement.class));
+	}
+
+	@Test
+	void reactiveFactoryShouldResolveKeyspaceFromContext() {
+
+		StubbedKeyspaceRoutingReactiveSessionFactory factory = new StubbedKeyspaceRoutingReactiveSessionFactory(session);
+		factory.setTargetKeyspaces(Collections.singletonMap("tenant1", "ks1"));
+		factory.setDefaultTargetKeyspace("shared");
+		factory.afterPropertiesSet();
+
+		factory.getSession().map(ReactiveSession::getKeyspace) //
+				.contextWrite(Context.of("tenant", "tenant1")) //
+				.as(StepVerifier::create) //
+				.expectNext(Optional.of(CqlIdentifier.fromCql("ks1"))) //
+				.verifyComplete();
+
+		factory.getSession().map(ReactiveSession::getKeyspace) //
+				.as(StepVerifier::create) //
+				.expectNext(Optional.of(CqlIdentifier.fromCql("shared"))) //
+				.verifyComplete();
+	}
+
+	static class StubbedKeyspaceRoutingSessionFactory extends AbstractKeyspaceRoutingSessionFactory {
+
+		private @Nullable Object lookupKey;
+
+		StubbedKeyspaceRoutingSessionFactory(CqlSession session) {
+			super(session);
+		}
+
+		void setLookupKey(@Nullable Object lookupKey) {
+			this.lookupKey = lookupKey;
+		}
+
+		@Nullable
+		@Override
+		protected Object determineCurrentLookupKey() {
+			return lookupKey;
+		}
+	}
+
+	static class StubbedKeyspaceRoutingReactiveSessionFactory extends AbstractKeyspaceRoutingReactiveSessionFactory {
+
+		StubbedKeyspaceRoutingReactiveSessionFactory(CqlSession session) {
+			super(session);
+		}
+
+		@Override
+		protected Mono<Object> determineCurrentLookupKey() {
+			return Mono.deferContextual(context -> Mono.justOrEmpty(context.getOrEmpty("tenant")));
+		}
+	}
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.session.init;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.EncodedResource;
+
+/**
+ * Unit tests for {@link CqlStatementReader}.
+ *
+ * @author agent
+ */
+class CqlStatementReaderUnitTests {
+
+	@Test
+	void shouldReadStatementsDelimitedWithSemicolon() throws IOException {
+
+		String script = "insert into customer (id, name)\nvalues (1, 'Walter ; White');\n\n"
+				+ "insert into orders(id, order_date, customer_id)\nvalues (1, '2008-01-02', 2);";
+
+		assertThat(readStatements(script, ";")).containsExactly(
+				"insert into customer (id, name) values (1, 'Walter ; White')",
+				"insert into orders(id, order_date, customer_id) values (1, '2008-01-02', 2)");
+	}
+
+	@Test
+	void shouldReadStatementsDelimitedWithMultiCharacterSeparator() throws IOException {
+
+		String script = "insert into T_TEST (NAME) values ('Hank')\n\ninsert into T_TEST (NAME) values ('Walter')\n";
+
+		assertThat(readStatements(script, "\n\n")).containsExactly("insert into T_TEST (NAME) values ('Hank')",
+				"insert into T_TEST (NAME) values ('Walter')");
+	}
+
+	@Test
+	void shouldReadScriptContainingComments() throws IOException {
+
+		List<String> statements = readStatements(new CqlStatementReader(
+				new EncodedResource(new ClassPathResource("test-data-with-comments.cql", getClass()))));
+
+		assertThat(statements).containsExactly(
+				"insert into customer (id, name) values (1, 'Walter; White'), (2, 'Hank Schrader')",
+				"insert into orders(id, order_date, customer_id) values (1, '2008-01-02', 2)",
+				"insert into orders(id, order_date, customer_id) values (1, '2008-01-02', 2)",
+				"INSERT INTO persons( person_id , name) VALUES( 1 , 'Name' )");
+	}
+
+	@Test
+	void shouldReadScriptContainingMultiLineComments() throws IOException {
+
+		List<String> statements = readStatements(new CqlStatementReader(
+				new EncodedResource(new ClassPathResource("test-data-with-multi-line-comments.cql", getClass()))));
+
+		assertThat(statements).containsExactly("INSERT INTO users(first_name, last_name) VALUES('Walter', 'White')",
+				"INSERT INTO users(first_name, last_name) VALUES( 'Hank' , 'Schrader' )");
+	}
+
+	@Test
+	void shouldRejectUnterminatedBlockComment() {
+
+		assertThatExceptionOfType(ScriptParseException.class)
+				.isThrownBy(() -> readStatements("select 1; /* comment", ";"));
+	}
+
+	private static List<String> readStatements(String script, String separator) throws IOException {
+
+		return readStatements(new CqlStatementReader(new StringReader(script), null, separator,
+				ScriptUtils.DEFAULT_COMMENT_PREFIXES, ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+				ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER));
+	}
+
+	private static List<String> readStatements(CqlStatementReader reader) throws IOException {
+
+		List<String> statements = new ArrayList<>();
+
+		try (CqlStatementReader it = reader) {
+
+			String statement;
+			while ((statement = it.readStatement()) != null) {
+				statements.add(statement);
+			}
+		}
+
+		return statements;
+	}
+}
@@ -16,16 +16,25 @@
 package org.springframework.data.cassandra.core.cql.session.init;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.support.EncodedResource;
 
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+
 /**
  * Unit tests for {@link ScriptUtils}.
  *
@@ -206,6 +215,60 @@ class ScriptUtilsUnitTests {
 				"insert into users(first_name, last_name)\nvalues('Charles', 'd\\'Artagnan'); select 1;", ";")).isTrue();
 	}
 
+	@Test
+	void executeCqlScriptShouldExecuteDataManipulationConcurrently() {
+
+		CqlSession session = mock(CqlSession.class);
+		when(session.execute(anyString())).thenReturn(mock(ResultSet.class));
+		when(session.executeAsync(anyString()))
+				.thenReturn(CompletableFuture.completedFuture(mock(AsyncResultSet.class)));
+
+		String script = "CREATE TABLE t (id int PRIMARY KEY);\nINSERT INTO t (id) VALUES (1);\n"
+				+ "INSERT INTO t (id) VALUES (2);\nCREATE INDEX ON t (id);\nUPDATE t SET v = 1 WHERE id = 1;";
+
+		executeStreaming(session, script, 4);
+
+		InOrder inOrder = inOrder(session);
+		inOrder.verify(session).execute("CREATE TABLE t (id int PRIMARY KEY)");
+		inOrder.verify(session).executeAsync("INSERT INTO t (id) VALUES (1)");
+		inOrder.verify(session).executeAsync("INSERT INTO t (id) VALUES (2)");
+		inOrder.verify(session).execute("CREATE INDEX ON t (id)");
+		inOrder.verify(session).executeAsync("UPDATE t SET v = 1 WHERE id = 1");
+	}
+
+	@Test
+	void executeCqlScriptShouldPropagateAsyncFailure() {
+
+		CqlSession session = mock(CqlSession.class);
+		CompletableFuture<AsyncResultSet> failed = new CompletableFuture<>();
+		failed.completeExceptionally(new IllegalStateException("Boom"));
+
+		when(session.executeAsync(anyString())).thenReturn(failed);
+
+		assertThatExceptionOfType(ScriptStatementFailedException.class)
+				.isThrownBy(() -> executeStreaming(session, "INSERT INTO t (id) VALUES (1);", 2))
+				.withMessageContaining("statement #1").withCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void executeCqlScriptShouldExecuteStatementsSequentially() {
+
+		CqlSession session = mock(CqlSession.class);
+		when(session.execute(anyString())).thenReturn(mock(ResultSet.class));
+
+		executeStreaming(session, "INSERT INTO t (id) VALUES (1);INSERT INTO t (id) VALUES (2);", 1);
+
+		verify(session, times(2)).execute(anyString());
+		verify(session, never()).executeAsync(anyString());
+	}
+
+	private static void executeStreaming(CqlSession session, String script, int maxConcurrentStatements) {
+
+		ScriptUtils.executeCqlScript(session, new EncodedResource(new ByteArrayResource(script.getBytes())), false, false,
+				ScriptUtils.DEFAULT_COMMENT_PREFIXES, ";", ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+				ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER, maxConcurrentStatements);
+	}
+
 	private String readScript(String path) throws IOException {
 		EncodedResource resource = new EncodedResource(new ClassPathResource(path, getClass()));
 		return ScriptUtils.readScript(resource);
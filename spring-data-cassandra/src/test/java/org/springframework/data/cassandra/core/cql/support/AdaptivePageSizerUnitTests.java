@@ -0,0 +1,104 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Unit tests for {@link AdaptivePageSizer}.
+ *
+ * @author agent
+ */
+class AdaptivePageSizerUnitTests {
+
+	private static final SimpleStatement BLOBS = SimpleStatement.newInstance("SELECT * FROM blobs");
+
+	private static final SimpleStatement USERS = SimpleStatement.newInstance("SELECT * FROM users");
+
+	@Test
+	void shouldUseInitialPageSizeForUnknownQueryShape() {
+
+		AdaptivePageSizer sizer = new AdaptivePageSizer(1024 * 1024, 10, 10_000);
+
+		assertThat(sizer.getInitialPageSize()).isEqualTo(AdaptivePageSizer.DEFAULT_INITIAL_PAGE_SIZE);
+		assertThat(sizer.getPageSize(BLOBS)).isEqualTo(AdaptivePageSizer.DEFAULT_INITIAL_PAGE_SIZE);
+		assertThat(new AdaptivePageSizer(1024, 10, 100).getInitialPageSize()).isEqualTo(100);
+	}
+
+	@Test
+	void shouldDerivePageSizeFromRowSizeWithinBounds() {
+
+		AdaptivePageSizer sizer = new AdaptivePageSizer(1024 * 1024, 10, 10_000);
+
+		sizer.record(executionInfo(BLOBS, 100 * 512 * 1024), 100);
+		sizer.record(executionInfo(USERS, 1000 * 100), 1000);
+
+		assertThat(sizer.getAverageRowSize("SELECT * FROM blobs")).isEqualTo(512 * 1024d);
+		assertThat(sizer.getPageSize(BLOBS)).isEqualTo(10);
+		assertThat(sizer.getPageSize(USERS)).isEqualTo(10_000);
+	}
+
+	@Test
+	void shouldSmoothRowSize() {
+
+		AdaptivePageSizer sizer = new AdaptivePageSizer(100_000, 1, 10_000);
+
+		sizer.record(executionInfo(USERS, 1000), 10);
+		sizer.record(executionInfo(USERS, 2000), 10);
+
+		assertThat(sizer.getAverageRowSize("SELECT * FROM users")).isEqualTo(120d);
+		assertThat(sizer.getPageSize(USERS)).isEqualTo(833);
+	}
+
+	@Test
+	void shouldIgnoreEmptyPagesAndBatches() {
+
+		AdaptivePageSizer sizer = new AdaptivePageSizer(100_000, 1, 10_000);
+		BatchStatement batch = BatchStatement.newInstance(DefaultBatchType.UNLOGGED, USERS);
+
+		sizer.record(executionInfo(USERS, 100), 0);
+		sizer.record(executionInfo(batch, 100), 1);
+
+		assertThat(sizer.getAverageRowSize("SELECT * FROM users")).isNull();
+		assertThat(sizer.getPageSize(batch)).isEqualTo(AdaptivePageSizer.DEFAULT_INITIAL_PAGE_SIZE);
+	}
+
+	@Test
+	void shouldRejectInvalidBounds() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> new AdaptivePageSizer(0, 1, 10));
+		assertThatIllegalArgumentException().isThrownBy(() -> new AdaptivePageSizer(1024, 10, 1));
+		assertThatIllegalArgumentException().isThrownBy(() -> new AdaptivePageSizer(1024, 1, 10, 20));
+	}
+
+	private static ExecutionInfo executionInfo(Statement<?> statement, int responseSize) {
+
+		ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+		doReturn(statement).when(executionInfo).getRequest();
+		when(executionInfo.getResponseSizeInBytes()).thenReturn(responseSize);
+
+		return executionInfo;
+	}
+}
@@ -126,6 +126,22 @@ class CachedPreparedStatementCreatorUnitTests {
 		verify(otherKeyspaceSession).prepare(any(SimpleStatement.class));
 	}
 
+	@Test
+	void shouldCachePreparedStatementPerStatementKeyspace() {
+
+		SimpleStatement first = SimpleStatement.newInstance("SELECT foo FROM users").setKeyspace("tenant1");
+		SimpleStatement second = SimpleStatement.newInstance("SELECT foo FROM users").setKeyspace("tenant2");
+
+		PreparedStatementCache cache = PreparedStatementCache.create();
+
+		CachedPreparedStatementCreator.of(cache, first).createPreparedStatement(session);
+		CachedPreparedStatementCreator.of(cache, second).createPreparedStatement(session);
+		CachedPreparedStatementCreator.of(cache, first).createPreparedStatement(session);
+
+		verify(session).prepare(first);
+		verify(session).prepare(second);
+	}
+
 	@Test // DATACASS-403
 	void shouldCacheBuiltPreparedStatement() {
 
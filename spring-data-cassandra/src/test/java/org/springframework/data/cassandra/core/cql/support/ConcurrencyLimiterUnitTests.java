@@ -0,0 +1,176 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.cassandra.CassandraConcurrencyLimitExceededException;
+import org.springframework.data.cassandra.core.cql.support.ConcurrencyLimiter.Permit;
+
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.servererrors.OverloadedException;
+
+/**
+ * Unit tests for {@link FixedConcurrencyLimiter} and {@link AimdConcurrencyLimiter}.
+ *
+ * @author agent
+ */
+class ConcurrencyLimiterUnitTests {
+
+	@Test
+	void shouldGrantPermitsUpToLimit() {
+
+		FixedConcurrencyLimiter limiter = new FixedConcurrencyLimiter(2, 10);
+
+		assertThat(limiter.acquire()).isCompleted();
+		assertThat(limiter.acquire()).isCompleted();
+		assertThat(limiter.acquire()).isNotDone();
+
+		ConcurrencyLimiterMetrics metrics = limiter.getMetrics();
+		assertThat(metrics.getInFlight()).isEqualTo(2);
+		assertThat(metrics.getPending()).isEqualTo(1);
+		assertThat(metrics.getAcquiredCount()).isEqualTo(2);
+		assertThat(metrics.getQueuedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldGrantQueuedPermitOnRelease() {
+
+		FixedConcurrencyLimiter limiter = new FixedConcurrencyLimiter(1, 10);
+
+		Permit permit = limiter.acquire().join();
+		CompletableFuture<Permit> pending = limiter.acquire();
+
+		permit.release(null);
+
+		assertThat(pending).isCompleted();
+		assertThat(limiter.getMetrics().getInFlight()).isEqualTo(1);
+		assertThat(limiter.getMetrics().getPending()).isZero();
+	}
+
+	@Test
+	void shouldIgnoreRepeatedRelease() {
+
+		FixedConcurrencyLimiter limiter = new FixedConcurrencyLimiter(1, 10);
+
+		Permit permit = limiter.acquire().join();
+
+		permit.release(null);
+		permit.release(null);
+
+		assertThat(limiter.getMetrics().getInFlight()).isZero();
+	}
+
+	@Test
+	void shouldRejectIfQueueIsFull() {
+
+		FixedConcurrencyLimiter limiter = new FixedConcurrencyLimiter(1, 0);
+
+		limiter.acquire();
+		CompletableFuture<Permit> rejected = limiter.acquire();
+
+		assertThat(rejected).isCompletedExceptionally();
+		assertThatExceptionOfType(ExecutionException.class).isThrownBy(rejected::get)
+				.withCauseInstanceOf(CassandraConcurrencyLimitExceededException.class);
+		assertThat(limiter.getMetrics().getRejectedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldRemoveCancelledPendingRequests() {
+
+		FixedConcurrencyLimiter limiter = new FixedConcurrencyLimiter(1, 10);
+
+		Permit permit = limiter.acquire().join();
+		CompletableFuture<Permit> cancelled = limiter.acquire();
+		CompletableFuture<Permit> pending = limiter.acquire();
+
+		cancelled.cancel(false);
+		assertThat(limiter.getMetrics().getPending()).isEqualTo(1);
+
+		permit.release(null);
+
+		assertThat(pending).isCompleted();
+		assertThat(limiter.getMetrics().getInFlight()).isEqualTo(1);
+	}
+
+	@Test
+	void aimdShouldIncreaseLimitWhenUtilized() {
+
+		AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 10);
+
+		Permit first = limiter.acquire().join();
+		Permit second = limiter.acquire().join();
+
+		first.release(null);
+		second.release(null);
+
+		assertThat(limiter.getLimit()).isEqualTo(3);
+	}
+
+	@Test
+	void aimdShouldDecreaseLimitOnOverload() {
+
+		AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(20, 10);
+		limiter.setBackoffRatio(0.5);
+
+		limiter.acquire().join().release(new OverloadedException(mock(Node.class)));
+
+		assertThat(limiter.getLimit()).isEqualTo(10);
+		assertThat(limiter.getMetrics().getDroppedCount()).isEqualTo(1);
+	}
+
+	@Test
+	void aimdShouldDecreaseLimitOnLatencyThreshold() throws InterruptedException {
+
+		AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(20, 10);
+		limiter.setLatencyThreshold(Duration.ofNanos(1));
+
+		Permit permit = limiter.acquire().join();
+		Thread.sleep(1);
+		permit.release(null);
+
+		assertThat(limiter.getLimit()).isEqualTo(18);
+	}
+
+	@Test
+	void aimdShouldNotDecreaseBelowMinLimit() {
+
+		AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 10);
+		limiter.setMinLimit(2);
+
+		limiter.acquire().join().release(new OverloadedException(mock(Node.class)));
+
+		assertThat(limiter.getLimit()).isEqualTo(2);
+	}
+
+	@Test
+	void aimdShouldIgnoreNonOverloadErrors() {
+
+		AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(2, 10);
+
+		limiter.acquire().join().release(new IllegalStateException());
+
+		assertThat(limiter.getLimit()).isEqualTo(2);
+		assertThat(limiter.getMetrics().getDroppedCount()).isZero();
+	}
+}
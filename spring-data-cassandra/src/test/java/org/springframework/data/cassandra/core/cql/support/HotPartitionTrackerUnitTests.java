@@ -0,0 +1,158 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.data.cassandra.core.cql.support.HotPartitionReport.HotPartition;
+import org.springframework.data.cassandra.core.cql.support.HotPartitionTracker.Operation;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+
+/**
+ * Unit tests for {@link HotPartitionTracker}.
+ *
+ * @author agent
+ */
+class HotPartitionTrackerUnitTests {
+
+	private static final CqlIdentifier USERS = CqlIdentifier.fromCql("users");
+
+	@Test
+	void shouldReportHottestPartitions() {
+
+		HotPartitionTracker tracker = new HotPartitionTracker(2, 1);
+
+		record(tracker, "walter", Operation.READ, 10);
+		record(tracker, "walter", Operation.WRITE, 2);
+		record(tracker, "skyler", Operation.WRITE, 5);
+		record(tracker, "flynn", Operation.READ, 1);
+
+		HotPartitionReport report = tracker.report();
+
+		assertThat(report.getReads()).isEqualTo(11);
+		assertThat(report.getWrites()).isEqualTo(7);
+		assertThat(report.getHotPartitions()).extracting(HotPartition::getPartitionKey).containsExactly("walter",
+				"skyler");
+
+		HotPartition hottest = report.getHotPartitions().get(0);
+
+		assertThat(hottest.getTableName()).isEqualTo(USERS);
+		assertThat(hottest.getReads()).isEqualTo(10);
+		assertThat(hottest.getWrites()).isEqualTo(2);
+		assertThat(hottest.getReadRate()).isPositive();
+	}
+
+	@Test
+	void shouldDistinguishTables() {
+
+		HotPartitionTracker tracker = new HotPartitionTracker();
+
+		tracker.record(USERS, Operation.READ, "walter");
+		tracker.record(CqlIdentifier.fromCql("orders"), Operation.READ, "walter");
+
+		assertThat(tracker.report().getHotPartitions()).extracting(HotPartition::getTableName)
+				.containsExactlyInAnyOrder(USERS, CqlIdentifier.fromCql("orders"));
+	}
+
+	@Test
+	void shouldStartNewWindowAfterReport() {
+
+		HotPartitionTracker tracker = new HotPartitionTracker();
+
+		record(tracker, "walter", Operation.READ, 3);
+		tracker.report();
+		record(tracker, "skyler", Operation.READ, 1);
+
+		HotPartitionReport report = tracker.report();
+
+		assertThat(report.getReads()).isEqualTo(1);
+		assertThat(report.getHotPartitions()).extracting(HotPartition::getPartitionKey).containsOnly("skyler");
+	}
+
+	@Test
+	void shouldExtrapolateSampledAccesses() {
+
+		HotPartitionTracker tracker = new HotPartitionTracker(1, 100);
+
+		record(tracker, "walter", Operation.WRITE, 3);
+
+		HotPartitionReport report = tracker.report();
+
+		assertThat(report.getWrites()).isEqualTo(300);
+		assertThat(report.getHotPartitions().get(0).getWrites()).isEqualTo(300);
+	}
+
+	@Test
+	void shouldRetainHotPartitionAmongManyColdPartitions() {
+
+		HotPartitionTracker tracker = new HotPartitionTracker(1, 1);
+
+		for (int i = 0; i < 1000; i++) {
+
+			tracker.record(USERS, Operation.READ, "cold-" + i);
+
+			if (i % 10 == 0) {
+				tracker.record(USERS, Operation.READ, "hot");
+			}
+		}
+
+		HotPartitionReport report = tracker.report();
+
+		assertThat(report.getHotPartitions()).extracting(HotPartition::getPartitionKey).containsExactly("hot");
+		assertThat(report.getHotPartitions().get(0).getReads()).isGreaterThanOrEqualTo(100);
+	}
+
+	@Test
+	void shouldKeepReportingIfListenerFails() {
+
+		ScheduledExecutorService scheduler = mock(ScheduledExecutorService.class);
+		ArgumentCaptor<Runnable> captor = ArgumentCaptor.forClass(Runnable.class);
+		List<HotPartitionReport> reports = new ArrayList<>();
+
+		new HotPartitionTracker().scheduleReports(scheduler, Duration.ofSeconds(10), report -> {
+
+			reports.add(report);
+			throw new IllegalStateException();
+		});
+
+		verify(scheduler).scheduleAtFixedRate(captor.capture(), eq(10_000_000_000L), eq(10_000_000_000L),
+				eq(TimeUnit.NANOSECONDS));
+
+		captor.getValue().run();
+		captor.getValue().run();
+
+		assertThat(reports).hasSize(2);
+	}
+
+	private static void record(HotPartitionTracker tracker, String key, Operation operation, int times) {
+
+		for (int i = 0; i < times; i++) {
+			tracker.record(USERS, operation, key);
+		}
+	}
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.cassandra.ReactiveSession;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+
+/**
+ * Unit tests for {@link MapReactivePreparedStatementCache}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class MapReactivePreparedStatementCacheUnitTests {
+
+	@Mock ReactiveSession session;
+
+	@Mock DriverContext context;
+
+	@Mock PreparedStatement preparedStatement;
+
+	@BeforeEach
+	void before() {
+
+		when(session.getContext()).thenReturn(context);
+		when(context.getSessionName()).thenReturn("s0");
+	}
+
+	@Test
+	void shouldCachePreparedStatementPerStatementKeyspace() {
+
+		AtomicInteger preparations = new AtomicInteger();
+		ReactivePreparedStatementCache cache = MapReactivePreparedStatementCache.create();
+
+		SimpleStatement first = SimpleStatement.newInstance("SELECT foo FROM users").setKeyspace("tenant1");
+		SimpleStatement second = SimpleStatement.newInstance("SELECT foo FROM users").setKeyspace("tenant2");
+
+		for (SimpleStatement statement : new SimpleStatement[] { first, second, first }) {
+
+			cache.getPreparedStatement(session, statement, () -> Mono.fromSupplier(() -> {
+				preparations.incrementAndGet();
+				return preparedStatement;
+			})).as(StepVerifier::create).expectNext(preparedStatement).verifyComplete();
+		}
+
+		assertThat(preparations).hasValue(2);
+	}
+
+	@Test
+	void shouldFallBackToSessionKeyspace() {
+
+		when(session.getKeyspace()).thenReturn(Optional.of(CqlIdentifier.fromCql("tenant1")));
+
+		AtomicInteger preparations = new AtomicInteger();
+		ReactivePreparedStatementCache cache = MapReactivePreparedStatementCache.create();
+
+		SimpleStatement withKeyspace = SimpleStatement.newInstance("SELECT foo FROM users").setKeyspace("tenant1");
+		SimpleStatement withoutKeyspace = SimpleStatement.newInstance("SELECT foo FROM users");
+
+		for (SimpleStatement statement : new SimpleStatement[] { withKeyspace, withoutKeyspace }) {
+
+			cache.getPreparedStatement(session, statement, () -> Mono.fromSupplier(() -> {
+				preparations.incrementAndGet();
+				return preparedStatement;
+			})).as(StepVerifier::create).expectNext(preparedStatement).verifyComplete();
+		}
+
+		assertThat(preparations).hasValue(1);
+	}
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.cassandra.CassandraResultSizeExceededException;
+import org.springframework.data.cassandra.core.cql.RowMapperResultSetExtractor;
+
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * Unit tests for {@link ResultSizeGuard}.
+ *
+ * @author agent
+ */
+class ResultSizeGuardUnitTests {
+
+	@Test
+	void shouldMaterializeResultWithinLimits() {
+
+		ResultSizeGuard guard = new ResultSizeGuard(10, 1000, ResultSizeGuard.Mode.FAIL);
+
+		List<Integer> result = extract(guard, resultSet(2, 4, 100));
+
+		assertThat(result).hasSize(4);
+		assertThat(guard.getMetrics().getQueryCount()).isEqualTo(1);
+		assertThat(guard.getMetrics().getExceededCount()).isZero();
+		assertThat(guard.getMetrics().getMaxObservedRows()).isEqualTo(4);
+		assertThat(guard.getMetrics().getMaxObservedBytes()).isEqualTo(200);
+		assertThat(guard.getMetrics().getPeakUtilization()).isEqualTo(0.4);
+	}
+
+	@Test
+	void shouldFailWhenExceedingMaxRows() {
+
+		ResultSizeGuard guard = ResultSizeGuard.maxRows(3);
+
+		assertThatExceptionOfType(CassandraResultSizeExceededException.class)
+				.isThrownBy(() -> extract(guard, resultSet(2, 6, 100))).satisfies(it -> assertThat(it.getRows()).isEqualTo(4));
+
+		assertThat(guard.getMetrics().getExceededCount()).isEqualTo(1);
+		assertThat(guard.getMetrics().getMaxObservedRows()).isEqualTo(3);
+		assertThat(guard.getMetrics().getPeakUtilization()).isEqualTo(1.0);
+	}
+
+	@Test
+	void shouldFailWhenExceedingMaxBytes() {
+
+		ResultSizeGuard guard = ResultSizeGuard.maxBytes(250);
+
+		assertThatExceptionOfType(CassandraResultSizeExceededException.class)
+				.isThrownBy(() -> extract(guard, resultSet(2, 10, 100))).satisfies(it -> {
+
+					assertThat(it.getRows()).isEqualTo(5);
+					assertThat(it.getBytes()).isEqualTo(300);
+				});
+	}
+
+	@Test
+	void shouldTruncateResult() {
+
+		ResultSizeGuard guard = ResultSizeGuard.maxRows(3).truncating();
+
+		List<Integer> result = extract(guard, resultSet(2, 6, 100));
+
+		assertThat(guard.getMode()).isEqualTo(ResultSizeGuard.Mode.TRUNCATE);
+		assertThat(result).containsExactly(0, 1, 2);
+		assertThat(guard.getMetrics().getExceededCount()).isEqualTo(1);
+	}
+
+	private static List<Integer> extract(ResultSizeGuard guard, ResultSet resultSet) {
+		return new RowMapperResultSetExtractor<>((row, rowNum) -> rowNum, 0, guard).extractData(resultSet);
+	}
+
+	/**
+	 * Create a {@link ResultSet} returning {@code rows} in pages of {@code pageSize} rows each of
+	 * {@code pageBytes} size.
+	 */
+	private static ResultSet resultSet(int pageSize, int rows, int pageBytes) {
+
+		ResultSet resultSet = mock(ResultSet.class);
+		Row row = mock(Row.class);
+		ExecutionInfo[] pages = new ExecutionInfo[(rows + pageSize - 1) / pageSize];
+
+		for (int i = 0; i < pages.length; i++) {
+			pages[i] = mock(ExecutionInfo.class);
+			when(pages[i].getResponseSizeInBytes()).thenReturn(pageBytes);
+		}
+
+		when(resultSet.iterator()).thenAnswer(invocation -> new Iterator<Row>() {
+
+			int position;
+
+			@Override
+			public boolean hasNext() {
+				return position < rows;
+			}
+
+			@Override
+			public Row next() {
+
+				when(resultSet.getExecutionInfo()).thenReturn(pages[position / pageSize]);
+				position++;
+				return row;
+			}
+		});
+
+		return resultSet;
+	}
+}
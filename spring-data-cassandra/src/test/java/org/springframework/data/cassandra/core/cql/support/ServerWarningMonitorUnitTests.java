@@ -0,0 +1,141 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.cql.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.cassandra.core.cql.support.ServerWarningMonitor.WarningType;
+
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+
+/**
+ * Unit tests for {@link ServerWarningMonitor}.
+ *
+ * @author agent
+ */
+class ServerWarningMonitorUnitTests {
+
+	@Test
+	void shouldClassifyWarnings() {
+
+		assertThat(WarningType.classify("Read 10 live rows and 5000 tombstone cells for query SELECT * FROM ks.users"))
+				.isEqualTo(WarningType.TOMBSTONE);
+		assertThat(WarningType.classify("Batch for [ks.users] is of size 6.5KiB, exceeding specified threshold of 5.0KiB"))
+				.isEqualTo(WarningType.BATCH_SIZE);
+		assertThat(WarningType.classify("Unlogged batch covering 12 partitions detected against table [ks.users]"))
+				.isEqualTo(WarningType.UNLOGGED_BATCH);
+		assertThat(WarningType.classify("Aggregation query used without partition key"))
+				.isEqualTo(WarningType.AGGREGATION);
+		assertThat(WarningType.classify("Query read partition of size 120MiB exceeding warn threshold"))
+				.isEqualTo(WarningType.LARGE_PARTITION);
+		assertThat(WarningType.classify("Something else")).isEqualTo(WarningType.OTHER);
+	}
+
+	@Test
+	void shouldCountWarningsPerTableAndQueryShape() {
+
+		ServerWarningMonitor monitor = new ServerWarningMonitor();
+
+		monitor.record(executionInfo(SimpleStatement.newInstance("SELECT * FROM ks.users WHERE id = ?"),
+				"Read 1 live rows and 2000 tombstone cells"));
+		monitor.record(executionInfo(SimpleStatement.newInstance("SELECT * FROM ks.users WHERE id = ?"),
+				"Read 1 live rows and 3000 tombstone cells"));
+		monitor.record(executionInfo(SimpleStatement.newInstance("SELECT count(*) FROM orders"),
+				"Aggregation query used without partition key"));
+		monitor.record(executionInfo(SimpleStatement.newInstance("SELECT * FROM orders"), new String[0]));
+
+		assertThat(monitor.getMetrics()).hasSize(2);
+
+		ServerWarningMetrics metrics = monitor.getMetrics().get(0);
+
+		assertThat(metrics.getTableName()).isEqualTo("ks.users");
+		assertThat(metrics.getQueryShape()).isEqualTo("SELECT * FROM ks.users WHERE id = ?");
+		assertThat(metrics.getType()).isEqualTo(WarningType.TOMBSTONE);
+		assertThat(metrics.getCount()).isEqualTo(2);
+		assertThat(metrics.getLastWarning()).contains("3000 tombstone");
+
+		assertThat(monitor.getCount(WarningType.TOMBSTONE)).isEqualTo(2);
+		assertThat(monitor.getCount(WarningType.AGGREGATION)).isEqualTo(1);
+		assertThat(monitor.getCount(WarningType.BATCH_SIZE)).isZero();
+	}
+
+	@Test
+	void shouldUsePreparedQueryAsShape() {
+
+		PreparedStatement preparedStatement = mock(PreparedStatement.class);
+		BoundStatement boundStatement = mock(BoundStatement.class);
+		when(preparedStatement.getQuery()).thenReturn("UPDATE users SET name = ? WHERE id = ?");
+		when(boundStatement.getPreparedStatement()).thenReturn(preparedStatement);
+
+		ServerWarningMonitor monitor = new ServerWarningMonitor();
+		monitor.record(executionInfo(boundStatement, "Some warning"));
+
+		assertThat(monitor.getMetrics()).extracting(ServerWarningMetrics::getTableName).containsExactly("users");
+	}
+
+	@Test
+	void shouldDetermineTableOfBatchWarnings() {
+
+		ServerWarningMonitor monitor = new ServerWarningMonitor();
+
+		monitor.record(executionInfo(BatchStatement.newInstance(DefaultBatchType.LOGGED),
+				"Batch for [ks.users, ks.orders] is of size 6.5KiB, exceeding specified threshold of 5.0KiB by 1.5KiB."));
+
+		ServerWarningMetrics metrics = monitor.getMetrics().get(0);
+
+		assertThat(metrics.getTableName()).isEqualTo("ks.users");
+		assertThat(metrics.getQueryShape()).isNull();
+		assertThat(metrics.getType()).isEqualTo(WarningType.BATCH_SIZE);
+	}
+
+	@Test
+	void shouldBoundNumberOfQueryShapes() {
+
+		ServerWarningMonitor monitor = new ServerWarningMonitor();
+
+		for (int i = 0; i < ServerWarningMonitor.MAX_ENTRIES + 10; i++) {
+			monitor.record(executionInfo(SimpleStatement.newInstance("SELECT * FROM users WHERE id = " + i),
+					"Read 1 live rows and 2000 tombstone cells"));
+		}
+
+		assertThat(monitor.getMetrics()).hasSize(ServerWarningMonitor.MAX_ENTRIES + 1);
+		assertThat(monitor.getCount(WarningType.TOMBSTONE)).isEqualTo(ServerWarningMonitor.MAX_ENTRIES + 10);
+
+		monitor.reset();
+
+		assertThat(monitor.getMetrics()).isEmpty();
+	}
+
+	private static ExecutionInfo executionInfo(Statement<?> statement, String... warnings) {
+
+		ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+		doReturn(statement).when(executionInfo).getRequest();
+		when(executionInfo.getWarnings()).thenReturn(Arrays.asList(warnings));
+
+		return executionInfo;
+	}
+}
@@ -44,6 +44,23 @@ class ColumnsUnitTests {
 		assertThat(columns.toString()).isEqualTo("foo, bar, TTL(baz)");
 	}
 
+	@Test
+	void shouldIncludeAggregates() {
+
+		Columns columns = Columns.empty().count().sum("foo").avg("bar");
+
+		assertThat(columns.toString()).isEqualTo("COUNT(*) AS count, SUM(foo) AS sum_foo, AVG(bar) AS avg_bar");
+	}
+
+	@Test
+	void shouldIncludeMultipleAggregatesOfSameColumn() {
+
+		Columns columns = Columns.from("v").min("v").max("v");
+
+		assertThat(columns).containsExactly(ColumnName.from("v"), ColumnName.from("min_v"), ColumnName.from("max_v"));
+		assertThat(columns.toString()).isEqualTo("v, MIN(v) AS min_v, MAX(v) AS max_v");
+	}
+
 	@Test // DATACASS-343
 	void shouldCreateFromColumns() {
 
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2020 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.cassandra.core.query;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.data.domain.Sort.Order.*;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+
+/**
+ * Unit tests for {@link KeysetPageRequest}.
+ *
+ * @author agent
+ */
+class KeysetPageRequestUnitTests {
+
+	private Map<String, Object> keyset = Collections.singletonMap("foo", 42);
+
+	@Test
+	void shouldRequireUniformSort() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> KeysetPageRequest.first(10, Sort.unsorted()));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> KeysetPageRequest.first(10, Sort.by(asc("foo"), desc("bar"))));
+	}
+
+	@Test
+	void shouldRequireKeysetValueForSortedProperties() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> KeysetPageRequest.after(10, Sort.by("foo", "bar"), this.keyset));
+	}
+
+	@Test
+	void shouldCreateFirstPageRequest() {
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.first(10, Direction.DESC, "foo");
+
+		assertThat(pageRequest.hasNext()).isFalse();
+		assertThat(pageRequest.getKeyset()).isEmpty();
+		assertThat(pageRequest.getDirection()).isEqualTo(Direction.DESC);
+		assertThatIllegalStateException().isThrownBy(pageRequest::next);
+	}
+
+	@Test
+	void shouldCreateNextPageRequest() {
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.first(10, Direction.ASC, "foo");
+		KeysetPageRequest next = KeysetPageRequest.of(pageRequest, this.keyset).next();
+
+		assertThat(next.getPageNumber()).isEqualTo(1);
+		assertThat(next.getKeyset()).isEqualTo(this.keyset);
+		assertThat(next.hasNext()).isFalse();
+		assertThat(next).isEqualTo(KeysetPageRequest.of(pageRequest, this.keyset).next());
+		assertThat(next.previous()).isEqualTo(pageRequest);
+	}
+
+	@Test
+	void shouldAcceptKeysetForSubsequentPages() {
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.after(10, Sort.by("foo"), this.keyset);
+
+		assertThatCode(() -> CassandraPageRequest.validatePageable(pageRequest)).doesNotThrowAnyException();
+		assertThat(Query.empty().pageRequest(pageRequest).getKeysetPageRequest()).contains(pageRequest);
+	}
+}
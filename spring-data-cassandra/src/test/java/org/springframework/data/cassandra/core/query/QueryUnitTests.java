@@ -71,6 +71,37 @@ class QueryUnitTests {
 		assertThat(query.isAllowFiltering()).isTrue();
 	}
 
+	@Test
+	void shouldConfigureGroupBy() {
+
+		Query query = Query.empty().groupBy("a").groupBy("b");
+
+		assertThat(query.getGroupBy()).containsExactly(ColumnName.from("a"), ColumnName.from("b"));
+		assertThat(query).isNotEqualTo(Query.empty());
+		assertThat(Query.empty().getGroupBy().isEmpty()).isTrue();
+	}
+
+	@Test
+	void shouldRetainGroupByOrder() {
+
+		Query query = Query.empty().groupBy("pk", "ck1", "ck2", "ck3");
+
+		assertThat(query.getGroupBy()).containsExactly(ColumnName.from("pk"), ColumnName.from("ck1"),
+				ColumnName.from("ck2"), ColumnName.from("ck3"));
+		assertThat(Query.empty().groupBy("a", "b")).isNotEqualTo(Query.empty().groupBy("b", "a"));
+		assertThat(Query.empty().groupBy("device_id", "bucket", "ts").toString())
+				.contains("Group By: device_id, bucket, ts");
+	}
+
+	@Test
+	void shouldRepresentPerPartitionLimitInToString() {
+
+		Query query = Query.query(Criteria.where("userId").is("foo")).perPartitionLimit(3).limit(10);
+
+		assertThat(query.toString())
+				.isEqualTo("Query: userId = 'foo', Columns: *, Sort: UNSORTED, Per Partition Limit: 3, Limit: 10");
+	}
+
 	@Test // DATACASS-56
 	void shouldApplyPageRequests() {
 
@@ -22,8 +22,11 @@ import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.domain.User;
+import org.springframework.data.cassandra.repository.PerPartitionLimit;
+import org.springframework.data.cassandra.repository.Query;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
@@ -80,6 +83,23 @@ class CassandraQueryMethodUnitTests {
 		assertThat(queryMethod.getEntityInformation().getJavaType()).isEqualTo(User.class);
 	}
 
+	@Test
+	void rejectsPerPartitionLimitOnStringBasedQuery() {
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+				.isThrownBy(() -> queryMethod(SampleRepository.class, "findLatestByString"))
+				.withMessageContaining("@PerPartitionLimit");
+	}
+
+	@Test
+	void considersPerPartitionLimitOnDerivedQuery() throws Exception {
+
+		CassandraQueryMethod queryMethod = queryMethod(SampleRepository.class, "findByLastname", String.class);
+
+		assertThat(queryMethod.hasPerPartitionLimit()).isTrue();
+		assertThat(queryMethod.getRequiredPerPartitionLimit()).isEqualTo(2);
+	}
+
 	private CassandraQueryMethod queryMethod(Class<?> repository, String name, Class<?>... parameters) throws Exception {
 
 		Method method = repository.getMethod(name, parameters);
@@ -94,6 +114,13 @@ class CassandraQueryMethodUnitTests {
 
 		UserProjection findAllBy();
 
+		@PerPartitionLimit(2)
+		List<User> findByLastname(String lastname);
+
+		@PerPartitionLimit(2)
+		@Query("SELECT * FROM users")
+		List<User> findLatestByString();
+
 	}
 
 	interface UserProjection {
@@ -22,11 +22,14 @@ import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -35,25 +38,37 @@ import org.mockito.quality.Strictness;
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.convert.CassandraConverter;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.cql.CqlOperations;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.data.cassandra.core.cql.SessionCallback;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.UserTypeResolver;
+import org.springframework.data.cassandra.core.query.KeysetPageRequest;
 import org.springframework.data.cassandra.domain.AddressType;
 import org.springframework.data.cassandra.domain.Group;
 import org.springframework.data.cassandra.domain.Person;
 import org.springframework.data.cassandra.repository.AllowFiltering;
 import org.springframework.data.cassandra.repository.Consistency;
 import org.springframework.data.cassandra.repository.MapIdCassandraRepository;
+import org.springframework.data.cassandra.repository.PerPartitionLimit;
 import org.springframework.data.cassandra.repository.Query;
+import org.springframework.data.cassandra.repository.Query.Idempotency;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
 import org.springframework.util.ClassUtils;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
 import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.data.UdtValue;
 import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
 import com.datastax.oss.driver.api.core.type.DataTypes;
@@ -74,6 +89,10 @@ class PartTreeCassandraQueryUnitTests {
 	@Mock UserTypeResolver userTypeResolverMock;
 	@Mock UserDefinedType userTypeMock;
 	@Mock AttachmentPoint attachmentPoint;
+	@Mock CqlOperations cqlOperations;
+	@Mock CqlSession session;
+	@Mock PreparedStatement preparedStatement;
+	@Mock BoundStatement boundStatement;
 	private DefaultUdtValue udtValue;
 
 	private CassandraMappingContext mappingContext;
@@ -222,6 +241,29 @@ class PartTreeCassandraQueryUnitTests {
 		assertThat(statement.getConsistencyLevel()).isEqualTo(DefaultConsistencyLevel.LOCAL_ONE);
 	}
 
+	@Test
+	void shouldApplyPerPartitionLimit() {
+
+		SimpleStatement statement = deriveQueryFromMethod(Repo.class, "findTop10ByLastname", new Class[] { String.class },
+				"foo");
+
+		assertThat(statement.getQuery())
+				.isEqualTo("SELECT * FROM person WHERE lastname='foo' PER PARTITION LIMIT 2 LIMIT 10");
+	}
+
+	@Test
+	void shouldApplyKeysetPageRequest() {
+
+		KeysetPageRequest pageRequest = KeysetPageRequest.after(10, Sort.by("lastname"),
+				Collections.singletonMap("lastname", "White"));
+
+		SimpleStatement statement = deriveQueryFromMethod(Repo.class, "findByFirstname",
+				new Class[] { String.class, Pageable.class }, "Walter", pageRequest);
+
+		assertThat(statement.getQuery())
+				.isEqualTo("SELECT * FROM person WHERE firstname='Walter' AND (lastname)>('White') ORDER BY lastname ASC");
+	}
+
 	@Test // DATACASS-512
 	void shouldCreateCountQuery() {
 
@@ -247,6 +289,140 @@ class PartTreeCassandraQueryUnitTests {
 		assertThat(statement.getQuery()).isEqualTo("SELECT * FROM person LIMIT 1");
 	}
 
+	@Test
+	void shouldApplyAnnotatedIdempotency() {
+
+		SimpleStatement derived = deriveQueryFromMethod(Repo.class, "deleteAllByLastname", new Class[] { String.class },
+				"Walter");
+		SimpleStatement annotated = deriveQueryFromMethod(Repo.class, "deleteAllByFirstname", new Class[] { String.class },
+				"Walter");
+
+		assertThat(derived.isIdempotent()).isTrue();
+		assertThat(annotated.getQuery()).isEqualTo("DELETE FROM person WHERE firstname='Walter'");
+		assertThat(annotated.isIdempotent()).isFalse();
+	}
+
+	@Test
+	void executeShouldPrepareStatementTemplateOnce() {
+
+		when(mockCassandraOperations.getCqlOperations()).thenReturn(cqlOperations);
+		when(cqlOperations.execute(any(SessionCallback.class)))
+				.thenAnswer(it -> it.<SessionCallback<?>> getArgument(0).doInSession(session));
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+
+		PartTreeCassandraQuery query = createQueryForMethod(Repo.class, "findByFirstnameAndLastname", String.class,
+				String.class);
+
+		query.execute(new Object[] { "Walter", "White" });
+		query.execute(new Object[] { "Skyler", "White" });
+
+		ArgumentCaptor<SimpleStatement> captor = ArgumentCaptor.forClass(SimpleStatement.class);
+		verify(session).prepare(captor.capture());
+		assertThat(captor.getValue().getQuery()).isEqualTo("SELECT * FROM person WHERE firstname=? AND lastname=?");
+		assertThat(captor.getValue().getPositionalValues()).isEmpty();
+
+		verify(preparedStatement).bind("Walter", "White");
+		verify(preparedStatement).bind("Skyler", "White");
+		verify(mockCassandraOperations, times(2)).select(boundStatement, Person.class);
+	}
+
+	@Test
+	void executeShouldBindInValuesAsList() {
+
+		when(mockCassandraOperations.getCqlOperations()).thenReturn(cqlOperations);
+		when(cqlOperations.execute(any(SessionCallback.class)))
+				.thenAnswer(it -> it.<SessionCallback<?>> getArgument(0).doInSession(session));
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+
+		PartTreeCassandraQuery query = createQueryForMethod(Repo.class, "findByFirstnameIn", Collection.class);
+
+		query.execute(new Object[] { new LinkedHashSet<>(Arrays.asList("Walter", "Skyler")) });
+
+		ArgumentCaptor<SimpleStatement> captor = ArgumentCaptor.forClass(SimpleStatement.class);
+		verify(session).prepare(captor.capture());
+		assertThat(captor.getValue().getQuery()).isEqualTo("SELECT * FROM person WHERE firstname IN ?");
+
+		verify(preparedStatement).bind(Arrays.asList("Walter", "Skyler"));
+	}
+
+	@Test
+	void executeShouldApplyQueryOptionsToBoundStatement() {
+
+		when(mockCassandraOperations.getCqlOperations()).thenReturn(cqlOperations);
+		when(cqlOperations.execute(any(SessionCallback.class)))
+				.thenAnswer(it -> it.<SessionCallback<?>> getArgument(0).doInSession(session));
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(boundStatement.setConsistencyLevel(any())).thenReturn(boundStatement);
+
+		PartTreeCassandraQuery query = createQueryForMethod(Repo.class, "findPersonBy");
+
+		query.execute(new Object[0]);
+
+		verify(boundStatement).setConsistencyLevel(DefaultConsistencyLevel.LOCAL_ONE);
+		verify(mockCassandraOperations).select(boundStatement, Person.class);
+	}
+
+	@Test
+	void executeShouldNotCacheTemplatesBeyondBound() {
+
+		when(mockCassandraOperations.getCqlOperations()).thenReturn(cqlOperations);
+		when(cqlOperations.execute(any(SessionCallback.class)))
+				.thenAnswer(it -> it.<SessionCallback<?>> getArgument(0).doInSession(session));
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+
+		PartTreeCassandraQuery query = createQueryForMethod(Repo.class, "findByLastname", String.class, Sort.class);
+
+		for (int i = 0; i < PartTreeStatementTemplate.MAX_TEMPLATES; i++) {
+			query.execute(new Object[] { "White", Sort.by("column" + i) });
+		}
+
+		query.execute(new Object[] { "White", Sort.by("overflow") });
+
+		verify(session, times(PartTreeStatementTemplate.MAX_TEMPLATES)).prepare(any(SimpleStatement.class));
+
+		ArgumentCaptor<Statement<?>> captor = ArgumentCaptor.forClass(Statement.class);
+		verify(mockCassandraOperations, times(PartTreeStatementTemplate.MAX_TEMPLATES + 1)).select(captor.capture(),
+				eq(Person.class));
+
+		assertThat(captor.getValue()).isInstanceOf(SimpleStatement.class);
+		assertThat(((SimpleStatement) captor.getValue()).getQuery())
+				.isEqualTo("SELECT * FROM person WHERE lastname='White' ORDER BY overflow ASC");
+	}
+
+	@Test
+	void warmUpShouldPrepareStatementTemplate() {
+
+		when(mockCassandraOperations.getCqlOperations()).thenReturn(cqlOperations);
+		when(cqlOperations.execute(any(SessionCallback.class)))
+				.thenAnswer(it -> it.<SessionCallback<?>> getArgument(0).doInSession(session));
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+
+		PartTreeCassandraQuery query = createQueryForMethod(Repo.class, "findByFirstnameAndLastname", String.class,
+				String.class);
+
+		assertThat(query.warmUp()).isTrue();
+		verify(session).prepare(any(SimpleStatement.class));
+
+		query.execute(new Object[] { "Walter", "White" });
+
+		verify(session).prepare(any(SimpleStatement.class));
+		verify(preparedStatement).bind("Walter", "White");
+	}
+
+	@Test
+	void warmUpShouldSkipDynamicProjections() {
+
+		PartTreeCassandraQuery query = createQueryForMethod(Repo.class, "findDynamicallyProjectedBy", Class.class);
+
+		assertThat(query.warmUp()).isFalse();
+		verify(mockCassandraOperations, never()).getCqlOperations();
+	}
+
 	private String deriveQueryFromMethod(String method, Object... args) {
 
 		Class<?>[] types = new Class<?>[args.length];
@@ -299,6 +475,8 @@ class PartTreeCassandraQueryUnitTests {
 		@Query()
 		Person findByLastname(String lastname);
 
+		List<Person> findByLastname(String lastname, Sort sort);
+
 		Person findTop3By();
 
 		Person findByFirstnameAndLastname(String firstname, String lastname);
@@ -310,6 +488,11 @@ class PartTreeCassandraQueryUnitTests {
 		@Consistency(DefaultConsistencyLevel.LOCAL_ONE)
 		Person findPersonBy();
 
+		@PerPartitionLimit(2)
+		List<Person> findTop10ByLastname(String lastname);
+
+		Slice<Person> findByFirstname(String firstname, Pageable pageable);
+
 		Person findByMainAddress(AddressType address);
 
 		Person findByMainAddress(UdtValue udtValue);
@@ -322,6 +505,9 @@ class PartTreeCassandraQueryUnitTests {
 
 		boolean deleteAllByLastname(String lastname);
 
+		@Query(idempotent = Idempotency.NON_IDEMPOTENT)
+		boolean deleteAllByFirstname(String firstname);
+
 		boolean existsBy();
 
 		@AllowFiltering
@@ -20,6 +20,7 @@ import static org.mockito.Mockito.*;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 import rx.Single;
 
 import java.lang.reflect.Method;
@@ -28,12 +29,17 @@ import java.util.Arrays;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.reactivestreams.Publisher;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.data.cassandra.ReactiveSession;
 import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.data.cassandra.core.cql.ReactiveCqlOperations;
+import org.springframework.data.cassandra.core.cql.ReactiveSessionCallback;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.UserTypeResolver;
 import org.springframework.data.cassandra.domain.Person;
@@ -46,6 +52,9 @@ import org.springframework.data.repository.core.support.DefaultRepositoryMetadat
 import org.springframework.util.ClassUtils;
 
 import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 
 /**
@@ -58,6 +67,11 @@ class ReactivePartTreeCassandraQueryUnitTests {
 
 	@Mock ReactiveCassandraOperations mockCassandraOperations;
 	@Mock UserTypeResolver userTypeResolver;
+	@Mock ReactiveCqlOperations cqlOperations;
+	@Mock ReactiveSession reactiveSession;
+	@Mock DriverContext driverContext;
+	@Mock PreparedStatement preparedStatement;
+	@Mock BoundStatement boundStatement;
 
 	private CassandraMappingContext mappingContext;
 
@@ -157,6 +171,33 @@ class ReactivePartTreeCassandraQueryUnitTests {
 		assertThat(statement.getQuery()).isEqualTo("SELECT * FROM person LIMIT 1");
 	}
 
+	@Test
+	void executeShouldPrepareStatementTemplateOnce() {
+
+		when(mockCassandraOperations.getReactiveCqlOperations()).thenReturn(cqlOperations);
+		when(cqlOperations.execute(any(ReactiveSessionCallback.class)))
+				.thenAnswer(it -> Flux.from(it.<ReactiveSessionCallback<?>> getArgument(0).doInSession(reactiveSession)));
+		when(reactiveSession.getContext()).thenReturn(driverContext);
+		when(reactiveSession.prepare(any(SimpleStatement.class))).thenReturn(Mono.just(preparedStatement));
+		when(preparedStatement.bind(any())).thenReturn(boundStatement);
+		when(mockCassandraOperations.select(boundStatement, Person.class)).thenReturn(Flux.empty());
+
+		ReactivePartTreeCassandraQuery query = createQueryForMethod(Repo.class, "findByFirstnameAndLastname",
+				String.class, String.class);
+
+		Flux.from((Publisher<?>) query.execute(new Object[] { "Walter", "White" })).as(StepVerifier::create)
+				.verifyComplete();
+		Flux.from((Publisher<?>) query.execute(new Object[] { "Skyler", "White" })).as(StepVerifier::create)
+				.verifyComplete();
+
+		ArgumentCaptor<SimpleStatement> captor = ArgumentCaptor.forClass(SimpleStatement.class);
+		verify(reactiveSession).prepare(captor.capture());
+		assertThat(captor.getValue().getQuery()).isEqualTo("SELECT * FROM person WHERE firstname=? AND lastname=?");
+
+		verify(preparedStatement).bind("Walter", "White");
+		verify(preparedStatement).bind("Skyler", "White");
+	}
+
 	private String deriveQueryFromMethod(String method, Object... args) {
 
 		Class<?>[] types = new Class<?>[args.length];
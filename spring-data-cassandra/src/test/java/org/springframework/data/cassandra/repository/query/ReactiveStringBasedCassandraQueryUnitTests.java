@@ -16,28 +16,40 @@
 package org.springframework.data.cassandra.repository.query;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.reactivestreams.Publisher;
 
 import org.springframework.data.cassandra.ReactiveSession;
 import org.springframework.data.cassandra.core.ReactiveCassandraOperations;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
 import org.springframework.data.cassandra.core.cql.ReactiveCqlOperations;
+import org.springframework.data.cassandra.core.cql.ReactiveSessionCallback;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
+import org.springframework.data.cassandra.core.query.KeysetPageRequest;
 import org.springframework.data.cassandra.domain.Person;
 import org.springframework.data.cassandra.repository.Consistency;
 import org.springframework.data.cassandra.repository.Query;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
@@ -51,6 +63,10 @@ import org.springframework.lang.Nullable;
 import org.springframework.util.ReflectionUtils;
 
 import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 
 /**
@@ -66,6 +82,10 @@ class ReactiveStringBasedCassandraQueryUnitTests {
 	@Mock private ReactiveCassandraOperations operations;
 	@Mock private ReactiveCqlOperations cqlOperations;
 	@Mock private ReactiveSession reactiveSession;
+	@Mock private DriverContext driverContext;
+	@Mock private PreparedStatement preparedStatement;
+	@Mock(answer = Answers.RETURNS_SELF) private BoundStatementBuilder boundStatementBuilder;
+	@Mock private BoundStatement boundStatement;
 
 	private MappingCassandraConverter converter;
 	private ProjectionFactory factory;
@@ -97,6 +117,19 @@ class ReactiveStringBasedCassandraQueryUnitTests {
 		assertThat(actual.getPositionalValues().get(0)).isEqualTo("White");
 	}
 
+	@Test
+	void shouldRejectKeysetPageRequest() {
+
+		ReactiveStringBasedCassandraQuery cassandraQuery = getQueryMethod("findSliceByLastname", String.class,
+				Pageable.class);
+		CassandraParametersParameterAccessor accessor = new CassandraParametersParameterAccessor(
+				cassandraQuery.getQueryMethod(), "White",
+				KeysetPageRequest.after(10, Sort.by("lastname"), Collections.singletonMap("lastname", "White")));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> cassandraQuery.createQuery(accessor).block())
+				.withMessageContaining("Keyset pagination is not supported");
+	}
+
 	@Test // DATACASS-146
 	void shouldApplyQueryOptions() {
 
@@ -144,6 +177,34 @@ class ReactiveStringBasedCassandraQueryUnitTests {
 		assertThat(actual.getPositionalValues().get(0)).isEqualTo("Walter");
 	}
 
+	@Test
+	void executeShouldPrepareStatementOnce() {
+
+		when(operations.getReactiveCqlOperations()).thenReturn(cqlOperations);
+		when(cqlOperations.execute(any(ReactiveSessionCallback.class)))
+				.thenAnswer(it -> Flux.from(it.<ReactiveSessionCallback<?>> getArgument(0).doInSession(reactiveSession)));
+		when(reactiveSession.getContext()).thenReturn(driverContext);
+		when(reactiveSession.prepare(any(SimpleStatement.class))).thenReturn(Mono.just(preparedStatement));
+		when(preparedStatement.boundStatementBuilder(any())).thenReturn(boundStatementBuilder);
+		when(boundStatementBuilder.build()).thenReturn(boundStatement);
+		when(operations.select(boundStatement, Person.class)).thenReturn(Flux.empty());
+
+		ReactiveStringBasedCassandraQuery cassandraQuery = getQueryMethod("findByLastname", String.class);
+
+		Flux.from((Publisher<?>) cassandraQuery.execute(new Object[] { "White" })).as(StepVerifier::create)
+				.verifyComplete();
+		Flux.from((Publisher<?>) cassandraQuery.execute(new Object[] { "Matthews" })).as(StepVerifier::create)
+				.verifyComplete();
+
+		ArgumentCaptor<SimpleStatement> captor = ArgumentCaptor.forClass(SimpleStatement.class);
+		verify(reactiveSession).prepare(captor.capture());
+		assertThat(captor.getValue().getQuery()).isEqualTo("SELECT * FROM person WHERE lastname=?;");
+
+		verify(preparedStatement).boundStatementBuilder("White");
+		verify(preparedStatement).boundStatementBuilder("Matthews");
+		verify(boundStatementBuilder, times(2)).setConsistencyLevel(DefaultConsistencyLevel.LOCAL_ONE);
+	}
+
 	private ReactiveStringBasedCassandraQuery getQueryMethod(String name, Class<?>... args) {
 
 		Method method = ReflectionUtils.findMethod(SampleRepository.class, name, args);
@@ -165,6 +226,9 @@ class ReactiveStringBasedCassandraQueryUnitTests {
 		@Consistency(DefaultConsistencyLevel.LOCAL_ONE)
 		Person findByLastname(String lastname);
 
+		@Query("SELECT * FROM person WHERE lastname=?0;")
+		Mono<Slice<Person>> findSliceByLastname(String lastname, Pageable pageable);
+
 		@Query("SELECT * FROM person WHERE lastname=?0;")
 		Person findByLastname(QueryOptions queryOptions, String lastname);
 
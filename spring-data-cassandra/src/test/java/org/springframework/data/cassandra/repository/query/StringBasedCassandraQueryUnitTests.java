@@ -16,6 +16,7 @@
 package org.springframework.data.cassandra.repository.query;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.lang.annotation.Retention;
@@ -25,24 +26,34 @@ import java.nio.ByteBuffer;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.data.cassandra.core.CassandraOperations;
 import org.springframework.data.cassandra.core.convert.MappingCassandraConverter;
+import org.springframework.data.cassandra.core.cql.CqlOperations;
 import org.springframework.data.cassandra.core.cql.QueryOptions;
+import org.springframework.data.cassandra.core.cql.SessionCallback;
 import org.springframework.data.cassandra.core.mapping.CassandraMappingContext;
 import org.springframework.data.cassandra.core.mapping.UserTypeResolver;
+import org.springframework.data.cassandra.core.query.CassandraPageRequest;
+import org.springframework.data.cassandra.core.query.KeysetPageRequest;
 import org.springframework.data.cassandra.domain.AddressType;
 import org.springframework.data.cassandra.domain.Person;
 import org.springframework.data.cassandra.repository.Consistency;
 import org.springframework.data.cassandra.repository.Query;
 import org.springframework.data.cassandra.support.UserDefinedTypeBuilder;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.Repository;
@@ -55,11 +66,17 @@ import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.util.ReflectionUtils;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DefaultConsistencyLevel;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.data.UdtValue;
 import com.datastax.oss.driver.api.core.type.DataTypes;
 import com.datastax.oss.driver.api.core.type.UserDefinedType;
+import com.datastax.oss.driver.api.core.type.codec.CodecNotFoundException;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
 
 /**
  * Unit tests for {@link StringBasedCassandraQuery}.
@@ -76,6 +93,11 @@ class StringBasedCassandraQueryUnitTests {
 	@Mock private CassandraOperations operations;
 	@Mock private UdtValue udtValue;
 	@Mock private UserTypeResolver userTypeResolver;
+	@Mock private CqlOperations cqlOperations;
+	@Mock private CqlSession session;
+	@Mock private PreparedStatement preparedStatement;
+	@Mock(answer = Answers.RETURNS_SELF) private BoundStatementBuilder boundStatementBuilder;
+	@Mock private BoundStatement boundStatement;
 
 	private RepositoryMetadata metadata;
 	private MappingCassandraConverter converter;
@@ -201,6 +223,28 @@ class StringBasedCassandraQueryUnitTests {
 		assertThat(actual.getPositionalValues().get(1)).isEqualTo(42);
 	}
 
+	@Test
+	void shouldRejectKeysetPageRequest() {
+
+		StringBasedCassandraQuery cassandraQuery = getQueryMethod("findSliceByLastname", String.class, Pageable.class);
+		CassandraParametersParameterAccessor accessor = new CassandraParametersParameterAccessor(
+				cassandraQuery.getQueryMethod(), "White",
+				KeysetPageRequest.after(10, Sort.by("lastname"), Collections.singletonMap("lastname", "White")));
+
+		assertThatIllegalArgumentException().isThrownBy(() -> cassandraQuery.createQuery(accessor))
+				.withMessageContaining("Keyset pagination is not supported");
+	}
+
+	@Test
+	void shouldAcceptCassandraPageRequest() {
+
+		StringBasedCassandraQuery cassandraQuery = getQueryMethod("findSliceByLastname", String.class, Pageable.class);
+		CassandraParametersParameterAccessor accessor = new CassandraParametersParameterAccessor(
+				cassandraQuery.getQueryMethod(), "White", CassandraPageRequest.first(10));
+
+		assertThat(cassandraQuery.createQuery(accessor).getQuery()).isEqualTo("SELECT * FROM person WHERE lastname = ?;");
+	}
+
 	@Test // DATACASS-117
 	void referencingUnknownIndexedParameterShouldFail() {
 
@@ -403,6 +447,74 @@ class StringBasedCassandraQueryUnitTests {
 		assertThat(actual.getConsistencyLevel()).isEqualTo(DefaultConsistencyLevel.LOCAL_ONE);
 	}
 
+	@Test
+	void executeShouldPrepareStatementOnce() {
+
+		when(operations.getCqlOperations()).thenReturn(cqlOperations);
+		when(cqlOperations.execute(any(SessionCallback.class)))
+				.thenAnswer(it -> it.<SessionCallback<?>> getArgument(0).doInSession(session));
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.boundStatementBuilder(any())).thenReturn(boundStatementBuilder);
+		when(boundStatementBuilder.build()).thenReturn(boundStatement);
+
+		StringBasedCassandraQuery cassandraQuery = getQueryMethod("findByLastname", String.class);
+
+		cassandraQuery.execute(new Object[] { "White" });
+		cassandraQuery.execute(new Object[] { "Matthews" });
+
+		ArgumentCaptor<SimpleStatement> captor = ArgumentCaptor.forClass(SimpleStatement.class);
+		verify(session).prepare(captor.capture());
+		assertThat(captor.getValue().getQuery()).isEqualTo("SELECT * FROM person WHERE lastname = ?;");
+		assertThat(captor.getValue().getPositionalValues()).isEmpty();
+
+		verify(preparedStatement).boundStatementBuilder("White");
+		verify(preparedStatement).boundStatementBuilder("Matthews");
+		verify(boundStatementBuilder, times(2)).setConsistencyLevel(DefaultConsistencyLevel.LOCAL_ONE);
+		verify(operations, times(2)).select(boundStatement, Person.class);
+	}
+
+	@Test
+	void warmUpShouldPrepareQueryWithBindMarkers() {
+
+		when(operations.getCqlOperations()).thenReturn(cqlOperations);
+		when(cqlOperations.execute(any(SessionCallback.class)))
+				.thenAnswer(it -> it.<SessionCallback<?>> getArgument(0).doInSession(session));
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.boundStatementBuilder(any())).thenReturn(boundStatementBuilder);
+		when(boundStatementBuilder.build()).thenReturn(boundStatement);
+
+		StringBasedCassandraQuery cassandraQuery = getQueryMethod("findByLastname", String.class);
+
+		assertThat(cassandraQuery.warmUp()).isTrue();
+
+		cassandraQuery.execute(new Object[] { "White" });
+
+		ArgumentCaptor<SimpleStatement> captor = ArgumentCaptor.forClass(SimpleStatement.class);
+		verify(session).prepare(captor.capture());
+		assertThat(captor.getValue().getQuery()).isEqualTo("SELECT * FROM person WHERE lastname = ?;");
+
+		verify(preparedStatement).boundStatementBuilder("White");
+	}
+
+	@Test
+	void executeShouldFallBackToSimpleStatementIfValuesCannotBeBound() {
+
+		when(operations.getCqlOperations()).thenReturn(cqlOperations);
+		when(cqlOperations.execute(any(SessionCallback.class)))
+				.thenAnswer(it -> it.<SessionCallback<?>> getArgument(0).doInSession(session));
+		when(session.prepare(any(SimpleStatement.class))).thenReturn(preparedStatement);
+		when(preparedStatement.boundStatementBuilder(any()))
+				.thenThrow(new CodecNotFoundException(DataTypes.TEXT, GenericType.listOf(String.class)));
+
+		StringBasedCassandraQuery cassandraQuery = getQueryMethod("findByLastname", String.class);
+
+		cassandraQuery.execute(new Object[] { "White" });
+
+		ArgumentCaptor<SimpleStatement> captor = ArgumentCaptor.forClass(SimpleStatement.class);
+		verify(operations).select(captor.capture(), eq(Person.class));
+		assertThat(captor.getValue().getPositionalValues()).containsExactly("White");
+	}
+
 	private StringBasedCassandraQuery getQueryMethod(String name, Class<?>... args) {
 
 		Method method = ReflectionUtils.findMethod(SampleRepository.class, name, args);
@@ -425,6 +537,9 @@ class StringBasedCassandraQueryUnitTests {
 		@Consistency(DefaultConsistencyLevel.LOCAL_ONE)
 		Person nonIdempotentSelect(String lastname);
 
+		@Query(value = "SELECT * FROM person WHERE lastname = ?0;")
+		Slice<Person> findSliceByLastname(String lastname, Pageable pageable);
+
 		@Query(value = "DELETE FROM person")
 		@Consistency(DefaultConsistencyLevel.LOCAL_ONE)
 		Person nonIdempotentDelete();